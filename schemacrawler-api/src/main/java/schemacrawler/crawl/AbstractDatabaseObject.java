@@ -50,6 +50,7 @@ abstract class AbstractDatabaseObject
   private static final long serialVersionUID = 3099561832386790624L;
 
   private final Schema schema;
+  private transient String fullName;
 
   AbstractDatabaseObject(final Schema schema, final String name)
   {
@@ -137,7 +138,18 @@ abstract class AbstractDatabaseObject
    * @see Object#toString()
    */
   @Override
-  public String getFullName()
+  public final String getFullName()
+  {
+    // The full name is built from immutable parts, so it can be
+    // computed once and reused for lookups
+    if (fullName == null)
+    {
+      fullName = buildFullName();
+    }
+    return fullName;
+  }
+
+  String buildFullName()
   {
     final StringBuilder buffer = new StringBuilder(64);
     if (schema != null)
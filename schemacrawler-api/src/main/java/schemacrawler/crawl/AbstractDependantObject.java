@@ -96,10 +96,10 @@ abstract class AbstractDependantObject<D extends DatabaseObject>
   /**
    * {@inheritDoc}
    *
-   * @see schemacrawler.crawl.AbstractDatabaseObject#getFullName()
+   * @see schemacrawler.crawl.AbstractDatabaseObject#buildFullName()
    */
   @Override
-  public String getFullName()
+  String buildFullName()
   {
     final StringBuilder buffer = new StringBuilder(64);
     if (parent != null)
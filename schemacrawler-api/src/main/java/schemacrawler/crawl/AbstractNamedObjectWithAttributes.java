@@ -32,7 +32,6 @@ package schemacrawler.crawl;
 import static sf.util.Utility.isBlank;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 
 import schemacrawler.schema.AttributedObject;
@@ -51,12 +50,13 @@ abstract class AbstractNamedObjectWithAttributes
   private static final long serialVersionUID = -1486322887991472729L;
 
   private String remarks;
-  private final Map<String, Object> attributeMap;
+  // Most objects have no attributes, so the map is allocated only when
+  // the first attribute is set
+  private Map<String, Object> attributeMap;
 
   AbstractNamedObjectWithAttributes(final String name)
   {
     super(name);
-    attributeMap = new HashMap<>();
   }
 
   /**
@@ -68,6 +68,11 @@ abstract class AbstractNamedObjectWithAttributes
   @Override
   public final <T> T getAttribute(final String name, final T defaultValue)
   {
+    if (attributeMap == null)
+    {
+      return defaultValue;
+    }
+
     final Object attributeValue = attributeMap.get(name);
     if (attributeValue == null)
     {
@@ -94,6 +99,10 @@ abstract class AbstractNamedObjectWithAttributes
   @Override
   public final Map<String, Object> getAttributes()
   {
+    if (attributeMap == null)
+    {
+      return Collections.emptyMap();
+    }
     return Collections.unmodifiableMap(attributeMap);
   }
 
@@ -116,7 +125,7 @@ abstract class AbstractNamedObjectWithAttributes
   @Override
   public boolean hasAttribute(final String name)
   {
-    return attributeMap.containsKey(name);
+    return attributeMap != null && attributeMap.containsKey(name);
   }
 
   /**
@@ -136,7 +145,7 @@ abstract class AbstractNamedObjectWithAttributes
   @Override
   public final void removeAttribute(final String name)
   {
-    if (!isBlank(name))
+    if (!isBlank(name) && attributeMap != null)
     {
       attributeMap.remove(name);
     }
@@ -154,20 +163,24 @@ abstract class AbstractNamedObjectWithAttributes
     {
       if (value == null)
       {
-        attributeMap.remove(name);
+        removeAttribute(name);
       }
       else
       {
-        attributeMap.put(name, value);
+        attributes(1).put(name, value);
       }
     }
   }
 
   protected final void addAttributes(final Map<String, Object> values)
   {
-    if (values != null)
+    if (values != null && !values.isEmpty())
     {
-      attributeMap.putAll(values);
+      final Map<String, Object> attributes = attributes(values.size());
+      for (final Map.Entry<String, Object> value: values.entrySet())
+      {
+        attributes.put(value.getKey(), SharedStrings.share(value.getValue()));
+      }
     }
   }
 
@@ -179,8 +192,17 @@ abstract class AbstractNamedObjectWithAttributes
     }
     else
     {
-      this.remarks = remarks;
+      this.remarks = SharedStrings.share(remarks);
+    }
+  }
+
+  private Map<String, Object> attributes(final int capacity)
+  {
+    if (attributeMap == null)
+    {
+      attributeMap = new AttributeMap(capacity);
     }
+    return attributeMap;
   }
 
 }
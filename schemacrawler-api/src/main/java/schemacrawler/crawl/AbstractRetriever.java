@@ -36,7 +36,9 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -61,6 +63,20 @@ abstract class AbstractRetriever
   private static final Logger LOGGER = Logger
     .getLogger(AbstractRetriever.class.getName());
 
+  /**
+   * Gets the schemas of the provided tables, in the order that they are
+   * first found.
+   */
+  static Set<Schema> tableSchemas(final Collection<MutableTable> tables)
+  {
+    final Set<Schema> schemas = new LinkedHashSet<>();
+    for (final MutableTable table: tables)
+    {
+      schemas.add(table.getSchema());
+    }
+    return schemas;
+  }
+
   private final RetrieverConnection retrieverConnection;
   final MutableCatalog catalog;
   private final SchemaCrawlerOptions options;
@@ -144,6 +160,11 @@ abstract class AbstractRetriever
     return catalog.getSchemas();
   }
 
+  InclusionRule getTableInclusionRule()
+  {
+    return options.getTableInclusionRule();
+  }
+
   void logSQLFeatureNotSupported(final String message, final Throwable e)
   {
     LOGGER.log(Level.WARNING, message);
@@ -188,6 +209,22 @@ abstract class AbstractRetriever
                                                      final int javaSqlTypeInt,
                                                      final String databaseSpecificTypeName,
                                                      final String mappedClassName)
+  {
+    // Data types are shared between crawl stages, which may run in
+    // parallel
+    synchronized (catalog.getColumnDataTypesLock())
+    {
+      return internalLookupOrCreateColumnDataType(schema,
+                                                  javaSqlTypeInt,
+                                                  databaseSpecificTypeName,
+                                                  mappedClassName);
+    }
+  }
+
+  private MutableColumnDataType internalLookupOrCreateColumnDataType(final Schema schema,
+                                                                     final int javaSqlTypeInt,
+                                                                     final String databaseSpecificTypeName,
+                                                                     final String mappedClassName)
   {
     MutableColumnDataType columnDataType = catalog
       .lookupColumnDataType(schema, databaseSpecificTypeName).orElse(catalog
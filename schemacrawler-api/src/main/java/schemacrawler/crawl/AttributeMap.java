@@ -0,0 +1,239 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Compact map for database object attributes, backed by parallel key
+ * and value arrays. Objects usually carry a handful of attributes, so
+ * a linear scan is faster and much smaller than a hash table. Null
+ * values are allowed, as with attributes read from metadata result
+ * sets.
+ *
+ * @author Sualeh Fatehi
+ */
+final class AttributeMap
+  extends AbstractMap<String, Object>
+  implements Serializable
+{
+
+  private final class AttributesIterator
+    implements Iterator<Entry<String, Object>>
+  {
+
+    private int next;
+    private int last = -1;
+
+    @Override
+    public boolean hasNext()
+    {
+      return next < size;
+    }
+
+    @Override
+    public Entry<String, Object> next()
+    {
+      if (!hasNext())
+      {
+        throw new NoSuchElementException();
+      }
+      last = next;
+      next++;
+      return new SimpleImmutableEntry<>(keys[last], values[last]);
+    }
+
+    @Override
+    public void remove()
+    {
+      if (last < 0)
+      {
+        throw new IllegalStateException();
+      }
+      removeAt(last);
+      next = last;
+      last = -1;
+    }
+
+  }
+
+  private static final long serialVersionUID = -5395719588127163925L;
+
+  private static final int MIN_CAPACITY = 4;
+
+  private String[] keys;
+  private Object[] values;
+  private int size;
+
+  AttributeMap()
+  {
+    this(MIN_CAPACITY);
+  }
+
+  AttributeMap(final int capacity)
+  {
+    final int initialCapacity = Math.max(capacity, MIN_CAPACITY);
+    keys = new String[initialCapacity];
+    values = new Object[initialCapacity];
+  }
+
+  @Override
+  public void clear()
+  {
+    Arrays.fill(keys, 0, size, null);
+    Arrays.fill(values, 0, size, null);
+    size = 0;
+  }
+
+  @Override
+  public boolean containsKey(final Object key)
+  {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet()
+  {
+    return new AbstractSet<Entry<String, Object>>()
+    {
+
+      @Override
+      public Iterator<Entry<String, Object>> iterator()
+      {
+        return new AttributesIterator();
+      }
+
+      @Override
+      public int size()
+      {
+        return size;
+      }
+
+    };
+  }
+
+  @Override
+  public Object get(final Object key)
+  {
+    final int index = indexOf(key);
+    if (index < 0)
+    {
+      return null;
+    }
+    return values[index];
+  }
+
+  @Override
+  public Object put(final String key, final Object value)
+  {
+    final int index = indexOf(key);
+    if (index >= 0)
+    {
+      final Object oldValue = values[index];
+      values[index] = value;
+      return oldValue;
+    }
+
+    ensureCapacity(size + 1);
+    keys[size] = key;
+    values[size] = value;
+    size++;
+    return null;
+  }
+
+  @Override
+  public void putAll(final Map<? extends String, ? extends Object> map)
+  {
+    ensureCapacity(size + map.size());
+    super.putAll(map);
+  }
+
+  @Override
+  public Object remove(final Object key)
+  {
+    final int index = indexOf(key);
+    if (index < 0)
+    {
+      return null;
+    }
+    final Object oldValue = values[index];
+    removeAt(index);
+    return oldValue;
+  }
+
+  @Override
+  public int size()
+  {
+    return size;
+  }
+
+  private void ensureCapacity(final int capacity)
+  {
+    if (capacity > keys.length)
+    {
+      final int newCapacity = Math.max(capacity, keys.length * 3 / 2);
+      keys = Arrays.copyOf(keys, newCapacity);
+      values = Arrays.copyOf(values, newCapacity);
+    }
+  }
+
+  private int indexOf(final Object key)
+  {
+    for (int i = 0; i < size; i++)
+    {
+      if (Objects.equals(keys[i], key))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void removeAt(final int index)
+  {
+    final int moved = size - index - 1;
+    if (moved > 0)
+    {
+      System.arraycopy(keys, index + 1, keys, index, moved);
+      System.arraycopy(values, index + 1, values, index, moved);
+    }
+    size--;
+    keys[size] = null;
+    values[size] = null;
+  }
+
+}
@@ -30,6 +30,7 @@ package schemacrawler.crawl;
 
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.TableReference.tableReference;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -58,7 +59,7 @@ final class ColumnPartial
 
   ColumnPartial(final Table parent, final String name)
   {
-    super(new TableReference(parent), name);
+    super(tableReference(parent), name);
   }
 
   @Override
@@ -0,0 +1,172 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schemacrawler.CrawlEvent;
+import schemacrawler.schemacrawler.CrawlListener;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import sf.util.StopWatch;
+import sf.util.StringFormat;
+
+/**
+ * Times the tasks of a crawl phase, and sends crawl events to the
+ * listener in the SchemaCrawler options. While a task is running, the
+ * metrics are available to metadata result sets on the same thread, so
+ * that queries can be counted against the task.
+ *
+ * @author Sualeh Fatehi
+ */
+final class CrawlMetrics
+{
+
+  private static final Logger LOGGER = Logger
+    .getLogger(CrawlMetrics.class.getName());
+
+  private static final ThreadLocal<CrawlMetrics> currentCrawlMetrics = new ThreadLocal<>();
+
+  /**
+   * Records a completed query against the task that is running on the
+   * current thread, if any.
+   */
+  static void queryCompleted(final String queryName,
+                             final Duration duration,
+                             final long rowCount)
+  {
+    final CrawlMetrics crawlMetrics = currentCrawlMetrics.get();
+    if (crawlMetrics != null)
+    {
+      crawlMetrics.addQuery(queryName, duration, rowCount);
+    }
+  }
+
+  private final StopWatch stopWatch;
+  private final CrawlListener listener;
+
+  // State for current task
+  private String currentTaskName;
+  private long queryCount;
+  private long rowCount;
+
+  CrawlMetrics(final String phase, final SchemaCrawlerOptions options)
+  {
+    stopWatch = new StopWatch(phase);
+    if (options == null)
+    {
+      listener = null;
+    }
+    else
+    {
+      listener = options.getCrawlListener();
+    }
+  }
+
+  <V> V time(final String taskName, final Callable<V> callable)
+    throws Exception
+  {
+    final CrawlMetrics previousCrawlMetrics = currentCrawlMetrics.get();
+    currentCrawlMetrics.set(this);
+    currentTaskName = taskName;
+    queryCount = 0;
+    rowCount = 0;
+
+    stopWatch.start(taskName);
+    try
+    {
+      return callable.call();
+    }
+    finally
+    {
+      final Duration duration = stopWatch.stop();
+      currentCrawlMetrics.set(previousCrawlMetrics);
+      fireCrawlEvent(new CrawlEvent(stopWatch.getId(),
+                                    taskName,
+                                    null,
+                                    duration,
+                                    queryCount,
+                                    rowCount),
+                     false);
+      currentTaskName = null;
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return stopWatch.toString();
+  }
+
+  private void addQuery(final String queryName,
+                        final Duration duration,
+                        final long rowCount)
+  {
+    queryCount++;
+    this.rowCount = this.rowCount + rowCount;
+    fireCrawlEvent(new CrawlEvent(stopWatch.getId(),
+                                  currentTaskName,
+                                  queryName,
+                                  duration,
+                                  1,
+                                  rowCount),
+                   true);
+  }
+
+  private void fireCrawlEvent(final CrawlEvent event, final boolean isQuery)
+  {
+    if (listener == null)
+    {
+      return;
+    }
+
+    try
+    {
+      if (isQuery)
+      {
+        listener.queryCompleted(event);
+      }
+      else
+      {
+        listener.taskCompleted(event);
+      }
+    }
+    catch (final RuntimeException e)
+    {
+      // Instrumentation should never break a crawl
+      LOGGER.log(Level.WARNING,
+                 e,
+                 new StringFormat("Could not report crawl event, %s",
+                                  event));
+    }
+  }
+
+}
@@ -400,7 +400,7 @@ final class DatabaseInfoRetriever
     else
     {
       statement = null;
-      results = new MetadataResultSet(getMetaData().getTypeInfo());
+      results = new MetadataResultSet(() -> getMetaData().getTypeInfo());
     }
 
     try
@@ -492,7 +492,7 @@ final class DatabaseInfoRetriever
     final String catalogName = schema.getCatalogName();
     final String schemaName = schema.getName();
 
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
       .getUDTs(unquotedName(catalogName),
                unquotedName(schemaName),
                "%",
@@ -33,7 +33,9 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -43,8 +45,10 @@ import static sf.util.Utility.isBlank;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.ForeignKeyDeferrability;
 import schemacrawler.schema.ForeignKeyUpdateRule;
+import schemacrawler.schema.Schema;
 import schemacrawler.schema.SchemaReference;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.View;
@@ -68,6 +72,26 @@ final class ForeignKeyRetriever
   private static final Logger LOGGER = Logger
     .getLogger(ForeignKeyRetriever.class.getName());
 
+  /**
+   * Gets the schemas of the tables that the provided foreign keys
+   * reference, or are referenced by.
+   */
+  private static Set<Schema> foreignKeySchemas(final NamedObjectList<MutableForeignKey> foreignKeys)
+  {
+    final Set<Schema> schemas = new HashSet<>();
+    for (final MutableForeignKey foreignKey: foreignKeys)
+    {
+      for (final ForeignKeyColumnReference columnReference: foreignKey)
+      {
+        schemas.add(columnReference.getForeignKeyColumn().getParent()
+          .getSchema());
+        schemas.add(columnReference.getPrimaryKeyColumn().getParent()
+          .getSchema());
+      }
+    }
+    return schemas;
+  }
+
   ForeignKeyRetriever(final RetrieverConnection retrieverConnection,
                       final MutableCatalog catalog,
                       final SchemaCrawlerOptions options)
@@ -150,18 +174,69 @@ final class ForeignKeyRetriever
 
     if (!informationSchemaViews.hasForeignKeysSql())
     {
-      LOGGER.log(Level.INFO,
-                 "Retrieving foreign keys, using database metadata");
-      retrieveForeignKeysUsingDatabaseMetadata(allTables);
+      MetadataRetrievalStrategy foreignKeyRetrievalStrategy = getRetrieverConnection()
+        .getForeignKeyRetrievalStrategy();
+      if (foreignKeyRetrievalStrategy == MetadataRetrievalStrategy.auto)
+      {
+        foreignKeyRetrievalStrategy = selectRetrievalStrategy(allTables);
+      }
+      final NamedObjectList<MutableForeignKey> foreignKeys = new NamedObjectList<>();
+      switch (foreignKeyRetrievalStrategy)
+      {
+        case metadata_all:
+          if (getSchemaInclusionRule().isIncludeAll())
+          {
+            LOGGER
+              .log(Level.INFO,
+                   "Retrieving foreign keys, using fast meta-data retrieval");
+            retrieveForeignKeysUsingDatabaseMetadataForAllTables(allTables,
+                                                                 foreignKeys);
+          }
+          else
+          {
+            LOGGER
+              .log(Level.INFO,
+                   "Retrieving foreign keys, using meta-data retrieval for each schema, since some schemas are not crawled");
+            retrieveForeignKeysUsingDatabaseMetadataForSchemas(allTables,
+                                                               foreignKeys);
+          }
+          break;
+
+        case metadata_per_schema:
+          LOGGER
+            .log(Level.INFO,
+                 "Retrieving foreign keys, using meta-data retrieval for each schema");
+          retrieveForeignKeysUsingDatabaseMetadataForSchemas(allTables,
+                                                             foreignKeys);
+          break;
+
+        case metadata:
+          LOGGER.log(Level.INFO,
+                     "Retrieving foreign keys, using database metadata");
+          retrieveForeignKeysUsingDatabaseMetadata(allTables, foreignKeys);
+          break;
+
+        default:
+          throw new SchemaCrawlerSQLException("No foreign keys SQL provided for "
+                                              + foreignKeyRetrievalStrategy
+                                              + " strategy", null);
+      }
     }
     else
     {
       LOGGER.log(Level.INFO, "Retrieving foreign keys, using SQL");
-      retrieveForeignKeysUsingSql(informationSchemaViews);
+      retrieveForeignKeysUsingSql(allTables, informationSchemaViews);
     }
   }
 
+  /**
+   * Creates foreign keys from the results, for relationships where at
+   * least one of the tables is one of the provided tables. Bulk
+   * retrieval returns relationships between other tables too, and these
+   * are already in the catalog when only some tables are re-crawled.
+   */
   private void createForeignKeys(final MetadataResultSet results,
+                                 final NamedObjectList<MutableTable> allTables,
                                  final NamedObjectList<MutableForeignKey> foreignKeys)
     throws SQLException
   {
@@ -216,6 +291,11 @@ final class ForeignKeyRetriever
         {
           continue;
         }
+        if (!allTables.contains(pkColumn.getParent())
+            && !allTables.contains(fkColumn.getParent()))
+        {
+          continue;
+        }
 
         if (isBlank(foreignKeyName))
         {
@@ -310,10 +390,10 @@ final class ForeignKeyRetriever
     return column;
   }
 
-  private void retrieveForeignKeysUsingDatabaseMetadata(final NamedObjectList<MutableTable> allTables)
+  private void retrieveForeignKeysUsingDatabaseMetadata(final NamedObjectList<MutableTable> allTables,
+                                                        final NamedObjectList<MutableForeignKey> foreignKeys)
     throws SchemaCrawlerSQLException
   {
-    final NamedObjectList<MutableForeignKey> foreignKeys = new NamedObjectList<>();
     for (final MutableTable table: allTables)
     {
       if (table instanceof View)
@@ -322,12 +402,12 @@ final class ForeignKeyRetriever
       }
 
       final DatabaseMetaData metaData = getMetaData();
-      try (final MetadataResultSet results = new MetadataResultSet(metaData
+      try (final MetadataResultSet results = new MetadataResultSet(() -> metaData
         .getImportedKeys(unquotedName(table.getSchema().getCatalogName()),
                          unquotedName(table.getSchema().getName()),
                          unquotedName(table.getName())));)
       {
-        createForeignKeys(results, foreignKeys);
+        createForeignKeys(results, allTables, foreignKeys);
       }
       catch (final SQLException e)
       {
@@ -340,12 +420,12 @@ final class ForeignKeyRetriever
       // selected, we have not retrieved it's keys that are imported by
       // other
       // tables.
-      try (final MetadataResultSet results = new MetadataResultSet(metaData
+      try (final MetadataResultSet results = new MetadataResultSet(() -> metaData
         .getExportedKeys(unquotedName(table.getSchema().getCatalogName()),
                          unquotedName(table.getSchema().getName()),
                          unquotedName(table.getName())));)
       {
-        createForeignKeys(results, foreignKeys);
+        createForeignKeys(results, allTables, foreignKeys);
       }
       catch (final SQLException e)
       {
@@ -355,7 +435,169 @@ final class ForeignKeyRetriever
     }
   }
 
-  private void retrieveForeignKeysUsingSql(final InformationSchemaViews informationSchemaViews)
+  /**
+   * Removes foreign keys from the tables and columns of the catalog, so
+   * that they can be retrieved again without duplicating their column
+   * references.
+   */
+  private void removeForeignKeys(final NamedObjectList<MutableForeignKey> foreignKeys)
+  {
+    for (final MutableForeignKey foreignKey: foreignKeys)
+    {
+      for (final ForeignKeyColumnReference columnReference: foreignKey)
+      {
+        final Column fkColumn = columnReference.getForeignKeyColumn();
+        if (fkColumn instanceof MutableColumn)
+        {
+          ((MutableColumn) fkColumn).setReferencedColumn(null);
+          ((MutableTable) fkColumn.getParent()).removeForeignKey(foreignKey);
+        }
+        final Column pkColumn = columnReference.getPrimaryKeyColumn();
+        if (pkColumn instanceof MutableColumn)
+        {
+          ((MutableTable) pkColumn.getParent()).removeForeignKey(foreignKey);
+        }
+      }
+    }
+    foreignKeys.clear();
+  }
+
+  /**
+   * Retrieves all foreign keys in the database with a single
+   * cross-reference call, instead of two calls per table. Every
+   * relationship is returned once, and is matched to tables in the
+   * catalog. JDBC requires a table name for cross-reference calls, so
+   * drivers may fail, or return nothing at all, or return foreign keys
+   * for the current schema only. So if the call fails, anything
+   * retrieved so far is discarded, and foreign keys are retrieved for
+   * each table. Otherwise, foreign keys are retrieved for each table
+   * only for tables in schemas that the call did not return any foreign
+   * keys for.
+   */
+  private void retrieveForeignKeysUsingDatabaseMetadataForAllTables(final NamedObjectList<MutableTable> allTables,
+                                                                    final NamedObjectList<MutableForeignKey> foreignKeys)
+    throws SchemaCrawlerSQLException
+  {
+    try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
+      .getCrossReference(null, null, null, null, null, null));)
+    {
+      createForeignKeys(results, allTables, foreignKeys);
+    }
+    catch (final SQLException e)
+    {
+      logSQLFeatureNotSupported("Could not retrieve foreign keys for all tables, so retrieving them for each table",
+                                e);
+      removeForeignKeys(foreignKeys);
+      retrieveForeignKeysUsingDatabaseMetadata(allTables, foreignKeys);
+      return;
+    }
+
+    final Set<Schema> foreignKeySchemas = foreignKeySchemas(foreignKeys);
+    final NamedObjectList<MutableTable> uncoveredTables = new NamedObjectList<>();
+    for (final MutableTable table: allTables)
+    {
+      if (!(table instanceof View)
+          && !foreignKeySchemas.contains(table.getSchema()))
+      {
+        uncoveredTables.add(table);
+      }
+    }
+    if (!uncoveredTables.isEmpty())
+    {
+      LOGGER
+        .log(Level.INFO,
+             new StringFormat("No foreign keys were retrieved for all tables in %s, so retrieving them for each table",
+                              tableSchemas(uncoveredTables)));
+      retrieveForeignKeysUsingDatabaseMetadata(uncoveredTables, foreignKeys);
+    }
+  }
+
+  /**
+   * Retrieves foreign keys with two cross-reference calls for each
+   * crawled schema, one for keys imported by tables in the schema, and
+   * one for keys exported by them. JDBC requires a table name for
+   * cross-reference calls, so if the calls for a schema fail, or return
+   * nothing at all, anything retrieved for that schema is discarded,
+   * and foreign keys are retrieved for each table in the schema.
+   */
+  private void retrieveForeignKeysUsingDatabaseMetadataForSchemas(final NamedObjectList<MutableTable> allTables,
+                                                                  final NamedObjectList<MutableForeignKey> foreignKeys)
+    throws SchemaCrawlerSQLException
+  {
+    final NamedObjectList<MutableTable> uncoveredTables = new NamedObjectList<>();
+    for (final Schema schema: tableSchemas(allTables))
+    {
+      LOGGER.log(Level.FINE, "Retrieving foreign keys for schema " + schema);
+      final String catalogName = unquotedName(schema.getCatalogName());
+      final String schemaName = unquotedName(schema.getName());
+      final NamedObjectList<MutableForeignKey> schemaForeignKeys = new NamedObjectList<>();
+      for (final MutableForeignKey foreignKey: foreignKeys)
+      {
+        schemaForeignKeys.add(foreignKey);
+      }
+      boolean isCovered;
+      try
+      {
+        final MetadataResultSet importedKeys = new MetadataResultSet(() -> getMetaData()
+          .getCrossReference(null, null, null, catalogName, schemaName, null));
+        createForeignKeys(importedKeys, allTables, schemaForeignKeys);
+        final MetadataResultSet exportedKeys = new MetadataResultSet(() -> getMetaData()
+          .getCrossReference(catalogName, schemaName, null, null, null, null));
+        createForeignKeys(exportedKeys, allTables, schemaForeignKeys);
+        isCovered = importedKeys.getRowCount()
+                    + exportedKeys.getRowCount() > 0;
+      }
+      catch (final SQLException e)
+      {
+        logSQLFeatureNotSupported("Could not retrieve foreign keys for schema "
+                                  + schema
+                                  + ", so retrieving them for each table",
+                                  e);
+        isCovered = false;
+      }
+
+      // Only keep foreign keys that were created for this schema if it
+      // was covered
+      final NamedObjectList<MutableForeignKey> newForeignKeys = new NamedObjectList<>();
+      for (final MutableForeignKey foreignKey: schemaForeignKeys)
+      {
+        if (!foreignKeys.contains(foreignKey))
+        {
+          newForeignKeys.add(foreignKey);
+        }
+      }
+      if (isCovered)
+      {
+        for (final MutableForeignKey foreignKey: newForeignKeys)
+        {
+          foreignKeys.add(foreignKey);
+        }
+      }
+      else
+      {
+        removeForeignKeys(newForeignKeys);
+        for (final MutableTable table: allTables)
+        {
+          if (!(table instanceof View) && schema.equals(table.getSchema()))
+          {
+            uncoveredTables.add(table);
+          }
+        }
+      }
+    }
+
+    if (!uncoveredTables.isEmpty())
+    {
+      LOGGER
+        .log(Level.INFO,
+             new StringFormat("No foreign keys were retrieved for all tables in %s, so retrieving them for each table",
+                              tableSchemas(uncoveredTables)));
+      retrieveForeignKeysUsingDatabaseMetadata(uncoveredTables, foreignKeys);
+    }
+  }
+
+  private void retrieveForeignKeysUsingSql(final NamedObjectList<MutableTable> allTables,
+                                           final InformationSchemaViews informationSchemaViews)
     throws SchemaCrawlerSQLException
   {
     final NamedObjectList<MutableForeignKey> foreignKeys = new NamedObjectList<>();
@@ -367,7 +609,7 @@ final class ForeignKeyRetriever
                                                                 getSchemaInclusionRule());)
     {
       results.setDescription("retrieveForeignKeysUsingSql");
-      createForeignKeys(results, foreignKeys);
+      createForeignKeys(results, allTables, foreignKeys);
     }
     catch (final SQLException e)
     {
@@ -376,4 +618,47 @@ final class ForeignKeyRetriever
     }
   }
 
+  /**
+   * Picks a meta-data retrieval strategy for the automatic strategy.
+   * Retrieval for each table makes two round trips for every table, and
+   * retrieval for each schema makes two round trips for every schema.
+   * Retrieval for all tables makes a single round trip, but brings back
+   * foreign keys for schemas that are not crawled, so it is only used
+   * when all schemas are crawled.
+   */
+  private MetadataRetrievalStrategy selectRetrievalStrategy(final NamedObjectList<MutableTable> allTables)
+  {
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    for (final MutableTable table: allTables)
+    {
+      if (!(table instanceof View))
+      {
+        tables.add(table);
+      }
+    }
+    final int tableCount = tables.size();
+    final int schemaCount = tableSchemas(tables).size();
+
+    final MetadataRetrievalStrategy strategy;
+    if (tableCount <= schemaCount)
+    {
+      strategy = MetadataRetrievalStrategy.metadata;
+    }
+    else if (getSchemaInclusionRule().isIncludeAll())
+    {
+      strategy = MetadataRetrievalStrategy.metadata_all;
+    }
+    else
+    {
+      strategy = MetadataRetrievalStrategy.metadata_per_schema;
+    }
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Selected %s strategy to retrieve foreign keys for %d tables in %d schemas",
+                                strategy,
+                                tableCount,
+                                schemaCount));
+    return strategy;
+  }
+
 }
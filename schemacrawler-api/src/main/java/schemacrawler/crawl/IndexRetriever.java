@@ -32,6 +32,8 @@ package schemacrawler.crawl;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -41,9 +43,11 @@ import static java.util.Objects.requireNonNull;
 import static sf.util.Utility.isBlank;
 
 import schemacrawler.schema.Column;
+import schemacrawler.schema.Index;
 import schemacrawler.schema.IndexColumnSortSequence;
 import schemacrawler.schema.IndexType;
 import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Schema;
 import schemacrawler.schema.SchemaReference;
 import schemacrawler.schema.View;
 import schemacrawler.schemacrawler.InformationSchemaViews;
@@ -98,7 +102,7 @@ final class IndexRetriever
     throws SQLException
   {
 
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
       .getPrimaryKeys(unquotedName(table.getSchema().getCatalogName()),
                       unquotedName(table.getSchema().getName()),
                       unquotedName(table.getName())));)
@@ -364,7 +368,7 @@ final class IndexRetriever
     throws SQLException
   {
 
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
       .getIndexInfo(unquotedName(table.getSchema().getCatalogName()),
                     unquotedName(table.getSchema().getName()),
                     unquotedName(table.getName()),
@@ -385,7 +389,7 @@ final class IndexRetriever
     throws SQLException
   {
 
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
       .getIndexInfo(null,
                     null,
                     table.getName(),
@@ -405,6 +409,21 @@ final class IndexRetriever
   private void retrieveIndexesUsingDatabaseMetadata(final NamedObjectList<MutableTable> allTables)
     throws SQLException
   {
+    final IndexRetrievalStrategy indexRetrievalStrategy = getRetrieverConnection()
+      .getIndexRetrievalStrategy();
+    if (indexRetrievalStrategy == IndexRetrievalStrategy.metadata_all)
+    {
+      for (final Schema schema: getSchemas())
+      {
+        retrieveIndexesForAllTables(allTables, schema);
+      }
+      return;
+    }
+
+    // Non-unique indexes include unique indexes, so the single pass
+    // strategy makes one call for each table, and the metadata strategy
+    // makes a second call for the unique indexes
+    final boolean retrieveUniqueIndexes = indexRetrievalStrategy == IndexRetrievalStrategy.metadata;
     for (final MutableTable table: allTables)
     {
       if (table instanceof View)
@@ -412,7 +431,86 @@ final class IndexRetriever
         continue;
       }
       retrieveIndexes(table, false);
-      retrieveIndexes(table, true);
+      if (retrieveUniqueIndexes)
+      {
+        retrieveIndexes(table, true);
+      }
+    }
+  }
+
+  /**
+   * Retrieves indexes for all tables in a schema, with a single call,
+   * and matches them to tables in the catalog. JDBC drivers are not
+   * required to support retrieving indexes without a table name, and
+   * may fail, or return nothing at all. So if the call fails, or
+   * returns no indexes for the tables in the schema, any indexes
+   * created so far are discarded, and indexes are retrieved for each
+   * table in the schema.
+   */
+  private void retrieveIndexesForAllTables(final NamedObjectList<MutableTable> allTables,
+                                           final Schema schema)
+    throws SQLException
+  {
+    final List<MutableTable> schemaTables = new ArrayList<>();
+    for (final MutableTable table: allTables)
+    {
+      if (!(table instanceof View) && table.getSchema().equals(schema))
+      {
+        schemaTables.add(table);
+      }
+    }
+    if (schemaTables.isEmpty())
+    {
+      return;
+    }
+
+    boolean hasIndexes = false;
+    try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
+      .getIndexInfo(unquotedName(schema.getCatalogName()),
+                    unquotedName(schema.getName()),
+                    null,
+                    false,
+                    true/* approximate */));)
+    {
+      while (results.next())
+      {
+        final String catalogName = quotedName(results.getString("TABLE_CAT"));
+        final String schemaName = quotedName(results.getString("TABLE_SCHEM"));
+        final String tableName = quotedName(results.getString("TABLE_NAME"));
+
+        final Optional<MutableTable> optionalTable = allTables
+          .lookup(new SchemaReference(catalogName, schemaName), tableName);
+        if (!optionalTable.isPresent() || optionalTable.get() instanceof View)
+        {
+          continue;
+        }
+        final MutableTable table = optionalTable.get();
+        createIndexForTable(table, results);
+        hasIndexes = true;
+      }
+    }
+    catch (final SQLException e)
+    {
+      logSQLFeatureNotSupported("Could not retrieve indexes for all tables in "
+                                + schema
+                                + ", so retrieving them for each table",
+                                e);
+      hasIndexes = false;
+    }
+
+    if (!hasIndexes)
+    {
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Retrieving indexes for each table in %s",
+                                  schema));
+      for (final MutableTable table: schemaTables)
+      {
+        for (final Index index: table.getIndexes())
+        {
+          table.removeIndex((MutableIndex) index);
+        }
+        retrieveIndexes(table, false);
+      }
     }
   }
 
@@ -0,0 +1,303 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import schemacrawler.crawl.MappedCatalogSnapshot.Segment;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Reducer;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.BaseCatalogDecorator;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+
+/**
+ * Catalog opened from a snapshot, which reads the objects in a schema
+ * from the snapshot file only when they are first accessed. The
+ * snapshot file is closed once every segment has been read, or when
+ * the catalog is closed.
+ *
+ * @author Sualeh Fatehi
+ */
+final class MappedCatalog
+  extends BaseCatalogDecorator
+  implements Closeable
+{
+
+  private static final long serialVersionUID = -2361622386447187614L;
+
+  private transient FileChannel channel;
+  private final transient Object[] shared;
+  private final transient List<Segment> pendingSegments;
+
+  MappedCatalog(final FileChannel channel,
+                final MutableCatalog catalog,
+                final Object[] shared,
+                final List<Segment> segments)
+  {
+    super(catalog);
+    this.channel = channel;
+    this.shared = shared;
+    pendingSegments = new ArrayList<>(segments);
+    closeIfLoaded();
+  }
+
+  /**
+   * Closes the snapshot file. Objects in schemas that have not been
+   * read yet can no longer be accessed.
+   */
+  @Override
+  public synchronized void close()
+    throws IOException
+  {
+    if (channel != null)
+    {
+      channel.close();
+      channel = null;
+    }
+  }
+
+  @Override
+  public Collection<Routine> getRoutines()
+  {
+    materializeAll();
+    return super.getRoutines();
+  }
+
+  @Override
+  public Collection<Routine> getRoutines(final Schema schema)
+  {
+    materialize(schema);
+    return super.getRoutines(schema);
+  }
+
+  @Override
+  public Collection<Sequence> getSequences()
+  {
+    materializeAll();
+    return super.getSequences();
+  }
+
+  @Override
+  public Collection<Sequence> getSequences(final Schema schema)
+  {
+    materialize(schema);
+    return super.getSequences(schema);
+  }
+
+  @Override
+  public Collection<Synonym> getSynonyms()
+  {
+    materializeAll();
+    return super.getSynonyms();
+  }
+
+  @Override
+  public Collection<Synonym> getSynonyms(final Schema schema)
+  {
+    materialize(schema);
+    return super.getSynonyms(schema);
+  }
+
+  @Override
+  public Collection<Table> getTables()
+  {
+    materializeAll();
+    return super.getTables();
+  }
+
+  @Override
+  public Collection<Table> getTables(final Schema schema)
+  {
+    materialize(schema);
+    return super.getTables(schema);
+  }
+
+  @Override
+  public Optional<? extends Routine> lookupRoutine(final Schema schema,
+                                                   final String name)
+  {
+    materialize(schema);
+    return super.lookupRoutine(schema, name);
+  }
+
+  @Override
+  public Optional<? extends Sequence> lookupSequence(final Schema schema,
+                                                     final String name)
+  {
+    materialize(schema);
+    return super.lookupSequence(schema, name);
+  }
+
+  @Override
+  public Optional<? extends Synonym> lookupSynonym(final Schema schema,
+                                                   final String name)
+  {
+    materialize(schema);
+    return super.lookupSynonym(schema, name);
+  }
+
+  @Override
+  public Optional<? extends Table> lookupTable(final Schema schema,
+                                               final String name)
+  {
+    materialize(schema);
+    return super.lookupTable(schema, name);
+  }
+
+  /**
+   * Reducing schemas does not read anything from the snapshot, and
+   * segments for schemas that were removed are never read. All other
+   * reductions need every remaining object.
+   */
+  @Override
+  public <N extends NamedObject> void reduce(final Class<N> clazz,
+                                             final Reducer<N> reducer)
+  {
+    if (Schema.class.isAssignableFrom(clazz))
+    {
+      super.reduce(clazz, reducer);
+      dropRemovedSchemas();
+    }
+    else
+    {
+      materializeAll();
+      super.reduce(clazz, reducer);
+    }
+  }
+
+  private void closeIfLoaded()
+  {
+    if (!pendingSegments.isEmpty())
+    {
+      return;
+    }
+    try
+    {
+      close();
+    }
+    catch (final IOException e)
+    {
+      throw new IllegalStateException("Could not close catalog snapshot", e);
+    }
+  }
+
+  private synchronized void dropRemovedSchemas()
+  {
+    final Set<String> schemaNames = new HashSet<>();
+    for (final Schema schema: ((MutableCatalog) catalog).getSchemaNames())
+    {
+      schemaNames.add(schema.getFullName());
+    }
+    pendingSegments.removeIf(segment -> {
+      for (final String schemaName: segment.getSchemaNames())
+      {
+        if (schemaNames.contains(schemaName))
+        {
+          return false;
+        }
+      }
+      return true;
+    });
+    closeIfLoaded();
+  }
+
+  private void load(final Segment segment)
+  {
+    if (channel == null)
+    {
+      throw new IllegalStateException("Catalog snapshot is closed");
+    }
+    try
+    {
+      MappedCatalogSnapshot.loadSegment(channel,
+                                        segment,
+                                        (MutableCatalog) catalog,
+                                        shared);
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+  }
+
+  private synchronized void materialize(final Schema schema)
+  {
+    if (schema == null)
+    {
+      return;
+    }
+    final String schemaName = schema.getFullName();
+    for (final Iterator<Segment> iterator = pendingSegments.iterator(); iterator
+      .hasNext();)
+    {
+      final Segment segment = iterator.next();
+      if (segment.hasSchema(schemaName))
+      {
+        load(segment);
+        iterator.remove();
+      }
+    }
+    closeIfLoaded();
+  }
+
+  private synchronized void materializeAll()
+  {
+    for (final Segment segment: pendingSegments)
+    {
+      load(segment);
+    }
+    pendingSegments.clear();
+    closeIfLoaded();
+  }
+
+  /**
+   * Serializes the fully materialized catalog, since the snapshot file
+   * cannot be serialized.
+   */
+  private Object writeReplace()
+  {
+    materializeAll();
+    return catalog;
+  }
+
+}
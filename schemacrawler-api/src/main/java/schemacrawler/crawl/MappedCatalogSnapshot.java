@@ -0,0 +1,696 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.utility.CatalogObjectInputStream;
+
+/**
+ * Writes and opens catalog snapshots that can be used without
+ * deserializing the whole catalog up front. A snapshot has a small
+ * skeleton segment with the catalog, schemas and column data types,
+ * followed by one segment for each group of schemas that are related
+ * to each other by foreign keys or synonyms. Segments are
+ * memory-mapped, and decoded only when objects in one of their schemas
+ * are first accessed. Only classes that a catalog is built from are
+ * read from a snapshot.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class MappedCatalogSnapshot
+{
+
+  private static final class ByteBufferInputStream
+    extends InputStream
+  {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(final ByteBuffer buffer)
+    {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int available()
+    {
+      return buffer.remaining();
+    }
+
+    @Override
+    public int read()
+    {
+      if (!buffer.hasRemaining())
+      {
+        return -1;
+      }
+      return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int off, final int len)
+    {
+      if (len == 0)
+      {
+        return 0;
+      }
+      if (!buffer.hasRemaining())
+      {
+        return -1;
+      }
+      final int count = Math.min(len, buffer.remaining());
+      buffer.get(bytes, off, count);
+      return count;
+    }
+
+  }
+
+  /**
+   * Location of a segment in the snapshot file, and the schemas whose
+   * objects it contains.
+   */
+  static final class Segment
+  {
+
+    private final long offset;
+    private final long length;
+    private final Set<String> schemaNames;
+
+    Segment(final long offset,
+            final long length,
+            final Set<String> schemaNames)
+    {
+      this.offset = offset;
+      this.length = length;
+      this.schemaNames = schemaNames;
+    }
+
+    boolean hasSchema(final String schemaName)
+    {
+      return schemaNames.contains(schemaName);
+    }
+
+    Set<String> getSchemaNames()
+    {
+      return schemaNames;
+    }
+
+  }
+
+  private static final class SegmentInputStream
+    extends CatalogObjectInputStream
+  {
+
+    private final Object[] shared;
+
+    SegmentInputStream(final InputStream in, final Object[] shared)
+      throws IOException
+    {
+      super(in);
+      this.shared = shared;
+      enableResolveObject(true);
+    }
+
+    @Override
+    protected Object resolveObject(final Object obj)
+      throws IOException
+    {
+      if (obj instanceof SharedObjectReference)
+      {
+        return shared[((SharedObjectReference) obj).index];
+      }
+      else
+      {
+        return obj;
+      }
+    }
+
+  }
+
+  private static final class SegmentOutputStream
+    extends ObjectOutputStream
+  {
+
+    private final Map<Object, SharedObjectReference> sharedReferences;
+
+    SegmentOutputStream(final OutputStream out,
+                        final Map<Object, SharedObjectReference> sharedReferences)
+      throws IOException
+    {
+      super(out);
+      this.sharedReferences = sharedReferences;
+      enableReplaceObject(true);
+    }
+
+    @Override
+    protected Object replaceObject(final Object obj)
+      throws IOException
+    {
+      final SharedObjectReference reference = sharedReferences.get(obj);
+      if (reference != null)
+      {
+        return reference;
+      }
+      else
+      {
+        return obj;
+      }
+    }
+
+  }
+
+  /**
+   * Stands in for an object in the skeleton segment, when it is
+   * referenced from another segment.
+   */
+  private static final class SharedObjectReference
+    implements Serializable
+  {
+
+    private static final long serialVersionUID = 7447405391467398296L;
+
+    private final int index;
+
+    SharedObjectReference(final int index)
+    {
+      this.index = index;
+    }
+
+  }
+
+  /**
+   * Writes the catalog without its tables, routines, synonyms and
+   * sequences, which are written in the schema segments.
+   */
+  private static final class SkeletonOutputStream
+    extends ObjectOutputStream
+  {
+
+    private final Set<Object> segmentedLists;
+
+    SkeletonOutputStream(final OutputStream out, final MutableCatalog catalog)
+      throws IOException
+    {
+      super(out);
+      segmentedLists = Collections
+        .newSetFromMap(new IdentityHashMap<>());
+      segmentedLists.add(catalog.getAllTables());
+      segmentedLists.add(catalog.getAllRoutines());
+      segmentedLists.add(catalog.getAllSynonyms());
+      segmentedLists.add(catalog.getAllSequences());
+      enableReplaceObject(true);
+    }
+
+    @Override
+    protected Object replaceObject(final Object obj)
+      throws IOException
+    {
+      if (segmentedLists.contains(obj))
+      {
+        return new NamedObjectList<>();
+      }
+      else
+      {
+        return obj;
+      }
+    }
+
+  }
+
+  private static final int MAGIC = 0x5343534E; // "SCSN"
+  private static final int FORMAT_VERSION = 1;
+  private static final int HEADER_SIZE = 16;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * Checks whether the file is a mapped catalog snapshot, by reading
+   * the header.
+   *
+   * @param snapshotFile
+   *        File to check
+   * @return Whether the file is a mapped catalog snapshot
+   */
+  public static boolean isMappedCatalogSnapshot(final Path snapshotFile)
+  {
+    if (snapshotFile == null || !Files.isReadable(snapshotFile))
+    {
+      return false;
+    }
+    try (final DataInputStream in = new DataInputStream(Files
+      .newInputStream(snapshotFile));)
+    {
+      return in.readInt() == MAGIC;
+    }
+    catch (final IOException e)
+    {
+      return false;
+    }
+  }
+
+  /**
+   * Opens a snapshot, reading only the skeleton segment. Tables,
+   * routines, synonyms and sequences are read from the snapshot file
+   * when they are first accessed, one group of related schemas at a
+   * time. Schemas that are removed by a schema reducer are never read.
+   * The snapshot file is kept open until every segment has been read,
+   * or the catalog is closed.
+   *
+   * @param snapshotFile
+   *        Snapshot file
+   * @return Lazily materialized catalog, which is also
+   *         {@link java.io.Closeable}
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public static Catalog open(final Path snapshotFile)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(snapshotFile, "No snapshot file provided");
+    FileChannel channel = null;
+    try
+    {
+      channel = FileChannel.open(snapshotFile, READ);
+      final MappedByteBuffer header = channel.map(MapMode.READ_ONLY,
+                                                  0,
+                                                  HEADER_SIZE);
+      if (header.getInt() != MAGIC)
+      {
+        throw new SchemaCrawlerException("Not a catalog snapshot, "
+                                         + snapshotFile);
+      }
+      final int formatVersion = header.getInt();
+      if (formatVersion != FORMAT_VERSION)
+      {
+        throw new SchemaCrawlerException("Unsupported catalog snapshot format version, "
+                                         + formatVersion);
+      }
+      final long indexOffset = header.getLong();
+
+      final DataInputStream indexIn = new DataInputStream(new ByteBufferInputStream(channel
+        .map(MapMode.READ_ONLY, indexOffset, channel.size() - indexOffset)));
+      final Segment skeleton = readSegment(indexIn);
+      final int segmentCount = indexIn.readInt();
+      final List<Segment> segments = new ArrayList<>(segmentCount);
+      for (int i = 0; i < segmentCount; i++)
+      {
+        segments.add(readSegment(indexIn));
+      }
+
+      try (final CatalogObjectInputStream in = new CatalogObjectInputStream(newSegmentInputStream(channel,
+                                                                                                   skeleton));)
+      {
+        final MutableCatalog catalog = (MutableCatalog) in.readObject();
+        final Object[] shared = (Object[]) in.readObject();
+        return new MappedCatalog(channel, catalog, shared, segments);
+      }
+    }
+    catch (final IOException | ClassNotFoundException | ClassCastException e)
+    {
+      if (channel != null)
+      {
+        try
+        {
+          channel.close();
+        }
+        catch (final IOException e1)
+        {
+          e.addSuppressed(e1);
+        }
+      }
+      throw new SchemaCrawlerException("Could not open catalog snapshot, "
+                                       + snapshotFile, e);
+    }
+  }
+
+  /**
+   * Writes a snapshot of a crawled catalog.
+   *
+   * @param catalog
+   *        Catalog obtained from a crawl
+   * @param snapshotFile
+   *        Snapshot file to write
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public static void write(final Catalog catalog, final Path snapshotFile)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(catalog, "No catalog provided");
+    requireNonNull(snapshotFile, "No snapshot file provided");
+    if (!(catalog instanceof MutableCatalog))
+    {
+      throw new SchemaCrawlerException("Cannot write a snapshot of "
+                                       + catalog.getClass().getName());
+    }
+    final MutableCatalog mutableCatalog = (MutableCatalog) catalog;
+
+    final Object[] shared = sharedObjects(mutableCatalog);
+    final Map<Object, SharedObjectReference> sharedReferences = new IdentityHashMap<>();
+    for (int i = 0; i < shared.length; i++)
+    {
+      sharedReferences.put(shared[i], new SharedObjectReference(i));
+    }
+
+    try (final FileChannel channel = FileChannel
+      .open(snapshotFile, CREATE, TRUNCATE_EXISTING, WRITE);)
+    {
+      final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      header.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(0L);
+      header.flip();
+      channel.write(header);
+
+      final long skeletonOffset = channel.position();
+      final GZIPOutputStream skeletonOut = new GZIPOutputStream(Channels
+        .newOutputStream(channel), BUFFER_SIZE);
+      final ObjectOutputStream skeletonObjectOut = new SkeletonOutputStream(new BufferedOutputStream(skeletonOut,
+                                                                                                     BUFFER_SIZE),
+                                                                            mutableCatalog);
+      skeletonObjectOut.writeObject(mutableCatalog);
+      skeletonObjectOut.writeObject(shared);
+      skeletonObjectOut.flush();
+      skeletonOut.finish();
+      final Segment skeleton = new Segment(skeletonOffset,
+                                           channel.position() - skeletonOffset,
+                                           new HashSet<>());
+
+      final List<Segment> segments = new ArrayList<>();
+      for (final Set<String> schemaNames: schemaGroups(mutableCatalog))
+      {
+        final long offset = channel.position();
+        final GZIPOutputStream segmentOut = new GZIPOutputStream(Channels
+          .newOutputStream(channel), BUFFER_SIZE);
+        final ObjectOutputStream segmentObjectOut = new SegmentOutputStream(new BufferedOutputStream(segmentOut,
+                                                                                                     BUFFER_SIZE),
+                                                                            sharedReferences);
+        segmentObjectOut
+          .writeObject(inSchemas(mutableCatalog.getAllTables(), schemaNames));
+        segmentObjectOut
+          .writeObject(inSchemas(mutableCatalog.getAllRoutines(), schemaNames));
+        segmentObjectOut
+          .writeObject(inSchemas(mutableCatalog.getAllSynonyms(), schemaNames));
+        segmentObjectOut.writeObject(inSchemas(mutableCatalog
+          .getAllSequences(), schemaNames));
+        segmentObjectOut.flush();
+        segmentOut.finish();
+        segments.add(new Segment(offset,
+                                 channel.position() - offset,
+                                 schemaNames));
+      }
+
+      final long indexOffset = channel.position();
+      final ByteArrayOutputStream index = new ByteArrayOutputStream();
+      final DataOutputStream indexOut = new DataOutputStream(index);
+      writeSegment(indexOut, skeleton);
+      indexOut.writeInt(segments.size());
+      for (final Segment segment: segments)
+      {
+        writeSegment(indexOut, segment);
+      }
+      indexOut.flush();
+      channel.write(ByteBuffer.wrap(index.toByteArray()));
+      final ByteBuffer indexOffsetBuffer = ByteBuffer.allocate(8);
+      indexOffsetBuffer.putLong(indexOffset);
+      indexOffsetBuffer.flip();
+      channel.write(indexOffsetBuffer, 8);
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Could not write catalog snapshot, "
+                                       + snapshotFile, e);
+    }
+  }
+
+  /**
+   * Reads a schema segment from the open snapshot file, and adds its
+   * objects to the catalog, if their schema is still in the catalog.
+   */
+  static void loadSegment(final FileChannel channel,
+                          final Segment segment,
+                          final MutableCatalog catalog,
+                          final Object[] shared)
+    throws SchemaCrawlerException
+  {
+    try (final SegmentInputStream in = new SegmentInputStream(newSegmentInputStream(channel,
+                                                                                    segment),
+                                                              shared);)
+    {
+      final Collection<Schema> schemas = catalog.getSchemaNames();
+      for (final MutableTable table: (List<MutableTable>) in.readObject())
+      {
+        if (schemas.contains(table.getSchema()))
+        {
+          catalog.addTable(table);
+        }
+      }
+      for (final MutableRoutine routine: (List<MutableRoutine>) in
+        .readObject())
+      {
+        if (schemas.contains(routine.getSchema()))
+        {
+          catalog.addRoutine(routine);
+        }
+      }
+      for (final MutableSynonym synonym: (List<MutableSynonym>) in
+        .readObject())
+      {
+        if (schemas.contains(synonym.getSchema()))
+        {
+          catalog.addSynonym(synonym);
+        }
+      }
+      for (final MutableSequence sequence: (List<MutableSequence>) in
+        .readObject())
+      {
+        if (schemas.contains(sequence.getSchema()))
+        {
+          catalog.addSequence(sequence);
+        }
+      }
+    }
+    catch (final IOException | ClassNotFoundException | ClassCastException e)
+    {
+      throw new SchemaCrawlerException("Could not read catalog snapshot segment for "
+                                       + segment.getSchemaNames(), e);
+    }
+  }
+
+  private static String find(final Map<String, String> parents,
+                             final String schemaName)
+  {
+    String root = parents.computeIfAbsent(schemaName, name -> name);
+    while (!root.equals(parents.get(root)))
+    {
+      root = parents.get(root);
+    }
+    parents.put(schemaName, root);
+    return root;
+  }
+
+  private static <D extends DatabaseObject> ArrayList<D> inSchemas(final NamedObjectList<D> databaseObjects,
+                                                                   final Set<String> schemaNames)
+  {
+    final ArrayList<D> inSchemas = new ArrayList<>();
+    for (final D databaseObject: databaseObjects)
+    {
+      if (schemaNames.contains(databaseObject.getSchema().getFullName()))
+      {
+        inSchemas.add(databaseObject);
+      }
+    }
+    return inSchemas;
+  }
+
+  private static InputStream newSegmentInputStream(final FileChannel channel,
+                                                   final Segment segment)
+    throws IOException
+  {
+    return new GZIPInputStream(new ByteBufferInputStream(channel
+      .map(MapMode.READ_ONLY, segment.offset, segment.length)), BUFFER_SIZE);
+  }
+
+  private static Segment readSegment(final DataInputStream in)
+    throws IOException
+  {
+    final long offset = in.readLong();
+    final long length = in.readLong();
+    final int schemaCount = in.readInt();
+    final Set<String> schemaNames = new HashSet<>();
+    for (int i = 0; i < schemaCount; i++)
+    {
+      schemaNames.add(in.readUTF());
+    }
+    return new Segment(offset, length, schemaNames);
+  }
+
+  /**
+   * Groups schemas that are related to each other by foreign keys or
+   * synonyms, so that no object references an object in another
+   * group's segment.
+   */
+  private static Collection<Set<String>> schemaGroups(final MutableCatalog catalog)
+  {
+    final Map<String, String> parents = new HashMap<>();
+    for (final Schema schema: catalog.getSchemaNames())
+    {
+      find(parents, schema.getFullName());
+    }
+    for (final MutableTable table: catalog.getAllTables())
+    {
+      final String schemaName = table.getSchema().getFullName();
+      find(parents, schemaName);
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        for (final ColumnReference columnReference: foreignKey
+          .getColumnReferences())
+        {
+          union(parents,
+                columnReference.getForeignKeyColumn().getParent().getSchema()
+                  .getFullName(),
+                columnReference.getPrimaryKeyColumn().getParent().getSchema()
+                  .getFullName());
+        }
+      }
+    }
+    for (final MutableSynonym synonym: catalog.getAllSynonyms())
+    {
+      final String schemaName = synonym.getSchema().getFullName();
+      find(parents, schemaName);
+      final DatabaseObject referencedObject = synonym.getReferencedObject();
+      if (referencedObject != null)
+      {
+        union(parents,
+              schemaName,
+              referencedObject.getSchema().getFullName());
+      }
+    }
+    for (final MutableRoutine routine: catalog.getAllRoutines())
+    {
+      find(parents, routine.getSchema().getFullName());
+    }
+    for (final MutableSequence sequence: catalog.getAllSequences())
+    {
+      find(parents, sequence.getSchema().getFullName());
+    }
+
+    final Map<String, Set<String>> groups = new LinkedHashMap<>();
+    for (final String schemaName: new ArrayList<>(parents.keySet()))
+    {
+      groups.computeIfAbsent(find(parents, schemaName), root -> new HashSet<>())
+        .add(schemaName);
+    }
+    return groups.values();
+  }
+
+  /**
+   * Objects in the skeleton segment that can be referenced from schema
+   * segments, and are written as references to keep a single instance.
+   */
+  private static Object[] sharedObjects(final MutableCatalog catalog)
+  {
+    final Set<Object> shared = Collections
+      .newSetFromMap(new IdentityHashMap<>());
+    final List<Object> sharedList = new ArrayList<>();
+    sharedList.add(catalog);
+    sharedList.addAll(catalog.getSchemaNames());
+    sharedList.addAll(catalog.getColumnDataTypes());
+    sharedList.addAll(catalog.getSystemColumnDataTypes());
+    sharedList.removeIf(object -> !shared.add(object));
+    return sharedList.toArray();
+  }
+
+  private static void union(final Map<String, String> parents,
+                            final String schemaName1,
+                            final String schemaName2)
+  {
+    final String root1 = find(parents, schemaName1);
+    final String root2 = find(parents, schemaName2);
+    if (!root1.equals(root2))
+    {
+      parents.put(root1, root2);
+    }
+  }
+
+  private static void writeSegment(final DataOutputStream out,
+                                   final Segment segment)
+    throws IOException
+  {
+    out.writeLong(segment.offset);
+    out.writeLong(segment.length);
+    out.writeInt(segment.schemaNames.size());
+    for (final String schemaName: segment.schemaNames)
+    {
+      out.writeUTF(schemaName);
+    }
+  }
+
+  private MappedCatalogSnapshot()
+  { // Prevent instantiation
+  }
+
+}
@@ -37,6 +37,8 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -72,38 +74,86 @@ final class MetadataResultSet
   implements AutoCloseable
 {
 
+  /**
+   * A database metadata call, such as DatabaseMetaData#getTables, that
+   * returns results.
+   */
+  @FunctionalInterface
+  interface MetadataCall
+  {
+
+    ResultSet call()
+      throws SQLException;
+
+  }
+
   private static final Logger LOGGER = Logger
     .getLogger(MetadataResultSet.class.getName());
 
   private static final int FETCHSIZE = 20;
+  /**
+   * Approximate number of bytes of row data that an adaptive fetch size
+   * is allowed to buffer at a time.
+   */
+  private static final int FETCH_MEMORY_BUDGET = 1024 * 1024;
+  /**
+   * Rough estimate of the number of bytes taken up by a single column
+   * value in a metadata row.
+   */
+  private static final int ESTIMATED_COLUMN_SIZE = 64;
 
   private String description;
+  private String queryName;
+  private final Instant start;
   private final ResultSet results;
   private final List<String> resultSetColumns;
   private Set<String> readColumns;
 
   private int rowCount;
+  private int fetchSize;
+  private final int maxFetchSize;
 
   MetadataResultSet(final Query query,
                     final Statement statement,
                     final InclusionRule schemaInclusionRule)
     throws SQLException
   {
-    this(executeAgainstSchema(query, statement, schemaInclusionRule));
+    // Arguments are evaluated in order, so the query is timed from
+    // before it is executed
+    this(Instant.now(),
+         executeAgainstSchema(query,
+                              withFetchSize(statement, query.getFetchSize()),
+                              schemaInclusionRule),
+         query.getFetchSize());
+    queryName = query.getName();
   }
 
-  MetadataResultSet(final ResultSet resultSet)
+  /**
+   * Makes a database metadata call, and wraps the results. The call is
+   * made here, so that it is timed along with reading the results.
+   *
+   * @param metadataCall
+   *        Database metadata call that returns results
+   */
+  MetadataResultSet(final MetadataCall metadataCall)
     throws SQLException
   {
+    this(Instant.now(), metadataCall.call(), 0);
+  }
+
+  /**
+   * Wraps a result set with a fetch size hint. A fixed fetch size is
+   * used as is. A fetch size of 0 starts small, and doubles every time
+   * a full batch of rows has been read, up to a limit that keeps the
+   * buffered rows within a memory budget.
+   */
+  private MetadataResultSet(final Instant start,
+                            final ResultSet resultSet,
+                            final int fetchSize)
+    throws SQLException
+  {
+    this.start = start;
     results = requireNonNull(resultSet, "Cannot use null results");
-    try
-    {
-      results.setFetchSize(FETCHSIZE);
-    }
-    catch (final NullPointerException | SQLException e)
-    {
-      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
-    }
 
     final List<String> resultSetColumns = new ArrayList<>();
     try
@@ -127,6 +177,21 @@ final class MetadataResultSet
     this.resultSetColumns = Collections.unmodifiableList(resultSetColumns);
 
     readColumns = new HashSet<>();
+
+    if (fetchSize > 0)
+    {
+      this.fetchSize = fetchSize;
+      maxFetchSize = fetchSize;
+    }
+    else
+    {
+      this.fetchSize = FETCHSIZE;
+      maxFetchSize = Math
+        .max(FETCHSIZE,
+             FETCH_MEMORY_BUDGET / (Math.max(1, resultSetColumns.size())
+                                    * ESTIMATED_COLUMN_SIZE));
+    }
+    setFetchSize(this.fetchSize);
   }
 
   /**
@@ -143,6 +208,19 @@ final class MetadataResultSet
   {
     results.close();
 
+    final String name;
+    if (isBlank(queryName))
+    {
+      name = description;
+    }
+    else
+    {
+      name = queryName;
+    }
+    CrawlMetrics.queryCompleted(name,
+                                Duration.between(start, Instant.now()),
+                                rowCount);
+
     if (LOGGER.isLoggable(Level.INFO) && !isBlank(description))
     {
       LOGGER.log(Level.INFO,
@@ -392,6 +470,16 @@ final class MetadataResultSet
     return value;
   }
 
+  /**
+   * Gets the number of rows that have been read so far.
+   *
+   * @return Number of rows read
+   */
+  int getRowCount()
+  {
+    return rowCount;
+  }
+
   /**
    * Reads the value of a column from the result set as a short. If the
    * value was null, returns the default.
@@ -494,10 +582,46 @@ final class MetadataResultSet
     if (next)
     {
       rowCount = rowCount + 1;
+      if (fetchSize < maxFetchSize && rowCount % fetchSize == 0)
+      {
+        setFetchSize(Math.min(fetchSize * 2, maxFetchSize));
+      }
     }
     return next;
   }
 
+  private void setFetchSize(final int fetchSize)
+  {
+    try
+    {
+      results.setFetchSize(fetchSize);
+      this.fetchSize = fetchSize;
+    }
+    catch (final NullPointerException | SQLException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+      // Do not attempt to grow the fetch size any further
+      this.fetchSize = maxFetchSize;
+    }
+  }
+
+  private static Statement withFetchSize(final Statement statement,
+                                         final int fetchSize)
+  {
+    if (statement != null)
+    {
+      try
+      {
+        statement.setFetchSize(fetchSize > 0? fetchSize: FETCHSIZE);
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+      }
+    }
+    return statement;
+  }
+
   private boolean useColumn(final String columnName)
   {
     final boolean useColumn = columnName != null
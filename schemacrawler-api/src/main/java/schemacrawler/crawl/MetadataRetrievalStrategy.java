@@ -31,8 +31,29 @@ package schemacrawler.crawl;
 public enum MetadataRetrievalStrategy
 {
 
+ /**
+  * Retrieves meta-data for each object, with separate calls.
+  */
  metadata,
+ /**
+  * Retrieves meta-data for all objects in each schema, with a single
+  * call for each schema.
+  */
+ metadata_per_schema,
+ /**
+  * Retrieves meta-data for all objects, with a single call.
+  */
  metadata_all,
- data_dictionary_all;
+ /**
+  * Retrieves meta-data for all objects, using a data dictionary query
+  * provided in the information schema views.
+  */
+ data_dictionary_all,
+ /**
+  * Picks one of the meta-data strategies at crawl time, from the
+  * number of objects and schemas, and the measured round-trip latency
+  * of the connection.
+  */
+ auto;
 
 }
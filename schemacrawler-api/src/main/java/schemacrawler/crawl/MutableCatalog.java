@@ -87,25 +87,34 @@ final class MutableCatalog
   }
 
   private static final long serialVersionUID = 4051323422934251828L;
-  private final MutableDatabaseInfo databaseInfo;
-  private final MutableJdbcDriverInfo jdbcDriverInfo;
+  private MutableDatabaseInfo databaseInfo;
+  private MutableJdbcDriverInfo jdbcDriverInfo;
   private final ImmutableSchemaCrawlerInfo schemaCrawlerInfo;
   private ImmutableCrawlInfo crawlInfo;
   private final Set<Schema> schemas;
-  private final ColumnDataTypes columnDataTypes = new ColumnDataTypes();
+  private final ColumnDataTypes columnDataTypes;
   private final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
   private final NamedObjectList<MutableRoutine> routines = new NamedObjectList<>();
   private final NamedObjectList<MutableSynonym> synonyms = new NamedObjectList<>();
 
   private final NamedObjectList<MutableSequence> sequences = new NamedObjectList<>();
+  private String databaseTimestamp;
 
   MutableCatalog(final String name)
+  {
+    this(name, new HashSet<>(), new ColumnDataTypes());
+  }
+
+  private MutableCatalog(final String name,
+                         final Set<Schema> schemas,
+                         final ColumnDataTypes columnDataTypes)
   {
     super(name);
     databaseInfo = new MutableDatabaseInfo();
     jdbcDriverInfo = new MutableJdbcDriverInfo();
     schemaCrawlerInfo = new ImmutableSchemaCrawlerInfo();
-    schemas = new HashSet<>();
+    this.schemas = schemas;
+    this.columnDataTypes = columnDataTypes;
   }
 
   /**
@@ -116,7 +125,10 @@ final class MutableCatalog
   @Override
   public Collection<ColumnDataType> getColumnDataTypes()
   {
-    return new ArrayList<ColumnDataType>(columnDataTypes.values());
+    synchronized (columnDataTypes)
+    {
+      return new ArrayList<ColumnDataType>(columnDataTypes.values());
+    }
   }
 
   /**
@@ -128,8 +140,11 @@ final class MutableCatalog
   public Collection<ColumnDataType> getColumnDataTypes(final Schema schema)
   {
     final FilterBySchema filter = new FilterBySchema(schema);
-    return columnDataTypes.values().stream().filter(filter)
-      .collect(Collectors.toList());
+    synchronized (columnDataTypes)
+    {
+      return columnDataTypes.values().stream().filter(filter)
+        .collect(Collectors.toList());
+    }
   }
 
   @Override
@@ -296,7 +311,10 @@ final class MutableCatalog
   public Optional<MutableColumnDataType> lookupColumnDataType(final Schema schema,
                                                               final String name)
   {
-    return columnDataTypes.lookup(schema, name);
+    synchronized (columnDataTypes)
+    {
+      return columnDataTypes.lookup(schema, name);
+    }
   }
 
   /**
@@ -407,7 +425,10 @@ final class MutableCatalog
   {
     if (columnDataType != null)
     {
-      columnDataTypes.add(columnDataType);
+      synchronized (columnDataTypes)
+      {
+        columnDataTypes.add(columnDataType);
+      }
     }
   }
 
@@ -457,9 +478,93 @@ final class MutableCatalog
     return schemas;
   }
 
+  NamedObjectList<MutableSequence> getAllSequences()
+  {
+    return sequences;
+  }
+
+  NamedObjectList<MutableSynonym> getAllSynonyms()
+  {
+    return synonyms;
+  }
+
+  /**
+   * Lock to hold while looking up and creating column data types, which
+   * are shared with stage catalogs.
+   */
+  Object getColumnDataTypesLock()
+  {
+    return columnDataTypes;
+  }
+
+  /**
+   * Time on the database server when tables were crawled, in the
+   * format yyyy-MM-dd HH:mm:ss, or null if it is not known.
+   */
+  String getDatabaseTimestamp()
+  {
+    return databaseTimestamp;
+  }
+
   MutableColumnDataType lookupColumnDataTypeByType(final int type)
   {
-    return columnDataTypes.lookupColumnDataTypeByType(type);
+    synchronized (columnDataTypes)
+    {
+      return columnDataTypes.lookupColumnDataTypeByType(type);
+    }
+  }
+
+  /**
+   * Adds the database information, routines, synonyms, sequences and
+   * tables from a stage catalog, once the stage is done. This needs to
+   * be called on the thread that owns this catalog.
+   *
+   * @param stageCatalog
+   *        Catalog from {@link #newStageCatalog()}
+   */
+  void merge(final MutableCatalog stageCatalog)
+  {
+    requireNonNull(stageCatalog, "No stage catalog provided");
+    if (stageCatalog.crawlInfo != null)
+    {
+      databaseInfo = stageCatalog.databaseInfo;
+      jdbcDriverInfo = stageCatalog.jdbcDriverInfo;
+      crawlInfo = stageCatalog.crawlInfo;
+    }
+    for (final MutableRoutine routine: stageCatalog.routines)
+    {
+      routines.add(routine);
+    }
+    for (final MutableSynonym synonym: stageCatalog.synonyms)
+    {
+      synonyms.add(synonym);
+    }
+    for (final MutableSequence sequence: stageCatalog.sequences)
+    {
+      sequences.add(sequence);
+    }
+    for (final MutableTable table: stageCatalog.tables)
+    {
+      tables.add(table);
+    }
+  }
+
+  /**
+   * Creates a catalog for a crawl stage that runs on another thread.
+   * The stage catalog has its own copy of the schemas, and its own
+   * database information, routines, synonyms, sequences and tables,
+   * which are added to this catalog with
+   * {@link #merge(MutableCatalog)}. Only column data types are shared,
+   * and they are always accessed while holding
+   * {@link #getColumnDataTypesLock()}.
+   *
+   * @return Stage catalog
+   */
+  MutableCatalog newStageCatalog()
+  {
+    return new MutableCatalog(getName(),
+                              new HashSet<>(schemas),
+                              columnDataTypes);
   }
 
   void setCrawlHeaderInfo(final String title)
@@ -470,4 +575,9 @@ final class MutableCatalog
                                        title);
   }
 
+  void setDatabaseTimestamp(final String databaseTimestamp)
+  {
+    this.databaseTimestamp = databaseTimestamp;
+  }
+
 }
@@ -29,6 +29,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
+import static schemacrawler.crawl.TableReference.tableReference;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Optional;
@@ -58,11 +60,13 @@ class MutableColumn
   private boolean isPartOfUniqueIndex;
   private boolean isPartOfIndex;
   private Column referencedColumn;
-  private final NamedObjectList<MutablePrivilege<Column>> privileges = new NamedObjectList<>();
+  // Few columns have privileges, so the list is allocated only when the
+  // first privilege is added
+  private NamedObjectList<MutablePrivilege<Column>> privileges;
 
   MutableColumn(final Table parent, final String name)
   {
-    super(new TableReference(parent), name);
+    super(tableReference(parent), name);
   }
 
   /**
@@ -84,6 +88,10 @@ class MutableColumn
   @Override
   public Collection<Privilege<Column>> getPrivileges()
   {
+    if (privileges == null)
+    {
+      return new ArrayList<>();
+    }
     return new ArrayList<Privilege<Column>>(privileges.values());
   }
 
@@ -183,11 +191,19 @@ class MutableColumn
   @Override
   public Optional<MutablePrivilege<Column>> lookupPrivilege(final String name)
   {
+    if (privileges == null)
+    {
+      return Optional.empty();
+    }
     return privileges.lookup(this, name);
   }
 
   void addPrivilege(final MutablePrivilege<Column> privilege)
   {
+    if (privileges == null)
+    {
+      privileges = new NamedObjectList<>();
+    }
     privileges.add(privilege);
   }
 
@@ -213,7 +229,7 @@ class MutableColumn
 
   void setDefaultValue(final String defaultValue)
   {
-    this.defaultValue = defaultValue;
+    this.defaultValue = SharedStrings.share(defaultValue);
   }
 
   void setGenerated(final boolean isGenerated)
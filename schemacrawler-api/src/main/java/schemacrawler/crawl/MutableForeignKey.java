@@ -43,6 +43,7 @@ import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.ForeignKeyDeferrability;
 import schemacrawler.schema.ForeignKeyUpdateRule;
 import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Table;
 import schemacrawler.schema.TableConstraintType;
 import schemacrawler.utility.CompareUtility;
 
@@ -65,13 +66,13 @@ final class MutableForeignKey
   private ForeignKeyDeferrability deferrability;
   private Boolean deferrable; // initialize to null
   private Boolean initiallyDeferred; // initialize to null
-  private final StringBuilder definition;
+  private CharSequence definition;
 
   MutableForeignKey(final String name)
   {
     super(name);
 
-    definition = new StringBuilder();
+    definition = "";
 
     // Default values
     updateRule = ForeignKeyUpdateRule.unknown;
@@ -206,16 +207,35 @@ final class MutableForeignKey
                                                                                                     pkColumn,
                                                                                                     fkColumn);
     columnReferences.add(fkColumnReference);
+    // Foreign keys are compared by their column references, and may
+    // already have been added to their tables
+    for (final Column column: new Column[] { pkColumn, fkColumn })
+    {
+      final Table table = column.getParent();
+      if (table instanceof MutableTable)
+      {
+        ((MutableTable) table).foreignKeySortOrderChanged();
+      }
+    }
   }
 
   void appendDefinition(final String definition)
   {
-    if (definition != null)
+    if (definition != null && !definition.isEmpty())
     {
-      this.definition.append(definition);
+      if (!(this.definition instanceof StringBuilder))
+      {
+        this.definition = new StringBuilder(this.definition);
+      }
+      ((StringBuilder) this.definition).append(definition);
     }
   }
 
+  void compactDefinition()
+  {
+    definition = definition.toString();
+  }
+
   final void setDeferrability(final ForeignKeyDeferrability deferrability)
   {
     this.deferrability = deferrability;
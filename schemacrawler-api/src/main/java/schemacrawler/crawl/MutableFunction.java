@@ -122,6 +122,11 @@ final class MutableFunction
     columns.add(column);
   }
 
+  void clearColumns()
+  {
+    columns.clear();
+  }
+
   void setReturnType(final FunctionReturnType returnType)
   {
     this.returnType = requireNonNull(returnType, "Null function return type");
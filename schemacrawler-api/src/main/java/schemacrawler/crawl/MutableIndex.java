@@ -30,6 +30,7 @@ package schemacrawler.crawl;
 
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.TableReference.tableReference;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -60,14 +61,14 @@ class MutableIndex
   private IndexType indexType;
   private int cardinality;
   private int pages;
-  private final StringBuilder definition;
+  private CharSequence definition;
 
   MutableIndex(final Table parent, final String name)
   {
-    super(new TableReference(parent), name);
+    super(tableReference(parent), name);
     // Default values
     indexType = IndexType.unknown;
-    definition = new StringBuilder();
+    definition = "";
   }
 
   /**
@@ -92,8 +93,16 @@ class MutableIndex
 
     if (compareTo == 0)
     {
-      final List<IndexColumn> thisColumns = getColumns();
-      final List<IndexColumn> thatColumns = that.getColumns();
+      final List<? extends IndexColumn> thisColumns = columns.values();
+      final List<? extends IndexColumn> thatColumns;
+      if (that instanceof MutableIndex)
+      {
+        thatColumns = ((MutableIndex) that).columns.values();
+      }
+      else
+      {
+        thatColumns = that.getColumns();
+      }
 
       compareTo = CompareUtility.compareLists(thisColumns, thatColumns);
     }
@@ -211,13 +220,27 @@ class MutableIndex
   void addColumn(final MutableIndexColumn column)
   {
     columns.add(column);
+    sortOrderChanged();
   }
 
   void appendDefinition(final String definition)
   {
-    if (definition != null)
+    if (definition != null && !definition.isEmpty())
+    {
+      if (!(this.definition instanceof StringBuilder))
+      {
+        this.definition = new StringBuilder(this.definition);
+      }
+      ((StringBuilder) this.definition).append(definition);
+    }
+  }
+
+  void compactDefinition()
+  {
+    definition = definition.toString();
+    for (final MutableIndexColumn column: columns)
     {
-      this.definition.append(definition);
+      column.compactDefinition();
     }
   }
 
@@ -229,6 +252,7 @@ class MutableIndex
   final void setIndexType(final IndexType indexType)
   {
     this.indexType = requireNonNull(indexType, "Null index type");
+    sortOrderChanged();
   }
 
   final void setPages(final int pages)
@@ -239,6 +263,20 @@ class MutableIndex
   final void setUnique(final boolean unique)
   {
     isUnique = unique;
+    sortOrderChanged();
+  }
+
+  /**
+   * Indexes are compared by their columns, type and uniqueness, which
+   * may change after the index is added to its table.
+   */
+  private void sortOrderChanged()
+  {
+    final Table parent = getParent();
+    if (parent instanceof MutableTable)
+    {
+      ((MutableTable) parent).indexSortOrderChanged();
+    }
   }
 
 }
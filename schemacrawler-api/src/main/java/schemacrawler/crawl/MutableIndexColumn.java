@@ -28,6 +28,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
+import static schemacrawler.crawl.TableReference.tableReference;
+
 import java.util.Collection;
 import java.util.Optional;
 
@@ -51,14 +53,14 @@ final class MutableIndexColumn
   private final Index index;
   private int indexOrdinalPosition;
   private IndexColumnSortSequence sortSequence;
-  private final StringBuilder definition;
+  private CharSequence definition;
 
   MutableIndexColumn(final Index index, final Column column)
   {
-    super(new TableReference(column.getParent()), column.getName());
+    super(tableReference(column.getParent()), column.getName());
     this.index = index;
     this.column = column;
-    definition = new StringBuilder();
+    definition = "";
   }
 
   /**
@@ -336,12 +338,21 @@ final class MutableIndexColumn
 
   void appendDefinition(final String definition)
   {
-    if (definition != null)
+    if (definition != null && !definition.isEmpty())
     {
-      this.definition.append(definition);
+      if (!(this.definition instanceof StringBuilder))
+      {
+        this.definition = new StringBuilder(this.definition);
+      }
+      ((StringBuilder) this.definition).append(definition);
     }
   }
 
+  void compactDefinition()
+  {
+    definition = definition.toString();
+  }
+
   void setIndexOrdinalPosition(final int indexOrdinalPosition)
   {
     this.indexOrdinalPosition = indexOrdinalPosition;
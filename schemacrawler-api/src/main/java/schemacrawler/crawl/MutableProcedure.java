@@ -108,6 +108,11 @@ final class MutableProcedure
     columns.add(column);
   }
 
+  void clearColumns()
+  {
+    columns.clear();
+  }
+
   void setReturnType(final ProcedureReturnType returnType)
   {
     this.returnType = requireNonNull(returnType, "Null procedure return type");
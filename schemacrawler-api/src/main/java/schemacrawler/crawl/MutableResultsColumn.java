@@ -29,6 +29,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
+import static schemacrawler.crawl.TableReference.tableReference;
+
 import schemacrawler.schema.ResultsColumn;
 import schemacrawler.schema.Table;
 
@@ -57,7 +59,7 @@ final class MutableResultsColumn
 
   MutableResultsColumn(final Table parent, final String name)
   {
-    super(new TableReference(parent), name);
+    super(tableReference(parent), name);
   }
 
   /**
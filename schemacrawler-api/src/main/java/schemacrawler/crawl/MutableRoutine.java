@@ -52,13 +52,13 @@ abstract class MutableRoutine
 
   private String specificName;
   private RoutineBodyType routineBodyType;
-  private final StringBuilder definition;
+  private CharSequence definition;
 
   MutableRoutine(final Schema schema, final String name)
   {
     super(schema, name);
     routineBodyType = RoutineBodyType.unknown;
-    definition = new StringBuilder();
+    definition = "";
   }
 
   /**
@@ -122,12 +122,21 @@ abstract class MutableRoutine
 
   void appendDefinition(final String definition)
   {
-    if (definition != null)
+    if (definition != null && !definition.isEmpty())
     {
-      this.definition.append(definition);
+      if (!(this.definition instanceof StringBuilder))
+      {
+        this.definition = new StringBuilder(this.definition);
+      }
+      ((StringBuilder) this.definition).append(definition);
     }
   }
 
+  void compactDefinition()
+  {
+    definition = definition.toString();
+  }
+
   void setRoutineBodyType(final RoutineBodyType routineBodyType)
   {
     this.routineBodyType = routineBodyType;
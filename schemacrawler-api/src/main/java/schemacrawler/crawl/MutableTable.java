@@ -83,12 +83,13 @@ class MutableTable
   private final NamedObjectList<MutableTrigger> triggers = new NamedObjectList<>();
   private final NamedObjectList<MutablePrivilege<Table>> privileges = new NamedObjectList<>();
   private int sortIndex;
-  private final StringBuilder definition;
+  private CharSequence definition;
+  private transient TableReference tableReference;
 
   MutableTable(final Schema schema, final String name)
   {
     super(schema, name);
-    definition = new StringBuilder();
+    definition = "";
   }
 
   /**
@@ -124,7 +125,7 @@ class MutableTable
   @Override
   public List<Column> getColumns()
   {
-    return new ArrayList<>(columns.values());
+    return Collections.unmodifiableList(columns.values());
   }
 
   /**
@@ -222,9 +223,7 @@ class MutableTable
     if (tableRelationshipType != null
         && tableRelationshipType != TableRelationshipType.none)
     {
-      final List<MutableForeignKey> foreignKeysList = new ArrayList<>(foreignKeys
-        .values());
-      for (final ForeignKey foreignKey: foreignKeysList)
+      for (final ForeignKey foreignKey: foreignKeys.values())
       {
         for (final ForeignKeyColumnReference columnReference: foreignKey)
         {
@@ -407,12 +406,84 @@ class MutableTable
 
   void appendDefinition(final String definition)
   {
-    if (definition != null)
+    if (definition != null && !definition.isEmpty())
     {
-      this.definition.append(definition);
+      if (!(this.definition instanceof StringBuilder))
+      {
+        this.definition = new StringBuilder(this.definition);
+      }
+      ((StringBuilder) this.definition).append(definition);
+    }
+  }
+
+  void compactDefinition()
+  {
+    definition = definition.toString();
+  }
+
+  /**
+   * Converts definitions that were appended to during the crawl to
+   * strings, for the table, and its primary key, indexes, foreign keys
+   * and constraints.
+   */
+  void compactDefinitions()
+  {
+    compactDefinition();
+    if (primaryKey != null)
+    {
+      primaryKey.compactDefinition();
+    }
+    for (final MutableIndex index: indexes)
+    {
+      index.compactDefinition();
+    }
+    for (final MutableForeignKey foreignKey: foreignKeys)
+    {
+      foreignKey.compactDefinition();
+    }
+    for (final MutableTableConstraint constraint: constraints)
+    {
+      constraint.compactDefinition();
     }
   }
 
+  /**
+   * Foreign keys are sorted by their column references, which are added
+   * after the foreign key is added to the table.
+   */
+  void foreignKeySortOrderChanged()
+  {
+    foreignKeys.sortOrderChanged();
+  }
+
+  synchronized TableReference getTableReference()
+  {
+    if (tableReference == null)
+    {
+      tableReference = new TableReference(this);
+    }
+    return tableReference;
+  }
+
+  /**
+   * Indexes are sorted by their columns, type and uniqueness, which are
+   * set after the index is added to the table.
+   */
+  void indexSortOrderChanged()
+  {
+    indexes.sortOrderChanged();
+  }
+
+  void removeForeignKey(final MutableForeignKey foreignKey)
+  {
+    foreignKeys.remove(foreignKey);
+  }
+
+  void removeIndex(final MutableIndex index)
+  {
+    indexes.remove(index);
+  }
+
   void replacePrimaryKey()
   {
     if (primaryKey == null)
@@ -29,6 +29,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
+import static schemacrawler.crawl.TableReference.tableReference;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -52,12 +54,12 @@ class MutableTableConstraint
   private TableConstraintType tableConstraintType;
   private boolean deferrable;
   private boolean initiallyDeferred;
-  private final StringBuilder definition;
+  private CharSequence definition;
 
   MutableTableConstraint(final Table parent, final String name)
   {
-    super(new TableReference(parent), name);
-    definition = new StringBuilder();
+    super(tableReference(parent), name);
+    definition = "";
   }
 
   /**
@@ -139,12 +141,21 @@ class MutableTableConstraint
 
   void appendDefinition(final String definition)
   {
-    if (definition != null)
+    if (definition != null && !definition.isEmpty())
     {
-      this.definition.append(definition);
+      if (!(this.definition instanceof StringBuilder))
+      {
+        this.definition = new StringBuilder(this.definition);
+      }
+      ((StringBuilder) this.definition).append(definition);
     }
   }
 
+  void compactDefinition()
+  {
+    definition = definition.toString();
+  }
+
   void setDeferrable(final boolean deferrable)
   {
     this.deferrable = deferrable;
@@ -28,6 +28,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
+import static schemacrawler.crawl.TableReference.tableReference;
+
 import java.util.Collection;
 import java.util.Optional;
 
@@ -53,7 +55,7 @@ final class MutableTableConstraintColumn
   MutableTableConstraintColumn(final TableConstraint tableConstraint,
                                final MutableColumn column)
   {
-    super(new TableReference(column.getParent()), column.getName());
+    super(tableReference(column.getParent()), column.getName());
     this.tableConstraint = tableConstraint;
     this.column = column;
   }
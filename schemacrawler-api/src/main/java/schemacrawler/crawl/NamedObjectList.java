@@ -70,8 +70,13 @@ class NamedObjectList<N extends NamedObject>
     return key;
   }
 
-  private static String makeLookupKey(final NamedObject namedObject,
-                                      final String name)
+  /**
+   * Makes the lookup key for an object with the given name that belongs
+   * to the given parent, such as a table in a schema, without creating
+   * the object.
+   */
+  static String makeLookupKey(final NamedObject namedObject,
+                              final String name)
   {
     final StringBuilder buffer = new StringBuilder(256);
 
@@ -107,6 +112,12 @@ class NamedObjectList<N extends NamedObject>
   }
 
   private final Map<String, N> objects = new HashMap<>();
+  /**
+   * Cached snapshot of the objects in sorted order. The snapshot is
+   * discarded when objects are added or removed, or when the sort order
+   * of the objects themselves changes.
+   */
+  private transient volatile List<N> sortedValues;
 
   /**
    * Add a named object to the list.
@@ -120,6 +131,7 @@ class NamedObjectList<N extends NamedObject>
     requireNonNull(namedObject, "Cannot add a null object to the list");
     final String key = makeLookupKey(namedObject);
     objects.put(key, namedObject);
+    sortedValues = null;
     return true;
   }
 
@@ -133,6 +145,7 @@ class NamedObjectList<N extends NamedObject>
   public void clear()
   {
     objects.clear();
+    sortedValues = null;
   }
 
   @Override
@@ -175,6 +188,7 @@ class NamedObjectList<N extends NamedObject>
   public boolean remove(final Object object)
   {
     final N removedObject = objects.remove(makeLookupKey((N) object));
+    sortedValues = null;
     return removedObject != null;
   }
 
@@ -198,6 +212,10 @@ class NamedObjectList<N extends NamedObject>
         modified = true;
       }
     }
+    if (modified)
+    {
+      sortedValues = null;
+    }
     return modified;
   }
 
@@ -221,6 +239,10 @@ class NamedObjectList<N extends NamedObject>
         modified = true;
       }
     }
+    if (modified)
+    {
+      sortedValues = null;
+    }
     return modified;
   }
 
@@ -279,24 +301,45 @@ class NamedObjectList<N extends NamedObject>
 
   N remove(final N namedObject)
   {
+    sortedValues = null;
     return objects.remove(makeLookupKey(namedObject));
   }
 
   N remove(final String fullName)
   {
+    sortedValues = null;
     return objects.remove(makeLookupKey(fullName));
   }
 
   /**
-   * Gets all named objects in the list, in sorted order.
+   * Notes that the sort order of objects in this list may have changed
+   * after they were added, for example, when tables are assigned a sort
+   * index, or columns are added to an index that is already in the
+   * list, so that values are re-sorted when they are next asked for.
+   */
+  void sortOrderChanged()
+  {
+    sortedValues = null;
+  }
+
+  /**
+   * Gets all named objects in the list, in sorted order. The returned
+   * list is a read-only snapshot, that is shared between calls until
+   * the list is modified.
    *
    * @return All named objects
    */
   List<N> values()
   {
-    final List<N> all = new ArrayList<>(objects.values());
-    Collections.sort(all);
-    return all;
+    List<N> values = sortedValues;
+    if (values == null)
+    {
+      final List<N> all = new ArrayList<>(objects.values());
+      Collections.sort(all);
+      values = Collections.unmodifiableList(all);
+      sortedValues = values;
+    }
+    return values;
   }
 
   private Optional<N> internalGet(final String key)
@@ -122,6 +122,9 @@ final class RetrieverConnection
   private final boolean supportsCatalogs;
   private final boolean supportsSchemas;
   private final MetadataRetrievalStrategy tableColumnRetrievalStrategy;
+  private final MetadataRetrievalStrategy foreignKeyRetrievalStrategy;
+  private final IndexRetrievalStrategy indexRetrievalStrategy;
+  private final MetadataRetrievalStrategy routineColumnRetrievalStrategy;
   private final Identifiers identifiers;
   private final InformationSchemaViews informationSchemaViews;
   private final TableTypes tableTypes;
@@ -169,6 +172,12 @@ final class RetrieverConnection
 
     tableColumnRetrievalStrategy = databaseSpecificOverrideOptions
       .getTableColumnRetrievalStrategy();
+    foreignKeyRetrievalStrategy = databaseSpecificOverrideOptions
+      .getForeignKeyRetrievalStrategy();
+    indexRetrievalStrategy = databaseSpecificOverrideOptions
+      .getIndexRetrievalStrategy();
+    routineColumnRetrievalStrategy = databaseSpecificOverrideOptions
+      .getRoutineColumnRetrievalStrategy();
 
     final String identifierQuoteString = lookupIdentifierQuoteString(databaseSpecificOverrideOptions,
                                                                      metaData);
@@ -191,11 +200,21 @@ final class RetrieverConnection
     return connection;
   }
 
+  MetadataRetrievalStrategy getForeignKeyRetrievalStrategy()
+  {
+    return foreignKeyRetrievalStrategy;
+  }
+
   Identifiers getIdentifiers()
   {
     return identifiers;
   }
 
+  IndexRetrievalStrategy getIndexRetrievalStrategy()
+  {
+    return indexRetrievalStrategy;
+  }
+
   /**
    * Gets the INFORMATION_SCHEMA views select SQL statements.
    *
@@ -216,6 +235,11 @@ final class RetrieverConnection
     return metaData;
   }
 
+  MetadataRetrievalStrategy getRoutineColumnRetrievalStrategy()
+  {
+    return routineColumnRetrievalStrategy;
+  }
+
   MetadataRetrievalStrategy getTableColumnRetrievalStrategy()
   {
     return tableColumnRetrievalStrategy;
@@ -29,9 +29,18 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
+import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -49,10 +58,13 @@ import schemacrawler.schema.Procedure;
 import schemacrawler.schema.ProcedureColumn;
 import schemacrawler.schema.ProcedureColumnType;
 import schemacrawler.schema.ProcedureReturnType;
+import schemacrawler.schema.RoutineType;
 import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerSQLException;
+import schemacrawler.utility.Query;
 import sf.util.StringFormat;
 
 /**
@@ -91,7 +103,7 @@ final class RoutineRetriever
     }
 
     int ordinalNumber = 0;
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
       .getFunctionColumns(unquotedName(function.getSchema().getCatalogName()),
                           unquotedName(function.getSchema().getName()),
                           unquotedName(function.getName()),
@@ -109,47 +121,18 @@ final class RoutineRetriever
         final String specificName = quotedName(results
           .getString("SPECIFIC_NAME"));
 
-        final MutableFunctionColumn column = new MutableFunctionColumn(function,
-                                                                       columnName);
-        if (columnFilter.test(column) && function.getName().equals(functionName)
-            && belongsToSchema(function, columnCatalogName, schemaName))
+        if (belongsToRoutine(function,
+                             columnCatalogName,
+                             schemaName,
+                             functionName,
+                             specificName)
+            && addFunctionColumn(function,
+                                 columnName,
+                                 results,
+                                 columnFilter,
+                                 ordinalNumber))
         {
-          if (!isBlank(specificName)
-              && !specificName.equals(function.getSpecificName()))
-          {
-            continue;
-          }
-
-          LOGGER.log(Level.FINE,
-                     new StringFormat("Retrieving function column: %s.%s",
-                                      function.getFullName(),
-                                      columnName));
-
-          final FunctionColumnType columnType = results
-            .getEnumFromShortId("COLUMN_TYPE", FunctionColumnType.unknown);
-          final int dataType = results.getInt("DATA_TYPE", 0);
-          final String typeName = results.getString("TYPE_NAME");
-          final int length = results.getInt("LENGTH", 0);
-          final int precision = results.getInt("PRECISION", 0);
-          final boolean isNullable = results
-            .getShort("NULLABLE",
-                      (short) DatabaseMetaData.functionNullableUnknown) == (short) DatabaseMetaData.functionNullable;
-          final String remarks = results.getString("REMARKS");
-          column.setOrdinalPosition(ordinalNumber++);
-          column.setFunctionColumnType(columnType);
-          column.setColumnDataType(lookupOrCreateColumnDataType(
-                                                                function
-                                                                  .getSchema(),
-                                                                dataType,
-                                                                typeName));
-          column.setSize(length);
-          column.setPrecision(precision);
-          column.setNullable(isNullable);
-          column.setRemarks(remarks);
-
-          column.addAttributes(results.getAttributes());
-
-          function.addColumn(column);
+          ordinalNumber++;
         }
       }
     }
@@ -206,7 +189,7 @@ final class RoutineRetriever
     final String catalogName = schema.getCatalogName();
     final String schemaName = schema.getName();
 
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
       .getFunctions(unquotedName(catalogName), unquotedName(schemaName), "%"));)
     {
       while (results.next())
@@ -276,7 +259,7 @@ final class RoutineRetriever
     }
 
     int ordinalNumber = 0;
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
       .getProcedureColumns(unquotedName(procedure.getSchema().getCatalogName()),
                            unquotedName(procedure.getSchema().getName()),
                            unquotedName(procedure.getName()),
@@ -294,48 +277,18 @@ final class RoutineRetriever
         final String specificName = quotedName(results
           .getString("SPECIFIC_NAME"));
 
-        final MutableProcedureColumn column = new MutableProcedureColumn(procedure,
-                                                                         columnName);
-        if (columnFilter.test(column)
-            && procedure.getName().equals(procedureName)
-            && belongsToSchema(procedure, columnCatalogName, schemaName))
+        if (belongsToRoutine(procedure,
+                             columnCatalogName,
+                             schemaName,
+                             procedureName,
+                             specificName)
+            && addProcedureColumn(procedure,
+                                  columnName,
+                                  results,
+                                  columnFilter,
+                                  ordinalNumber))
         {
-          if (!isBlank(specificName)
-              && !specificName.equals(procedure.getSpecificName()))
-          {
-            continue;
-          }
-
-          LOGGER.log(Level.FINE,
-                     new StringFormat("Retrieving procedure column: %s.%s",
-                                      procedure.getFullName(),
-                                      columnName));
-
-          final ProcedureColumnType columnType = results
-            .getEnumFromShortId("COLUMN_TYPE", ProcedureColumnType.unknown);
-          final int dataType = results.getInt("DATA_TYPE", 0);
-          final String typeName = results.getString("TYPE_NAME");
-          final int length = results.getInt("LENGTH", 0);
-          final int precision = results.getInt("PRECISION", 0);
-          final boolean isNullable = results
-            .getShort("NULLABLE",
-                      (short) DatabaseMetaData.procedureNullableUnknown) == (short) DatabaseMetaData.procedureNullable;
-          final String remarks = results.getString("REMARKS");
-          column.setOrdinalPosition(ordinalNumber++);
-          column.setProcedureColumnType(columnType);
-          column.setColumnDataType(lookupOrCreateColumnDataType(
-                                                                procedure
-                                                                  .getSchema(),
-                                                                dataType,
-                                                                typeName));
-          column.setSize(length);
-          column.setPrecision(precision);
-          column.setNullable(isNullable);
-          column.setRemarks(remarks);
-
-          column.addAttributes(results.getAttributes());
-
-          procedure.addColumn(column);
+          ordinalNumber++;
         }
       }
     }
@@ -379,7 +332,7 @@ final class RoutineRetriever
     final String catalogName = schema.getCatalogName();
     final String schemaName = schema.getName();
 
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
       .getProcedures(unquotedName(catalogName),
                      unquotedName(schemaName),
                      "%"));)
@@ -419,4 +372,435 @@ final class RoutineRetriever
 
   }
 
+  void retrieveRoutineColumns(final NamedObjectList<MutableRoutine> allRoutines,
+                              final Collection<RoutineType> routineTypes,
+                              final InclusionRule columnInclusionRule)
+    throws SQLException
+  {
+    requireNonNull(allRoutines);
+    requireNonNull(routineTypes);
+
+    final InclusionRuleFilter<ProcedureColumn> procedureColumnFilter = new InclusionRuleFilter<>(columnInclusionRule,
+                                                                                                 true);
+    final InclusionRuleFilter<FunctionColumn> functionColumnFilter = new InclusionRuleFilter<>(columnInclusionRule,
+                                                                                               true);
+    if (procedureColumnFilter.isExcludeAll())
+    {
+      LOGGER.log(Level.INFO,
+                 "Not retrieving routine columns, since this was not requested");
+      return;
+    }
+
+    final List<MutableRoutine> routines = new ArrayList<>();
+    for (final MutableRoutine routine: allRoutines)
+    {
+      if (routineTypes.contains(routine.getRoutineType()))
+      {
+        routines.add(routine);
+      }
+    }
+
+    final MetadataRetrievalStrategy routineColumnRetrievalStrategy = getRetrieverConnection()
+      .getRoutineColumnRetrievalStrategy();
+    switch (routineColumnRetrievalStrategy)
+    {
+      case data_dictionary_all:
+        LOGGER
+          .log(Level.INFO,
+               "Retrieving routine columns, using fast data dictionary retrieval");
+        retrieveRoutineColumnsFromDataDictionary(routines,
+                                                 procedureColumnFilter,
+                                                 functionColumnFilter);
+        break;
+
+      // Routine columns are retrieved with one call for each schema
+      // for all of the meta-data strategies that are not per routine
+      case metadata_all:
+      case metadata_per_schema:
+      case auto:
+        LOGGER
+          .log(Level.INFO,
+               "Retrieving routine columns, using fast meta-data retrieval");
+        retrieveRoutineColumnsFromMetadataForAllRoutines(routines,
+                                                         columnInclusionRule,
+                                                         procedureColumnFilter,
+                                                         functionColumnFilter);
+        break;
+
+      case metadata:
+        LOGGER.log(Level.INFO, "Retrieving routine columns");
+        retrieveRoutineColumnsFromMetadata(routines, columnInclusionRule);
+        break;
+
+      default:
+        break;
+    }
+  }
+
+  private boolean addFunctionColumn(final MutableFunction function,
+                                    final String columnName,
+                                    final MetadataResultSet results,
+                                    final InclusionRuleFilter<FunctionColumn> columnFilter,
+                                    final int ordinalNumber)
+    throws SQLException
+  {
+    final MutableFunctionColumn column = new MutableFunctionColumn(function,
+                                                                   columnName);
+    if (!columnFilter.test(column))
+    {
+      return false;
+    }
+
+    LOGGER.log(Level.FINE,
+               new StringFormat("Retrieving function column: %s.%s",
+                                function.getFullName(),
+                                columnName));
+
+    final FunctionColumnType columnType = results
+      .getEnumFromShortId("COLUMN_TYPE", FunctionColumnType.unknown);
+    final int dataType = results.getInt("DATA_TYPE", 0);
+    final String typeName = results.getString("TYPE_NAME");
+    final int length = results.getInt("LENGTH", 0);
+    final int precision = results.getInt("PRECISION", 0);
+    final boolean isNullable = results
+      .getShort("NULLABLE",
+                (short) DatabaseMetaData.functionNullableUnknown) == (short) DatabaseMetaData.functionNullable;
+    final String remarks = results.getString("REMARKS");
+    column.setOrdinalPosition(ordinalNumber);
+    column.setFunctionColumnType(columnType);
+    column.setColumnDataType(lookupOrCreateColumnDataType(function
+      .getSchema(), dataType, typeName));
+    column.setSize(length);
+    column.setPrecision(precision);
+    column.setNullable(isNullable);
+    column.setRemarks(remarks);
+
+    column.addAttributes(results.getAttributes());
+
+    function.addColumn(column);
+
+    return true;
+  }
+
+  private boolean addProcedureColumn(final MutableProcedure procedure,
+                                     final String columnName,
+                                     final MetadataResultSet results,
+                                     final InclusionRuleFilter<ProcedureColumn> columnFilter,
+                                     final int ordinalNumber)
+    throws SQLException
+  {
+    final MutableProcedureColumn column = new MutableProcedureColumn(procedure,
+                                                                     columnName);
+    if (!columnFilter.test(column))
+    {
+      return false;
+    }
+
+    LOGGER.log(Level.FINE,
+               new StringFormat("Retrieving procedure column: %s.%s",
+                                procedure.getFullName(),
+                                columnName));
+
+    final ProcedureColumnType columnType = results
+      .getEnumFromShortId("COLUMN_TYPE", ProcedureColumnType.unknown);
+    final int dataType = results.getInt("DATA_TYPE", 0);
+    final String typeName = results.getString("TYPE_NAME");
+    final int length = results.getInt("LENGTH", 0);
+    final int precision = results.getInt("PRECISION", 0);
+    final boolean isNullable = results
+      .getShort("NULLABLE",
+                (short) DatabaseMetaData.procedureNullableUnknown) == (short) DatabaseMetaData.procedureNullable;
+    final String remarks = results.getString("REMARKS");
+    column.setOrdinalPosition(ordinalNumber);
+    column.setProcedureColumnType(columnType);
+    column.setColumnDataType(lookupOrCreateColumnDataType(procedure
+      .getSchema(), dataType, typeName));
+    column.setSize(length);
+    column.setPrecision(precision);
+    column.setNullable(isNullable);
+    column.setRemarks(remarks);
+
+    column.addAttributes(results.getAttributes());
+
+    procedure.addColumn(column);
+
+    return true;
+  }
+
+  /**
+   * Adds the column in the current row to every routine it belongs to.
+   * Routines are found by name in the index, and the ordinal position
+   * of the column is tracked per routine, since rows for many routines
+   * are interleaved in a single result set.
+   */
+  private void addRoutineColumn(final MetadataResultSet results,
+                                final String routineColumnPrefix,
+                                final Map<String, List<MutableRoutine>> routinesIndex,
+                                final Map<MutableRoutine, Integer> ordinalNumbers,
+                                final InclusionRuleFilter<ProcedureColumn> procedureColumnFilter,
+                                final InclusionRuleFilter<FunctionColumn> functionColumnFilter)
+    throws SQLException
+  {
+    final String columnCatalogName = quotedName(results
+      .getString(routineColumnPrefix + "_CAT"));
+    final String schemaName = quotedName(results
+      .getString(routineColumnPrefix + "_SCHEM"));
+    final String routineName = quotedName(results
+      .getString(routineColumnPrefix + "_NAME"));
+    final String columnName = quotedName(results.getString("COLUMN_NAME"));
+    final String specificName = quotedName(results.getString("SPECIFIC_NAME"));
+
+    final List<MutableRoutine> routines = routinesIndex.get(routineName);
+    if (routines == null)
+    {
+      return;
+    }
+
+    for (final MutableRoutine routine: routines)
+    {
+      if (!belongsToRoutine(routine,
+                            columnCatalogName,
+                            schemaName,
+                            routineName,
+                            specificName))
+      {
+        continue;
+      }
+
+      final int ordinalNumber = ordinalNumbers.getOrDefault(routine, 0);
+      final boolean added;
+      if (routine instanceof MutableProcedure)
+      {
+        added = addProcedureColumn((MutableProcedure) routine,
+                                   columnName,
+                                   results,
+                                   procedureColumnFilter,
+                                   ordinalNumber);
+      }
+      else if (routine instanceof MutableFunction)
+      {
+        added = addFunctionColumn((MutableFunction) routine,
+                                  columnName,
+                                  results,
+                                  functionColumnFilter,
+                                  ordinalNumber);
+      }
+      else
+      {
+        added = false;
+      }
+      if (added)
+      {
+        ordinalNumbers.put(routine, ordinalNumber + 1);
+      }
+    }
+  }
+
+  private boolean belongsToRoutine(final MutableRoutine routine,
+                                   final String catalogName,
+                                   final String schemaName,
+                                   final String routineName,
+                                   final String specificName)
+  {
+    if (!routine.getName().equals(routineName)
+        || !belongsToSchema(routine, catalogName, schemaName))
+    {
+      return false;
+    }
+    return isBlank(specificName)
+           || specificName.equals(routine.getSpecificName());
+  }
+
+  private Map<String, List<MutableRoutine>> indexRoutines(final Collection<? extends MutableRoutine> routines)
+  {
+    final Map<String, List<MutableRoutine>> routinesIndex = new HashMap<>();
+    for (final MutableRoutine routine: routines)
+    {
+      routinesIndex.computeIfAbsent(routine.getName(), k -> new ArrayList<>())
+        .add(routine);
+    }
+    return routinesIndex;
+  }
+
+  private void retrieveFunctionColumnsForSchema(final Schema schema,
+                                                final List<MutableFunction> functions,
+                                                final InclusionRule columnInclusionRule,
+                                                final InclusionRuleFilter<FunctionColumn> functionColumnFilter)
+    throws SQLException
+  {
+    final Map<String, List<MutableRoutine>> routinesIndex = indexRoutines(functions);
+    final Map<MutableRoutine, Integer> ordinalNumbers = new IdentityHashMap<>();
+    try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
+      .getFunctionColumns(unquotedName(schema.getCatalogName()),
+                          unquotedName(schema.getName()),
+                          "%",
+                          "%"));)
+    {
+      results.setDescription("retrieveFunctionColumnsForSchema");
+      while (results.next())
+      {
+        addRoutineColumn(results,
+                         "FUNCTION",
+                         routinesIndex,
+                         ordinalNumbers,
+                         null,
+                         functionColumnFilter);
+      }
+    }
+    catch (final AbstractMethodError | SQLException e)
+    {
+      logSQLFeatureNotSupported("Could not retrieve function columns for all functions in schema "
+                                + schema
+                                + ", so retrieving them one function at a time",
+                                e);
+      // Discard columns that were added before the exception, so
+      // that they are not added again
+      for (final MutableFunction function: functions)
+      {
+        function.clearColumns();
+        retrieveFunctionColumns(function, columnInclusionRule);
+      }
+    }
+  }
+
+  private void retrieveProcedureColumnsForSchema(final Schema schema,
+                                                 final List<MutableProcedure> procedures,
+                                                 final InclusionRule columnInclusionRule,
+                                                 final InclusionRuleFilter<ProcedureColumn> procedureColumnFilter)
+    throws SQLException
+  {
+    final Map<String, List<MutableRoutine>> routinesIndex = indexRoutines(procedures);
+    final Map<MutableRoutine, Integer> ordinalNumbers = new IdentityHashMap<>();
+    try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
+      .getProcedureColumns(unquotedName(schema.getCatalogName()),
+                           unquotedName(schema.getName()),
+                           "%",
+                           "%"));)
+    {
+      results.setDescription("retrieveProcedureColumnsForSchema");
+      while (results.next())
+      {
+        addRoutineColumn(results,
+                         "PROCEDURE",
+                         routinesIndex,
+                         ordinalNumbers,
+                         procedureColumnFilter,
+                         null);
+      }
+    }
+    catch (final AbstractMethodError | SQLException e)
+    {
+      logSQLFeatureNotSupported("Could not retrieve procedure columns for all procedures in schema "
+                                + schema
+                                + ", so retrieving them one procedure at a time",
+                                e);
+      // Discard columns that were added before the exception, so
+      // that they are not added again
+      for (final MutableProcedure procedure: procedures)
+      {
+        procedure.clearColumns();
+        retrieveProcedureColumns(procedure, columnInclusionRule);
+      }
+    }
+  }
+
+  private void retrieveRoutineColumnsFromDataDictionary(final List<MutableRoutine> routines,
+                                                        final InclusionRuleFilter<ProcedureColumn> procedureColumnFilter,
+                                                        final InclusionRuleFilter<FunctionColumn> functionColumnFilter)
+    throws SchemaCrawlerSQLException, SQLException
+  {
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    if (!informationSchemaViews.hasRoutineColumnsSql())
+    {
+      throw new SchemaCrawlerSQLException("No routine columns SQL provided",
+                                          null);
+    }
+    final Query routineColumnsSql = informationSchemaViews
+      .getRoutineColumnsSql();
+
+    final Map<String, List<MutableRoutine>> routinesIndex = indexRoutines(routines);
+    final Map<MutableRoutine, Integer> ordinalNumbers = new IdentityHashMap<>();
+    final Connection connection = getDatabaseConnection();
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results = new MetadataResultSet(routineColumnsSql,
+                                                                statement,
+                                                                getSchemaInclusionRule());)
+    {
+      results.setDescription("retrieveRoutineColumnsFromDataDictionary");
+      while (results.next())
+      {
+        addRoutineColumn(results,
+                         "ROUTINE",
+                         routinesIndex,
+                         ordinalNumbers,
+                         procedureColumnFilter,
+                         functionColumnFilter);
+      }
+    }
+  }
+
+  private void retrieveRoutineColumnsFromMetadata(final List<MutableRoutine> routines,
+                                                  final InclusionRule columnInclusionRule)
+    throws SQLException
+  {
+    for (final MutableRoutine routine: routines)
+    {
+      if (routine instanceof MutableProcedure)
+      {
+        retrieveProcedureColumns((MutableProcedure) routine,
+                                 columnInclusionRule);
+      }
+      else if (routine instanceof MutableFunction)
+      {
+        retrieveFunctionColumns((MutableFunction) routine,
+                                columnInclusionRule);
+      }
+    }
+  }
+
+  private void retrieveRoutineColumnsFromMetadataForAllRoutines(final List<MutableRoutine> routines,
+                                                                final InclusionRule columnInclusionRule,
+                                                                final InclusionRuleFilter<ProcedureColumn> procedureColumnFilter,
+                                                                final InclusionRuleFilter<FunctionColumn> functionColumnFilter)
+    throws SQLException
+  {
+    // Group routines by schema, so that there is one call per schema
+    // for procedures, and one for functions
+    final Map<Schema, List<MutableProcedure>> proceduresBySchema = new LinkedHashMap<>();
+    final Map<Schema, List<MutableFunction>> functionsBySchema = new LinkedHashMap<>();
+    for (final MutableRoutine routine: routines)
+    {
+      if (routine instanceof MutableProcedure)
+      {
+        proceduresBySchema
+          .computeIfAbsent(routine.getSchema(), k -> new ArrayList<>())
+          .add((MutableProcedure) routine);
+      }
+      else if (routine instanceof MutableFunction)
+      {
+        functionsBySchema
+          .computeIfAbsent(routine.getSchema(), k -> new ArrayList<>())
+          .add((MutableFunction) routine);
+      }
+    }
+
+    for (final Map.Entry<Schema, List<MutableProcedure>> entry: proceduresBySchema
+      .entrySet())
+    {
+      retrieveProcedureColumnsForSchema(entry.getKey(),
+                                        entry.getValue(),
+                                        columnInclusionRule,
+                                        procedureColumnFilter);
+    }
+    for (final Map.Entry<Schema, List<MutableFunction>> entry: functionsBySchema
+      .entrySet())
+    {
+      retrieveFunctionColumnsForSchema(entry.getKey(),
+                                       entry.getValue(),
+                                       columnInclusionRule,
+                                       functionColumnFilter);
+    }
+  }
+
 }
@@ -35,7 +35,16 @@ import static schemacrawler.filter.FilterFactory.tableFilter;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -43,6 +52,9 @@ import java.util.logging.Logger;
 import static java.util.Objects.requireNonNull;
 
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.Reducible;
 import schemacrawler.schema.ResultsColumns;
 import schemacrawler.schema.Routine;
@@ -51,12 +63,14 @@ import schemacrawler.schema.Schema;
 import schemacrawler.schema.Sequence;
 import schemacrawler.schema.Synonym;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.ConnectionOptions;
 import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.InclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerSQLException;
 import schemacrawler.schemacrawler.SchemaInfoLevel;
-import sf.util.StopWatch;
+import sf.util.StringFormat;
 
 /**
  * SchemaCrawler uses database meta-data to get the details about the
@@ -67,6 +81,20 @@ import sf.util.StopWatch;
 public final class SchemaCrawler
 {
 
+  /**
+   * A single crawl stage, that can be run on any retriever connection.
+   */
+  @FunctionalInterface
+  private interface CrawlStage
+  {
+
+    void crawl(MutableCatalog catalog,
+               RetrieverConnection retrieverConnection,
+               SchemaCrawlerOptions options)
+      throws SchemaCrawlerException;
+
+  }
+
   private static final Logger LOGGER = Logger
     .getLogger(SchemaCrawler.class.getName());
 
@@ -102,14 +130,14 @@ public final class SchemaCrawler
     {
       LOGGER.log(Level.INFO, "Crawling column data types");
 
-      final StopWatch stopWatch = new StopWatch("crawlColumnDataTypes");
+      final CrawlMetrics crawlMetrics = new CrawlMetrics("crawlColumnDataTypes", options);
 
       final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
       final DatabaseInfoRetriever retriever = new DatabaseInfoRetriever(retrieverConnection,
                                                                         catalog,
                                                                         options);
 
-      stopWatch.time("retrieveSystemColumnDataTypes", () -> {
+      crawlMetrics.time("retrieveSystemColumnDataTypes", () -> {
         if (infoLevel.isRetrieveColumnDataTypes())
         {
           LOGGER.log(Level.INFO, "Retrieving system column data types");
@@ -124,7 +152,7 @@ public final class SchemaCrawler
         return null;
       });
 
-      stopWatch.time("retrieveUserDefinedColumnDataTypes", () -> {
+      crawlMetrics.time("retrieveUserDefinedColumnDataTypes", () -> {
         if (infoLevel.isRetrieveUserDefinedColumnDataTypes())
         {
           LOGGER.log(Level.INFO, "Retrieving user column data types");
@@ -142,7 +170,7 @@ public final class SchemaCrawler
         return null;
       });
 
-      LOGGER.log(Level.INFO, stopWatch.toString());
+      LOGGER.log(Level.INFO, crawlMetrics.toString());
     }
     catch (final Exception e)
     {
@@ -169,7 +197,7 @@ public final class SchemaCrawler
   {
     try
     {
-      final StopWatch stopWatch = new StopWatch("crawlDatabaseInfo");
+      final CrawlMetrics crawlMetrics = new CrawlMetrics("crawlDatabaseInfo", options);
 
       final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
       final DatabaseInfoRetriever retriever = new DatabaseInfoRetriever(retrieverConnection,
@@ -180,12 +208,12 @@ public final class SchemaCrawler
 
       LOGGER.log(Level.INFO, "Retrieving database information");
 
-      stopWatch.time("retrieveDatabaseInfo", () -> {
+      crawlMetrics.time("retrieveDatabaseInfo", () -> {
         retriever.retrieveDatabaseInfo();
         return null;
       });
 
-      stopWatch.time("retrieveAdditionalDatabaseInfo", () -> {
+      crawlMetrics.time("retrieveAdditionalDatabaseInfo", () -> {
         if (infoLevel.isRetrieveAdditionalDatabaseInfo())
         {
           retriever.retrieveAdditionalDatabaseInfo();
@@ -200,12 +228,12 @@ public final class SchemaCrawler
       });
 
       LOGGER.log(Level.INFO, "Retrieving JDBC driver information");
-      stopWatch.time("retrieveJdbcDriverInfo", () -> {
+      crawlMetrics.time("retrieveJdbcDriverInfo", () -> {
         retriever.retrieveJdbcDriverInfo();
         return null;
       });
 
-      stopWatch.time("retrieveAdditionalJdbcDriverInfo", () -> {
+      crawlMetrics.time("retrieveAdditionalJdbcDriverInfo", () -> {
         if (infoLevel.isRetrieveAdditionalJdbcDriverInfo())
         {
           retriever.retrieveAdditionalJdbcDriverInfo();
@@ -220,12 +248,12 @@ public final class SchemaCrawler
       });
 
       LOGGER.log(Level.INFO, "Retrieving SchemaCrawler crawl information");
-      stopWatch.time("retrieveCrawlHeaderInfo", () -> {
+      crawlMetrics.time("retrieveCrawlHeaderInfo", () -> {
         retriever.retrieveCrawlHeaderInfo(options.getTitle());
         return null;
       });
 
-      LOGGER.log(Level.INFO, stopWatch.toString());
+      LOGGER.log(Level.INFO, crawlMetrics.toString());
     }
     catch (final Exception e)
     {
@@ -250,7 +278,7 @@ public final class SchemaCrawler
                                     final SchemaCrawlerOptions options)
     throws SchemaCrawlerException
   {
-    final StopWatch stopWatch = new StopWatch("crawlRoutines");
+    final CrawlMetrics crawlMetrics = new CrawlMetrics("crawlRoutines", options);
 
     final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
     final boolean retrieveRoutines = infoLevel.isRetrieveRoutines();
@@ -273,7 +301,7 @@ public final class SchemaCrawler
                                                options);
       final Collection<RoutineType> routineTypes = options.getRoutineTypes();
 
-      stopWatch.time("retrieveRoutines", () -> {
+      crawlMetrics.time("retrieveRoutines", () -> {
         for (final Schema schema: retriever.getSchemas())
         {
           if (routineTypes.contains(RoutineType.procedure))
@@ -293,35 +321,18 @@ public final class SchemaCrawler
       final NamedObjectList<MutableRoutine> allRoutines = catalog
         .getAllRoutines();
 
-      stopWatch.time("retrieveRoutineColumns", () -> {
-        LOGGER.log(Level.INFO, "Retrieving routine columns");
-        for (final MutableRoutine routine: allRoutines)
+      crawlMetrics.time("retrieveRoutineColumns", () -> {
+        if (infoLevel.isRetrieveRoutineColumns())
         {
-          if (infoLevel.isRetrieveRoutineColumns())
-          {
-            if (routine instanceof MutableProcedure
-                && routineTypes.contains(RoutineType.procedure))
-            {
-              retriever
-                .retrieveProcedureColumns((MutableProcedure) routine,
-                                          options
-                                            .getRoutineColumnInclusionRule());
-            }
-
-            if (routine instanceof MutableFunction
-                && routineTypes.contains(RoutineType.function))
-            {
-              retriever
-                .retrieveFunctionColumns((MutableFunction) routine,
-                                         options
-                                           .getRoutineColumnInclusionRule());
-            }
-          }
+          retriever.retrieveRoutineColumns(allRoutines,
+                                           routineTypes,
+                                           options
+                                             .getRoutineColumnInclusionRule());
         }
         return null;
       });
 
-      stopWatch.time("filterRoutines", () -> {
+      crawlMetrics.time("filterRoutines", () -> {
         // Filter the list of routines based on grep criteria
         final Predicate<Routine> routineFilter = routineFilter(options);
         ((Reducible) catalog).reduce(Routine.class,
@@ -329,7 +340,7 @@ public final class SchemaCrawler
         return null;
       });
 
-      stopWatch.time("retrieveRoutineInformation", () -> {
+      crawlMetrics.time("retrieveRoutineInformation", () -> {
         if (infoLevel.isRetrieveRoutineInformation())
         {
           retrieverExtra.retrieveRoutineInformation();
@@ -337,7 +348,15 @@ public final class SchemaCrawler
         return null;
       });
 
-      LOGGER.log(Level.INFO, stopWatch.toString());
+      crawlMetrics.time("compactDefinitions", () -> {
+        for (final MutableRoutine routine: allRoutines)
+        {
+          routine.compactDefinition();
+        }
+        return null;
+      });
+
+      LOGGER.log(Level.INFO, crawlMetrics.toString());
     }
     catch (final Exception e)
     {
@@ -362,7 +381,7 @@ public final class SchemaCrawler
                                    final SchemaCrawlerOptions options)
     throws SchemaCrawlerException
   {
-    final StopWatch stopWatch = new StopWatch("crawlSchemas");
+    final CrawlMetrics crawlMetrics = new CrawlMetrics("crawlSchemas", options);
 
     LOGGER.log(Level.INFO, "Crawling schemas");
 
@@ -372,17 +391,17 @@ public final class SchemaCrawler
                                                             catalog,
                                                             options);
 
-      stopWatch.time("retrieveSchemas", () -> {
+      crawlMetrics.time("retrieveSchemas", () -> {
         retriever.retrieveSchemas(options.getSchemaInclusionRule());
         return null;
       });
 
-      stopWatch.time("sortAndFilterSchemas", () -> {
+      crawlMetrics.time("sortAndFilterSchemas", () -> {
         ((Reducible) catalog).reduce(Schema.class, new SchemasReducer(options));
         return null;
       });
 
-      LOGGER.log(Level.INFO, stopWatch.toString());
+      LOGGER.log(Level.INFO, crawlMetrics.toString());
     }
     catch (final Exception e)
     {
@@ -407,7 +426,7 @@ public final class SchemaCrawler
                                      final SchemaCrawlerOptions options)
     throws SchemaCrawlerException
   {
-    final StopWatch stopWatch = new StopWatch("crawlSequences");
+    final CrawlMetrics crawlMetrics = new CrawlMetrics("crawlSequences", options);
 
     final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
     final boolean retrieveSequences = infoLevel.isRetrieveSequenceInformation();
@@ -427,19 +446,19 @@ public final class SchemaCrawler
                                              catalog,
                                              options);
 
-      stopWatch.time("retrieveSequenceInformation", () -> {
+      crawlMetrics.time("retrieveSequenceInformation", () -> {
         retrieverExtra
           .retrieveSequenceInformation(options.getSequenceInclusionRule());
         return null;
       });
 
-      stopWatch.time("sortAndFilterSequences", () -> {
+      crawlMetrics.time("sortAndFilterSequences", () -> {
         ((Reducible) catalog).reduce(Sequence.class,
                                      new SequencesReducer(options));
         return null;
       });
 
-      LOGGER.log(Level.INFO, stopWatch.toString());
+      LOGGER.log(Level.INFO, crawlMetrics.toString());
     }
     catch (final Exception e)
     {
@@ -464,7 +483,7 @@ public final class SchemaCrawler
                                     final SchemaCrawlerOptions options)
     throws SchemaCrawlerException
   {
-    final StopWatch stopWatch = new StopWatch("crawlSynonyms");
+    final CrawlMetrics crawlMetrics = new CrawlMetrics("crawlSynonyms", options);
 
     final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
     final boolean retrieveSynonyms = infoLevel.isRetrieveSynonymInformation();
@@ -483,19 +502,19 @@ public final class SchemaCrawler
       retrieverExtra = new SynonymRetriever(retrieverConnection,
                                             catalog,
                                             options);
-      stopWatch.time("retrieveSynonymInformation", () -> {
+      crawlMetrics.time("retrieveSynonymInformation", () -> {
         retrieverExtra
           .retrieveSynonymInformation(options.getSynonymInclusionRule());
         return null;
       });
 
-      stopWatch.time("sortAndFilterSynonms", () -> {
+      crawlMetrics.time("sortAndFilterSynonms", () -> {
         ((Reducible) catalog).reduce(Synonym.class,
                                      new SynonymsReducer(options));
         return null;
       });
 
-      LOGGER.log(Level.INFO, stopWatch.toString());
+      LOGGER.log(Level.INFO, crawlMetrics.toString());
     }
     catch (final Exception e)
     {
@@ -515,6 +534,486 @@ public final class SchemaCrawler
     }
   }
 
+  /**
+   * Checks whether all of the table and routine details requested by
+   * the schema info level can be retrieved again for only the changed
+   * tables and routines.
+   */
+  private static boolean isTableRecrawlSupported(final SchemaInfoLevel infoLevel)
+  {
+    return !(infoLevel.isRetrieveTableConstraintInformation()
+             || infoLevel.isRetrieveTableConstraintDefinitions()
+             || infoLevel.isRetrieveViewInformation()
+             || infoLevel.isRetrieveTableDefinitionsInformation()
+             || infoLevel.isRetrieveIndexInformation()
+             || infoLevel.isRetrieveAdditionalTableAttributes()
+             || infoLevel.isRetrieveTablePrivileges()
+             || infoLevel.isRetrieveAdditionalColumnAttributes()
+             || infoLevel.isRetrieveTableColumnPrivileges()
+             || infoLevel.isRetrieveRoutineInformation());
+  }
+
+  /**
+   * Removes tables from the catalog, along with the foreign keys that
+   * refer to them.
+   */
+  private static void removeTables(final NamedObjectList<MutableTable> allTables,
+                                   final Collection<MutableTable> tables)
+  {
+    for (final MutableTable table: tables)
+    {
+      // Detach foreign keys from the tables at both ends, since the
+      // columns they reference are about to be removed
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        for (final ForeignKeyColumnReference columnReference: foreignKey)
+        {
+          final Column fkColumn = columnReference.getForeignKeyColumn();
+          final Column pkColumn = columnReference.getPrimaryKeyColumn();
+          if (fkColumn instanceof MutableColumn)
+          {
+            ((MutableColumn) fkColumn).setReferencedColumn(null);
+          }
+          for (final Table referencingTable: new Table[] {
+                                                           fkColumn
+                                                             .getParent(),
+                                                           pkColumn
+                                                             .getParent() })
+          {
+            if (referencingTable instanceof MutableTable)
+            {
+              ((MutableTable) referencingTable)
+                .removeForeignKey((MutableForeignKey) foreignKey);
+            }
+          }
+        }
+      }
+      allTables.remove(table);
+    }
+  }
+
+  private static void recrawlRoutines(final MutableCatalog catalog,
+                                      final RetrieverConnection retrieverConnection,
+                                      final SchemaCrawlerOptions options,
+                                      final Set<String> changedRoutineNames)
+    throws SchemaCrawlerException
+  {
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    if (!infoLevel.isRetrieveRoutines())
+    {
+      LOGGER.log(Level.INFO,
+                 "Not re-crawling routines, since this was not requested");
+      return;
+    }
+
+    final CrawlMetrics crawlMetrics = new CrawlMetrics("recrawlRoutines",
+                                                       options);
+
+    if (changedRoutineNames == null)
+    {
+      LOGGER.log(Level.INFO,
+                 "Re-crawling all routines, since routine changes are not known");
+    }
+    else
+    {
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Re-crawling routines, with %d routines changed since the previous crawl",
+                                  changedRoutineNames.size()));
+    }
+
+    try
+    {
+      final RoutineRetriever retriever = new RoutineRetriever(retrieverConnection,
+                                                              catalog,
+                                                              options);
+      final Collection<RoutineType> routineTypes = options.getRoutineTypes();
+
+      final NamedObjectList<MutableRoutine> allRoutines = catalog
+        .getAllRoutines();
+
+      crawlMetrics.time("removeChangedRoutines", () -> {
+        final List<MutableRoutine> previousRoutines = new ArrayList<>();
+        for (final MutableRoutine routine: allRoutines)
+        {
+          if (changedRoutineNames == null
+              || changedRoutineNames.contains(routine.getFullName()))
+          {
+            previousRoutines.add(routine);
+          }
+        }
+        for (final MutableRoutine routine: previousRoutines)
+        {
+          allRoutines.remove(routine);
+        }
+        return null;
+      });
+
+      // All routines are listed again, like tables, so that created,
+      // renamed and dropped routines are found. Only routines that are
+      // not in the catalog are retrieved.
+      final Set<String> currentRoutineNames = new HashSet<>();
+      final NamedObjectList<MutableRoutine> changedRoutines = new NamedObjectList<>();
+      crawlMetrics.time("retrieveRoutines", () -> {
+        final Set<String> previousRoutineNames = new HashSet<>();
+        for (final MutableRoutine routine: allRoutines)
+        {
+          previousRoutineNames.add(routine.getFullName());
+        }
+
+        final InclusionRule routineInclusionRule = options
+          .getRoutineInclusionRule();
+        final InclusionRule changedRoutineInclusionRule = routineName -> {
+          if (!routineInclusionRule.test(routineName))
+          {
+            return false;
+          }
+          currentRoutineNames.add(routineName);
+          return !previousRoutineNames.contains(routineName);
+        };
+        for (final Schema schema: retriever.getSchemas())
+        {
+          if (routineTypes.contains(RoutineType.procedure))
+          {
+            retriever.retrieveProcedures(schema, changedRoutineInclusionRule);
+          }
+          if (routineTypes.contains(RoutineType.function))
+          {
+            retriever.retrieveFunctions(schema, changedRoutineInclusionRule);
+          }
+        }
+        for (final MutableRoutine routine: allRoutines)
+        {
+          if (!previousRoutineNames.contains(routine.getFullName()))
+          {
+            changedRoutines.add(routine);
+          }
+        }
+        return null;
+      });
+
+      crawlMetrics.time("removeDroppedRoutines", () -> {
+        final List<MutableRoutine> droppedRoutines = new ArrayList<>();
+        for (final MutableRoutine routine: allRoutines)
+        {
+          if (!currentRoutineNames.contains(routine.getFullName()))
+          {
+            droppedRoutines.add(routine);
+          }
+        }
+        for (final MutableRoutine routine: droppedRoutines)
+        {
+          allRoutines.remove(routine);
+        }
+        LOGGER.log(Level.INFO,
+                   new StringFormat("Removed %d dropped routines, and re-crawling %d created or changed routines",
+                                    droppedRoutines.size(),
+                                    changedRoutines.size()));
+        return null;
+      });
+
+      crawlMetrics.time("retrieveRoutineColumns", () -> {
+        if (infoLevel.isRetrieveRoutineColumns())
+        {
+          retriever.retrieveRoutineColumns(changedRoutines,
+                                           routineTypes,
+                                           options
+                                             .getRoutineColumnInclusionRule());
+        }
+        return null;
+      });
+
+      crawlMetrics.time("filterRoutines", () -> {
+        final Predicate<Routine> routineFilter = routineFilter(options);
+        ((Reducible) catalog).reduce(Routine.class,
+                                     new RoutinesReducer(routineFilter));
+        return null;
+      });
+
+      crawlMetrics.time("relinkSynonyms", () -> {
+        for (final Synonym synonym: catalog.getSynonyms())
+        {
+          if (synonym.getReferencedObject() instanceof Routine
+              && synonym instanceof MutableSynonym)
+          {
+            final Routine referencedRoutine = (Routine) synonym
+              .getReferencedObject();
+            final Optional<MutableRoutine> routineOptional = allRoutines
+              .lookup(referencedRoutine.getLookupKey());
+            if (routineOptional.isPresent())
+            {
+              ((MutableSynonym) synonym)
+                .setReferencedObject(routineOptional.get());
+            }
+          }
+        }
+        return null;
+      });
+
+      crawlMetrics.time("compactDefinitions", () -> {
+        for (final MutableRoutine routine: changedRoutines)
+        {
+          routine.compactDefinition();
+        }
+        return null;
+      });
+
+      LOGGER.log(Level.INFO, crawlMetrics.toString());
+    }
+    catch (final Exception e)
+    {
+      if (e instanceof SchemaCrawlerSQLException)
+      {
+        throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+      }
+      else if (e instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) e;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Exception re-crawling routine information",
+                                         e);
+      }
+    }
+  }
+
+  private static void recrawlTables(final MutableCatalog catalog,
+                                    final RetrieverConnection retrieverConnection,
+                                    final SchemaCrawlerOptions options,
+                                    final Set<String> changedTableNames)
+    throws SchemaCrawlerException
+  {
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    if (!infoLevel.isRetrieveTables())
+    {
+      LOGGER.log(Level.INFO,
+                 "Not re-crawling tables, since this was not requested");
+      return;
+    }
+
+    final CrawlMetrics crawlMetrics = new CrawlMetrics("recrawlTables", options);
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Re-crawling tables, with %d tables changed since the previous crawl",
+                                changedTableNames.size()));
+
+    try
+    {
+      final TableRetriever retriever = new TableRetriever(retrieverConnection,
+                                                          catalog,
+                                                          options);
+      final TableColumnRetriever columnRetriever = new TableColumnRetriever(retrieverConnection,
+                                                                            catalog,
+                                                                            options);
+      final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection,
+                                                               catalog,
+                                                               options);
+      final ForeignKeyRetriever fkRetriever = new ForeignKeyRetriever(retrieverConnection,
+                                                                      catalog,
+                                                                      options);
+      final TableExtRetriever retrieverExtra = new TableExtRetriever(retrieverConnection,
+                                                                     catalog,
+                                                                     options);
+
+      final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+
+      crawlMetrics.time("removeChangedTables", () -> {
+        final List<MutableTable> previousTables = new ArrayList<>();
+        for (final MutableTable table: allTables)
+        {
+          if (changedTableNames.contains(table.getFullName()))
+          {
+            previousTables.add(table);
+          }
+        }
+        removeTables(allTables, previousTables);
+        return null;
+      });
+
+      // All tables are listed again, so that created, renamed and
+      // dropped tables are found, even if the table changes SQL does
+      // not report them. Only tables that are not in the catalog are
+      // retrieved.
+      final Set<String> currentTableNames = new HashSet<>();
+      final NamedObjectList<MutableTable> changedTables = new NamedObjectList<>();
+      crawlMetrics.time("retrieveTables", () -> {
+        final Set<String> previousTableNames = new HashSet<>();
+        for (final MutableTable table: allTables)
+        {
+          previousTableNames.add(table.getFullName());
+        }
+
+        final InclusionRule tableInclusionRule = options
+          .getTableInclusionRule();
+        final InclusionRule changedTableInclusionRule = tableName -> {
+          if (!tableInclusionRule.test(tableName))
+          {
+            return false;
+          }
+          currentTableNames.add(tableName);
+          return !previousTableNames.contains(tableName);
+        };
+        for (final Schema schema: retriever.getSchemas())
+        {
+          retriever.retrieveTables(schema,
+                                   options.getTableNamePattern(),
+                                   options.getTableTypes(),
+                                   changedTableInclusionRule);
+        }
+        for (final MutableTable table: allTables)
+        {
+          if (!previousTableNames.contains(table.getFullName()))
+          {
+            changedTables.add(table);
+          }
+        }
+        return null;
+      });
+
+      crawlMetrics.time("removeDroppedTables", () -> {
+        final List<MutableTable> droppedTables = new ArrayList<>();
+        for (final MutableTable table: allTables)
+        {
+          if (!currentTableNames.contains(table.getFullName()))
+          {
+            droppedTables.add(table);
+          }
+        }
+        removeTables(allTables, droppedTables);
+        LOGGER.log(Level.INFO,
+                   new StringFormat("Removed %d dropped tables, and re-crawling %d created or changed tables",
+                                    droppedTables.size(),
+                                    changedTables.size()));
+        return null;
+      });
+
+      crawlMetrics.time("retrieveColumns", () -> {
+        if (infoLevel.isRetrieveTableColumns())
+        {
+          columnRetriever.retrieveColumns(changedTables,
+                                          options.getColumnInclusionRule());
+        }
+        if (infoLevel.isRetrieveHiddenTableColumns())
+        {
+          columnRetriever.retrieveHiddenColumns(changedTables,
+                                                options
+                                                  .getColumnInclusionRule());
+        }
+        return null;
+      });
+
+      crawlMetrics.time("retrieveForeignKeys", () -> {
+        if (infoLevel.isRetrieveForeignKeys()
+            && infoLevel.isRetrieveTableColumns())
+        {
+          fkRetriever.retrieveForeignKeys(changedTables);
+          if (infoLevel.isRetrieveForeignKeyDefinitions())
+          {
+            fkRetriever.retrieveForeignKeyDefinitions(changedTables);
+          }
+        }
+        return null;
+      });
+
+      crawlMetrics.time("filterAndSortTables", () -> {
+        final Predicate<Table> tableFilter = tableFilter(options);
+        ((Reducible) catalog).reduce(Table.class,
+                                     new TablesReducer(options, tableFilter));
+
+        // Sort indexes from the previous crawl would otherwise change
+        // the order of tables that foreign keys do not relate
+        for (final MutableTable table: allTables)
+        {
+          table.setSortIndex(0);
+        }
+        final TablesGraph tablesGraph = new TablesGraph(allTables);
+        tablesGraph.setTablesSortIndexes();
+
+        return null;
+      });
+
+      crawlMetrics.time("retrieveIndexes", () -> {
+        if (infoLevel.isRetrieveTableColumns())
+        {
+          for (final MutableTable table: changedTables)
+          {
+            if (!(table instanceof MutableView))
+            {
+              indexRetriever.retrievePrimaryKey(table);
+            }
+          }
+          if (infoLevel.isRetrieveIndexes())
+          {
+            indexRetriever.retrieveIndexes(changedTables);
+            for (final MutableTable table: changedTables)
+            {
+              table.replacePrimaryKey();
+            }
+          }
+          if (infoLevel.isRetrievePrimaryKeyDefinitions())
+          {
+            indexRetriever.retrievePrimaryKeyDefinitions(changedTables);
+          }
+        }
+        return null;
+      });
+
+      crawlMetrics.time("retrieveTriggerInformation", () -> {
+        if (infoLevel.isRetrieveTriggerInformation())
+        {
+          retrieverExtra.retrieveTriggerInformation(changedTables);
+        }
+        return null;
+      });
+
+      crawlMetrics.time("relinkSynonyms", () -> {
+        for (final Synonym synonym: catalog.getSynonyms())
+        {
+          if (synonym.getReferencedObject() instanceof Table
+              && synonym instanceof MutableSynonym)
+          {
+            final Table referencedTable = (Table) synonym
+              .getReferencedObject();
+            final Optional<MutableTable> tableOptional = allTables
+              .lookup(referencedTable.getSchema(), referencedTable.getName());
+            if (tableOptional.isPresent())
+            {
+              ((MutableSynonym) synonym)
+                .setReferencedObject(tableOptional.get());
+            }
+          }
+        }
+        return null;
+      });
+
+      crawlMetrics.time("compactDefinitions", () -> {
+        for (final MutableTable table: changedTables)
+        {
+          table.compactDefinitions();
+        }
+        return null;
+      });
+
+      LOGGER.log(Level.INFO, crawlMetrics.toString());
+    }
+    catch (final Exception e)
+    {
+      if (e instanceof SchemaCrawlerSQLException)
+      {
+        throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+      }
+      else if (e instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) e;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Exception re-crawling table information",
+                                         e);
+      }
+    }
+  }
+
   private static void crawlTables(final MutableCatalog catalog,
                                   final RetrieverConnection retrieverConnection,
                                   final SchemaCrawlerOptions options)
@@ -530,7 +1029,7 @@ public final class SchemaCrawler
       return;
     }
 
-    final StopWatch stopWatch = new StopWatch("crawlTables");
+    final CrawlMetrics crawlMetrics = new CrawlMetrics("crawlTables", options);
 
     LOGGER.log(Level.INFO, "Crawling tables");
 
@@ -555,7 +1054,22 @@ public final class SchemaCrawler
                                                                      catalog,
                                                                      options);
 
-      stopWatch.time("retrieveTables", () -> {
+      crawlMetrics.time("retrieveDatabaseTimestamp", () -> {
+        // Take the time on the database server before tables are
+        // retrieved, so that changes made while crawling are found when
+        // the catalog is re-crawled
+        final TableChangeRetriever changeRetriever = new TableChangeRetriever(retrieverConnection,
+                                                                              catalog,
+                                                                              options);
+        if (changeRetriever.canRetrieveChangedTables())
+        {
+          catalog
+            .setDatabaseTimestamp(changeRetriever.retrieveDatabaseTimestamp());
+        }
+        return null;
+      });
+
+      crawlMetrics.time("retrieveTables", () -> {
         for (final Schema schema: retriever.getSchemas())
         {
           retriever.retrieveTables(schema,
@@ -568,7 +1082,7 @@ public final class SchemaCrawler
 
       final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
 
-      stopWatch.time("retrieveColumns", () -> {
+      crawlMetrics.time("retrieveColumns", () -> {
         if (infoLevel.isRetrieveTableColumns())
         {
           columnRetriever.retrieveColumns(allTables,
@@ -582,7 +1096,7 @@ public final class SchemaCrawler
         return null;
       });
 
-      stopWatch.time("retrieveForeignKeys", () -> {
+      crawlMetrics.time("retrieveForeignKeys", () -> {
         if (infoLevel.isRetrieveForeignKeys())
         {
           if (infoLevel.isRetrieveTableColumns())
@@ -603,7 +1117,7 @@ public final class SchemaCrawler
         return null;
       });
 
-      stopWatch.time("filterAndSortTables", () -> {
+      crawlMetrics.time("filterAndSortTables", () -> {
         // Filter the list of tables based on grep criteria, and
         // parent-child relationships
         final Predicate<Table> tableFilter = tableFilter(options);
@@ -617,7 +1131,7 @@ public final class SchemaCrawler
         return null;
       });
 
-      stopWatch.time("retrieveIndexes", () -> {
+      crawlMetrics.time("retrieveIndexes", () -> {
         LOGGER.log(Level.INFO, "Retrieving primary keys and indexes");
         if (infoLevel.isRetrieveTableColumns())
         {
@@ -645,42 +1159,42 @@ public final class SchemaCrawler
         return null;
       });
 
-      stopWatch.time("retrieveTableConstraintInformation", () -> {
+      crawlMetrics.time("retrieveTableConstraintInformation", () -> {
         if (infoLevel.isRetrieveTableConstraintInformation())
         {
           constraintRetriever.retrieveTableConstraintInformation();
         }
         return null;
       });
-      stopWatch.time("isRetrieveTableConstraintDefinitions", () -> {
+      crawlMetrics.time("isRetrieveTableConstraintDefinitions", () -> {
         if (infoLevel.isRetrieveTableConstraintDefinitions())
         {
           constraintRetriever.retrieveTableConstraintDefinitions();
         }
         return null;
       });
-      stopWatch.time("retrieveTriggerInformation", () -> {
+      crawlMetrics.time("retrieveTriggerInformation", () -> {
         if (infoLevel.isRetrieveTriggerInformation())
         {
           retrieverExtra.retrieveTriggerInformation();
         }
         return null;
       });
-      stopWatch.time("retrieveViewInformation", () -> {
+      crawlMetrics.time("retrieveViewInformation", () -> {
         if (infoLevel.isRetrieveViewInformation())
         {
           retrieverExtra.retrieveViewInformation();
         }
         return null;
       });
-      stopWatch.time("retrieveTableDefinitions", () -> {
+      crawlMetrics.time("retrieveTableDefinitions", () -> {
         if (infoLevel.isRetrieveTableDefinitionsInformation())
         {
           retrieverExtra.retrieveTableDefinitions();
         }
         return null;
       });
-      stopWatch.time("retrieveIndexInformation", () -> {
+      crawlMetrics.time("retrieveIndexInformation", () -> {
         if (infoLevel.isRetrieveIndexInformation())
         {
           retrieverExtra.retrieveIndexInformation();
@@ -692,14 +1206,14 @@ public final class SchemaCrawler
         return null;
       });
 
-      stopWatch.time("retrieveAdditionalTableAttributes", () -> {
+      crawlMetrics.time("retrieveAdditionalTableAttributes", () -> {
         if (infoLevel.isRetrieveAdditionalTableAttributes())
         {
           retrieverExtra.retrieveAdditionalTableAttributes();
         }
         return null;
       });
-      stopWatch.time("retrieveTablePrivileges", () -> {
+      crawlMetrics.time("retrieveTablePrivileges", () -> {
         if (infoLevel.isRetrieveTablePrivileges())
         {
           retrieverExtra.retrieveTablePrivileges();
@@ -707,14 +1221,14 @@ public final class SchemaCrawler
         return null;
       });
 
-      stopWatch.time("retrieveAdditionalColumnAttributes", () -> {
+      crawlMetrics.time("retrieveAdditionalColumnAttributes", () -> {
         if (infoLevel.isRetrieveAdditionalColumnAttributes())
         {
           retrieverExtra.retrieveAdditionalColumnAttributes();
         }
         return null;
       });
-      stopWatch.time("retrieveTableColumnPrivileges", () -> {
+      crawlMetrics.time("retrieveTableColumnPrivileges", () -> {
         if (infoLevel.isRetrieveTableColumnPrivileges())
         {
           retrieverExtra.retrieveTableColumnPrivileges();
@@ -722,7 +1236,15 @@ public final class SchemaCrawler
         return null;
       });
 
-      LOGGER.log(Level.INFO, stopWatch.toString());
+      crawlMetrics.time("compactDefinitions", () -> {
+        for (final MutableTable table: allTables)
+        {
+          table.compactDefinitions();
+        }
+        return null;
+      });
+
+      LOGGER.log(Level.INFO, crawlMetrics.toString());
     }
     catch (final Exception e)
     {
@@ -742,7 +1264,35 @@ public final class SchemaCrawler
     }
   }
 
+  private static MutableCatalog waitFor(final Future<MutableCatalog> crawlStage)
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      return crawlStage.get();
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while crawling", e);
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) cause;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Exception crawling in parallel",
+                                         cause);
+      }
+    }
+  }
+
   private final Connection connection;
+  private final ConnectionOptions connectionOptions;
   private final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions;
 
   /**
@@ -760,6 +1310,36 @@ public final class SchemaCrawler
     throws SchemaCrawlerException
   {
     this.connection = requireNonNull(connection, "No connection specified");
+    connectionOptions = null;
+    this.databaseSpecificOverrideOptions = requireNonNull(databaseSpecificOverrideOptions,
+                                                          "No database specific overrides provided");
+  }
+
+  /**
+   * Constructs a SchemaCrawler object that crawls in parallel. New
+   * connections are obtained from the connection options for each
+   * independent crawl stage, and closed once the crawl is done.
+   * Database information, routines and sequences are retrieved on
+   * their own connections while tables are being crawled, and synonyms
+   * are retrieved once tables and routines are available. Stages that
+   * run on other threads add their objects to the catalog only after
+   * they are done, so that the catalog is never changed by more than
+   * one thread at a time.
+   *
+   * @param connectionOptions
+   *        Source of database connections.
+   * @param databaseSpecificOverrideOptions
+   *        Database specific overrides
+   * @throws SchemaCrawlerException
+   *         On a crawler exception
+   */
+  public SchemaCrawler(final ConnectionOptions connectionOptions,
+                       final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions)
+    throws SchemaCrawlerException
+  {
+    connection = null;
+    this.connectionOptions = requireNonNull(connectionOptions,
+                                            "No connection options specified");
     this.databaseSpecificOverrideOptions = requireNonNull(databaseSpecificOverrideOptions,
                                                           "No database specific overrides provided");
   }
@@ -776,18 +1356,23 @@ public final class SchemaCrawler
   public Catalog crawl(final SchemaCrawlerOptions options)
     throws SchemaCrawlerException
   {
+    final SchemaCrawlerOptions schemaCrawlerOptions;
+    if (options == null)
+    {
+      schemaCrawlerOptions = new SchemaCrawlerOptions();
+    }
+    else
+    {
+      schemaCrawlerOptions = options;
+    }
+    if (connectionOptions != null)
+    {
+      return crawlInParallel(schemaCrawlerOptions);
+    }
+
     final MutableCatalog catalog = new MutableCatalog("catalog");
     try
     {
-      final SchemaCrawlerOptions schemaCrawlerOptions;
-      if (options == null)
-      {
-        schemaCrawlerOptions = new SchemaCrawlerOptions();
-      }
-      else
-      {
-        schemaCrawlerOptions = options;
-      }
       final RetrieverConnection retrieverConnection = new RetrieverConnection(connection,
                                                                               databaseSpecificOverrideOptions);
 
@@ -807,4 +1392,192 @@ public final class SchemaCrawler
     }
   }
 
+  /**
+   * Crawls the database again, and updates a catalog from a previous
+   * crawl in place. Only tables that were created or changed since the
+   * previous crawl, as reported by the database specific table changes
+   * SQL, are retrieved again, along with their columns, primary keys,
+   * indexes, foreign keys and triggers. Changes are looked for since
+   * the time on the database server when the previous crawl started.
+   * Tables are also listed again, so tables that were created or
+   * renamed are retrieved, and tables that were dropped or renamed are
+   * removed. Routines are handled in the same way, using the database
+   * specific routine changes SQL, and all routines are retrieved again
+   * if there is no routine changes SQL. The database is crawled in full
+   * instead if the catalog was not produced by SchemaCrawler, if there
+   * is no table changes SQL or database timestamp SQL for the database,
+   * or if the schema info level requests other table or routine
+   * details. If an exception is thrown, the previous catalog should be
+   * discarded.
+   *
+   * @param catalog
+   *        Catalog from a previous crawl, with the same options
+   * @param options
+   *        SchemaCrawler options that control what metadata is returned
+   * @return Updated database metadata
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public Catalog recrawl(final Catalog catalog,
+                         final SchemaCrawlerOptions options)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(catalog, "No catalog provided");
+    final SchemaCrawlerOptions schemaCrawlerOptions;
+    if (options == null)
+    {
+      schemaCrawlerOptions = new SchemaCrawlerOptions();
+    }
+    else
+    {
+      schemaCrawlerOptions = options;
+    }
+
+    if (!(catalog instanceof MutableCatalog) || catalog.getCrawlInfo() == null
+        || !isTableRecrawlSupported(schemaCrawlerOptions.getSchemaInfoLevel()))
+    {
+      LOGGER.log(Level.INFO,
+                 "Cannot re-crawl only changed tables, so crawling the database again");
+      return crawl(schemaCrawlerOptions);
+    }
+
+    if (connectionOptions != null)
+    {
+      try (final Connection connection = connectionOptions.getConnection();)
+      {
+        return recrawl((MutableCatalog) catalog,
+                       connection,
+                       schemaCrawlerOptions);
+      }
+      catch (final SQLException e)
+      {
+        throw new SchemaCrawlerException("Database access exception", e);
+      }
+    }
+    else
+    {
+      return recrawl((MutableCatalog) catalog, connection, schemaCrawlerOptions);
+    }
+  }
+
+  private Catalog recrawl(final MutableCatalog catalog,
+                          final Connection connection,
+                          final SchemaCrawlerOptions options)
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      final RetrieverConnection retrieverConnection = new RetrieverConnection(connection,
+                                                                              databaseSpecificOverrideOptions);
+      final TableChangeRetriever changeRetriever = new TableChangeRetriever(retrieverConnection,
+                                                                            catalog,
+                                                                            options);
+      if (!changeRetriever.canRetrieveChangedTables())
+      {
+        LOGGER.log(Level.INFO,
+                   "No table changes SQL or database timestamp SQL provided, so crawling the database again");
+        return crawl(options);
+      }
+      final String crawlTimestamp = catalog.getDatabaseTimestamp();
+      if (crawlTimestamp == null)
+      {
+        LOGGER.log(Level.INFO,
+                   "Time of the previous crawl on the database server is not known, so crawling the database again");
+        return crawl(options);
+      }
+
+      // Update the crawl timestamps before looking for changes, so that
+      // changes made while re-crawling are found the next time around
+      catalog.setCrawlHeaderInfo(catalog.getCrawlInfo().getTitle());
+      catalog.setDatabaseTimestamp(changeRetriever.retrieveDatabaseTimestamp());
+
+      final Set<String> changedTableNames = changeRetriever
+        .retrieveChangedTables(crawlTimestamp);
+      final Set<String> changedRoutineNames = changeRetriever
+        .retrieveChangedRoutines(crawlTimestamp);
+      recrawlTables(catalog, retrieverConnection, options, changedTableNames);
+      recrawlRoutines(catalog,
+                      retrieverConnection,
+                      options,
+                      changedRoutineNames);
+
+      return catalog;
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException("Database access exception", e);
+    }
+  }
+
+  private Catalog crawlInParallel(final SchemaCrawlerOptions options)
+    throws SchemaCrawlerException
+  {
+    final MutableCatalog catalog = new MutableCatalog("catalog");
+    final ExecutorService executorService = Executors.newFixedThreadPool(3);
+    try (final Connection connection = connectionOptions.getConnection();)
+    {
+      final RetrieverConnection retrieverConnection = new RetrieverConnection(connection,
+                                                                              databaseSpecificOverrideOptions);
+
+      // Schemas and system data types are needed by every other stage
+      crawlSchemas(catalog, retrieverConnection, options);
+      crawlColumnDataTypes(catalog, retrieverConnection, options);
+
+      // Each stage crawls into its own catalog, which is merged into
+      // the catalog on this thread once the stage is done
+      final MutableCatalog databaseInfoCatalog = catalog.newStageCatalog();
+      final MutableCatalog routinesCatalog = catalog.newStageCatalog();
+      final MutableCatalog sequencesCatalog = catalog.newStageCatalog();
+      final Future<MutableCatalog> databaseInfoStage = executorService
+        .submit(() -> crawlOnNewConnection(databaseInfoCatalog,
+                                           options,
+                                           SchemaCrawler::crawlDatabaseInfo));
+      final Future<MutableCatalog> routinesStage = executorService
+        .submit(() -> crawlOnNewConnection(routinesCatalog,
+                                           options,
+                                           SchemaCrawler::crawlRoutines));
+      final Future<MutableCatalog> sequencesStage = executorService
+        .submit(() -> crawlOnNewConnection(sequencesCatalog,
+                                           options,
+                                           SchemaCrawler::crawlSequences));
+
+      crawlTables(catalog, retrieverConnection, options);
+
+      // Synonyms refer to tables and routines
+      catalog.merge(waitFor(routinesStage));
+      crawlSynonyms(catalog, retrieverConnection, options);
+
+      catalog.merge(waitFor(sequencesStage));
+      catalog.merge(waitFor(databaseInfoStage));
+
+      return catalog;
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException("Database access exception", e);
+    }
+    finally
+    {
+      executorService.shutdownNow();
+    }
+  }
+
+  private MutableCatalog crawlOnNewConnection(final MutableCatalog stageCatalog,
+                                              final SchemaCrawlerOptions options,
+                                              final CrawlStage crawlStage)
+    throws SchemaCrawlerException
+  {
+    try (final Connection connection = connectionOptions.getConnection();)
+    {
+      final RetrieverConnection retrieverConnection = new RetrieverConnection(connection,
+                                                                              databaseSpecificOverrideOptions);
+      crawlStage.crawl(stageCatalog, retrieverConnection, options);
+      return stageCatalog;
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException("Database access exception", e);
+    }
+  }
+
 }
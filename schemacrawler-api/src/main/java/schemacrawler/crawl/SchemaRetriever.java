@@ -168,7 +168,7 @@ final class SchemaRetriever
     final Set<String> allCatalogNames = retrieveAllCatalogs();
     if (supportsSchemas)
     {
-      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
         .getSchemas());)
       {
         results.setDescription("retrieveAllSchemas");
@@ -0,0 +1,69 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+/**
+ * Shares equal strings read from database metadata. Remarks, default
+ * values and attribute values repeat across many columns, so equal
+ * values are canonicalized instead of being held once per column. Long
+ * strings are rarely repeated, and are kept as they are.
+ *
+ * @author Sualeh Fatehi
+ */
+final class SharedStrings
+{
+
+  private static final int MAX_SHARED_LENGTH = 256;
+
+  static Object share(final Object value)
+  {
+    if (value instanceof String)
+    {
+      return share((String) value);
+    }
+    else
+    {
+      return value;
+    }
+  }
+
+  static String share(final String value)
+  {
+    if (value == null || value.length() > MAX_SHARED_LENGTH)
+    {
+      return value;
+    }
+    return value.intern();
+  }
+
+  private SharedStrings()
+  { // Prevent instantiation
+  }
+
+}
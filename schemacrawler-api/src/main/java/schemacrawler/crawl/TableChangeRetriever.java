@@ -0,0 +1,231 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+import static sf.util.TemplatingUtility.expandTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.SchemaReference;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.utility.Query;
+import sf.util.StringFormat;
+
+/**
+ * A retriever that uses database specific SQL to find tables and
+ * routines whose definitions changed after a catalog was crawled.
+ * Times are always taken from the database server, since the clock on
+ * the client may differ.
+ *
+ * @author Sualeh Fatehi
+ */
+final class TableChangeRetriever
+  extends AbstractRetriever
+{
+
+  private static final Logger LOGGER = Logger
+    .getLogger(TableChangeRetriever.class.getName());
+
+  TableChangeRetriever(final RetrieverConnection retrieverConnection,
+                       final MutableCatalog catalog,
+                       final SchemaCrawlerOptions options)
+    throws SQLException
+  {
+    super(retrieverConnection, catalog, options);
+  }
+
+  boolean canRetrieveChangedTables()
+  {
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    return informationSchemaViews.hasTableChangesSql()
+           && informationSchemaViews.hasDatabaseTimestampSql();
+  }
+
+  /**
+   * Retrieves the full names of routines that were created or changed
+   * after the given time on the database server. The time is
+   * substituted into the routine changes SQL as ${crawl_timestamp}.
+   *
+   * @param crawlTimestamp
+   *        Time on the database server when the previous crawl
+   *        started, in the format yyyy-MM-dd HH:mm:ss
+   * @return Full names of changed routines, or null if there is no
+   *         routine changes SQL, and any routine may have changed
+   * @throws SQLException
+   *         On a SQL exception
+   */
+  Set<String> retrieveChangedRoutines(final String crawlTimestamp)
+    throws SQLException
+  {
+    requireNonNull(crawlTimestamp, "No crawl timestamp provided");
+
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    if (!informationSchemaViews.hasRoutineChangesSql())
+    {
+      LOGGER.log(Level.FINE,
+                 "Routine changes SQL statement was not provided");
+      return null;
+    }
+
+    return retrieveChangedObjects(informationSchemaViews
+      .getRoutineChangesSql(), "ROUTINE", crawlTimestamp);
+  }
+
+  /**
+   * Retrieves the full names of tables that were created or changed
+   * after the given time on the database server. The time is
+   * substituted into the table changes SQL as ${crawl_timestamp}.
+   *
+   * @param crawlTimestamp
+   *        Time on the database server when the previous crawl
+   *        started, in the format yyyy-MM-dd HH:mm:ss
+   * @return Full names of changed tables
+   * @throws SQLException
+   *         On a SQL exception
+   */
+  Set<String> retrieveChangedTables(final String crawlTimestamp)
+    throws SQLException
+  {
+    requireNonNull(crawlTimestamp, "No crawl timestamp provided");
+
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    if (!informationSchemaViews.hasTableChangesSql())
+    {
+      LOGGER.log(Level.FINE, "Table changes SQL statement was not provided");
+      return Collections.emptySet();
+    }
+
+    return retrieveChangedObjects(informationSchemaViews
+      .getTableChangesSql(), "TABLE", crawlTimestamp);
+  }
+
+  /**
+   * Retrieves the current time on the database server, to compare
+   * with the time that database objects were last changed.
+   *
+   * @return Time on the database server, in the format yyyy-MM-dd
+   *         HH:mm:ss, or null if it cannot be retrieved
+   * @throws SQLException
+   *         On a SQL exception
+   */
+  String retrieveDatabaseTimestamp()
+    throws SQLException
+  {
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    if (!informationSchemaViews.hasDatabaseTimestampSql())
+    {
+      LOGGER.log(Level.FINE,
+                 "Database timestamp SQL statement was not provided");
+      return null;
+    }
+
+    final Query databaseTimestampSql = informationSchemaViews
+      .getDatabaseTimestampSql();
+    final Connection connection = getDatabaseConnection();
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results = new MetadataResultSet(databaseTimestampSql,
+                                                                statement,
+                                                                getSchemaInclusionRule());)
+    {
+      results.setDescription("retrieveDatabaseTimestamp");
+      if (results.next())
+      {
+        final String databaseTimestamp = results
+          .getString("DATABASE_TIMESTAMP");
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Database timestamp, %s",
+                                    databaseTimestamp));
+        return databaseTimestamp;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Runs changes SQL, with the crawl timestamp substituted, and returns
+   * the full names of objects from the catalog, schema and name columns
+   * with the given prefix.
+   */
+  private Set<String> retrieveChangedObjects(final Query changesSql,
+                                             final String columnPrefix,
+                                             final String crawlTimestamp)
+    throws SQLException
+  {
+    final Map<String, String> properties = new HashMap<>();
+    properties.put("crawl_timestamp", crawlTimestamp);
+    final Query expandedChangesSql = new Query(changesSql.getName(),
+                                               expandTemplate(changesSql
+                                                 .getQuery(), properties),
+                                               changesSql.getFetchSize());
+
+    final Set<String> changedObjects = new HashSet<>();
+    final Connection connection = getDatabaseConnection();
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results = new MetadataResultSet(expandedChangesSql,
+                                                                statement,
+                                                                getSchemaInclusionRule());)
+    {
+      results.setDescription("retrieveChangedObjects");
+      while (results.next())
+      {
+        final String catalogName = quotedName(results
+          .getString(columnPrefix + "_CATALOG"));
+        final String schemaName = quotedName(results
+          .getString(columnPrefix + "_SCHEMA"));
+        final String name = quotedName(results
+          .getString(columnPrefix + "_NAME"));
+
+        final String fullName = NamedObjectList
+          .makeLookupKey(new SchemaReference(catalogName, schemaName), name);
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Changed since the previous crawl, %s",
+                                    fullName));
+        changedObjects.add(fullName);
+      }
+    }
+
+    return changedObjects;
+  }
+
+}
@@ -41,6 +41,7 @@ import static java.util.Objects.requireNonNull;
 
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.schema.Column;
+import schemacrawler.schema.Schema;
 import schemacrawler.schema.SchemaReference;
 import schemacrawler.schemacrawler.InclusionRule;
 import schemacrawler.schemacrawler.InformationSchemaViews;
@@ -62,6 +63,13 @@ final class TableColumnRetriever
   private static final Logger LOGGER = Logger
     .getLogger(TableColumnRetriever.class.getName());
 
+  /**
+   * Time that the automatic strategy lets retrieval for each table
+   * spend on extra round trips, before it retrieves columns for each
+   * schema instead.
+   */
+  private static final double AUTO_ROUND_TRIP_BUDGET_MILLIS = 1000;
+
   TableColumnRetriever(final RetrieverConnection retrieverConnection,
                        final MutableCatalog catalog,
                        final SchemaCrawlerOptions options)
@@ -85,8 +93,12 @@ final class TableColumnRetriever
       return;
     }
 
-    final MetadataRetrievalStrategy tableColumnRetrievalStrategy = getRetrieverConnection()
+    MetadataRetrievalStrategy tableColumnRetrievalStrategy = getRetrieverConnection()
       .getTableColumnRetrievalStrategy();
+    if (tableColumnRetrievalStrategy == MetadataRetrievalStrategy.auto)
+    {
+      tableColumnRetrievalStrategy = selectRetrievalStrategy(allTables);
+    }
     switch (tableColumnRetrievalStrategy)
     {
       case data_dictionary_all:
@@ -102,6 +114,13 @@ final class TableColumnRetriever
         retrieveColumnsFromMetadataForAllTables(allTables, columnFilter);
         break;
 
+      case metadata_per_schema:
+        LOGGER
+          .log(Level.INFO,
+               "Retrieving table columns, using meta-data retrieval for each schema");
+        retrieveColumnsFromMetadataForSchemas(allTables, columnFilter);
+        break;
+
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving table columns");
         retrieveColumnsFromMetadata(allTables, columnFilter);
@@ -262,6 +281,35 @@ final class TableColumnRetriever
     return column;
   }
 
+  /**
+   * Measures the round-trip latency of the connection, as the fastest
+   * of a few connection validity checks.
+   *
+   * @return Round-trip latency in milliseconds, or zero if it could not
+   *         be measured
+   */
+  private double measureRoundTripMillis()
+  {
+    final Connection connection = getDatabaseConnection();
+    long roundTripNanos = Long.MAX_VALUE;
+    try
+    {
+      for (int i = 0; i < 3; i++)
+      {
+        final long start = System.nanoTime();
+        connection.isValid(5);
+        roundTripNanos = Math.min(roundTripNanos, System.nanoTime() - start);
+      }
+    }
+    catch (final AbstractMethodError | SQLException e)
+    {
+      logSQLFeatureNotSupported("Could not measure connection round-trip latency",
+                                e);
+      return 0;
+    }
+    return roundTripNanos / 1_000_000d;
+  }
+
   private void retrieveColumnsFromDataDictionary(final NamedObjectList<MutableTable> allTables,
                                                  final InclusionRuleFilter<Column> columnFilter)
     throws SchemaCrawlerSQLException, SQLException
@@ -295,7 +343,7 @@ final class TableColumnRetriever
     for (final MutableTable table: allTables)
     {
       LOGGER.log(Level.FINE, "Retrieving columns for " + table);
-      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
         .getColumns(unquotedName(table.getSchema().getCatalogName()),
                     unquotedName(table.getSchema().getName()),
                     unquotedName(table.getName()),
@@ -318,7 +366,7 @@ final class TableColumnRetriever
                                                        final InclusionRuleFilter<Column> columnFilter)
     throws SQLException
   {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
       .getColumns(null,
                   null,
                   "%",
@@ -331,4 +379,85 @@ final class TableColumnRetriever
     }
   }
 
+  private void retrieveColumnsFromMetadataForSchemas(final NamedObjectList<MutableTable> allTables,
+                                                     final InclusionRuleFilter<Column> columnFilter)
+    throws SchemaCrawlerSQLException
+  {
+    for (final Schema schema: tableSchemas(allTables))
+    {
+      LOGGER.log(Level.FINE, "Retrieving columns for schema " + schema);
+      try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
+        .getColumns(unquotedName(schema.getCatalogName()),
+                    unquotedName(schema.getName()),
+                    "%",
+                    "%"));)
+      {
+        while (results.next())
+        {
+          createTableColumn(results, allTables, columnFilter, false);
+        }
+      }
+      catch (final SQLException e)
+      {
+        throw new SchemaCrawlerSQLException("Could not retrieve columns for schema "
+                                            + schema, e);
+      }
+    }
+  }
+
+  /**
+   * Picks a meta-data retrieval strategy for the automatic strategy.
+   * Retrieval for each table makes a round trip for every table.
+   * Retrieval for each schema makes a round trip for every schema, but
+   * also brings back columns for tables that are not crawled. Retrieval
+   * for all tables makes a single round trip, but brings back every
+   * column in the database.
+   */
+  private MetadataRetrievalStrategy selectRetrievalStrategy(final NamedObjectList<MutableTable> allTables)
+  {
+    final int tableCount = allTables.size();
+    final int schemaCount = tableSchemas(allTables).size();
+    final boolean allTablesCrawled = getTableInclusionRule().isIncludeAll()
+                                     && tableCount == catalog.getAllTables()
+                                       .size();
+
+    final MetadataRetrievalStrategy strategy;
+    if (tableCount <= schemaCount)
+    {
+      strategy = MetadataRetrievalStrategy.metadata;
+    }
+    else if (allTablesCrawled && schemaCount > 1
+             && getSchemaInclusionRule().isIncludeAll())
+    {
+      strategy = MetadataRetrievalStrategy.metadata_all;
+    }
+    else if (allTablesCrawled)
+    {
+      strategy = MetadataRetrievalStrategy.metadata_per_schema;
+    }
+    else
+    {
+      final double roundTripMillis = measureRoundTripMillis();
+      LOGGER.log(Level.CONFIG,
+                 new StringFormat("Connection round-trip latency is %.3f ms",
+                                  roundTripMillis));
+      if ((tableCount - schemaCount)
+          * roundTripMillis > AUTO_ROUND_TRIP_BUDGET_MILLIS)
+      {
+        strategy = MetadataRetrievalStrategy.metadata_per_schema;
+      }
+      else
+      {
+        strategy = MetadataRetrievalStrategy.metadata;
+      }
+    }
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Selected %s strategy to retrieve columns for %d tables in %d schemas",
+                                strategy,
+                                tableCount,
+                                schemaCount));
+    return strategy;
+  }
+
 }
@@ -29,6 +29,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
+import static schemacrawler.crawl.TableReference.tableReference;
+
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -41,6 +43,7 @@ import schemacrawler.schema.CheckOptionType;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ConditionTimingType;
 import schemacrawler.schema.EventManipulationType;
+import schemacrawler.schema.SchemaReference;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -413,7 +416,7 @@ final class TableExtRetriever
   void retrieveTableColumnPrivileges()
     throws SQLException
   {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
       .getColumnPrivileges(null,
                            null,
                            "%",
@@ -505,7 +508,7 @@ final class TableExtRetriever
   void retrieveTablePrivileges()
     throws SQLException
   {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
       .getTablePrivileges(null,
                           null,
                           "%"));)
@@ -527,6 +530,21 @@ final class TableExtRetriever
    */
   void retrieveTriggerInformation()
     throws SQLException
+  {
+    retrieveTriggerInformation(catalog.getAllTables());
+  }
+
+  /**
+   * Retrieves a trigger information from the database, in the
+   * INFORMATION_SCHEMA format, only for the given tables.
+   *
+   * @param allTables
+   *        Tables to retrieve triggers for
+   * @throws SQLException
+   *         On a SQL exception
+   */
+  void retrieveTriggerInformation(final NamedObjectList<MutableTable> allTables)
+    throws SQLException
   {
     final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
       .getInformationSchemaViews();
@@ -564,9 +582,8 @@ final class TableExtRetriever
         // "EVENT_OBJECT_CATALOG", "EVENT_OBJECT_SCHEMA"
         final String tableName = results.getString("EVENT_OBJECT_TABLE");
 
-        final Optional<MutableTable> tableOptional = lookupTable(catalogName,
-                                                                 schemaName,
-                                                                 tableName);
+        final Optional<MutableTable> tableOptional = allTables
+          .lookup(new SchemaReference(catalogName, schemaName), tableName);
         if (!tableOptional.isPresent())
         {
           LOGGER.log(Level.FINE,
@@ -754,7 +771,7 @@ final class TableExtRetriever
         final Optional<MutablePrivilege<Table>> privilegeOptional = table
           .lookupPrivilege(privilegeName);
         privilege = privilegeOptional
-          .orElse(new MutablePrivilege<>(new TableReference(table),
+          .orElse(new MutablePrivilege<>(tableReference(table),
                                          privilegeName));
       }
 
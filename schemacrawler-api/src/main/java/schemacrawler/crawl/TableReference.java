@@ -38,6 +38,26 @@ class TableReference
 
   private static final long serialVersionUID = 8940800217960888019L;
 
+  /**
+   * Gets a reference to a table. All the columns, indexes, constraints
+   * and triggers of a crawled table share the same reference.
+   *
+   * @param table
+   *        Table to reference
+   * @return Table reference
+   */
+  static TableReference tableReference(final Table table)
+  {
+    if (table instanceof MutableTable)
+    {
+      return ((MutableTable) table).getTableReference();
+    }
+    else
+    {
+      return new TableReference(table);
+    }
+  }
+
   TableReference(final Table table)
   {
     super(requireNonNull(table, "No table provided"), new TablePartial(table));
@@ -110,7 +110,7 @@ final class TableRetriever
     final String catalogName = schema.getCatalogName();
     final String schemaName = schema.getName();
 
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(() -> getMetaData()
       .getTables(unquotedName(catalogName),
                  unquotedName(schemaName),
                  tableNamePattern,
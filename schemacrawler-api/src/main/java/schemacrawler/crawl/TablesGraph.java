@@ -48,10 +48,13 @@ final class TablesGraph
   private static final Logger LOGGER = Logger
     .getLogger(TablesGraph.class.getName());
 
+  private final NamedObjectList<MutableTable> tables;
+
   TablesGraph(final NamedObjectList<MutableTable> tables)
   {
     super("catalog");
 
+    this.tables = tables;
     if (tables == null)
     {
       return;
@@ -107,6 +110,10 @@ final class TablesGraph
     {
       LOGGER.log(Level.CONFIG, e.getMessage());
     }
+    if (tables != null)
+    {
+      tables.sortOrderChanged();
+    }
   }
 
   private List<Table> topologicalSort()
@@ -44,6 +44,7 @@ public final class SchemaReference
   private final String catalogName;
   private final String schemaName;
   private final Map<String, Object> attributeMap = new HashMap<>();
+  private transient String fullName;
 
   public SchemaReference()
   {
@@ -169,25 +170,11 @@ public final class SchemaReference
   @Override
   public String getFullName()
   {
-    final StringBuilder buffer = new StringBuilder(64);
-
-    final boolean hasCatalogName = !isBlank(catalogName);
-    final boolean hasSchemaName = !isBlank(getName());
-
-    if (hasCatalogName)
-    {
-      buffer.append(catalogName);
-    }
-    if (hasCatalogName && hasSchemaName)
+    if (fullName == null)
     {
-      buffer.append(".");
-    }
-    if (hasSchemaName)
-    {
-      buffer.append(getName());
+      fullName = buildFullName();
     }
-
-    return buffer.toString();
+    return fullName;
   }
 
   @Override
@@ -281,4 +268,27 @@ public final class SchemaReference
     return getFullName();
   }
 
+  private String buildFullName()
+  {
+    final StringBuilder buffer = new StringBuilder(64);
+
+    final boolean hasCatalogName = !isBlank(catalogName);
+    final boolean hasSchemaName = !isBlank(getName());
+
+    if (hasCatalogName)
+    {
+      buffer.append(catalogName);
+    }
+    if (hasCatalogName && hasSchemaName)
+    {
+      buffer.append(".");
+    }
+    if (hasSchemaName)
+    {
+      buffer.append(getName());
+    }
+
+    return buffer.toString();
+  }
+
 }
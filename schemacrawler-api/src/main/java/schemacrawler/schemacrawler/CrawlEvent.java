@@ -0,0 +1,143 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.schemacrawler;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * Timing and row counts for a part of a crawl. A crawl is made up of
+ * phases, such as "crawlTables", and each phase is made up of tasks,
+ * such as "retrieveColumns". A task runs zero or more metadata queries.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class CrawlEvent
+  implements Serializable
+{
+
+  private static final long serialVersionUID = -2264506375386474539L;
+
+  private final String phase;
+  private final String task;
+  private final String queryName;
+  private final Duration duration;
+  private final long queryCount;
+  private final long rowCount;
+
+  public CrawlEvent(final String phase,
+                    final String task,
+                    final String queryName,
+                    final Duration duration,
+                    final long queryCount,
+                    final long rowCount)
+  {
+    this.phase = requireNonNull(phase, "No crawl phase provided");
+    this.task = task;
+    this.queryName = queryName;
+    this.duration = requireNonNull(duration, "No duration provided");
+    this.queryCount = queryCount;
+    this.rowCount = rowCount;
+  }
+
+  /**
+   * Time taken.
+   */
+  public Duration getDuration()
+  {
+    return duration;
+  }
+
+  /**
+   * Crawl phase, such as "crawlTables".
+   */
+  public String getPhase()
+  {
+    return phase;
+  }
+
+  /**
+   * Number of queries, or JDBC round trips for metadata, that were
+   * run. This is 1 for a query event.
+   */
+  public long getQueryCount()
+  {
+    return queryCount;
+  }
+
+  /**
+   * Name of the query from the information schema views, or a
+   * description of the JDBC metadata call. This is null for a task
+   * event, and may be null for JDBC metadata calls that are not named.
+   */
+  public String getQueryName()
+  {
+    return queryName;
+  }
+
+  /**
+   * Number of rows read from metadata queries.
+   */
+  public long getRowCount()
+  {
+    return rowCount;
+  }
+
+  /**
+   * Task within the crawl phase, such as "retrieveColumns", or null if
+   * the event happened outside of a task.
+   */
+  public String getTask()
+  {
+    return task;
+  }
+
+  @Override
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder(256);
+    buffer.append(phase);
+    if (task != null)
+    {
+      buffer.append("/").append(task);
+    }
+    if (queryName != null)
+    {
+      buffer.append("/").append(queryName);
+    }
+    buffer.append(String.format(" - %d ms, %d queries, %d rows",
+                                duration.toMillis(),
+                                queryCount,
+                                rowCount));
+    return buffer.toString();
+  }
+
+}
@@ -0,0 +1,62 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.schemacrawler;
+
+
+/**
+ * Receives timing and row count events while the database is being
+ * crawled. Events can be forwarded to a metrics registry, a profiler,
+ * or a report, to find out which metadata call is slow on which
+ * database. Stages of a crawl may run in parallel, so listeners need to
+ * be thread-safe.
+ *
+ * @author Sualeh Fatehi
+ */
+public interface CrawlListener
+{
+
+  /**
+   * Called when a metadata query or a JDBC metadata call has been read
+   * to the end and closed.
+   *
+   * @param event
+   *        Query event, with the query name and the number of rows read
+   */
+  void queryCompleted(CrawlEvent event);
+
+  /**
+   * Called when a task in a crawl phase, such as retrieving columns for
+   * all tables, is complete.
+   *
+   * @param event
+   *        Task event, with the number of queries and rows read during
+   *        the task
+   */
+  void taskCompleted(CrawlEvent event);
+
+}
@@ -32,6 +32,7 @@ import static sf.util.Utility.isBlank;
 
 import java.util.Optional;
 
+import schemacrawler.crawl.IndexRetrievalStrategy;
 import schemacrawler.crawl.MetadataRetrievalStrategy;
 
 public final class DatabaseSpecificOverrideOptions
@@ -43,6 +44,9 @@ public final class DatabaseSpecificOverrideOptions
   private final Optional<Boolean> supportsSchemas;
   private final Optional<Boolean> supportsCatalogs;
   private final MetadataRetrievalStrategy tableColumnRetrievalStrategy;
+  private final MetadataRetrievalStrategy foreignKeyRetrievalStrategy;
+  private final IndexRetrievalStrategy indexRetrievalStrategy;
+  private final MetadataRetrievalStrategy routineColumnRetrievalStrategy;
   private final String identifierQuoteString;
   private final InformationSchemaViews informationSchemaViews;
 
@@ -58,6 +62,9 @@ public final class DatabaseSpecificOverrideOptions
       supportsSchemas = Optional.empty();
       supportsCatalogs = Optional.empty();
       tableColumnRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+      foreignKeyRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+      indexRetrievalStrategy = IndexRetrievalStrategy.metadata;
+      routineColumnRetrievalStrategy = MetadataRetrievalStrategy.metadata;
       identifierQuoteString = "";
       informationSchemaViews = new InformationSchemaViews();
     }
@@ -66,6 +73,10 @@ public final class DatabaseSpecificOverrideOptions
       supportsSchemas = builder.getSupportsSchemas();
       supportsCatalogs = builder.getSupportsCatalogs();
       tableColumnRetrievalStrategy = builder.getTableColumnRetrievalStrategy();
+      foreignKeyRetrievalStrategy = builder.getForeignKeyRetrievalStrategy();
+      indexRetrievalStrategy = builder.getIndexRetrievalStrategy();
+      routineColumnRetrievalStrategy = builder
+        .getRoutineColumnRetrievalStrategy();
       identifierQuoteString = builder.getIdentifierQuoteString();
       informationSchemaViews = builder.getInformationSchemaViewsBuilder()
         .toOptions();
@@ -73,6 +84,11 @@ public final class DatabaseSpecificOverrideOptions
 
   }
 
+  public MetadataRetrievalStrategy getForeignKeyRetrievalStrategy()
+  {
+    return foreignKeyRetrievalStrategy;
+  }
+
   public String getIdentifierQuoteString()
   {
     if (!hasOverrideForIdentifierQuoteString())
@@ -82,11 +98,21 @@ public final class DatabaseSpecificOverrideOptions
     return identifierQuoteString;
   }
 
+  public IndexRetrievalStrategy getIndexRetrievalStrategy()
+  {
+    return indexRetrievalStrategy;
+  }
+
   public InformationSchemaViews getInformationSchemaViews()
   {
     return informationSchemaViews;
   }
 
+  public MetadataRetrievalStrategy getRoutineColumnRetrievalStrategy()
+  {
+    return routineColumnRetrievalStrategy;
+  }
+
   public MetadataRetrievalStrategy getTableColumnRetrievalStrategy()
   {
     return tableColumnRetrievalStrategy;
@@ -31,6 +31,7 @@ package schemacrawler.schemacrawler;
 import java.util.Map;
 import java.util.Optional;
 
+import schemacrawler.crawl.IndexRetrievalStrategy;
 import schemacrawler.crawl.MetadataRetrievalStrategy;
 
 public class DatabaseSpecificOverrideOptionsBuilder
@@ -40,6 +41,9 @@ public class DatabaseSpecificOverrideOptionsBuilder
   private Optional<Boolean> supportsSchemas;
   private Optional<Boolean> supportsCatalogs;
   private MetadataRetrievalStrategy tableColumnRetrievalStrategy;
+  private MetadataRetrievalStrategy foreignKeyRetrievalStrategy;
+  private IndexRetrievalStrategy indexRetrievalStrategy;
+  private MetadataRetrievalStrategy routineColumnRetrievalStrategy;
   private String identifierQuoteString;
   private final InformationSchemaViewsBuilder informationSchemaViewsBuilder;
 
@@ -50,6 +54,9 @@ public class DatabaseSpecificOverrideOptionsBuilder
     supportsCatalogs = Optional.empty();
     identifierQuoteString = "";
     tableColumnRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    foreignKeyRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    indexRetrievalStrategy = IndexRetrievalStrategy.metadata;
+    routineColumnRetrievalStrategy = MetadataRetrievalStrategy.metadata;
   }
 
   public DatabaseSpecificOverrideOptionsBuilder(final Map<String, String> map)
@@ -85,16 +92,31 @@ public class DatabaseSpecificOverrideOptionsBuilder
     return this;
   }
 
+  public MetadataRetrievalStrategy getForeignKeyRetrievalStrategy()
+  {
+    return foreignKeyRetrievalStrategy;
+  }
+
   public String getIdentifierQuoteString()
   {
     return identifierQuoteString;
   }
 
+  public IndexRetrievalStrategy getIndexRetrievalStrategy()
+  {
+    return indexRetrievalStrategy;
+  }
+
   public InformationSchemaViewsBuilder getInformationSchemaViewsBuilder()
   {
     return informationSchemaViewsBuilder;
   }
 
+  public MetadataRetrievalStrategy getRoutineColumnRetrievalStrategy()
+  {
+    return routineColumnRetrievalStrategy;
+  }
+
   public Optional<Boolean> getSupportsCatalogs()
   {
     return supportsCatalogs;
@@ -155,6 +177,32 @@ public class DatabaseSpecificOverrideOptionsBuilder
     return new DatabaseSpecificOverrideOptions(this);
   }
 
+  public DatabaseSpecificOverrideOptionsBuilder withForeignKeyRetrievalStrategy(final MetadataRetrievalStrategy foreignKeyRetrievalStrategy)
+  {
+    if (foreignKeyRetrievalStrategy == null)
+    {
+      this.foreignKeyRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    }
+    else
+    {
+      this.foreignKeyRetrievalStrategy = foreignKeyRetrievalStrategy;
+    }
+    return this;
+  }
+
+  public DatabaseSpecificOverrideOptionsBuilder withIndexRetrievalStrategy(final IndexRetrievalStrategy indexRetrievalStrategy)
+  {
+    if (indexRetrievalStrategy == null)
+    {
+      this.indexRetrievalStrategy = IndexRetrievalStrategy.metadata;
+    }
+    else
+    {
+      this.indexRetrievalStrategy = indexRetrievalStrategy;
+    }
+    return this;
+  }
+
   public InformationSchemaViewsBuilder withInformationSchemaViews()
   {
     return informationSchemaViewsBuilder;
@@ -178,6 +226,19 @@ public class DatabaseSpecificOverrideOptionsBuilder
     return this;
   }
 
+  public DatabaseSpecificOverrideOptionsBuilder withRoutineColumnRetrievalStrategy(final MetadataRetrievalStrategy routineColumnRetrievalStrategy)
+  {
+    if (routineColumnRetrievalStrategy == null)
+    {
+      this.routineColumnRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    }
+    else
+    {
+      this.routineColumnRetrievalStrategy = routineColumnRetrievalStrategy;
+    }
+    return this;
+  }
+
   public DatabaseSpecificOverrideOptionsBuilder withTableColumnRetrievalStrategy(final MetadataRetrievalStrategy tableColumnRetrievalStrategy)
   {
     if (tableColumnRetrievalStrategy == null)
@@ -52,6 +52,12 @@ public final class IncludeAll
     return 1;
   }
 
+  @Override
+  public boolean isIncludeAll()
+  {
+    return true;
+  }
+
   /**
    * {@inheritDoc}
    *
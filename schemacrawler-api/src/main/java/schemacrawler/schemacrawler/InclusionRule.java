@@ -61,4 +61,16 @@ public interface InclusionRule
     return Pattern.compile(".*");
   }
 
+  /**
+   * Whether the rule includes every string, and excludes none. Rules
+   * that cannot tell, such as rules that are not based on regular
+   * expressions, say that they do not include everything.
+   *
+   * @return Whether the rule includes everything
+   */
+  default boolean isIncludeAll()
+  {
+    return false;
+  }
+
 }
@@ -34,6 +34,7 @@ public enum InformationSchemaKey
  ADDITIONAL_COLUMN_ATTRIBUTES("select.ADDITIONAL_COLUMN_ATTRIBUTES"),
  ADDITIONAL_TABLE_ATTRIBUTES("select.ADDITIONAL_TABLE_ATTRIBUTES"),
  CONSTRAINT_COLUMN_USAGE("select.INFORMATION_SCHEMA.CONSTRAINT_COLUMN_USAGE"),
+ DATABASE_TIMESTAMP("select.DATABASE_TIMESTAMP"),
  EXT_FOREIGN_KEYS("select.INFORMATION_SCHEMA.EXT_FOREIGN_KEYS"),
  EXT_HIDDEN_TABLE_COLUMNS("select.INFORMATION_SCHEMA.EXT_HIDDEN_TABLE_COLUMNS"),
  EXT_INDEX_COLUMNS("select.INFORMATION_SCHEMA.EXT_INDEX_COLUMNS"),
@@ -44,12 +45,17 @@ public enum InformationSchemaKey
  EXT_TABLE_CONSTRAINTS("select.INFORMATION_SCHEMA.EXT_TABLE_CONSTRAINTS"),
  FOREIGN_KEYS("select.DATABASE_METADATA.FOREIGN_KEYS"),
  INDEXES("select.DATABASE_METADATA.INDEXES"),
+ METADATA_FINGERPRINT("select.METADATA_FINGERPRINT"),
  OVERRIDE_TYPE_INFO("select.OVERRIDE_TYPE_INFO"),
  ROUTINES("select.INFORMATION_SCHEMA.ROUTINES"),
+ ROUTINE_CHANGES("select.INFORMATION_SCHEMA.ROUTINE_CHANGES"),
+ ROUTINE_COLUMNS("select.INFORMATION_SCHEMA.ROUTINE_COLUMNS"),
  SCHEMATA("select.INFORMATION_SCHEMA.SCHEMATA"),
  SEQUENCES("select.INFORMATION_SCHEMA.SEQUENCES"),
+ TABLE_CHANGES("select.INFORMATION_SCHEMA.TABLE_CHANGES"),
  TABLE_COLUMNS("select.DATABASE_METADATA.TABLE_COLUMNS"),
  TABLE_CONSTRAINTS("select.INFORMATION_SCHEMA.TABLE_CONSTRAINTS"),
+ TABLE_ROW_COUNTS("select.INFORMATION_SCHEMA.TABLE_ROW_COUNTS"),
  TRIGGERS("select.INFORMATION_SCHEMA.TRIGGERS"),
  VIEWS("select.INFORMATION_SCHEMA.VIEWS"),;
 
@@ -32,6 +32,7 @@ package schemacrawler.schemacrawler;
 import static schemacrawler.schemacrawler.InformationSchemaKey.ADDITIONAL_COLUMN_ATTRIBUTES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.ADDITIONAL_TABLE_ATTRIBUTES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.CONSTRAINT_COLUMN_USAGE;
+import static schemacrawler.schemacrawler.InformationSchemaKey.DATABASE_TIMESTAMP;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_FOREIGN_KEYS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_HIDDEN_TABLE_COLUMNS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_INDEXES;
@@ -42,12 +43,17 @@ import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_CONSTRAINTS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.FOREIGN_KEYS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.INDEXES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.METADATA_FINGERPRINT;
 import static schemacrawler.schemacrawler.InformationSchemaKey.OVERRIDE_TYPE_INFO;
 import static schemacrawler.schemacrawler.InformationSchemaKey.ROUTINES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.ROUTINE_CHANGES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.ROUTINE_COLUMNS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.SCHEMATA;
 import static schemacrawler.schemacrawler.InformationSchemaKey.SEQUENCES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_CHANGES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_COLUMNS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_CONSTRAINTS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_ROW_COUNTS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.TRIGGERS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.VIEWS;
 
@@ -71,13 +77,15 @@ public final class InformationSchemaViews
   private static final long serialVersionUID = 3587581365346059044L;
 
   private final Map<InformationSchemaKey, String> informationSchemaQueries;
+  private final Map<InformationSchemaKey, Integer> fetchSizes;
+  private final int defaultFetchSize;
 
   /**
    * Creates empty information schema views.
    */
   public InformationSchemaViews()
   {
-    this(null);
+    this(null, null, 0);
   }
 
   /**
@@ -85,14 +93,26 @@ public final class InformationSchemaViews
    *
    * @param informationSchemaViewsQueries
    *        Map of information schema view definitions.
+   * @param fetchSizes
+   *        Map of fetch sizes for information schema view queries.
+   * @param defaultFetchSize
+   *        Fetch size for queries that do not have their own.
    */
-  InformationSchemaViews(final Map<InformationSchemaKey, String> informationSchemaViewsQueries)
+  InformationSchemaViews(final Map<InformationSchemaKey, String> informationSchemaViewsQueries,
+                         final Map<InformationSchemaKey, Integer> fetchSizes,
+                         final int defaultFetchSize)
   {
     informationSchemaQueries = new HashMap<>();
     if (informationSchemaViewsQueries != null)
     {
       informationSchemaQueries.putAll(informationSchemaViewsQueries);
     }
+    this.fetchSizes = new HashMap<>();
+    if (fetchSizes != null)
+    {
+      this.fetchSizes.putAll(fetchSizes);
+    }
+    this.defaultFetchSize = Math.max(0, defaultFetchSize);
   }
 
   /**
@@ -103,8 +123,7 @@ public final class InformationSchemaViews
    */
   public Query getAdditionalColumnAttributesSql()
   {
-    return new Query(ADDITIONAL_COLUMN_ATTRIBUTES
-      .name(), informationSchemaQueries.get(ADDITIONAL_COLUMN_ATTRIBUTES));
+    return newQuery(ADDITIONAL_COLUMN_ATTRIBUTES);
   }
 
   /**
@@ -115,8 +134,40 @@ public final class InformationSchemaViews
    */
   public Query getAdditionalTableAttributesSql()
   {
-    return new Query(ADDITIONAL_TABLE_ATTRIBUTES.name(),
-                     informationSchemaQueries.get(ADDITIONAL_TABLE_ATTRIBUTES));
+    return newQuery(ADDITIONAL_TABLE_ATTRIBUTES);
+  }
+
+  /**
+   * Gets the SQL that returns the current time on the database server,
+   * as a DATABASE_TIMESTAMP column in the format yyyy-MM-dd HH:mm:ss.
+   *
+   * @return Database timestamp SQL.
+   */
+  public Query getDatabaseTimestampSql()
+  {
+    return newQuery(DATABASE_TIMESTAMP);
+  }
+
+  /**
+   * Gets the fetch size to use for the results of an information
+   * schema view query. A fetch size of 0 means that the fetch size
+   * adapts to the size of the results.
+   *
+   * @param key
+   *        Information schema view
+   * @return Fetch size hint
+   */
+  public int getFetchSize(final InformationSchemaKey key)
+  {
+    final Integer fetchSize = fetchSizes.get(key);
+    if (fetchSize == null)
+    {
+      return defaultFetchSize;
+    }
+    else
+    {
+      return fetchSize;
+    }
   }
 
   /**
@@ -127,8 +178,7 @@ public final class InformationSchemaViews
    */
   public Query getExtForeignKeysSql()
   {
-    return new Query(EXT_FOREIGN_KEYS.name(),
-                     informationSchemaQueries.get(EXT_FOREIGN_KEYS));
+    return newQuery(EXT_FOREIGN_KEYS);
   }
 
   /**
@@ -139,8 +189,7 @@ public final class InformationSchemaViews
    */
   public Query getExtHiddenTableColumnsSql()
   {
-    return new Query(EXT_HIDDEN_TABLE_COLUMNS.name(),
-                     informationSchemaQueries.get(EXT_HIDDEN_TABLE_COLUMNS));
+    return newQuery(EXT_HIDDEN_TABLE_COLUMNS);
   }
 
   /**
@@ -151,8 +200,7 @@ public final class InformationSchemaViews
    */
   public Query getExtIndexColumnsSql()
   {
-    return new Query(EXT_INDEX_COLUMNS.name(),
-                     informationSchemaQueries.get(EXT_INDEX_COLUMNS));
+    return newQuery(EXT_INDEX_COLUMNS);
   }
 
   /**
@@ -162,8 +210,7 @@ public final class InformationSchemaViews
    */
   public Query getExtIndexesSql()
   {
-    return new Query(EXT_INDEXES.name(),
-                     informationSchemaQueries.get(EXT_INDEXES));
+    return newQuery(EXT_INDEXES);
   }
 
   /**
@@ -174,8 +221,7 @@ public final class InformationSchemaViews
    */
   public Query getExtPrimaryKeysSql()
   {
-    return new Query(EXT_PRIMARY_KEYS.name(),
-                     informationSchemaQueries.get(EXT_PRIMARY_KEYS));
+    return newQuery(EXT_PRIMARY_KEYS);
   }
 
   /**
@@ -186,8 +232,7 @@ public final class InformationSchemaViews
    */
   public Query getExtTableConstraintsSql()
   {
-    return new Query(EXT_TABLE_CONSTRAINTS.name(),
-                     informationSchemaQueries.get(EXT_TABLE_CONSTRAINTS));
+    return newQuery(EXT_TABLE_CONSTRAINTS);
   }
 
   /**
@@ -197,8 +242,7 @@ public final class InformationSchemaViews
    */
   public Query getExtTablesSql()
   {
-    return new Query(EXT_TABLES.name(),
-                     informationSchemaQueries.get(EXT_TABLES));
+    return newQuery(EXT_TABLES);
   }
 
   /**
@@ -208,8 +252,7 @@ public final class InformationSchemaViews
    */
   public Query getForeignKeysSql()
   {
-    return new Query(FOREIGN_KEYS.name(),
-                     informationSchemaQueries.get(FOREIGN_KEYS));
+    return newQuery(FOREIGN_KEYS);
   }
 
   /**
@@ -219,7 +262,18 @@ public final class InformationSchemaViews
    */
   public Query getIndexesSql()
   {
-    return new Query(INDEXES.name(), informationSchemaQueries.get(INDEXES));
+    return newQuery(INDEXES);
+  }
+
+  /**
+   * Gets the SQL that produces a fingerprint of the database metadata,
+   * which changes whenever the schema definitions change.
+   *
+   * @return Metadata fingerprint SQL.
+   */
+  public Query getMetadataFingerprintSql()
+  {
+    return newQuery(METADATA_FINGERPRINT);
   }
 
   /**
@@ -230,8 +284,7 @@ public final class InformationSchemaViews
    */
   public Query getOverrideTypeInfoSql()
   {
-    return new Query(OVERRIDE_TYPE_INFO.name(),
-                     informationSchemaQueries.get(OVERRIDE_TYPE_INFO));
+    return newQuery(OVERRIDE_TYPE_INFO);
   }
 
   /**
@@ -241,7 +294,30 @@ public final class InformationSchemaViews
    */
   public Query getRoutinesSql()
   {
-    return new Query(ROUTINES.name(), informationSchemaQueries.get(ROUTINES));
+    return newQuery(ROUTINES);
+  }
+
+  /**
+   * Gets the SQL that lists routines whose definitions changed after
+   * the ${crawl_timestamp}, from the additional configuration. The
+   * crawl timestamp is the time on the database server from the
+   * database timestamp SQL.
+   *
+   * @return Routine changes SQL.
+   */
+  public Query getRoutineChangesSql()
+  {
+    return newQuery(ROUTINE_CHANGES);
+  }
+
+  /**
+   * Gets the routine columns SQL from the additional configuration.
+   *
+   * @return Routine columns SQL.
+   */
+  public Query getRoutineColumnsSql()
+  {
+    return newQuery(ROUTINE_COLUMNS);
   }
 
   /**
@@ -251,7 +327,7 @@ public final class InformationSchemaViews
    */
   public Query getSchemataSql()
   {
-    return new Query(SCHEMATA.name(), informationSchemaQueries.get(SCHEMATA));
+    return newQuery(SCHEMATA);
   }
 
   /**
@@ -261,7 +337,7 @@ public final class InformationSchemaViews
    */
   public Query getSequencesSql()
   {
-    return new Query(SEQUENCES.name(), informationSchemaQueries.get(SEQUENCES));
+    return newQuery(SEQUENCES);
   }
 
   /**
@@ -271,8 +347,20 @@ public final class InformationSchemaViews
    */
   public Query getSynonymsSql()
   {
-    return new Query(EXT_SYNONYMS.name(),
-                     informationSchemaQueries.get(EXT_SYNONYMS));
+    return newQuery(EXT_SYNONYMS);
+  }
+
+  /**
+   * Gets the SQL that lists tables whose definitions changed after the
+   * ${crawl_timestamp}, from the additional configuration. The crawl
+   * timestamp is the time on the database server from the database
+   * timestamp SQL.
+   *
+   * @return Table changes SQL.
+   */
+  public Query getTableChangesSql()
+  {
+    return newQuery(TABLE_CHANGES);
   }
 
   /**
@@ -282,8 +370,7 @@ public final class InformationSchemaViews
    */
   public Query getTableColumnsSql()
   {
-    return new Query(TABLE_COLUMNS.name(),
-                     informationSchemaQueries.get(TABLE_COLUMNS));
+    return newQuery(TABLE_COLUMNS);
   }
 
   /**
@@ -294,8 +381,7 @@ public final class InformationSchemaViews
    */
   public Query getTableConstraintsColumnsSql()
   {
-    return new Query(CONSTRAINT_COLUMN_USAGE.name(),
-                     informationSchemaQueries.get(CONSTRAINT_COLUMN_USAGE));
+    return newQuery(CONSTRAINT_COLUMN_USAGE);
   }
 
   /**
@@ -305,8 +391,18 @@ public final class InformationSchemaViews
    */
   public Query getTableConstraintsSql()
   {
-    return new Query(TABLE_CONSTRAINTS.name(),
-                     informationSchemaQueries.get(TABLE_CONSTRAINTS));
+    return newQuery(TABLE_CONSTRAINTS);
+  }
+
+  /**
+   * Gets the SQL for approximate row counts of tables, usually from
+   * table statistics, from the additional configuration.
+   *
+   * @return Table row counts SQL.
+   */
+  public Query getTableRowCountsSql()
+  {
+    return newQuery(TABLE_ROW_COUNTS);
   }
 
   /**
@@ -316,7 +412,7 @@ public final class InformationSchemaViews
    */
   public Query getTriggersSql()
   {
-    return new Query(TRIGGERS.name(), informationSchemaQueries.get(TRIGGERS));
+    return newQuery(TRIGGERS);
   }
 
   /**
@@ -326,7 +422,7 @@ public final class InformationSchemaViews
    */
   public Query getViewsSql()
   {
-    return new Query(VIEWS.name(), informationSchemaQueries.get(VIEWS));
+    return newQuery(VIEWS);
   }
 
   public boolean hasAdditionalColumnAttributesSql()
@@ -339,6 +435,11 @@ public final class InformationSchemaViews
     return informationSchemaQueries.containsKey(ADDITIONAL_TABLE_ATTRIBUTES);
   }
 
+  public boolean hasDatabaseTimestampSql()
+  {
+    return informationSchemaQueries.containsKey(DATABASE_TIMESTAMP);
+  }
+
   public boolean hasExtForeignKeysSql()
   {
     return informationSchemaQueries.containsKey(EXT_FOREIGN_KEYS);
@@ -384,6 +485,11 @@ public final class InformationSchemaViews
     return informationSchemaQueries.containsKey(INDEXES);
   }
 
+  public boolean hasMetadataFingerprintSql()
+  {
+    return informationSchemaQueries.containsKey(METADATA_FINGERPRINT);
+  }
+
   public boolean hasOverrideTypeInfoSql()
   {
     return informationSchemaQueries.containsKey(OVERRIDE_TYPE_INFO);
@@ -394,6 +500,16 @@ public final class InformationSchemaViews
     return informationSchemaQueries.containsKey(ROUTINES);
   }
 
+  public boolean hasRoutineChangesSql()
+  {
+    return informationSchemaQueries.containsKey(ROUTINE_CHANGES);
+  }
+
+  public boolean hasRoutineColumnsSql()
+  {
+    return informationSchemaQueries.containsKey(ROUTINE_COLUMNS);
+  }
+
   public boolean hasSchemataSql()
   {
     return informationSchemaQueries.containsKey(SCHEMATA);
@@ -409,6 +525,11 @@ public final class InformationSchemaViews
     return informationSchemaQueries.containsKey(EXT_SYNONYMS);
   }
 
+  public boolean hasTableChangesSql()
+  {
+    return informationSchemaQueries.containsKey(TABLE_CHANGES);
+  }
+
   public boolean hasTableColumnsSql()
   {
     return informationSchemaQueries.containsKey(TABLE_COLUMNS);
@@ -424,6 +545,11 @@ public final class InformationSchemaViews
     return informationSchemaQueries.containsKey(TABLE_CONSTRAINTS);
   }
 
+  public boolean hasTableRowCountsSql()
+  {
+    return informationSchemaQueries.containsKey(TABLE_ROW_COUNTS);
+  }
+
   public boolean hasTriggerSql()
   {
     return informationSchemaQueries.containsKey(TRIGGERS);
@@ -450,4 +576,11 @@ public final class InformationSchemaViews
     return ObjectToString.toString(informationSchemaQueries);
   }
 
+  private Query newQuery(final InformationSchemaKey key)
+  {
+    return new Query(key.name(),
+                     informationSchemaQueries.get(key),
+                     getFetchSize(key));
+  }
+
 }
@@ -29,9 +29,11 @@ http://www.gnu.org/licenses/
 package schemacrawler.schemacrawler;
 
 
+import static java.util.Objects.requireNonNull;
 import static schemacrawler.schemacrawler.InformationSchemaKey.ADDITIONAL_COLUMN_ATTRIBUTES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.ADDITIONAL_TABLE_ATTRIBUTES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.CONSTRAINT_COLUMN_USAGE;
+import static schemacrawler.schemacrawler.InformationSchemaKey.DATABASE_TIMESTAMP;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_FOREIGN_KEYS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_HIDDEN_TABLE_COLUMNS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_INDEXES;
@@ -42,11 +44,16 @@ import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_CONSTRAINTS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.FOREIGN_KEYS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.INDEXES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.METADATA_FINGERPRINT;
 import static schemacrawler.schemacrawler.InformationSchemaKey.OVERRIDE_TYPE_INFO;
 import static schemacrawler.schemacrawler.InformationSchemaKey.ROUTINES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.ROUTINE_CHANGES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.ROUTINE_COLUMNS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.SCHEMATA;
 import static schemacrawler.schemacrawler.InformationSchemaKey.SEQUENCES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_CHANGES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_CONSTRAINTS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_ROW_COUNTS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.TRIGGERS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.VIEWS;
 import static sf.util.Utility.isBlank;
@@ -68,11 +75,16 @@ public final class InformationSchemaViewsBuilder
   implements OptionsBuilder<InformationSchemaViews>
 {
 
+  private static final String FETCHSIZE_SUFFIX = ".fetchsize";
+
   private final Map<InformationSchemaKey, String> informationSchemaQueries;
+  private final Map<InformationSchemaKey, Integer> fetchSizes;
+  private int defaultFetchSize;
 
   public InformationSchemaViewsBuilder()
   {
     informationSchemaQueries = new HashMap<>();
+    fetchSizes = new HashMap<>();
   }
 
   /**
@@ -103,6 +115,21 @@ public final class InformationSchemaViewsBuilder
           // Ignore
         }
       }
+
+      final String fetchSizeKey = key.getLookupKey() + FETCHSIZE_SUFFIX;
+      if (informationSchemaViewsSql.containsKey(fetchSizeKey))
+      {
+        try
+        {
+          withFetchSize(key,
+                        Integer.parseInt(informationSchemaViewsSql
+                          .get(fetchSizeKey).trim()));
+        }
+        catch (final NullPointerException | IllegalArgumentException e)
+        {
+          // Ignore
+        }
+      }
     }
 
     return this;
@@ -148,7 +175,9 @@ public final class InformationSchemaViewsBuilder
   @Override
   public InformationSchemaViews toOptions()
   {
-    return new InformationSchemaViews(informationSchemaQueries);
+    return new InformationSchemaViews(informationSchemaQueries,
+                                      fetchSizes,
+                                      defaultFetchSize);
   }
 
   @Override
@@ -181,6 +210,58 @@ public final class InformationSchemaViewsBuilder
     return this;
   }
 
+  /**
+   * Sets the database timestamp SQL.
+   *
+   * @param sql
+   *        Database timestamp SQL.
+   */
+  public InformationSchemaViewsBuilder withDatabaseTimestampSql(final String sql)
+  {
+    informationSchemaQueries.put(DATABASE_TIMESTAMP, sql);
+    return this;
+  }
+
+  /**
+   * Sets the fetch size hint for the results of all information schema
+   * view queries that do not have a fetch size of their own. A fetch
+   * size of 0 lets the fetch size adapt to the size of the results.
+   *
+   * @param fetchSize
+   *        Fetch size hint
+   */
+  public InformationSchemaViewsBuilder withFetchSize(final int fetchSize)
+  {
+    if (fetchSize < 0)
+    {
+      throw new IllegalArgumentException("Fetch size cannot be negative");
+    }
+    defaultFetchSize = fetchSize;
+    return this;
+  }
+
+  /**
+   * Sets the fetch size hint for the results of an information schema
+   * view query. A fetch size of 0 lets the fetch size adapt to the size
+   * of the results.
+   *
+   * @param key
+   *        Information schema view
+   * @param fetchSize
+   *        Fetch size hint
+   */
+  public InformationSchemaViewsBuilder withFetchSize(final InformationSchemaKey key,
+                                                     final int fetchSize)
+  {
+    requireNonNull(key, "No information schema view provided");
+    if (fetchSize < 0)
+    {
+      throw new IllegalArgumentException("Fetch size cannot be negative");
+    }
+    fetchSizes.put(key, fetchSize);
+    return this;
+  }
+
   /**
    * Sets the foreign key constraints SQL.
    *
@@ -289,6 +370,18 @@ public final class InformationSchemaViewsBuilder
     return this;
   }
 
+  /**
+   * Sets the metadata fingerprint SQL.
+   *
+   * @param sql
+   *        Metadata fingerprint SQL.
+   */
+  public InformationSchemaViewsBuilder withMetadataFingerprintSql(final String sql)
+  {
+    informationSchemaQueries.put(METADATA_FINGERPRINT, sql);
+    return this;
+  }
+
   /**
    * Sets SQL that overrides DatabaseMetaData#getTypeInfo().
    * {@link DatabaseMetaData#getTypeInfo()}.
@@ -314,6 +407,30 @@ public final class InformationSchemaViewsBuilder
     return this;
   }
 
+  /**
+   * Sets the routine changes SQL.
+   *
+   * @param sql
+   *        Routine changes SQL.
+   */
+  public InformationSchemaViewsBuilder withRoutineChangesSql(final String sql)
+  {
+    informationSchemaQueries.put(ROUTINE_CHANGES, sql);
+    return this;
+  }
+
+  /**
+   * Sets the routine columns SQL.
+   *
+   * @param sql
+   *        Routine columns SQL.
+   */
+  public InformationSchemaViewsBuilder withRoutineColumnsSql(final String sql)
+  {
+    informationSchemaQueries.put(ROUTINE_COLUMNS, sql);
+    return this;
+  }
+
   /**
    * Sets the schemata SQL.
    *
@@ -350,6 +467,18 @@ public final class InformationSchemaViewsBuilder
     return this;
   }
 
+  /**
+   * Sets the table changes SQL.
+   *
+   * @param sql
+   *        Table changes SQL.
+   */
+  public InformationSchemaViewsBuilder withTableChangesSql(final String sql)
+  {
+    informationSchemaQueries.put(TABLE_CHANGES, sql);
+    return this;
+  }
+
   /**
    * Sets the table constraints columns SQL.
    *
@@ -374,6 +503,18 @@ public final class InformationSchemaViewsBuilder
     return this;
   }
 
+  /**
+   * Sets the table row counts SQL.
+   *
+   * @param sql
+   *        Table row counts SQL.
+   */
+  public InformationSchemaViewsBuilder withTableRowCountsSql(final String sql)
+  {
+    informationSchemaQueries.put(TABLE_ROW_COUNTS, sql);
+    return this;
+  }
+
   /**
    * Sets the trigger definitions SQL.
    *
@@ -114,6 +114,12 @@ public final class RegularExpressionExclusionRule
     return result;
   }
 
+  @Override
+  public boolean isIncludeAll()
+  {
+    return inclusionRule.isIncludeAll();
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -120,6 +120,12 @@ public final class RegularExpressionInclusionRule
     return result;
   }
 
+  @Override
+  public boolean isIncludeAll()
+  {
+    return inclusionRule.isIncludeAll();
+  }
+
   /**
    * {@inheritDoc}
    *
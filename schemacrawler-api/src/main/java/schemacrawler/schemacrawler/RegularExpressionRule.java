@@ -160,6 +160,19 @@ public final class RegularExpressionRule
     return result;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The rule includes everything when the inclusion pattern is .* and
+   * there is no exclusion pattern.
+   */
+  @Override
+  public boolean isIncludeAll()
+  {
+    return ".*".equals(patternInclude.pattern())
+           && patternExclude.pattern().isEmpty();
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -88,6 +88,8 @@ public final class SchemaCrawlerOptions
   private int childTableFilterDepth;
   private int parentTableFilterDepth;
 
+  private transient CrawlListener crawlListener;
+
   /**
    * Default options.
    */
@@ -126,6 +128,15 @@ public final class SchemaCrawlerOptions
     return columnInclusionRule;
   }
 
+  /**
+   * Listener for timing and row count events during a crawl, or null
+   * if there is none.
+   */
+  public CrawlListener getCrawlListener()
+  {
+    return crawlListener;
+  }
+
   /**
    * Gets the column inclusion rule for grep.
    *
@@ -333,6 +344,17 @@ public final class SchemaCrawlerOptions
                                               "Cannot use null value in a setter");
   }
 
+  /**
+   * Sets a listener for timing and row count events during a crawl.
+   *
+   * @param crawlListener
+   *        Crawl listener, or null to not report events
+   */
+  public void setCrawlListener(final CrawlListener crawlListener)
+  {
+    this.crawlListener = crawlListener;
+  }
+
   /**
    * Sets the column inclusion rule for grep.
    *
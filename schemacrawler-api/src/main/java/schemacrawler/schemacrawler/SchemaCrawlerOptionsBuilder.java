@@ -89,6 +89,12 @@ public class SchemaCrawlerOptionsBuilder
     return this;
   }
 
+  public SchemaCrawlerOptionsBuilder crawlListener(final CrawlListener crawlListener)
+  {
+    options.setCrawlListener(crawlListener);
+    return this;
+  }
+
   /**
    * Options from properties.
    *
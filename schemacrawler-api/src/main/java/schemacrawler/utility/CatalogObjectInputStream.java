@@ -0,0 +1,133 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.utility;
+
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Reads serialized catalogs, refusing to create any class that is not
+ * part of SchemaCrawler or of the core Java packages that a catalog is
+ * built from. This stops a tampered catalog file from creating objects
+ * of arbitrary classes on the class path while it is being read.
+ *
+ * @author Sualeh Fatehi
+ */
+public class CatalogObjectInputStream
+  extends ObjectInputStream
+{
+
+  private static final Set<String> ALLOWED_PACKAGES = new HashSet<>(Arrays
+    .asList("java.lang",
+            "java.math",
+            "java.sql",
+            "java.time",
+            "java.util",
+            "java.util.regex"));
+  private static final String[] ALLOWED_PACKAGE_PREFIXES = {
+                                                             "schemacrawler.",
+                                                             "sf.util.", };
+
+  static boolean isAllowedClass(final String className)
+  {
+    if (className == null)
+    {
+      return false;
+    }
+
+    // Array class names look like [[Ljava.lang.String; or [I
+    String componentName = className;
+    while (componentName.startsWith("["))
+    {
+      componentName = componentName.substring(1);
+    }
+    if (componentName.length() != className.length())
+    {
+      if (componentName.length() == 1)
+      {
+        // Array of primitives
+        return true;
+      }
+      if (componentName.startsWith("L") && componentName.endsWith(";"))
+      {
+        componentName = componentName.substring(1,
+                                                componentName.length() - 1);
+      }
+      else
+      {
+        return false;
+      }
+    }
+
+    for (final String allowedPackagePrefix: ALLOWED_PACKAGE_PREFIXES)
+    {
+      if (componentName.startsWith(allowedPackagePrefix))
+      {
+        return true;
+      }
+    }
+    final int lastDot = componentName.lastIndexOf('.');
+    return lastDot > 0
+           && ALLOWED_PACKAGES.contains(componentName.substring(0, lastDot));
+  }
+
+  public CatalogObjectInputStream(final InputStream in)
+    throws IOException
+  {
+    super(in);
+  }
+
+  @Override
+  protected Class<?> resolveClass(final ObjectStreamClass desc)
+    throws IOException, ClassNotFoundException
+  {
+    final String className = desc.getName();
+    if (!isAllowedClass(className))
+    {
+      throw new InvalidClassException(className,
+                                      "Class is not allowed in a serialized catalog");
+    }
+    return super.resolveClass(desc);
+  }
+
+  @Override
+  protected Class<?> resolveProxyClass(final String[] interfaces)
+    throws IOException, ClassNotFoundException
+  {
+    throw new InvalidClassException(Arrays.toString(interfaces),
+                                    "Proxy classes are not allowed in a serialized catalog");
+  }
+
+}
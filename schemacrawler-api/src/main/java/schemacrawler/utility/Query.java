@@ -47,6 +47,8 @@ public final class Query
 
   private final String name;
   private final String query;
+  private final int fetchSize;
+  private transient QueryTemplate template;
 
   /**
    * Definition of a query, including a name, and parameterized or
@@ -59,6 +61,29 @@ public final class Query
    */
   public Query(final String name, final String query)
   {
+    this(name, query, 0);
+  }
+
+  /**
+   * Definition of a query, including a name, parameterized or regular
+   * SQL, and a fetch size hint for the results.
+   *
+   * @param name
+   *        Query name.
+   * @param query
+   *        Query SQL.
+   * @param fetchSize
+   *        Number of rows to fetch from the database at a time, or 0
+   *        to let the fetch size adapt to the size of the results.
+   */
+  public Query(final String name, final String query, final int fetchSize)
+  {
+    if (fetchSize < 0)
+    {
+      throw new IllegalArgumentException("Fetch size cannot be negative");
+    }
+    this.fetchSize = fetchSize;
+
     final boolean isNameProvided = !isBlank(name);
     final boolean isQueryProvided = !isBlank(query);
     if (isNameProvided && isQueryProvided)
@@ -76,6 +101,18 @@ public final class Query
     }
   }
 
+  /**
+   * Gets the fetch size hint for the query results. A fetch size of 0
+   * means that the fetch size is not fixed, and adapts to the size of
+   * the results.
+   *
+   * @return Fetch size hint
+   */
+  public int getFetchSize()
+  {
+    return fetchSize;
+  }
+
   /**
    * Gets the query name.
    *
@@ -96,6 +133,21 @@ public final class Query
     return query;
   }
 
+  /**
+   * Gets the query SQL, parsed as a template. The template is parsed
+   * once, and reused every time the query is run.
+   *
+   * @return Query template
+   */
+  QueryTemplate getTemplate()
+  {
+    if (template == null)
+    {
+      template = new QueryTemplate(query);
+    }
+    return template;
+  }
+
   /**
    * Determines if this query has substitutable parameters, and whether
    * it should be run once for each table.
@@ -0,0 +1,179 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.utility;
+
+
+import static sf.util.TemplatingUtility.expandTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A query template, parsed once into literal text and variables, so
+ * that it can be rendered many times without re-parsing. Rendering
+ * gives the same result as expanding the template with the provided
+ * values, and then expanding the result with system properties.
+ *
+ * @author Sualeh Fatehi
+ */
+final class QueryTemplate
+{
+
+  private static final String DELIMITER_START = "${";
+
+  private static final String DELIMITER_END = "}";
+
+  private static String systemProperty(final String variable)
+  {
+    if (variable.isEmpty())
+    {
+      return null;
+    }
+    return System.getProperty(variable);
+  }
+
+  private final String template;
+  private final String[] literals;
+  private final String[] variables;
+
+  QueryTemplate(final String template)
+  {
+    this.template = template;
+
+    final List<String> literals = new ArrayList<>();
+    final List<String> variables = new ArrayList<>();
+    if (template != null)
+    {
+      final StringBuilder literal = new StringBuilder();
+      int currentPosition = 0;
+      while (true)
+      {
+        final int delimiterStartPosition = template.indexOf(DELIMITER_START,
+                                                            currentPosition);
+        if (delimiterStartPosition == -1)
+        {
+          literal.append(template, currentPosition, template.length());
+          break;
+        }
+
+        literal.append(template, currentPosition, delimiterStartPosition);
+        final int delimiterEndPosition = template.indexOf(DELIMITER_END,
+                                                          delimiterStartPosition);
+        if (delimiterEndPosition > -1)
+        {
+          literals.add(literal.toString());
+          literal.setLength(0);
+          variables.add(template
+            .substring(delimiterStartPosition + DELIMITER_START.length(),
+                       delimiterEndPosition));
+          currentPosition = delimiterEndPosition + DELIMITER_END.length();
+        }
+        else
+        {
+          // End brace not found, so keep the start delimiter as text
+          literal.append(DELIMITER_START);
+          currentPosition = delimiterStartPosition + DELIMITER_START.length();
+        }
+      }
+      literals.add(literal.toString());
+    }
+
+    this.literals = literals.toArray(new String[literals.size()]);
+    this.variables = variables.toArray(new String[variables.size()]);
+  }
+
+  /**
+   * Renders the template. Each variable is looked up in the provided
+   * values first, and then in the system properties. Variables that are
+   * not found are left in the rendered text as they are.
+   *
+   * @param values
+   *        Gets the value of a variable, or null if there is no value
+   * @return Rendered template
+   */
+  String render(final Function<String, String> values)
+  {
+    if (variables.length == 0)
+    {
+      return template;
+    }
+
+    final String[] providedValues = new String[variables.length];
+    boolean hasNestedVariables = false;
+    int length = template.length();
+    for (int i = 0; i < variables.length; i++)
+    {
+      final String value = values.apply(variables[i]);
+      if (value != null)
+      {
+        hasNestedVariables = hasNestedVariables
+                             || value.contains(DELIMITER_START);
+        length = length + value.length();
+      }
+      providedValues[i] = value;
+    }
+
+    final StringBuilder buffer = new StringBuilder(length);
+    for (int i = 0; i < variables.length; i++)
+    {
+      buffer.append(literals[i]);
+      String value = providedValues[i];
+      if (value == null && !hasNestedVariables)
+      {
+        value = systemProperty(variables[i]);
+      }
+      if (value != null)
+      {
+        buffer.append(value);
+      }
+      else
+      {
+        // Do not substitute
+        buffer.append(DELIMITER_START).append(variables[i])
+          .append(DELIMITER_END);
+      }
+    }
+    buffer.append(literals[variables.length]);
+
+    if (hasNestedVariables)
+    {
+      // Values that are themselves templates are expanded with system
+      // properties, along with the rest of the query
+      return expandTemplate(buffer.toString());
+    }
+    return buffer.toString();
+  }
+
+  @Override
+  public String toString()
+  {
+    return template;
+  }
+
+}
@@ -32,17 +32,16 @@ import static java.util.Objects.requireNonNull;
 import static sf.util.DatabaseUtility.executeSql;
 import static sf.util.DatabaseUtility.executeSqlForLong;
 import static sf.util.DatabaseUtility.executeSqlForScalar;
-import static sf.util.TemplatingUtility.expandTemplate;
 import static sf.util.Utility.isBlank;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -56,6 +55,66 @@ import sf.util.StringFormat;
 public final class QueryUtility
 {
 
+  /**
+   * Values of the table variables in a query. Values are worked out
+   * only for the variables that the query uses, and the columns are
+   * sorted at most once.
+   */
+  private static final class TableVariables
+    implements Function<String, String>
+  {
+
+    private final Table table;
+    private final boolean isAlphabeticalSortForTableColumns;
+    private List<Column> columns;
+
+    TableVariables(final Table table,
+                   final boolean isAlphabeticalSortForTableColumns)
+    {
+      this.table = table;
+      this.isAlphabeticalSortForTableColumns = isAlphabeticalSortForTableColumns;
+    }
+
+    @Override
+    public String apply(final String variable)
+    {
+      switch (variable)
+      {
+        case "schema":
+          if (table.getSchema() != null)
+          {
+            return table.getSchema().getFullName();
+          }
+          return null;
+        case "table":
+          return table.getFullName();
+        case "tablename":
+          return table.getName();
+        case "columns":
+          return getColumnsListAsString(getColumns(), false);
+        case "orderbycolumns":
+          return getColumnsListAsString(getColumns(), true);
+        case "tabletype":
+          return table.getTableType().toString();
+        default:
+          return null;
+      }
+    }
+
+    private List<Column> getColumns()
+    {
+      if (columns == null)
+      {
+        final NamedObjectSort columnsSort = NamedObjectSort
+          .getNamedObjectSort(isAlphabeticalSortForTableColumns);
+        columns = new ArrayList<>(table.getColumns());
+        Collections.sort(columns, columnsSort);
+      }
+      return columns;
+    }
+
+  }
+
   private static final Logger LOGGER = Logger
     .getLogger(QueryUtility.class.getName());
 
@@ -145,7 +204,7 @@ public final class QueryUtility
 
   private static String getQuery(final Query query)
   {
-    return expandTemplate(query.getQuery());
+    return query.getTemplate().render(variable -> null);
   }
 
   /**
@@ -158,53 +217,36 @@ public final class QueryUtility
   private static String getQuery(final Query query,
                                  final InclusionRule schemaInclusionRule)
   {
-    final Map<String, String> properties = new HashMap<>();
+    final String schemaInclusionPattern;
     if (schemaInclusionRule != null)
     {
-      final String schemaInclusionPattern = schemaInclusionRule
-        .getInclusionPattern().pattern();
-      if (!isBlank(schemaInclusionPattern))
-      {
-        properties.put("schemas", schemaInclusionPattern);
-      }
+      schemaInclusionPattern = schemaInclusionRule.getInclusionPattern()
+        .pattern();
+    }
+    else
+    {
+      schemaInclusionPattern = null;
     }
 
-    String sql = query.getQuery();
-    sql = expandTemplate(sql, properties);
-    sql = expandTemplate(sql);
-
-    return sql;
+    return query.getTemplate().render(variable -> {
+      if ("schemas".equals(variable) && !isBlank(schemaInclusionPattern))
+      {
+        return schemaInclusionPattern;
+      }
+      return null;
+    });
   }
 
   private static String getQuery(final Query query,
                                  final Table table,
                                  final boolean isAlphabeticalSortForTableColumns)
   {
-    final Map<String, String> tableProperties = new HashMap<>();
-    if (table != null)
+    if (table == null)
     {
-      final NamedObjectSort columnsSort = NamedObjectSort
-        .getNamedObjectSort(isAlphabeticalSortForTableColumns);
-      final List<Column> columns = table.getColumns();
-      Collections.sort(columns, columnsSort);
-
-      if (table.getSchema() != null)
-      {
-        tableProperties.put("schema", table.getSchema().getFullName());
-      }
-      tableProperties.put("table", table.getFullName());
-      tableProperties.put("tablename", table.getName());
-      tableProperties.put("columns", getColumnsListAsString(columns, false));
-      tableProperties.put("orderbycolumns",
-                          getColumnsListAsString(columns, true));
-      tableProperties.put("tabletype", table.getTableType().toString());
+      return getQuery(query);
     }
-
-    String sql = query.getQuery();
-    sql = expandTemplate(sql, tableProperties);
-    sql = expandTemplate(sql);
-
-    return sql;
+    return query.getTemplate()
+      .render(new TableVariables(table, isAlphabeticalSortForTableColumns));
   }
 
   private QueryUtility()
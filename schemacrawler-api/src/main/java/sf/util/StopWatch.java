@@ -38,7 +38,7 @@ import java.time.Instant;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
 
@@ -78,7 +78,7 @@ public final class StopWatch
     .toFormatter();
 
   private final String id;
-  private final List<TaskInfo> tasks = new LinkedList<TaskInfo>();
+  private final List<TaskInfo> tasks = new ArrayList<TaskInfo>();
 
   // State for current task
   private Instant start;
@@ -128,7 +128,12 @@ public final class StopWatch
     start = Instant.now();
   }
 
-  public void stop()
+  /**
+   * Stops the current task.
+   *
+   * @return Time taken by the task
+   */
+  public Duration stop()
   {
     if (!running)
     {
@@ -147,6 +152,8 @@ public final class StopWatch
     running = false;
     currentTaskName = null;
     start = null;
+
+    return runTime;
   }
 
   public <V> V time(final String taskName, final Callable<V> callable)
@@ -183,14 +190,14 @@ public final class StopWatch
   private double calculatePercentage(final Duration duration,
                                      final Duration totalDuration)
   {
-    final long totalSeconds = totalDuration.getSeconds();
-    if (totalSeconds == 0)
+    final long totalNanos = totalDuration.toNanos();
+    if (totalNanos == 0)
     {
       return 0;
     }
     else
     {
-      return duration.getSeconds() * 100D / totalSeconds;
+      return duration.toNanos() * 100D / totalNanos;
     }
   }
 
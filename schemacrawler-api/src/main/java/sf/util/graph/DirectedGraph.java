@@ -28,8 +28,11 @@ http://www.gnu.org/licenses/
 package sf.util.graph;
 
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -39,13 +42,19 @@ public class DirectedGraph<T extends Comparable<? super T>>
 
   private final String name;
   private final Map<T, Vertex<T>> verticesMap;
+  private final List<Vertex<T>> vertices;
   private final Set<DirectedEdge<T>> edges;
+  private final List<List<DirectedEdge<T>>> incomingEdges;
+  private final List<List<DirectedEdge<T>>> outgoingEdges;
 
   public DirectedGraph(final String name)
   {
     this.name = name;
     verticesMap = new HashMap<>();
+    vertices = new ArrayList<>();
     edges = new HashSet<>();
+    incomingEdges = new ArrayList<>();
+    outgoingEdges = new ArrayList<>();
   }
 
   /**
@@ -62,7 +71,13 @@ public class DirectedGraph<T extends Comparable<? super T>>
   {
     if (!from.equals(to))
     {
-      edges.add(new DirectedEdge<T>(addVertex(from), addVertex(to)));
+      final DirectedEdge<T> edge = new DirectedEdge<T>(addVertex(from),
+                                                       addVertex(to));
+      if (edges.add(edge))
+      {
+        outgoingEdges.get(edge.getFrom().getId()).add(edge);
+        incomingEdges.get(edge.getTo().getId()).add(edge);
+      }
     }
   }
 
@@ -82,8 +97,11 @@ public class DirectedGraph<T extends Comparable<? super T>>
     }
     else
     {
-      vertex = new Vertex<T>(value);
+      vertex = new Vertex<T>(value, vertices.size());
       verticesMap.put(value, vertex);
+      vertices.add(vertex);
+      incomingEdges.add(new ArrayList<>());
+      outgoingEdges.add(new ArrayList<>());
     }
     return vertex;
   }
@@ -97,15 +115,7 @@ public class DirectedGraph<T extends Comparable<? super T>>
   {
     Objects.requireNonNull(vertexTo);
 
-    final Set<DirectedEdge<T>> incomingEdges = new HashSet<>();
-    for (final DirectedEdge<T> edge: edges)
-    {
-      if (edge.getTo().equals(vertexTo))
-      {
-        incomingEdges.add(edge);
-      }
-    }
-    return incomingEdges;
+    return new HashSet<>(edgesOf(incomingEdges, vertexTo));
   }
 
   /**
@@ -120,15 +130,7 @@ public class DirectedGraph<T extends Comparable<? super T>>
   {
     Objects.requireNonNull(vertexFrom);
 
-    final Set<DirectedEdge<T>> outgoingEdges = new HashSet<>();
-    for (final DirectedEdge<T> edge: edges)
-    {
-      if (edge.getFrom().equals(vertexFrom))
-      {
-        outgoingEdges.add(edge);
-      }
-    }
-    return outgoingEdges;
+    return new HashSet<>(edgesOf(outgoingEdges, vertexFrom));
   }
 
   @Override
@@ -164,4 +166,54 @@ public class DirectedGraph<T extends Comparable<? super T>>
     return new HashSet<>(verticesMap.values());
   }
 
+  /**
+   * Builds the outgoing adjacency lists of the graph, as arrays of
+   * vertex ids indexed by the vertex id.
+   *
+   * @return Ids of the vertices at the end of the outgoing edges of
+   *         each vertex
+   */
+  int[][] outgoingAdjacency()
+  {
+    final int[][] adjacency = new int[vertices.size()][];
+    for (int id = 0; id < adjacency.length; id++)
+    {
+      final List<DirectedEdge<T>> vertexEdges = outgoingEdges.get(id);
+      adjacency[id] = new int[vertexEdges.size()];
+      for (int i = 0; i < adjacency[id].length; i++)
+      {
+        adjacency[id][i] = vertexEdges.get(i).getTo().getId();
+      }
+    }
+    return adjacency;
+  }
+
+  /**
+   * Vertex for an id.
+   */
+  Vertex<T> vertex(final int id)
+  {
+    return vertices.get(id);
+  }
+
+  /**
+   * Number of vertices in the graph.
+   */
+  int vertexCount()
+  {
+    return vertices.size();
+  }
+
+  private List<DirectedEdge<T>> edgesOf(final List<List<DirectedEdge<T>>> adjacency,
+                                        final Vertex<T> vertex)
+  {
+    // Look up by value, since the vertex may not belong to this graph
+    final Vertex<T> graphVertex = verticesMap.get(vertex.getValue());
+    if (graphVertex == null)
+    {
+      return Collections.emptyList();
+    }
+    return adjacency.get(graphVertex.getId());
+  }
+
 }
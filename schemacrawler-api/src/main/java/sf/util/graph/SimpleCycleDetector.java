@@ -28,7 +28,7 @@ http://www.gnu.org/licenses/
 package sf.util.graph;
 
 
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Objects;
 
 public class SimpleCycleDetector<T extends Comparable<? super T>>
@@ -70,57 +70,49 @@ public class SimpleCycleDetector<T extends Comparable<? super T>>
    */
   public boolean containsCycle()
   {
-    final Collection<Vertex<T>> vertices = clearTraversalStates();
-    for (final Vertex<T> vertex: vertices)
+    final int[][] adjacency = graph.outgoingAdjacency();
+    final TraversalState[] traversalStates = new TraversalState[adjacency.length];
+    Arrays.fill(traversalStates, TraversalState.notStarted);
+
+    // Depth-first search with an explicit stack, so that long chains of
+    // foreign keys do not overflow the call stack
+    final int[] stack = new int[adjacency.length];
+    final int[] nextEdge = new int[adjacency.length];
+    for (int vertex = 0; vertex < adjacency.length; vertex++)
     {
-      if (vertex.getAttribute("traversalstate") == TraversalState.notStarted)
+      if (traversalStates[vertex] != TraversalState.notStarted)
       {
-        if (visitForCyles(vertex))
-        {
-          return true;
-        }
+        continue;
       }
-    }
-
-    return false;
-  }
-
-  private Collection<Vertex<T>> clearTraversalStates()
-  {
-    final Collection<Vertex<T>> vertices = graph.vertexSet();
-    for (final Vertex<T> vertex: vertices)
-    {
-      vertex.putAttribute("traversalstate", TraversalState.notStarted);
-    }
-    return vertices;
-  }
 
-  private boolean visitForCyles(final Vertex<T> vertex)
-  {
-    vertex.putAttribute("traversalstate", TraversalState.inProgress);
-
-    for (final DirectedEdge<T> edge: graph.edgeSet())
-    {
-      if (edge.isFrom(vertex))
+      int depth = 0;
+      stack[depth++] = vertex;
+      traversalStates[vertex] = TraversalState.inProgress;
+      while (depth > 0)
       {
-        final Vertex<T> to = edge.getTo();
-        if (to.getAttribute("traversalstate") == TraversalState.inProgress)
-        {
-          to.putAttribute("traversalstate", TraversalState.marked);
-          return true;
-        }
-        else if (to.getAttribute("traversalstate") == TraversalState.notStarted)
+        final int from = stack[depth - 1];
+        if (nextEdge[from] < adjacency[from].length)
         {
-          if (visitForCyles(to))
+          final int to = adjacency[from][nextEdge[from]++];
+          if (traversalStates[to] == TraversalState.inProgress)
           {
+            traversalStates[to] = TraversalState.marked;
             return true;
           }
+          else if (traversalStates[to] == TraversalState.notStarted)
+          {
+            traversalStates[to] = TraversalState.inProgress;
+            stack[depth++] = to;
+          }
+        }
+        else
+        {
+          traversalStates[from] = TraversalState.complete;
+          depth--;
         }
       }
     }
 
-    vertex.putAttribute("traversalstate", TraversalState.complete);
-
     return false;
   }
 
@@ -29,9 +29,7 @@ package sf.util.graph;
 
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
@@ -53,51 +51,58 @@ public class SimpleTopologicalSort<T extends Comparable<? super T>>
       throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
     }
 
-    final Collection<Vertex<T>> vertices = graph.vertexSet();
-    final int collectionSize = vertices.size();
+    final int[][] adjacency = graph.outgoingAdjacency();
+    final int collectionSize = adjacency.length;
 
-    final Collection<DirectedEdge<T>> edges = new ArrayList<>(graph.edgeSet());
-    final List<T> sortedValues = new ArrayList<>(collectionSize);
-
-    while (!vertices.isEmpty())
+    final int[] inDegrees = new int[collectionSize];
+    for (final int[] toVertices: adjacency)
     {
-
-      final List<T> nodesAtLevel = new ArrayList<>(collectionSize);
-
-      // Remove unattached nodes
-      for (final Iterator<Vertex<T>> iterator = vertices.iterator(); iterator
-        .hasNext();)
+      for (final int to: toVertices)
       {
-        final Vertex<T> vertex = iterator.next();
-        if (isUnattachedNode(vertex, edges))
-        {
-          nodesAtLevel.add(vertex.getValue());
-          iterator.remove();
-        }
+        inDegrees[to]++;
       }
+    }
 
-      // Find all nodes at the current level
-      final List<Vertex<T>> startNodes = new ArrayList<>(collectionSize);
-      for (final Vertex<T> vertex: vertices)
+    // Start with all nodes that have no incoming edges
+    int[] level = new int[collectionSize];
+    int levelSize = 0;
+    for (int vertex = 0; vertex < collectionSize; vertex++)
+    {
+      if (inDegrees[vertex] == 0)
       {
-        if (isStartNode(vertex, edges))
-        {
-          startNodes.add(vertex);
-        }
+        level[levelSize++] = vertex;
       }
+    }
 
-      for (final Vertex<T> vertex: startNodes)
+    final List<T> sortedValues = new ArrayList<>(collectionSize);
+    int[] nextLevel = new int[collectionSize];
+    while (levelSize > 0)
+    {
+      final List<T> nodesAtLevel = new ArrayList<>(levelSize);
+      int nextLevelSize = 0;
+      for (int i = 0; i < levelSize; i++)
       {
+        final int vertex = level[i];
         // Save the vertex value
-        nodesAtLevel.add(vertex.getValue());
+        nodesAtLevel.add(graph.vertex(vertex).getValue());
         // Remove all out edges
-        dropOutEdges(vertex, edges);
-        // Remove the vertex itself
-        vertices.remove(vertex);
+        for (final int to: adjacency[vertex])
+        {
+          inDegrees[to]--;
+          if (inDegrees[to] == 0)
+          {
+            nextLevel[nextLevelSize++] = to;
+          }
+        }
       }
 
       Collections.sort(nodesAtLevel);
       sortedValues.addAll(nodesAtLevel);
+
+      final int[] swap = level;
+      level = nextLevel;
+      nextLevel = swap;
+      levelSize = nextLevelSize;
     }
 
     return sortedValues;
@@ -109,44 +114,4 @@ public class SimpleTopologicalSort<T extends Comparable<? super T>>
     return cycleDetector.containsCycle();
   }
 
-  private void dropOutEdges(final Vertex<T> vertex,
-                            final Collection<DirectedEdge<T>> edges)
-  {
-    for (final Iterator<DirectedEdge<T>> iterator = edges.iterator(); iterator
-      .hasNext();)
-    {
-      final DirectedEdge<T> edge = iterator.next();
-      if (edge.isFrom(vertex))
-      {
-        iterator.remove();
-      }
-    }
-  }
-
-  private boolean isStartNode(final Vertex<T> vertex,
-                              final Collection<DirectedEdge<T>> edges)
-  {
-    for (final DirectedEdge<T> edge: edges)
-    {
-      if (edge.isTo(vertex))
-      {
-        return false;
-      }
-    }
-    return true;
-  }
-
-  private boolean isUnattachedNode(final Vertex<T> vertex,
-                                   final Collection<DirectedEdge<T>> edges)
-  {
-    for (final DirectedEdge<T> edge: edges)
-    {
-      if (edge.isTo(vertex) || edge.isFrom(vertex))
-      {
-        return false;
-      }
-    }
-    return true;
-  }
-
 }
@@ -28,12 +28,12 @@ http://www.gnu.org/licenses/
 package sf.util.graph;
 
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Stack;
 
 /**
  * Implementation of <a href=
@@ -49,18 +49,25 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
 
   private final DirectedGraph<T> graph;
   private final Collection<List<T>> stronglyConnectedComponents;
-  private final Stack<Vertex<T>> stack;
+
+  private int[][] adjacency;
+  private int[] indexes;
+  private int[] lowlinks;
+  private boolean[] onStack;
+  private int[] stack;
+  private int stackSize;
+  private int nextIndex;
 
   public TarjanStronglyConnectedComponentFinder(final DirectedGraph<T> graph)
   {
     this.graph = Objects.requireNonNull(graph);
 
-    stronglyConnectedComponents = new HashSet<>();
-    stack = new Stack<Vertex<T>>();
+    stronglyConnectedComponents = new ArrayList<>();
   }
 
   /**
-   * Calculates the sets of strongly connected vertices.
+   * Calculates the sets of strongly connected vertices. The vertices
+   * in each strongly connected component are sorted.
    *
    * @param graph
    *        Graph to detect cycles within.
@@ -68,57 +75,101 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
    */
   public Collection<List<T>> detectCycles()
   {
-    for (final Vertex<T> vertex: graph.vertexSet())
+    stronglyConnectedComponents.clear();
+
+    adjacency = graph.outgoingAdjacency();
+    final int vertexCount = adjacency.length;
+    indexes = new int[vertexCount];
+    Arrays.fill(indexes, -1);
+    lowlinks = new int[vertexCount];
+    onStack = new boolean[vertexCount];
+    stack = new int[vertexCount];
+    stackSize = 0;
+    nextIndex = 0;
+
+    final int[] callStack = new int[vertexCount];
+    final int[] nextEdge = new int[vertexCount];
+    for (int vertex = 0; vertex < vertexCount; vertex++)
     {
-      if (!vertex.hasAttribute("index"))
+      if (indexes[vertex] == -1)
       {
-        strongConnect(vertex, 0);
+        strongConnect(vertex, callStack, nextEdge);
       }
     }
     return stronglyConnectedComponents;
   }
 
-  private void strongConnect(final Vertex<T> vertexFrom, final int index)
+  private void addStronglyConnectedComponent(final int vertexFrom)
+  {
+    final List<T> scc = new ArrayList<>();
+    int sccVertex;
+    do
+    {
+      sccVertex = stack[--stackSize];
+      onStack[sccVertex] = false;
+      scc.add(graph.vertex(sccVertex).getValue());
+    } while (sccVertex != vertexFrom);
+    if (scc.size() > 1)
+    {
+      Collections.sort(scc);
+      stronglyConnectedComponents.add(scc);
+    }
+  }
+
+  private void startVisit(final int vertex)
+  {
+    indexes[vertex] = nextIndex;
+    lowlinks[vertex] = nextIndex;
+    nextIndex++;
+    stack[stackSize++] = vertex;
+    onStack[vertex] = true;
+  }
+
+  /**
+   * Visits vertices depth-first from the given vertex, with an explicit
+   * call stack so that long chains of foreign keys do not overflow the
+   * Java stack.
+   */
+  private void strongConnect(final int vertex,
+                             final int[] callStack,
+                             final int[] nextEdge)
   {
-    vertexFrom.putAttribute("index", index);
-    vertexFrom.putAttribute("lowlink", index);
-    stack.push(vertexFrom);
+    int depth = 0;
+    callStack[depth++] = vertex;
+    startVisit(vertex);
 
-    for (final DirectedEdge<T> edge: graph.getOutgoingEdges(vertexFrom))
+    while (depth > 0)
     {
-      final Vertex<T> vertexTo = edge.getTo();
-      if (!vertexTo.hasAttribute("index"))
-      {
-        // Successor vertex has not yet been visited; recurse on it
-        strongConnect(vertexTo, index + 1);
-        vertexFrom.putAttribute("lowlink",
-                                Math.min(vertexFrom.getAttribute("lowlink"),
-                                         vertexTo.getAttribute("lowlink")));
-      }
-      else if (stack.contains(vertexTo))
+      final int vertexFrom = callStack[depth - 1];
+      if (nextEdge[vertexFrom] < adjacency[vertexFrom].length)
       {
-        // Successor vertex is on stack, hence in the current SCC
-        vertexFrom.putAttribute("lowlink",
-                                Math.min(vertexFrom.getAttribute("lowlink"),
-                                         vertexTo.getAttribute("index")));
+        final int vertexTo = adjacency[vertexFrom][nextEdge[vertexFrom]++];
+        if (indexes[vertexTo] == -1)
+        {
+          // Successor vertex has not yet been visited; recurse on it
+          startVisit(vertexTo);
+          callStack[depth++] = vertexTo;
+        }
+        else if (onStack[vertexTo])
+        {
+          // Successor vertex is on stack, hence in the current SCC
+          lowlinks[vertexFrom] = Math.min(lowlinks[vertexFrom],
+                                          indexes[vertexTo]);
+        }
+        continue;
       }
-    }
 
-    if (vertexFrom.getAttribute("lowlink") == vertexFrom.getAttribute("index"))
-    {
-      final LinkedList<T> scc = new LinkedList<>();
-      Vertex<T> sccVertex;
-      do
+      depth--;
+      if (lowlinks[vertexFrom] == indexes[vertexFrom])
       {
-        sccVertex = stack.pop();
-        scc.addFirst(sccVertex.getValue());
-      } while (!vertexFrom.equals(sccVertex));
-      if (scc.size() > 1)
+        addStronglyConnectedComponent(vertexFrom);
+      }
+      if (depth > 0)
       {
-        stronglyConnectedComponents.add(scc);
+        final int parent = callStack[depth - 1];
+        lowlinks[parent] = Math.min(lowlinks[parent], lowlinks[vertexFrom]);
       }
     }
-
   }
 
 }
@@ -38,11 +38,13 @@ public final class Vertex<T>
 {
 
   private final T value;
+  private final int id;
   private final Map<String, Object> attributes;
 
-  Vertex(final T value)
+  Vertex(final T value, final int id)
   {
     this.value = value;
+    this.id = id;
     attributes = new HashMap<>();
   }
 
@@ -91,6 +93,15 @@ public final class Vertex<T>
     return attributes.containsKey(key);
   }
 
+  /**
+   * Dense integer id of the vertex within its graph, in the order in
+   * which vertices were added.
+   */
+  int getId()
+  {
+    return id;
+  }
+
   @Override
   public int hashCode()
   {
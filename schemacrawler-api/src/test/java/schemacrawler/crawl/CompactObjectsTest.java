@@ -0,0 +1,180 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Schema;
+
+public class CompactObjectsTest
+{
+
+  @Test
+  public void attributeMap()
+  {
+    final Map<String, Object> expected = new HashMap<>();
+    final AttributeMap attributes = new AttributeMap();
+    for (int i = 0; i < 10; i++)
+    {
+      expected.put("KEY" + i, i % 3 == 0? null: i);
+      attributes.put("KEY" + i, i % 3 == 0? null: i);
+    }
+    assertEquals(expected, attributes);
+    assertTrue(attributes.containsKey("KEY0"));
+    assertNull(attributes.get("KEY0"));
+
+    assertEquals(5, attributes.put("KEY5", "five"));
+    assertEquals("five", attributes.remove("KEY5"));
+    assertFalse(attributes.containsKey("KEY5"));
+    assertEquals(9, attributes.size());
+
+    final Iterator<Map.Entry<String, Object>> iterator = attributes
+      .entrySet().iterator();
+    while (iterator.hasNext())
+    {
+      if (iterator.next().getValue() == null)
+      {
+        iterator.remove();
+      }
+    }
+    assertEquals(5, attributes.size());
+    assertEquals(7, attributes.get("KEY7"));
+  }
+
+  @Test
+  public void attributes()
+  {
+    final MutableColumn column = newColumn("ID");
+
+    assertTrue(column.getAttributes().isEmpty());
+    assertFalse(column.hasAttribute("IS_NULLABLE"));
+    assertEquals("NO", column.getAttribute("IS_NULLABLE", "NO"));
+    column.removeAttribute("IS_NULLABLE");
+
+    final Map<String, Object> values = new HashMap<>();
+    values.put("IS_NULLABLE", "YES");
+    values.put("SCOPE_TABLE", null);
+    column.addAttributes(values);
+    column.setAttribute("ORDINAL", 1);
+
+    assertEquals(3, column.getAttributes().size());
+    assertTrue(column.hasAttribute("SCOPE_TABLE"));
+    assertEquals("YES", column.getAttribute("IS_NULLABLE", "NO"));
+    assertEquals(1, (int) column.getAttribute("ORDINAL", 0));
+
+    column.setAttribute("ORDINAL", null);
+    assertFalse(column.hasAttribute("ORDINAL"));
+  }
+
+  @Test
+  public void definitions()
+  {
+    final MutableTable table = newTable();
+    assertFalse(table.hasDefinition());
+    assertEquals("", table.getDefinition());
+
+    table.appendDefinition(null);
+    table.appendDefinition("SELECT * ");
+    table.appendDefinition("FROM CUSTOMER");
+    assertTrue(table.hasDefinition());
+    assertEquals("SELECT * FROM CUSTOMER", table.getDefinition());
+
+    final MutableIndex index = new MutableIndex(table, "IDX_CUSTOMER");
+    index.appendDefinition("CREATE INDEX IDX_CUSTOMER ");
+    index.appendDefinition("ON CUSTOMER (ID)");
+    table.addIndex(index);
+
+    // Definitions are strings once the crawl is done with them
+    table.compactDefinitions();
+    assertEquals("SELECT * FROM CUSTOMER", table.getDefinition());
+    assertSame(table.getDefinition(), table.getDefinition());
+    assertEquals("CREATE INDEX IDX_CUSTOMER ON CUSTOMER (ID)",
+                 index.getDefinition());
+    assertSame(index.getDefinition(), index.getDefinition());
+  }
+
+  @Test
+  public void sharedStrings()
+  {
+    final MutableColumn column1 = newColumn("ID");
+    final MutableColumn column2 = newColumn("NAME");
+
+    column1.setDefaultValue(new String("0"));
+    column2.setDefaultValue(new String("0"));
+    assertSame(column1.getDefaultValue(), column2.getDefaultValue());
+
+    column1.setRemarks(new String("Primary key"));
+    column2.setRemarks(new String("Primary key"));
+    assertSame(column1.getRemarks(), column2.getRemarks());
+
+    final Map<String, Object> values = new HashMap<>();
+    values.put("IS_NULLABLE", new String("YES"));
+    column1.addAttributes(values);
+    values.put("IS_NULLABLE", new String("YES"));
+    column2.addAttributes(values);
+    assertSame(column1.getAttribute("IS_NULLABLE", ""),
+               column2.getAttribute("IS_NULLABLE", ""));
+  }
+
+  @Test
+  public void sharedTableReference()
+  {
+    final MutableTable table = newTable();
+    final MutableColumn column = new MutableColumn(table, "ID");
+    final MutableIndex index = new MutableIndex(table, "PK_CUSTOMER");
+
+    assertSame(TableReference.tableReference(table),
+               TableReference.tableReference(table));
+    assertSame(table, column.getParent());
+    assertSame(table, index.getParent());
+  }
+
+  private MutableColumn newColumn(final String name)
+  {
+    return new MutableColumn(newTable(), name);
+  }
+
+  private MutableTable newTable()
+  {
+    final MutableCatalog catalog = new MutableCatalog("DATABASE");
+    final Schema schema = catalog.addSchema("CATALOG", "PUBLIC");
+    return new MutableTable(schema, "CUSTOMER");
+  }
+
+}
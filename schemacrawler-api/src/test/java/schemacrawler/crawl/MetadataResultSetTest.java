@@ -0,0 +1,106 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import schemacrawler.schemacrawler.CrawlEvent;
+import schemacrawler.schemacrawler.CrawlListener;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class MetadataResultSetTest
+  extends BaseDatabaseTest
+{
+
+  private static void pause(final long millis)
+  {
+    try
+    {
+      Thread.sleep(millis);
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Test
+  public void timedFromMetadataCall()
+    throws Exception
+  {
+    final List<CrawlEvent> queries = new ArrayList<>();
+    final SchemaCrawlerOptions options = new SchemaCrawlerOptions();
+    options.setCrawlListener(new CrawlListener()
+    {
+
+      @Override
+      public void queryCompleted(final CrawlEvent event)
+      {
+        queries.add(event);
+      }
+
+      @Override
+      public void taskCompleted(final CrawlEvent event)
+      {
+      }
+
+    });
+
+    final Connection connection = getConnection();
+    final CrawlMetrics crawlMetrics = new CrawlMetrics("test", options);
+    crawlMetrics.time("slowMetadataCall", () -> {
+      try (final MetadataResultSet results = new MetadataResultSet(() -> {
+        // Slow metadata calls, such as on a large database, are part of
+        // the time taken by the query
+        pause(200);
+        return connection.getMetaData().getSchemas();
+      });)
+      {
+        results.setDescription("slowMetadataCall");
+        while (results.next())
+        {
+          results.getString("TABLE_SCHEM");
+        }
+      }
+      return null;
+    });
+
+    assertEquals(1, queries.size());
+    assertTrue(queries.get(0).getDuration().toMillis() >= 200);
+  }
+
+}
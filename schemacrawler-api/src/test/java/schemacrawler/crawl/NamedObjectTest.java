@@ -29,6 +29,10 @@ package schemacrawler.crawl;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
 
 import org.junit.Test;
 
@@ -71,4 +75,82 @@ public class NamedObjectTest
 
   }
 
+  @Test
+  public void fullNames()
+  {
+    final MutableCatalog catalog = new MutableCatalog("DATABASE");
+    final Schema schema = catalog.addSchema("CATALOG", "PUBLIC");
+    final MutableTable table = new MutableTable(schema, "CUSTOMER");
+    final MutableColumn column = new MutableColumn(table, "ID");
+
+    assertEquals("CATALOG.PUBLIC", schema.getFullName());
+    assertEquals("CATALOG.PUBLIC.CUSTOMER", table.getFullName());
+    assertEquals("CATALOG.PUBLIC.CUSTOMER.ID", column.getFullName());
+    assertSame("Full names should be computed once",
+               column.getFullName(),
+               column.getFullName());
+    assertEquals(column.getFullName(), column.getLookupKey());
+  }
+
+  @Test
+  public void sortedValues()
+  {
+    final MutableCatalog catalog = new MutableCatalog("DATABASE");
+    final Schema schema = catalog.addSchema("CATALOG", "PUBLIC");
+
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final NamedObjectList<MutableTable> otherTables = new NamedObjectList<>();
+    for (final String tableName: new String[] { "C", "A", "B" })
+    {
+      final MutableTable table = new MutableTable(schema, tableName);
+      table.setTableType(TABLE);
+      tables.add(table);
+      otherTables.add(new MutableTable(schema, tableName));
+    }
+
+    final List<MutableTable> values = tables.values();
+    assertEquals("[A, B, C]", names(values));
+    assertSame("Sorted values should be cached", values, tables.values());
+    final List<MutableTable> otherValues = otherTables.values();
+
+    // Change the sort order of the tables themselves
+    values.get(0).setSortIndex(2);
+    values.get(2).setSortIndex(1);
+    assertSame("Sort order changes need to be signalled",
+               values,
+               tables.values());
+    tables.sortOrderChanged();
+    assertSame("Other lists should not be re-sorted",
+               otherValues,
+               otherTables.values());
+    final List<MutableTable> resortedValues = tables.values();
+    assertEquals("[B, C, A]", names(resortedValues));
+    assertSame("Re-sorted values should be cached",
+               resortedValues,
+               tables.values());
+
+    final MutableTable table = new MutableTable(schema, "D");
+    table.setTableType(TABLE);
+    tables.add(table);
+    assertNotSame(values, tables.values());
+    assertEquals("[B, D, C, A]", names(tables.values()));
+
+    tables.remove(table);
+    assertEquals("[B, C, A]", names(tables.values()));
+  }
+
+  private String names(final List<MutableTable> tables)
+  {
+    final StringBuilder buffer = new StringBuilder();
+    for (final MutableTable table: tables)
+    {
+      if (buffer.length() > 0)
+      {
+        buffer.append(", ");
+      }
+      buffer.append(table.getName());
+    }
+    return "[" + buffer + "]";
+  }
+
 }
@@ -0,0 +1,115 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import schemacrawler.schemacrawler.CrawlEvent;
+import schemacrawler.schemacrawler.CrawlListener;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class CrawlListenerTest
+  extends BaseDatabaseTest
+{
+
+  private static final class CollectingCrawlListener
+    implements CrawlListener
+  {
+
+    private final List<CrawlEvent> queries = Collections
+      .synchronizedList(new ArrayList<>());
+    private final List<CrawlEvent> tasks = Collections
+      .synchronizedList(new ArrayList<>());
+
+    @Override
+    public void queryCompleted(final CrawlEvent event)
+    {
+      queries.add(event);
+    }
+
+    @Override
+    public void taskCompleted(final CrawlEvent event)
+    {
+      tasks.add(event);
+    }
+
+  }
+
+  @Test
+  public void crawlEvents()
+    throws Exception
+  {
+    final CollectingCrawlListener listener = new CollectingCrawlListener();
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    schemaCrawlerOptions.setCrawlListener(listener);
+
+    getCatalog(schemaCrawlerOptions);
+
+    assertFalse("No task events", listener.tasks.isEmpty());
+    assertFalse("No query events", listener.queries.isEmpty());
+
+    CrawlEvent retrieveColumns = null;
+    for (final CrawlEvent task: listener.tasks)
+    {
+      assertTrue(task.getQueryName() == null);
+      if (task.getPhase().equals("crawlTables")
+          && task.getTask().equals("retrieveColumns"))
+      {
+        retrieveColumns = task;
+      }
+    }
+    assertTrue("No event for retrieving columns", retrieveColumns != null);
+    assertTrue(retrieveColumns.getQueryCount() > 0);
+    assertTrue(retrieveColumns.getRowCount() > 0);
+
+    long columnRows = 0;
+    for (final CrawlEvent query: listener.queries)
+    {
+      assertEquals(1, query.getQueryCount());
+      if ("retrieveColumns".equals(query.getTask()))
+      {
+        columnRows = columnRows + query.getRowCount();
+      }
+    }
+    assertEquals(retrieveColumns.getRowCount(), columnRows);
+  }
+
+}
@@ -0,0 +1,300 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static schemacrawler.test.utility.TestUtility.createTempFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Test;
+
+import schemacrawler.crawl.MappedCatalogSnapshot;
+import schemacrawler.crawl.SchemasReducer;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Reducible;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class MappedCatalogSnapshotTest
+  extends BaseDatabaseTest
+{
+
+  private Path snapshotFile;
+
+  private static List<String> describe(final Catalog catalog)
+  {
+    final List<String> description = new ArrayList<>();
+    for (final Table table: catalog.getTables())
+    {
+      description.add(table.getFullName());
+      for (final Column column: table.getColumns())
+      {
+        description.add(column.getFullName() + " "
+                        + column.getColumnDataType().getName());
+      }
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        for (final ForeignKeyColumnReference columnReference: foreignKey)
+        {
+          description.add(foreignKey.getName() + " " + columnReference);
+        }
+      }
+    }
+    description.add(catalog.getRoutines().toString());
+    description.add(catalog.getSynonyms().toString());
+    description.add(catalog.getSequences().toString());
+    return description;
+  }
+
+  private static byte[] segment(final Serializable... objects)
+    throws Exception
+  {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(bytes));)
+    {
+      for (final Serializable object: objects)
+      {
+        out.writeObject(object);
+      }
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Writes a snapshot file in the snapshot format, with a skeleton
+   * segment, and a segment for the PUBLIC.BOOKS schema.
+   */
+  private static void writeSnapshot(final Path snapshotFile,
+                                    final byte[] skeleton,
+                                    final byte[] segment)
+    throws Exception
+  {
+    final int headerSize = 16;
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final DataOutputStream out = new DataOutputStream(bytes);
+    out.writeInt(0x5343534E);
+    out.writeInt(1);
+    out.writeLong(headerSize + skeleton.length + segment.length);
+    out.write(skeleton);
+    out.write(segment);
+    // Index
+    out.writeLong(headerSize);
+    out.writeLong(skeleton.length);
+    out.writeInt(0);
+    out.writeInt(1);
+    out.writeLong(headerSize + skeleton.length);
+    out.writeLong(segment.length);
+    out.writeInt(1);
+    out.writeUTF("PUBLIC.BOOKS");
+    out.flush();
+    Files.write(snapshotFile, bytes.toByteArray());
+  }
+
+  @Test
+  public void closeSnapshot()
+    throws Exception
+  {
+    final Catalog catalog = crawlAndSnapshot();
+
+    final Catalog closedCatalog = MappedCatalogSnapshot.open(snapshotFile);
+    ((Closeable) closedCatalog).close();
+    try
+    {
+      closedCatalog.getTables();
+      fail("Tables were read from a closed snapshot");
+    }
+    catch (final IllegalStateException e)
+    {
+      // Expected
+    }
+
+    // Objects that have been read are still available after the
+    // snapshot is closed
+    final Catalog mappedCatalog = MappedCatalogSnapshot.open(snapshotFile);
+    assertEquals(describe(catalog), describe(mappedCatalog));
+    ((Closeable) mappedCatalog).close();
+    ((Closeable) mappedCatalog).close();
+    assertEquals(describe(catalog), describe(mappedCatalog));
+  }
+
+  @Test
+  public void openSnapshot()
+    throws Exception
+  {
+    final Catalog catalog = crawlAndSnapshot();
+    final Catalog mappedCatalog = MappedCatalogSnapshot.open(snapshotFile);
+
+    assertEquals(catalog.getSchemas(), mappedCatalog.getSchemas());
+    assertFalse(describe(catalog).isEmpty());
+    assertEquals(describe(catalog), describe(mappedCatalog));
+
+    // Column data types are shared with the catalog
+    for (final Table table: mappedCatalog.getTables())
+    {
+      for (final Column column: table.getColumns())
+      {
+        final ColumnDataType columnDataType = column.getColumnDataType();
+        final ColumnDataType catalogColumnDataType;
+        if (columnDataType.getSchema() == null)
+        {
+          catalogColumnDataType = mappedCatalog
+            .lookupSystemColumnDataType(columnDataType.getName()).orElse(null);
+        }
+        else
+        {
+          catalogColumnDataType = mappedCatalog
+            .lookupColumnDataType(columnDataType.getSchema(),
+                                  columnDataType.getName())
+            .orElse(null);
+        }
+        if (catalogColumnDataType != null)
+        {
+          assertSame(catalogColumnDataType, columnDataType);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void openSnapshotWithSchemaFilter()
+    throws Exception
+  {
+    crawlAndSnapshot();
+    final Catalog mappedCatalog = MappedCatalogSnapshot.open(snapshotFile);
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionInclusionRule("PUBLIC.BOOKS"));
+    ((Reducible) mappedCatalog)
+      .reduce(Schema.class, new SchemasReducer(schemaCrawlerOptions));
+
+    final Schema schema = mappedCatalog.lookupSchema("PUBLIC.BOOKS").get();
+    assertEquals(1, mappedCatalog.getSchemas().size());
+    assertEquals(6, mappedCatalog.getTables(schema).size());
+    assertEquals(6, mappedCatalog.getTables().size());
+    for (final Table table: mappedCatalog.getTables())
+    {
+      assertTrue(table.getSchema().equals(schema));
+    }
+  }
+
+  @Test
+  public void openSnapshotRejectsOtherClasses()
+    throws Exception
+  {
+    crawlAndSnapshot();
+
+    final Path otherSnapshotFile = createTempFile("schemacrawler",
+                                                  "snapshot");
+    writeSnapshot(otherSnapshotFile,
+                  segment(new URI("http://www.schemacrawler.com")),
+                  segment(new ArrayList<>()));
+    try
+    {
+      MappedCatalogSnapshot.open(otherSnapshotFile);
+      fail("Class outside a catalog was read from the skeleton");
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      assertTrue(e.getCause() instanceof InvalidClassException);
+    }
+
+    // Keep the skeleton of a real snapshot, and replace the schema
+    // segment
+    final ByteBuffer snapshot = ByteBuffer.wrap(Files
+      .readAllBytes(snapshotFile));
+    snapshot.position((int) snapshot.getLong(8));
+    final int skeletonOffset = (int) snapshot.getLong();
+    final int skeletonLength = (int) snapshot.getLong();
+    final byte[] skeleton = Arrays.copyOfRange(snapshot.array(),
+                                               skeletonOffset,
+                                               skeletonOffset
+                                                               + skeletonLength);
+    writeSnapshot(otherSnapshotFile,
+                  skeleton,
+                  segment(new ArrayList<>(Collections
+                    .singletonList(new URI("http://www.schemacrawler.com")))));
+    final Catalog mappedCatalog = MappedCatalogSnapshot.open(otherSnapshotFile);
+    try
+    {
+      mappedCatalog.getTables();
+      fail("Class outside a catalog was read from a schema segment");
+    }
+    catch (final IllegalStateException e)
+    {
+      assertTrue(e.getCause().getCause() instanceof InvalidClassException);
+    }
+    finally
+    {
+      ((Closeable) mappedCatalog).close();
+    }
+  }
+
+  private Catalog crawlAndSnapshot()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+
+    snapshotFile = createTempFile("schemacrawler", "snapshot");
+    MappedCatalogSnapshot.write(catalog, snapshotFile);
+    assertTrue(MappedCatalogSnapshot.isMappedCatalogSnapshot(snapshotFile));
+    return catalog;
+  }
+
+}
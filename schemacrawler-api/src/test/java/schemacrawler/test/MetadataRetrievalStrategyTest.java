@@ -0,0 +1,699 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.ROUTINE_COLUMNS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.VIEWS;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import schemacrawler.crawl.IndexRetrievalStrategy;
+import schemacrawler.crawl.MetadataRetrievalStrategy;
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineColumn;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.RegularExpressionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class MetadataRetrievalStrategyTest
+  extends BaseDatabaseTest
+{
+
+  private static final Pattern SELECTED_STRATEGY = Pattern
+    .compile("Selected (\\w+) strategy to retrieve columns.*");
+
+  /**
+   * Wraps a connection, so that meta-data calls for all tables or
+   * routines at once are supported, but return at most a given number
+   * of rows, and then either end, or fail, as some JDBC drivers do.
+   * HSQLDB does not support these calls for tables, so they are
+   * answered from its system views.
+   */
+  private static Connection limitBulkMetadata(final Connection connection,
+                                              final int rowCount,
+                                              final boolean fail)
+    throws SQLException
+  {
+    return limitBulkMetadata(connection, null, rowCount, fail);
+  }
+
+  /**
+   * Wraps a connection like {@link #limitBulkMetadata(Connection, int,
+   * boolean)}, but foreign keys are only returned for tables in the
+   * given schema, as some JDBC drivers do for the current schema.
+   */
+  private static Connection limitBulkMetadata(final Connection connection,
+                                              final String foreignKeySchema,
+                                              final int rowCount,
+                                              final boolean fail)
+    throws SQLException
+  {
+    final DatabaseMetaData metaData = connection.getMetaData();
+    final DatabaseMetaData limitedMetaData = (DatabaseMetaData) Proxy
+      .newProxyInstance(MetadataRetrievalStrategyTest.class.getClassLoader(),
+                        new Class<?>[] { DatabaseMetaData.class },
+                        (proxy, method, args) -> {
+                          final String sql;
+                          if ("getCrossReference".equals(method.getName())
+                              && args[2] == null)
+                          {
+                            final String[] columns = { "PKTABLE_CAT",
+                                                       "PKTABLE_SCHEM",
+                                                       null,
+                                                       "FKTABLE_CAT",
+                                                       "FKTABLE_SCHEM" };
+                            final Object[] values = { args[0],
+                                                      args[1],
+                                                      null,
+                                                      args[3],
+                                                      foreignKeySchema == null? args[4]
+                                                                              : foreignKeySchema };
+                            final StringBuilder buffer = new StringBuilder("SELECT * FROM INFORMATION_SCHEMA.SYSTEM_CROSSREFERENCE WHERE 1 = 1");
+                            for (int i = 0; i < columns.length; i++)
+                            {
+                              if (values[i] != null)
+                              {
+                                buffer.append(String.format(" AND %s = '%s'",
+                                                            columns[i],
+                                                            values[i]));
+                              }
+                            }
+                            sql = buffer.toString();
+                          }
+                          else if ("getIndexInfo".equals(method.getName())
+                                   && args[2] == null)
+                          {
+                            sql = String
+                              .format("SELECT * FROM INFORMATION_SCHEMA.SYSTEM_INDEXINFO "
+                                      + "WHERE TABLE_CAT = '%s' AND TABLE_SCHEM = '%s'",
+                                      args[0],
+                                      args[1]);
+                          }
+                          else if (("getProcedureColumns"
+                            .equals(method.getName())
+                                    || "getFunctionColumns"
+                                      .equals(method.getName()))
+                                   && "%".equals(args[2]))
+                          {
+                            return limitRows((ResultSet) invoke(metaData,
+                                                                method,
+                                                                args),
+                                             rowCount,
+                                             fail);
+                          }
+                          else
+                          {
+                            return invoke(metaData, method, args);
+                          }
+                          final Statement statement = connection
+                            .createStatement();
+                          statement.closeOnCompletion();
+                          return limitRows(statement.executeQuery(sql),
+                                           rowCount,
+                                           fail);
+                        });
+    return (Connection) Proxy
+      .newProxyInstance(MetadataRetrievalStrategyTest.class.getClassLoader(),
+                        new Class<?>[] { Connection.class },
+                        (proxy, method, args) -> {
+                          if ("getMetaData".equals(method.getName()))
+                          {
+                            return limitedMetaData;
+                          }
+                          return invoke(connection, method, args);
+                        });
+  }
+
+  private static ResultSet limitRows(final ResultSet results,
+                                     final int rowCount,
+                                     final boolean fail)
+  {
+    final int[] rows = new int[1];
+    return (ResultSet) Proxy
+      .newProxyInstance(MetadataRetrievalStrategyTest.class.getClassLoader(),
+                        new Class<?>[] { ResultSet.class },
+                        (proxy, method, args) -> {
+                          if ("next".equals(method.getName())
+                              && rows[0] == rowCount)
+                          {
+                            if (fail)
+                            {
+                              throw new SQLException("Could not read row");
+                            }
+                            return false;
+                          }
+                          final Object result = invoke(results, method, args);
+                          if ("next".equals(method.getName())
+                              && (Boolean) result)
+                          {
+                            rows[0]++;
+                          }
+                          return result;
+                        });
+  }
+
+  private static Object invoke(final Object object,
+                               final Method method,
+                               final Object[] args)
+    throws Throwable
+  {
+    try
+    {
+      return method.invoke(object, args);
+    }
+    catch (final InvocationTargetException e)
+    {
+      throw e.getCause();
+    }
+  }
+
+  private static List<String> foreignKeys(final Catalog catalog)
+  {
+    final List<String> foreignKeys = new ArrayList<>();
+    for (final Table table: catalog.getTables())
+    {
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        for (final ForeignKeyColumnReference columnReference: foreignKey)
+        {
+          foreignKeys.add(table.getFullName() + ": " + foreignKey.getName()
+                          + " " + columnReference);
+        }
+      }
+    }
+    return foreignKeys;
+  }
+
+  private static List<String> indexes(final Catalog catalog)
+  {
+    final List<String> indexes = new ArrayList<>();
+    for (final Table table: catalog.getTables())
+    {
+      for (final Index index: table.getIndexes())
+      {
+        for (final IndexColumn indexColumn: index)
+        {
+          indexes.add(table.getFullName() + ": " + index.getName() + " "
+                      + index.isUnique() + " " + indexColumn.getName());
+        }
+      }
+    }
+    return indexes;
+  }
+
+  private static List<String> routineColumns(final Catalog catalog)
+  {
+    final List<String> routineColumns = new ArrayList<>();
+    for (final Routine routine: catalog.getRoutines())
+    {
+      for (final RoutineColumn<?> routineColumn: routine.getColumns())
+      {
+        routineColumns.add(routine.getFullName() + " ("
+                           + routine.getSpecificName() + "): "
+                           + routineColumn.getName() + " "
+                           + routineColumn.getOrdinalPosition() + " "
+                           + routineColumn.getColumnType() + " "
+                           + routineColumn.getColumnDataType().getName());
+      }
+    }
+    return routineColumns;
+  }
+
+  private static List<String> tableColumns(final Catalog catalog)
+  {
+    final List<String> tableColumns = new ArrayList<>();
+    for (final Table table: catalog.getTables())
+    {
+      for (final Column column: table.getColumns())
+      {
+        tableColumns.add(column.getFullName() + " "
+                         + column.getOrdinalPosition() + " "
+                         + column.getColumnDataType().getName() + " "
+                         + column.isNullable());
+      }
+    }
+    return tableColumns;
+  }
+
+  @Test
+  public void fetchSizes()
+    throws Exception
+  {
+    final Map<String, String> config = new HashMap<>();
+    config.put(EXT_TABLES.getLookupKey(), "SELECT * FROM TABLES");
+    config.put(EXT_TABLES.getLookupKey() + ".fetchsize", "500");
+    config.put(VIEWS.getLookupKey(), "SELECT * FROM VIEWS");
+    config.put(VIEWS.getLookupKey() + ".fetchsize", "not a number");
+
+    final InformationSchemaViews informationSchemaViews = new InformationSchemaViewsBuilder()
+      .fromConfig(config).withFetchSize(50).toOptions();
+
+    assertEquals(500, informationSchemaViews.getFetchSize(EXT_TABLES));
+    assertEquals(500, informationSchemaViews.getExtTablesSql().getFetchSize());
+    assertEquals(50, informationSchemaViews.getFetchSize(VIEWS));
+    assertEquals(50, informationSchemaViews.getViewsSql().getFetchSize());
+    assertEquals(0, new InformationSchemaViews().getFetchSize(VIEWS));
+  }
+
+  @Test
+  public void foreignKeysForAllTables()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+
+    final Catalog catalog = getCatalog(new DatabaseSpecificOverrideOptionsBuilder()
+      .withForeignKeyRetrievalStrategy(MetadataRetrievalStrategy.metadata)
+      .toOptions(), schemaCrawlerOptions);
+    final Catalog catalogAllTables = getCatalog(new DatabaseSpecificOverrideOptionsBuilder()
+      .withForeignKeyRetrievalStrategy(MetadataRetrievalStrategy.metadata_all)
+      .toOptions(), schemaCrawlerOptions);
+
+    final List<String> foreignKeys = foreignKeys(catalog);
+    assertFalse(foreignKeys.isEmpty());
+    assertEquals(foreignKeys, foreignKeys(catalogAllTables));
+  }
+
+  @Test
+  public void foreignKeysForAllTablesFallback()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+
+    final List<String> foreignKeys = foreignKeys(getCatalog(new DatabaseSpecificOverrideOptionsBuilder()
+      .withForeignKeyRetrievalStrategy(MetadataRetrievalStrategy.metadata)
+      .toOptions(), schemaCrawlerOptions));
+    assertFalse(foreignKeys.isEmpty());
+
+    final DatabaseSpecificOverrideOptions allTablesOptions = new DatabaseSpecificOverrideOptionsBuilder()
+      .withForeignKeyRetrievalStrategy(MetadataRetrievalStrategy.metadata_all)
+      .toOptions();
+    // Driver supports meta-data calls for all tables
+    assertEquals(foreignKeys,
+                 foreignKeys(getCatalog(limitBulkMetadata(getConnection(),
+                                                          Integer.MAX_VALUE,
+                                                          false),
+                                        allTablesOptions,
+                                        schemaCrawlerOptions)));
+    // Driver returns nothing for all tables
+    assertEquals(foreignKeys,
+                 foreignKeys(getCatalog(limitBulkMetadata(getConnection(),
+                                                          0,
+                                                          false),
+                                        allTablesOptions,
+                                        schemaCrawlerOptions)));
+    // Driver fails part way through
+    assertEquals(foreignKeys,
+                 foreignKeys(getCatalog(limitBulkMetadata(getConnection(),
+                                                          3,
+                                                          true),
+                                        allTablesOptions,
+                                        schemaCrawlerOptions)));
+    // Driver returns foreign keys for one schema only
+    assertEquals(foreignKeys,
+                 foreignKeys(getCatalog(limitBulkMetadata(getConnection(),
+                                                          "BOOKS",
+                                                          Integer.MAX_VALUE,
+                                                          false),
+                                        allTablesOptions,
+                                        schemaCrawlerOptions)));
+  }
+
+  @Test
+  public void foreignKeysForSchemas()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionInclusionRule(".*\\.(BOOKS|FOR_LINT)"));
+
+    final List<String> foreignKeys = foreignKeys(getCatalog(new DatabaseSpecificOverrideOptionsBuilder()
+      .withForeignKeyRetrievalStrategy(MetadataRetrievalStrategy.metadata)
+      .toOptions(), schemaCrawlerOptions));
+    assertFalse(foreignKeys.isEmpty());
+
+    for (final MetadataRetrievalStrategy foreignKeyRetrievalStrategy: new MetadataRetrievalStrategy[] {
+                                                                                                        MetadataRetrievalStrategy.metadata_per_schema,
+                                                                                                        MetadataRetrievalStrategy.metadata_all,
+                                                                                                        MetadataRetrievalStrategy.auto })
+    {
+      final DatabaseSpecificOverrideOptions schemaOptions = new DatabaseSpecificOverrideOptionsBuilder()
+        .withForeignKeyRetrievalStrategy(foreignKeyRetrievalStrategy)
+        .toOptions();
+      // Driver supports meta-data calls for each schema
+      assertEquals(foreignKeyRetrievalStrategy.name(),
+                   foreignKeys,
+                   foreignKeys(getCatalog(limitBulkMetadata(getConnection(),
+                                                            Integer.MAX_VALUE,
+                                                            false),
+                                          schemaOptions,
+                                          schemaCrawlerOptions)));
+      // Driver fails part way through
+      assertEquals(foreignKeyRetrievalStrategy.name(),
+                   foreignKeys,
+                   foreignKeys(getCatalog(limitBulkMetadata(getConnection(),
+                                                            3,
+                                                            true),
+                                          schemaOptions,
+                                          schemaCrawlerOptions)));
+    }
+  }
+
+  @Test(expected = SchemaCrawlerException.class)
+  public void foreignKeysFromDataDictionaryWithoutSql()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    getCatalog(new DatabaseSpecificOverrideOptionsBuilder()
+      .withForeignKeyRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
+      .toOptions(), schemaCrawlerOptions);
+  }
+
+  @Test
+  public void indexes()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+
+    final Catalog catalog = getCatalog(new DatabaseSpecificOverrideOptionsBuilder()
+      .withIndexRetrievalStrategy(IndexRetrievalStrategy.metadata)
+      .toOptions(), schemaCrawlerOptions);
+    final List<String> indexes = indexes(catalog);
+    assertFalse(indexes.isEmpty());
+
+    for (final IndexRetrievalStrategy indexRetrievalStrategy: new IndexRetrievalStrategy[] {
+                                                                                            IndexRetrievalStrategy.metadata_single_pass,
+                                                                                            IndexRetrievalStrategy.metadata_all })
+    {
+      final Catalog catalogWithStrategy = getCatalog(new DatabaseSpecificOverrideOptionsBuilder()
+        .withIndexRetrievalStrategy(indexRetrievalStrategy).toOptions(),
+                                                     schemaCrawlerOptions);
+      assertEquals(indexRetrievalStrategy.name(),
+                   indexes,
+                   indexes(catalogWithStrategy));
+    }
+  }
+
+  @Test
+  public void indexesForAllTablesFallback()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+
+    final List<String> indexes = indexes(getCatalog(new DatabaseSpecificOverrideOptionsBuilder()
+      .withIndexRetrievalStrategy(IndexRetrievalStrategy.metadata)
+      .toOptions(), schemaCrawlerOptions));
+    assertFalse(indexes.isEmpty());
+
+    final DatabaseSpecificOverrideOptions allTablesOptions = new DatabaseSpecificOverrideOptionsBuilder()
+      .withIndexRetrievalStrategy(IndexRetrievalStrategy.metadata_all)
+      .toOptions();
+    // Driver supports meta-data calls for all tables
+    assertEquals(indexes,
+                 indexes(getCatalog(limitBulkMetadata(getConnection(),
+                                                      Integer.MAX_VALUE,
+                                                      false),
+                                    allTablesOptions,
+                                    schemaCrawlerOptions)));
+    // Driver returns nothing for all tables
+    assertEquals(indexes,
+                 indexes(getCatalog(limitBulkMetadata(getConnection(),
+                                                      0,
+                                                      false),
+                                    allTablesOptions,
+                                    schemaCrawlerOptions)));
+    // Driver fails part way through
+    assertEquals(indexes,
+                 indexes(getCatalog(limitBulkMetadata(getConnection(),
+                                                      3,
+                                                      true),
+                                    allTablesOptions,
+                                    schemaCrawlerOptions)));
+  }
+
+  @Test
+  public void routineColumns()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    final Catalog catalog = getCatalog(new DatabaseSpecificOverrideOptionsBuilder()
+      .withRoutineColumnRetrievalStrategy(MetadataRetrievalStrategy.metadata)
+      .toOptions(), schemaCrawlerOptions);
+    final List<String> routineColumns = routineColumns(catalog);
+    assertFalse(routineColumns.isEmpty());
+
+    final Catalog catalogAllRoutines = getCatalog(new DatabaseSpecificOverrideOptionsBuilder()
+      .withRoutineColumnRetrievalStrategy(MetadataRetrievalStrategy.metadata_all)
+      .toOptions(), schemaCrawlerOptions);
+    assertEquals(routineColumns, routineColumns(catalogAllRoutines));
+
+    final Map<String, String> config = new HashMap<>();
+    config
+      .put(ROUTINE_COLUMNS.getLookupKey(),
+           "SELECT PROCEDURE_CAT AS ROUTINE_CAT, PROCEDURE_SCHEM AS ROUTINE_SCHEM, "
+                                           + "PROCEDURE_NAME AS ROUTINE_NAME, COLUMN_NAME, COLUMN_TYPE, "
+                                           + "DATA_TYPE, TYPE_NAME, LENGTH, PRECISION, NULLABLE, REMARKS, "
+                                           + "SPECIFIC_NAME "
+                                           + "FROM INFORMATION_SCHEMA.SYSTEM_PROCEDURECOLUMNS "
+                                           + "ORDER BY ROUTINE_CAT, ROUTINE_SCHEM, ROUTINE_NAME, "
+                                           + "SPECIFIC_NAME, ORDINAL_POSITION");
+    final DatabaseSpecificOverrideOptionsBuilder dataDictionaryOptionsBuilder = new DatabaseSpecificOverrideOptionsBuilder(config)
+      .withRoutineColumnRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all);
+    final Catalog catalogDataDictionary = getCatalog(dataDictionaryOptionsBuilder
+      .toOptions(), schemaCrawlerOptions);
+    assertEquals(routineColumns, routineColumns(catalogDataDictionary));
+  }
+
+  @Test
+  public void routineColumnsForAllRoutinesFallback()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    final List<String> routineColumns = routineColumns(getCatalog(new DatabaseSpecificOverrideOptionsBuilder()
+      .withRoutineColumnRetrievalStrategy(MetadataRetrievalStrategy.metadata)
+      .toOptions(), schemaCrawlerOptions));
+    assertFalse(routineColumns.isEmpty());
+
+    final DatabaseSpecificOverrideOptions allRoutinesOptions = new DatabaseSpecificOverrideOptionsBuilder()
+      .withRoutineColumnRetrievalStrategy(MetadataRetrievalStrategy.metadata_all)
+      .toOptions();
+    // Driver fails part way through
+    assertEquals(routineColumns,
+                 routineColumns(getCatalog(limitBulkMetadata(getConnection(),
+                                                             3,
+                                                             true),
+                                           allRoutinesOptions,
+                                           schemaCrawlerOptions)));
+  }
+
+  @Test
+  public void autoTableColumns()
+    throws Exception
+  {
+    // Rules built from configuration, such as
+    // schemacrawler.table.pattern.include=.*, include everything
+    final SchemaCrawlerOptions configuredOptions = new SchemaCrawlerOptions();
+    configuredOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    configuredOptions
+      .setSchemaInclusionRule(new RegularExpressionRule(".*", ""));
+    configuredOptions
+      .setTableInclusionRule(new RegularExpressionRule(".*", ""));
+    assertEquals(MetadataRetrievalStrategy.metadata_all,
+                 autoTableColumnRetrievalStrategy(configuredOptions));
+
+    final SchemaCrawlerOptions defaultOptions = new SchemaCrawlerOptions();
+    defaultOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    assertEquals(MetadataRetrievalStrategy.metadata_all,
+                 autoTableColumnRetrievalStrategy(defaultOptions));
+
+    final SchemaCrawlerOptions schemaOptions = new SchemaCrawlerOptions();
+    schemaOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    schemaOptions
+      .setSchemaInclusionRule(new RegularExpressionInclusionRule(".*\\.BOOKS"));
+    schemaOptions
+      .setTableInclusionRule(new RegularExpressionInclusionRule(".*"));
+    assertEquals(MetadataRetrievalStrategy.metadata_per_schema,
+                 autoTableColumnRetrievalStrategy(schemaOptions));
+
+    final SchemaCrawlerOptions excludedTableOptions = new SchemaCrawlerOptions();
+    excludedTableOptions
+      .setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    excludedTableOptions
+      .setTableInclusionRule(new RegularExpressionRule(".*", ".*\\.AUTHORS"));
+    assertNotEquals(MetadataRetrievalStrategy.metadata_all,
+                    autoTableColumnRetrievalStrategy(excludedTableOptions));
+  }
+
+  @Test
+  public void tableColumns()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    final SchemaCrawlerOptions filteredSchemaCrawlerOptions = new SchemaCrawlerOptions();
+    filteredSchemaCrawlerOptions
+      .setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    filteredSchemaCrawlerOptions
+      .setTableInclusionRule(new RegularExpressionInclusionRule(".*\\.BOOKS\\..*"));
+
+    for (final SchemaCrawlerOptions options: new SchemaCrawlerOptions[] {
+                                                                          schemaCrawlerOptions,
+                                                                          filteredSchemaCrawlerOptions })
+    {
+      final Catalog catalog = getCatalog(new DatabaseSpecificOverrideOptionsBuilder()
+        .withTableColumnRetrievalStrategy(MetadataRetrievalStrategy.metadata)
+        .toOptions(), options);
+      final List<String> tableColumns = tableColumns(catalog);
+      assertFalse(tableColumns.isEmpty());
+
+      for (final MetadataRetrievalStrategy tableColumnRetrievalStrategy: new MetadataRetrievalStrategy[] {
+                                                                                                           MetadataRetrievalStrategy.metadata_per_schema,
+                                                                                                           MetadataRetrievalStrategy.metadata_all,
+                                                                                                           MetadataRetrievalStrategy.auto })
+      {
+        final Catalog catalogWithStrategy = getCatalog(new DatabaseSpecificOverrideOptionsBuilder()
+          .withTableColumnRetrievalStrategy(tableColumnRetrievalStrategy)
+          .toOptions(), options);
+        assertEquals(tableColumnRetrievalStrategy.name(),
+                     tableColumns,
+                     tableColumns(catalogWithStrategy));
+      }
+    }
+  }
+
+  private MetadataRetrievalStrategy autoTableColumnRetrievalStrategy(final SchemaCrawlerOptions schemaCrawlerOptions)
+    throws Exception
+  {
+    final List<String> selectedStrategies = new ArrayList<>();
+    final Handler handler = new Handler()
+    {
+
+      @Override
+      public void close()
+      {
+        // Nothing to close
+      }
+
+      @Override
+      public void flush()
+      {
+        // Nothing to flush
+      }
+
+      @Override
+      public void publish(final LogRecord record)
+      {
+        final Matcher matcher = SELECTED_STRATEGY.matcher(record.getMessage());
+        if (matcher.matches())
+        {
+          selectedStrategies.add(matcher.group(1));
+        }
+      }
+    };
+
+    final Logger logger = Logger
+      .getLogger("schemacrawler.crawl.TableColumnRetriever");
+    final Level level = logger.getLevel();
+    logger.setLevel(Level.INFO);
+    logger.addHandler(handler);
+    try
+    {
+      getCatalog(new DatabaseSpecificOverrideOptionsBuilder()
+        .withTableColumnRetrievalStrategy(MetadataRetrievalStrategy.auto)
+        .toOptions(), schemaCrawlerOptions);
+    }
+    finally
+    {
+      logger.removeHandler(handler);
+      logger.setLevel(level);
+    }
+
+    assertEquals(1, selectedStrategies.size());
+    return MetadataRetrievalStrategy.valueOf(selectedStrategies.get(0));
+  }
+
+  private Catalog getCatalog(final Connection connection,
+                             final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions,
+                             final SchemaCrawlerOptions schemaCrawlerOptions)
+    throws Exception
+  {
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(connection,
+                                                          databaseSpecificOverrideOptions);
+    return schemaCrawler.crawl(schemaCrawlerOptions);
+  }
+
+}
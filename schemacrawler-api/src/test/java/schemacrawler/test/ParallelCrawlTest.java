@@ -0,0 +1,149 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineColumn;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class ParallelCrawlTest
+  extends BaseDatabaseTest
+{
+
+  private static List<String> fullNames(final Collection<? extends NamedObject> namedObjects)
+  {
+    final List<String> fullNames = new ArrayList<>();
+    for (final NamedObject namedObject: namedObjects)
+    {
+      fullNames.add(namedObject.getFullName());
+    }
+    return fullNames;
+  }
+
+  @Test
+  public void parallelCrawlSharesColumnDataTypes()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    // Routines are crawled on another thread, into their own catalog,
+    // but use the same column data types as tables
+    for (int i = 0; i < 3; i++)
+    {
+      final SchemaCrawler parallelSchemaCrawler = new SchemaCrawler(getDatabaseConnectionOptions(),
+                                                                    new DatabaseSpecificOverrideOptions());
+      final Catalog parallelCatalog = parallelSchemaCrawler
+        .crawl(schemaCrawlerOptions);
+
+      final List<ColumnDataType> columnDataTypes = new ArrayList<>(parallelCatalog
+        .getColumnDataTypes());
+      for (final Routine routine: parallelCatalog.getRoutines())
+      {
+        for (final RoutineColumn<?> routineColumn: routine.getColumns())
+        {
+          final ColumnDataType columnDataType = routineColumn
+            .getColumnDataType();
+          assertSame(columnDataType,
+                     columnDataTypes.get(columnDataTypes
+                       .indexOf(columnDataType)));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void parallelCrawlMatchesSequentialCrawl()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+
+    final SchemaCrawler parallelSchemaCrawler = new SchemaCrawler(getDatabaseConnectionOptions(),
+                                                                  new DatabaseSpecificOverrideOptions());
+    final Catalog parallelCatalog = parallelSchemaCrawler
+      .crawl(schemaCrawlerOptions);
+
+    assertEquals(fullNames(catalog.getSchemas()),
+                 fullNames(parallelCatalog.getSchemas()));
+    assertEquals(fullNames(catalog.getTables()),
+                 fullNames(parallelCatalog.getTables()));
+    assertEquals(fullNames(catalog.getRoutines()),
+                 fullNames(parallelCatalog.getRoutines()));
+    assertEquals(fullNames(catalog.getSynonyms()),
+                 fullNames(parallelCatalog.getSynonyms()));
+    assertEquals(fullNames(catalog.getSequences()),
+                 fullNames(parallelCatalog.getSequences()));
+    assertEquals(fullNames(catalog.getColumnDataTypes()),
+                 fullNames(parallelCatalog.getColumnDataTypes()));
+    assertEquals(catalog.getDatabaseInfo().getProductName(),
+                 parallelCatalog.getDatabaseInfo().getProductName());
+    assertEquals(catalog.getJdbcDriverInfo().getDriverName(),
+                 parallelCatalog.getJdbcDriverInfo().getDriverName());
+    assertNotNull(parallelCatalog.getCrawlInfo());
+    assertEquals(catalog.getCrawlInfo().getDatabaseInfo(),
+                 parallelCatalog.getCrawlInfo().getDatabaseInfo());
+
+    for (final Table table: catalog.getTables())
+    {
+      final Table parallelTable = parallelCatalog
+        .lookupTable(table.getSchema(), table.getName()).get();
+      final List<Column> columns = table.getColumns();
+      assertEquals(fullNames(columns),
+                   fullNames(parallelTable.getColumns()));
+      assertEquals(fullNames(table.getForeignKeys()),
+                   fullNames(parallelTable.getForeignKeys()));
+      assertEquals(fullNames(table.getIndexes()),
+                   fullNames(parallelTable.getIndexes()));
+    }
+  }
+
+}
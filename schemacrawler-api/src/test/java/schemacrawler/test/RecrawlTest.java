@@ -0,0 +1,339 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import schemacrawler.crawl.MetadataRetrievalStrategy;
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineColumn;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class RecrawlTest
+  extends BaseDatabaseTest
+{
+
+  private static final String DATABASE_TIMESTAMP_SQL = "SELECT TO_CHAR(LOCALTIMESTAMP, 'YYYY-MM-DD HH24:MI:SS') AS DATABASE_TIMESTAMP "
+                                                       + "FROM (VALUES(0))";
+
+  private static List<String> describe(final Catalog catalog)
+  {
+    final List<String> description = new ArrayList<>();
+    for (final Table table: catalog.getTables())
+    {
+      description.add(table.getFullName());
+      for (final Column column: table.getColumns())
+      {
+        description.add(column.getFullName() + " "
+                        + column.getColumnDataType().getName());
+      }
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        for (final ForeignKeyColumnReference columnReference: foreignKey)
+        {
+          description.add(foreignKey.getName() + " " + columnReference);
+        }
+      }
+      for (final Index index: table.getIndexes())
+      {
+        description.add(index.getFullName() + " " + index.getColumns());
+      }
+      if (table.getPrimaryKey() != null)
+      {
+        description.add(table.getPrimaryKey().getFullName() + " "
+                        + table.getPrimaryKey().getColumns());
+      }
+    }
+    for (final Routine routine: catalog.getRoutines())
+    {
+      description.add(routine.getFullName() + " " + routine.getSpecificName());
+      for (final RoutineColumn<?> routineColumn: routine.getColumns())
+      {
+        description.add(routineColumn.getFullName() + " "
+                        + routineColumn.getColumnDataType().getName());
+      }
+    }
+    return description;
+  }
+
+  private static List<String> tableNames(final Catalog catalog)
+  {
+    final List<String> tableNames = new ArrayList<>();
+    for (final Table table: catalog.getTables())
+    {
+      tableNames.add(table.getFullName());
+    }
+    Collections.sort(tableNames);
+    return tableNames;
+  }
+
+  @Test
+  public void recrawlAfterDdl()
+    throws Exception
+  {
+    // HSQLDB keeps no DDL timestamps, so changes are logged in a table,
+    // with the time on the database server
+    try (final Connection connection = DriverManager
+      .getConnection("jdbc:hsqldb:mem:recrawl", "SA", "");
+        final Statement statement = connection.createStatement();)
+    {
+      statement.execute("CREATE SCHEMA DDL_LOG");
+      statement
+        .execute("CREATE TABLE DDL_LOG.CHANGES (TABLE_NAME VARCHAR(128), CHANGED_AT TIMESTAMP)");
+      statement.execute("CREATE SCHEMA RECRAWL");
+      statement
+        .execute("CREATE TABLE RECRAWL.T_KEEP (ID INTEGER PRIMARY KEY)");
+      statement
+        .execute("CREATE TABLE RECRAWL.T_ALTER (ID INTEGER PRIMARY KEY)");
+      statement
+        .execute("CREATE TABLE RECRAWL.T_DROP (ID INTEGER PRIMARY KEY, KEEP_ID INTEGER, "
+                 + "CONSTRAINT FK_DROP_KEEP FOREIGN KEY (KEEP_ID) REFERENCES RECRAWL.T_KEEP (ID))");
+      statement.execute("CREATE TABLE RECRAWL.T_RENAME (ID INTEGER)");
+
+      final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+      schemaCrawlerOptions
+        .setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+      schemaCrawlerOptions
+        .setSchemaInclusionRule(new RegularExpressionInclusionRule(".*\\.RECRAWL"));
+
+      final DatabaseSpecificOverrideOptionsBuilder databaseSpecificOverrideOptionsBuilder = new DatabaseSpecificOverrideOptionsBuilder();
+      databaseSpecificOverrideOptionsBuilder.withInformationSchemaViews()
+        .withTableChangesSql("SELECT 'PUBLIC' AS TABLE_CATALOG, 'RECRAWL' AS TABLE_SCHEMA, TABLE_NAME "
+                             + "FROM DDL_LOG.CHANGES "
+                             + "WHERE CHANGED_AT >= TIMESTAMP '${crawl_timestamp}'")
+        .withDatabaseTimestampSql(DATABASE_TIMESTAMP_SQL);
+      final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions = databaseSpecificOverrideOptionsBuilder
+        .toOptions();
+
+      final SchemaCrawler schemaCrawler = new SchemaCrawler(connection,
+                                                            databaseSpecificOverrideOptions);
+      final Catalog catalog = schemaCrawler.crawl(schemaCrawlerOptions);
+      assertEquals(Arrays.asList("PUBLIC.RECRAWL.T_ALTER",
+                                 "PUBLIC.RECRAWL.T_DROP",
+                                 "PUBLIC.RECRAWL.T_KEEP",
+                                 "PUBLIC.RECRAWL.T_RENAME"),
+                   tableNames(catalog));
+      final Table previousKeepTable = catalog
+        .lookupTable(catalog.lookupSchema("PUBLIC.RECRAWL").get(), "T_KEEP")
+        .get();
+      assertFalse(previousKeepTable.getForeignKeys().isEmpty());
+
+      statement.execute("ALTER TABLE RECRAWL.T_ALTER ADD COLUMN NAME VARCHAR(20)");
+      statement
+        .execute("INSERT INTO DDL_LOG.CHANGES VALUES ('T_ALTER', LOCALTIMESTAMP)");
+      statement.execute("DROP TABLE RECRAWL.T_DROP");
+      statement.execute("ALTER TABLE RECRAWL.T_RENAME RENAME TO T_RENAMED");
+      statement.execute("CREATE TABLE RECRAWL.T_NEW (ID INTEGER)");
+
+      final Catalog recrawledCatalog = schemaCrawler
+        .recrawl(catalog, schemaCrawlerOptions);
+      assertSame(catalog, recrawledCatalog);
+      assertEquals(Arrays.asList("PUBLIC.RECRAWL.T_ALTER",
+                                 "PUBLIC.RECRAWL.T_KEEP",
+                                 "PUBLIC.RECRAWL.T_NEW",
+                                 "PUBLIC.RECRAWL.T_RENAMED"),
+                   tableNames(recrawledCatalog));
+
+      // Unchanged tables are kept, without foreign keys from dropped
+      // tables
+      final Table keepTable = recrawledCatalog
+        .lookupTable(catalog.lookupSchema("PUBLIC.RECRAWL").get(), "T_KEEP")
+        .get();
+      assertSame(previousKeepTable, keepTable);
+      assertTrue(keepTable.getForeignKeys().isEmpty());
+
+      // The re-crawled catalog is the same as a new crawl
+      assertEquals(describe(schemaCrawler.crawl(schemaCrawlerOptions)),
+                   describe(recrawledCatalog));
+    }
+  }
+
+  @Test
+  public void recrawlChangedRoutines()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+
+    final DatabaseSpecificOverrideOptionsBuilder databaseSpecificOverrideOptionsBuilder = new DatabaseSpecificOverrideOptionsBuilder();
+    databaseSpecificOverrideOptionsBuilder.withInformationSchemaViews()
+      .withTableChangesSql("SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME "
+                           + "FROM INFORMATION_SCHEMA.TABLES "
+                           + "WHERE TABLE_NAME IS NULL "
+                           + "AND '${crawl_timestamp}' IS NOT NULL")
+      .withRoutineChangesSql("SELECT ROUTINE_CATALOG, ROUTINE_SCHEMA, ROUTINE_NAME "
+                             + "FROM INFORMATION_SCHEMA.ROUTINES "
+                             + "WHERE ROUTINE_SCHEMA = 'BOOKS' "
+                             + "AND ROUTINE_NAME = 'NEW_PUBLISHER' "
+                             + "AND '${crawl_timestamp}' IS NOT NULL")
+      .withDatabaseTimestampSql(DATABASE_TIMESTAMP_SQL);
+    final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions = databaseSpecificOverrideOptionsBuilder
+      .toOptions();
+
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(getConnection(),
+                                                          databaseSpecificOverrideOptions);
+    final Catalog catalog = schemaCrawler.crawl(schemaCrawlerOptions);
+    final List<String> description = describe(catalog);
+    final List<Routine> previousRoutines = new ArrayList<>(catalog
+      .getRoutines());
+
+    final Catalog recrawledCatalog = schemaCrawler
+      .recrawl(catalog, schemaCrawlerOptions);
+    assertSame(catalog, recrawledCatalog);
+    assertEquals(description, describe(recrawledCatalog));
+
+    // Only changed routines are retrieved again
+    final List<Routine> routines = new ArrayList<>(recrawledCatalog
+      .getRoutines());
+    assertEquals(previousRoutines.size(), routines.size());
+    boolean hasChangedRoutines = false;
+    for (int i = 0; i < routines.size(); i++)
+    {
+      final Routine routine = routines.get(i);
+      if (routine.getFullName().equals("PUBLIC.BOOKS.NEW_PUBLISHER"))
+      {
+        hasChangedRoutines = true;
+        assertNotSame(previousRoutines.get(i), routine);
+      }
+      else
+      {
+        assertSame(previousRoutines.get(i), routine);
+      }
+    }
+    assertTrue(hasChangedRoutines);
+  }
+
+  @Test
+  public void recrawlChangedTables()
+    throws Exception
+  {
+    recrawlChangedTables(MetadataRetrievalStrategy.metadata);
+  }
+
+  @Test
+  public void recrawlChangedTablesWithBulkForeignKeys()
+    throws Exception
+  {
+    recrawlChangedTables(MetadataRetrievalStrategy.metadata_all);
+  }
+
+  private void recrawlChangedTables(final MetadataRetrievalStrategy foreignKeyRetrievalStrategy)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+
+    final DatabaseSpecificOverrideOptionsBuilder databaseSpecificOverrideOptionsBuilder = new DatabaseSpecificOverrideOptionsBuilder();
+    databaseSpecificOverrideOptionsBuilder
+      .withForeignKeyRetrievalStrategy(foreignKeyRetrievalStrategy);
+    databaseSpecificOverrideOptionsBuilder.withInformationSchemaViews()
+      .withTableChangesSql("SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME "
+                           + "FROM INFORMATION_SCHEMA.TABLES "
+                           + "WHERE TABLE_SCHEMA = 'BOOKS' "
+                           + "AND TABLE_NAME IN ('AUTHORS', 'BOOKS') "
+                           + "AND '${crawl_timestamp}' IS NOT NULL")
+      .withDatabaseTimestampSql(DATABASE_TIMESTAMP_SQL);
+    final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions = databaseSpecificOverrideOptionsBuilder
+      .toOptions();
+
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(getConnection(),
+                                                          databaseSpecificOverrideOptions);
+    final Catalog catalog = schemaCrawler.crawl(schemaCrawlerOptions);
+    final List<String> description = describe(catalog);
+    final Table previousBooksTable = catalog
+      .lookupTable(catalog.lookupSchema("PUBLIC.BOOKS").get(), "BOOKS").get();
+    final Table previousPublishersTable = catalog
+      .lookupTable(catalog.lookupSchema("PUBLIC.BOOKS").get(), "PUBLISHERS")
+      .get();
+
+    final Catalog recrawledCatalog = schemaCrawler
+      .recrawl(catalog, schemaCrawlerOptions);
+    assertSame(catalog, recrawledCatalog);
+    assertFalse(description.isEmpty());
+    assertEquals(description, describe(recrawledCatalog));
+
+    final Table booksTable = recrawledCatalog
+      .lookupTable(catalog.lookupSchema("PUBLIC.BOOKS").get(), "BOOKS").get();
+    final Table publishersTable = recrawledCatalog
+      .lookupTable(catalog.lookupSchema("PUBLIC.BOOKS").get(), "PUBLISHERS")
+      .get();
+    assertNotSame(previousBooksTable, booksTable);
+    assertSame(previousPublishersTable, publishersTable);
+
+    // Foreign keys only refer to tables in the re-crawled catalog
+    for (final Table table: recrawledCatalog.getTables())
+    {
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        for (final ForeignKeyColumnReference columnReference: foreignKey)
+        {
+          for (final Table referencedTable: new Table[] {
+                                                          columnReference
+                                                            .getForeignKeyColumn()
+                                                            .getParent(),
+                                                          columnReference
+                                                            .getPrimaryKeyColumn()
+                                                            .getParent() })
+          {
+            assertSame(referencedTable,
+                       recrawledCatalog.lookupTable(referencedTable
+                         .getSchema(), referencedTable.getName()).get());
+          }
+        }
+      }
+    }
+  }
+
+}
@@ -28,7 +28,11 @@ http://www.gnu.org/licenses/
 package schemacrawler.test.graph;
 
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -60,6 +64,34 @@ public class DirectedGraphBoundaryTest
 
   }
 
+  @Test
+  public void longChain()
+    throws Exception
+  {
+    final DirectedGraph<Integer> graph = new DirectedGraph<>(testName
+      .currentMethodFullName());
+    final int size = 100000;
+    for (int i = 1; i < size; i++)
+    {
+      graph.addEdge(size - i, size - i - 1);
+    }
+
+    assertFalse(containsCycleSimple(graph));
+    assertFalse(containsCycleTarjan(graph));
+
+    final List<Integer> sorted = topologicalSort(graph);
+    assertEquals(size, sorted.size());
+    for (int i = 0; i < size; i++)
+    {
+      assertEquals(Integer.valueOf(size - i - 1), sorted.get(i));
+    }
+
+    graph.addEdge(0, size - 1);
+
+    assertTrue(containsCycleSimple(graph));
+    assertTrue(containsCycleTarjan(graph));
+  }
+
   @Test
   public void selfLoop()
     throws Exception
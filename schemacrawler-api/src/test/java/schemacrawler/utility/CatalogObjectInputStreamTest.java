@@ -0,0 +1,134 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.utility;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class CatalogObjectInputStreamTest
+  extends BaseDatabaseTest
+{
+
+  private static Object roundTrip(final Serializable object)
+    throws IOException, ClassNotFoundException
+  {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes);)
+    {
+      out.writeObject(object);
+    }
+    try (final ObjectInputStream in = new CatalogObjectInputStream(new ByteArrayInputStream(bytes
+      .toByteArray()));)
+    {
+      return in.readObject();
+    }
+  }
+
+  @Test
+  public void allowedClasses()
+  {
+    assertTrue(CatalogObjectInputStream.isAllowedClass("java.lang.String"));
+    assertTrue(CatalogObjectInputStream.isAllowedClass("[I"));
+    assertTrue(CatalogObjectInputStream
+      .isAllowedClass("[[Ljava.lang.Object;"));
+    assertTrue(CatalogObjectInputStream
+      .isAllowedClass("schemacrawler.crawl.MutableCatalog"));
+    assertTrue(CatalogObjectInputStream
+      .isAllowedClass("java.util.Collections$UnmodifiableList"));
+
+    assertFalse(CatalogObjectInputStream.isAllowedClass(null));
+    assertFalse(CatalogObjectInputStream.isAllowedClass("java.net.URI"));
+    assertFalse(CatalogObjectInputStream
+      .isAllowedClass("java.lang.reflect.Proxy"));
+    assertFalse(CatalogObjectInputStream
+      .isAllowedClass("java.util.concurrent.ConcurrentHashMap"));
+    assertFalse(CatalogObjectInputStream
+      .isAllowedClass("[Ljava.net.URI;"));
+    assertFalse(CatalogObjectInputStream
+      .isAllowedClass("org.apache.commons.collections.functors.InvokerTransformer"));
+  }
+
+  @Test
+  public void catalog()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+
+    assertEquals(catalog, roundTrip(catalog));
+  }
+
+  @Test
+  public void rejectedClasses()
+    throws Exception
+  {
+    try
+    {
+      roundTrip(new URI("http://www.schemacrawler.com"));
+      fail("Class outside a catalog was read");
+    }
+    catch (final InvalidClassException e)
+    {
+      // Expected
+    }
+
+    try
+    {
+      roundTrip(new ArrayList<>(Arrays.asList("a",
+                                              new URI("http://www.schemacrawler.com"))));
+      fail("Class nested inside an allowed class was read");
+    }
+    catch (final InvalidClassException e)
+    {
+      // Expected
+    }
+  }
+
+}
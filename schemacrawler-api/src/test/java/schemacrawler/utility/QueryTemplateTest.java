@@ -0,0 +1,101 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.utility;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static sf.util.TemplatingUtility.expandTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class QueryTemplateTest
+{
+
+  private static void assertRendersLikeExpansion(final String template,
+                                                 final Map<String, String> values)
+  {
+    final String expected = expandTemplate(expandTemplate(template, values));
+    assertEquals(template,
+                 expected,
+                 new QueryTemplate(template).render(values::get));
+  }
+
+  @Test
+  public void render()
+  {
+    System.setProperty("querytemplatetest.property", "property.value");
+    System.setProperty("querytemplatetest.nested", "${one}");
+    try
+    {
+      final Map<String, String> values = new HashMap<>();
+      values.put("one", "one.value");
+      values.put("another", "two.value");
+      values.put("nested", "${querytemplatetest.property}");
+
+      final String[] templates = new String[] {
+                                                "No variables",
+                                                "${one} variable",
+                                                "Has ${one} variable, and ${another} variable",
+                                                "Has $${one} variable",
+                                                "Has ${one}} variable",
+                                                "Has ${{one} variable",
+                                                "Has ${unknown} variable",
+                                                "Has ${} variable",
+                                                "Has ${one variable",
+                                                "Has ${one} and ${another",
+                                                "Has ${querytemplatetest.property} variable",
+                                                "Has ${querytemplatetest.nested} variable",
+                                                "Has ${nested} variable, and ${unknown}",
+                                                "${one}${another}${one}", };
+      for (final String template: templates)
+      {
+        assertRendersLikeExpansion(template, values);
+      }
+    }
+    finally
+    {
+      System.clearProperty("querytemplatetest.property");
+      System.clearProperty("querytemplatetest.nested");
+    }
+  }
+
+  @Test
+  public void templateIsParsedOnce()
+  {
+    final Query query = new Query("name", "SELECT ${columns} FROM ${table}");
+    assertSame(query.getTemplate(), query.getTemplate());
+    assertEquals("SELECT ${columns} FROM T",
+                 query.getTemplate()
+                   .render(variable -> "table".equals(variable)? "T": null));
+  }
+
+}
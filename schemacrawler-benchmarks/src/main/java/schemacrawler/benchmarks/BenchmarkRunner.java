@@ -0,0 +1,85 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs SchemaCrawler benchmarks, and writes the results as JSON, so
+ * that runs can be compared. The first argument is a regular expression
+ * for the benchmarks to run, and the second is the results file. By
+ * default, all benchmarks are run, and results are written to
+ * "jmh-result.json".
+ *
+ * @author Sualeh Fatehi
+ */
+public final class BenchmarkRunner
+{
+
+  public static void main(final String[] args)
+    throws RunnerException
+  {
+    final String include;
+    if (args.length > 0)
+    {
+      include = args[0];
+    }
+    else
+    {
+      include = ".*Benchmark.*";
+    }
+
+    final Path resultFile;
+    if (args.length > 1)
+    {
+      resultFile = Paths.get(args[1]);
+    }
+    else
+    {
+      resultFile = Paths.get("jmh-result.json");
+    }
+
+    final Options options = new OptionsBuilder().include(include)
+      .resultFormat(ResultFormatType.JSON)
+      .result(resultFile.toAbsolutePath().toString()).build();
+    new Runner(options).run();
+  }
+
+  private BenchmarkRunner()
+  { // Prevent instantiation
+  }
+
+}
@@ -0,0 +1,121 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.utility.SchemaCrawlerUtility;
+
+/**
+ * Crawls an in-memory HSQLDB database, measuring the metadata
+ * retrieval hot path end-to-end.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CrawlBenchmark
+{
+
+  @Param({ "100", "1000" })
+  private int tableCount;
+
+  @Param({ "standard", "maximum" })
+  private String infoLevel;
+
+  private SyntheticDatabase database;
+  private SchemaCrawlerOptions options;
+
+  @Benchmark
+  public Catalog crawl()
+    throws SchemaCrawlerException
+  {
+    return SchemaCrawlerUtility.getCatalog(database.getConnection(), options);
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+    throws SQLException
+  {
+    database = new SyntheticDatabase(tableCount, 10, 2);
+    options = new SchemaCrawlerOptionsBuilder()
+      .withSchemaInfoLevel(schemaInfoLevel(infoLevel))
+      .includeSchemas(new RegularExpressionInclusionRule(".*\\.BENCHMARK"))
+      .toOptions();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown()
+    throws SQLException
+  {
+    database.close();
+  }
+
+  private SchemaInfoLevel schemaInfoLevel(final String infoLevel)
+  {
+    switch (infoLevel)
+    {
+      case "minimum":
+        return SchemaInfoLevelBuilder.minimum();
+      case "detailed":
+        return SchemaInfoLevelBuilder.detailed();
+      case "maximum":
+        return SchemaInfoLevelBuilder.maximum();
+      default:
+        return SchemaInfoLevelBuilder.standard();
+    }
+  }
+
+}
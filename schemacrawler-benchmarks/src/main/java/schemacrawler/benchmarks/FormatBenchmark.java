@@ -0,0 +1,148 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.crawl.SyntheticCatalog;
+import schemacrawler.schema.Catalog;
+import schemacrawler.tools.integration.graph.GraphOptions;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.schema.SchemaDotFormatter;
+import schemacrawler.tools.text.schema.SchemaTextDetailType;
+import schemacrawler.tools.text.schema.SchemaTextExecutable;
+import schemacrawler.tools.traversal.SchemaTraverser;
+import schemacrawler.utility.NamedObjectSort;
+
+/**
+ * Formats a catalog as text, HTML, JSON and Graphviz DOT, writing to a
+ * writer that only counts characters, so that formatting is measured
+ * without any file or console output. DOT output is measured without
+ * running Graphviz.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FormatBenchmark
+{
+
+  private static final class CountingWriter
+    extends Writer
+  {
+
+    private long count;
+
+    @Override
+    public void close()
+    {
+      // No-op
+    }
+
+    @Override
+    public void flush()
+    {
+      // No-op
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len)
+    {
+      count = count + len;
+    }
+
+    long getCount()
+    {
+      return count;
+    }
+
+  }
+
+  @Param({ "100", "1000" })
+  private int tableCount;
+
+  @Param({ "text", "html", "json", "dot" })
+  private String format;
+
+  private Catalog catalog;
+
+  @Benchmark
+  public long format()
+    throws Exception
+  {
+    final CountingWriter writer = new CountingWriter();
+    if ("dot".equals(format))
+    {
+      final SchemaTraverser traverser = new SchemaTraverser();
+      traverser.setCatalog(catalog);
+      traverser.setHandler(new SchemaDotFormatter(SchemaTextDetailType.details,
+                                                  new GraphOptions(),
+                                                  new OutputOptions(TextOutputFormat.text,
+                                                                    writer)));
+      traverser.setTablesComparator(NamedObjectSort.alphabetical);
+      traverser.setRoutinesComparator(NamedObjectSort.alphabetical);
+      traverser.traverse();
+    }
+    else
+    {
+      final SchemaTextExecutable executable = new SchemaTextExecutable(SchemaTextDetailType.details
+        .name());
+      executable.setOutputOptions(new OutputOptions(TextOutputFormat
+        .valueOf(format), writer));
+      executable.executeOn(catalog, null);
+    }
+    return writer.getCount();
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+  {
+    catalog = SyntheticCatalog.newCatalog(tableCount, 10, 2);
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import schemacrawler.tools.analysis.associations.Inflection;
+
+/**
+ * Singularizes and pluralizes table names, as weak association
+ * analysis does for every table.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InflectionBenchmark
+{
+
+  private static final String[] WORDS = {
+      "authors",
+      "books",
+      "bookAuthors",
+      "categories",
+      "customers",
+      "employees",
+      "invoices",
+      "items",
+      "matrices",
+      "people",
+      "publishers",
+      "sales",
+      "statuses",
+      "women",
+      "writers", };
+
+  @Benchmark
+  public void pluralize(final Blackhole blackhole)
+  {
+    for (final String word: WORDS)
+    {
+      blackhole.consume(Inflection.pluralize(word));
+    }
+  }
+
+  @Benchmark
+  public void singularize(final Blackhole blackhole)
+  {
+    for (final String word: WORDS)
+    {
+      blackhole.consume(Inflection.singularize(word));
+    }
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.crawl.SyntheticCatalog;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.integration.serialization.BinarySerializedCatalog;
+import schemacrawler.tools.integration.serialization.XmlSerializedCatalog;
+
+/**
+ * Loads a catalog that was saved as XML, and as a binary serialized
+ * catalog, from memory, so that load times can be compared without
+ * any file input. Run with the "gc" profiler, such as
+ * "SerializationBenchmark -prof gc", to compare the heap allocated to
+ * load each format as well. Loading larger catalogs from XML needs
+ * more heap than a benchmark fork is given by default.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SerializationBenchmark
+{
+
+  @Param({ "10", "100" })
+  private int tableCount;
+
+  private byte[] binaryCatalog;
+  private byte[] xmlCatalog;
+
+  @Benchmark
+  public Catalog loadBinary()
+    throws SchemaCrawlerException
+  {
+    return new BinarySerializedCatalog(new ByteArrayInputStream(binaryCatalog));
+  }
+
+  @Benchmark
+  public Catalog loadXml()
+    throws SchemaCrawlerException
+  {
+    return new XmlSerializedCatalog(new InputStreamReader(new ByteArrayInputStream(xmlCatalog),
+                                                          StandardCharsets.UTF_8));
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+    throws SchemaCrawlerException
+  {
+    final Catalog catalog = SyntheticCatalog.newCatalog(tableCount, 10, 2);
+
+    final ByteArrayOutputStream binaryOut = new ByteArrayOutputStream();
+    new BinarySerializedCatalog(catalog).save(binaryOut);
+    binaryCatalog = binaryOut.toByteArray();
+
+    final ByteArrayOutputStream xmlOut = new ByteArrayOutputStream();
+    new XmlSerializedCatalog(catalog).save(xmlOut);
+    xmlCatalog = xmlOut.toByteArray();
+  }
+
+}
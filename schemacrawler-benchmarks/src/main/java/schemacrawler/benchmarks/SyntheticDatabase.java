@@ -0,0 +1,146 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import schemacrawler.crawl.SyntheticCatalog;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Table;
+
+/**
+ * An in-memory HSQLDB database, with the same tables as a
+ * {@link SyntheticCatalog} of the same size. The database is shut down
+ * when it is closed.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class SyntheticDatabase
+  implements AutoCloseable
+{
+
+  private static final AtomicInteger databaseCount = new AtomicInteger();
+
+  private final Connection connection;
+
+  public SyntheticDatabase(final int tableCount,
+                           final int columnCount,
+                           final int foreignKeyCount)
+    throws SQLException
+  {
+    final String url = String
+      .format("jdbc:hsqldb:mem:benchmark%d", databaseCount.incrementAndGet());
+    connection = DriverManager.getConnection(url, "SA", "");
+
+    final Catalog catalog = SyntheticCatalog
+      .newCatalog(tableCount, columnCount, foreignKeyCount);
+    try (final Statement statement = connection.createStatement();)
+    {
+      statement.execute("CREATE SCHEMA BENCHMARK AUTHORIZATION DBA");
+      for (final Table table: catalog.getTables())
+      {
+        statement.execute(createTable(table));
+      }
+      for (final Table table: catalog.getTables())
+      {
+        for (final ForeignKey foreignKey: table.getImportedForeignKeys())
+        {
+          statement.execute(alterTable(table, foreignKey));
+        }
+      }
+    }
+  }
+
+  @Override
+  public void close()
+    throws SQLException
+  {
+    try (final Statement statement = connection.createStatement();)
+    {
+      statement.execute("SHUTDOWN");
+    }
+    finally
+    {
+      connection.close();
+    }
+  }
+
+  public Connection getConnection()
+  {
+    return connection;
+  }
+
+  private String alterTable(final Table table, final ForeignKey foreignKey)
+  {
+    final ColumnReference columnReference = foreignKey.getColumnReferences()
+      .get(0);
+    final Column pkColumn = columnReference.getPrimaryKeyColumn();
+    return String
+      .format("ALTER TABLE BENCHMARK.%s ADD CONSTRAINT %s FOREIGN KEY (%s) REFERENCES BENCHMARK.%s (%s)",
+              table.getName(),
+              foreignKey.getName(),
+              columnReference.getForeignKeyColumn().getName(),
+              pkColumn.getParent().getName(),
+              pkColumn.getName());
+  }
+
+  private String createTable(final Table table)
+  {
+    final StringBuilder buffer = new StringBuilder(1024);
+    buffer.append("CREATE TABLE BENCHMARK.").append(table.getName())
+      .append(" (");
+    for (final Column column: table.getColumns())
+    {
+      buffer.append(column.getName()).append(' ')
+        .append(column.getColumnDataType().getName());
+      if (column.getColumnDataType().getJavaSqlType()
+        .getJavaSqlType() == Types.VARCHAR)
+      {
+        buffer.append('(').append(column.getSize()).append(')');
+      }
+      if (!column.isNullable())
+      {
+        buffer.append(" NOT NULL");
+      }
+      buffer.append(", ");
+    }
+    buffer.append("CONSTRAINT ").append(table.getPrimaryKey().getName())
+      .append(" PRIMARY KEY (ID))");
+    return buffer.toString();
+  }
+
+}
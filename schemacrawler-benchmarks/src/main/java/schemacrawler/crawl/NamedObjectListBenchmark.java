@@ -0,0 +1,118 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Table;
+
+/**
+ * Walks the tables of a catalog, and their columns and indexes, the way
+ * formatters and linters do after a crawl. Tables are sorted by their
+ * foreign key dependencies first, so that the sorted values of each
+ * list are built once, and then shared.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NamedObjectListBenchmark
+{
+
+  @Param({ "1000", "50000" })
+  private int tableCount;
+
+  private MutableCatalog catalog;
+
+  @Benchmark
+  public int iterateColumns()
+  {
+    int count = 0;
+    for (final Table table: catalog.getAllTables())
+    {
+      for (final Column column: table.getColumns())
+      {
+        count = count + column.getOrdinalPosition();
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int iterateIndexes()
+  {
+    int count = 0;
+    for (final Table table: catalog.getAllTables())
+    {
+      for (final Index index: table.getIndexes())
+      {
+        count = count + index.getColumns().size();
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int iterateTables()
+  {
+    int count = 0;
+    for (final Table table: catalog.getAllTables())
+    {
+      count = count + table.getName().length();
+    }
+    return count;
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+  {
+    catalog = (MutableCatalog) SyntheticCatalog.newCatalog(tableCount, 10, 3);
+    new TablesGraph(catalog.getAllTables()).setTablesSortIndexes();
+  }
+
+}
@@ -0,0 +1,207 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.ForeignKeyDeferrability;
+import schemacrawler.schema.ForeignKeyUpdateRule;
+import schemacrawler.schema.IndexColumnSortSequence;
+import schemacrawler.schema.JavaSqlType;
+import schemacrawler.schema.JavaSqlType.JavaSqlTypeGroup;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SchemaReference;
+import schemacrawler.schema.TableType;
+
+/**
+ * Builds catalogs of a given size in memory, without a database. Table
+ * "TABLE_n" has an "ID" primary key, a "NAME" column, a number of other
+ * character columns, and foreign key columns named after the tables
+ * they refer to, such as "TABLE_m_ID". Every table also has one column
+ * named after another table, with no foreign key, so that weak
+ * associations can be found. Foreign keys only refer to tables created
+ * earlier, so the tables can always be sorted. The same arguments
+ * always build the same catalog.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class SyntheticCatalog
+{
+
+  /**
+   * Builds a catalog in memory.
+   *
+   * @param tableCount
+   *        Number of tables
+   * @param columnCount
+   *        Number of columns in each table, not counting foreign key
+   *        columns, and at least 2
+   * @param foreignKeyCount
+   *        Number of foreign keys in each table, other than the first
+   * @return Catalog
+   */
+  public static Catalog newCatalog(final int tableCount,
+                                   final int columnCount,
+                                   final int foreignKeyCount)
+  {
+    if (tableCount < 1 || columnCount < 2 || foreignKeyCount < 0)
+    {
+      throw new IllegalArgumentException(String
+        .format("Cannot build a catalog with %d tables, %d columns and %d foreign keys",
+                tableCount,
+                columnCount,
+                foreignKeyCount));
+    }
+
+    final MutableCatalog catalog = new MutableCatalog("catalog");
+    final Schema schema = catalog.addSchema("BENCHMARK", "SYNTHETIC");
+
+    final Schema systemSchema = new SchemaReference();
+    final MutableColumnDataType integerType = new MutableColumnDataType(systemSchema,
+                                                                        "INTEGER");
+    integerType.setJavaSqlType(new JavaSqlType(Types.INTEGER,
+                                               "INTEGER",
+                                               JavaSqlTypeGroup.integer));
+    integerType.setTypeMappedClass(Integer.class);
+    catalog.addColumnDataType(integerType);
+
+    final MutableColumnDataType varcharType = new MutableColumnDataType(systemSchema,
+                                                                        "VARCHAR");
+    varcharType.setJavaSqlType(new JavaSqlType(Types.VARCHAR,
+                                               "VARCHAR",
+                                               JavaSqlTypeGroup.character));
+    varcharType.setTypeMappedClass(String.class);
+    catalog.addColumnDataType(varcharType);
+
+    final Random random = new Random(tableCount);
+    final List<MutableTable> tables = new ArrayList<>(tableCount);
+    for (int i = 0; i < tableCount; i++)
+    {
+      final MutableTable table = new MutableTable(schema, tableName(i));
+      table.setTableType(new TableType("TABLE"));
+
+      int ordinalPosition = 0;
+      final MutableColumn idColumn = addColumn(table,
+                                               "ID",
+                                               integerType,
+                                               ++ordinalPosition);
+      idColumn.setNullable(false);
+      idColumn.markAsPartOfPrimaryKey();
+
+      final String primaryKeyName = "PK_" + table.getName();
+      final MutablePrimaryKey primaryKey = new MutablePrimaryKey(table,
+                                                                 primaryKeyName);
+      final MutableIndexColumn pkColumn = new MutableIndexColumn(primaryKey,
+                                                                 idColumn);
+      pkColumn.setIndexOrdinalPosition(1);
+      pkColumn.setSortSequence(IndexColumnSortSequence.ascending);
+      primaryKey.addColumn(pkColumn);
+      primaryKey.setUnique(true);
+      table.setPrimaryKey(primaryKey);
+
+      addColumn(table, "NAME", varcharType, ++ordinalPosition);
+      for (int j = 2; j < columnCount; j++)
+      {
+        addColumn(table,
+                  String.format("COLUMN_%d", j),
+                  varcharType,
+                  ++ordinalPosition);
+      }
+
+      if (i > 0)
+      {
+        for (int j = 0; j < foreignKeyCount; j++)
+        {
+          final MutableTable pkTable = tables.get(random.nextInt(i));
+          final String fkColumnName = String.format("%s_ID_%d",
+                                                    pkTable.getName(),
+                                                    j);
+          final MutableColumn fkColumn = addColumn(table,
+                                                   fkColumnName,
+                                                   integerType,
+                                                   ++ordinalPosition);
+          final MutableColumn pkTableColumn = pkTable.lookupColumn("ID").get();
+
+          final MutableForeignKey foreignKey = new MutableForeignKey(String
+            .format("FK_%s_%d", table.getName(), j));
+          foreignKey.addColumnReference(1, pkTableColumn, fkColumn);
+          foreignKey.setUpdateRule(ForeignKeyUpdateRule.noAction);
+          foreignKey.setDeleteRule(ForeignKeyUpdateRule.noAction);
+          foreignKey.setDeferrability(ForeignKeyDeferrability.keyNotDeferrable);
+          fkColumn.setReferencedColumn(pkTableColumn);
+          table.addForeignKey(foreignKey);
+          pkTable.addForeignKey(foreignKey);
+        }
+
+        // Column that looks like a foreign key, but is not one
+        final MutableTable weakTable = tables.get(random.nextInt(i));
+        addColumn(table,
+                  String.format("%s_ID", weakTable.getName()),
+                  integerType,
+                  ++ordinalPosition);
+      }
+
+      tables.add(table);
+      catalog.addTable(table);
+    }
+
+    catalog.setCrawlHeaderInfo("Synthetic catalog");
+
+    return catalog;
+  }
+
+  private static MutableColumn addColumn(final MutableTable table,
+                                         final String name,
+                                         final MutableColumnDataType columnDataType,
+                                         final int ordinalPosition)
+  {
+    final MutableColumn column = new MutableColumn(table, name);
+    column.setColumnDataType(columnDataType);
+    column.setOrdinalPosition(ordinalPosition);
+    column.setSize(columnDataType.getJavaSqlType()
+      .getJavaSqlTypeGroup() == JavaSqlTypeGroup.integer? 10: 100);
+    column.setNullable(true);
+    table.addColumn(column);
+    return column;
+  }
+
+  private static String tableName(final int i)
+  {
+    return String.format("TABLE_%06d", i);
+  }
+
+  private SyntheticCatalog()
+  { // Prevent instantiation
+  }
+
+}
@@ -0,0 +1,99 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.filter.FilterFactory;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Reducible;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+
+/**
+ * Reduces a catalog to the first hundred tables, and the tables they
+ * refer to. Reducing changes the catalog, so a new catalog is built
+ * before every invocation.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TablesReducerBenchmark
+{
+
+  @Param({ "1000", "10000" })
+  private int tableCount;
+
+  private SchemaCrawlerOptions options;
+  private Catalog catalog;
+
+  @Benchmark
+  public Catalog reduce()
+  {
+    ((Reducible) catalog)
+      .reduce(Table.class,
+              new TablesReducer(options, FilterFactory.tableFilter(options)));
+    return catalog;
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpCatalog()
+  {
+    catalog = SyntheticCatalog.newCatalog(tableCount, 10, 2);
+  }
+
+  @Setup(Level.Trial)
+  public void setUpOptions()
+  {
+    options = new SchemaCrawlerOptionsBuilder()
+      .includeTables(new RegularExpressionInclusionRule(".*\\.TABLE_0000\\d\\d"))
+      .parentTableFilterDepth(1).toOptions();
+  }
+
+}
@@ -0,0 +1,122 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package sf.util.graph;
+
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sorts, and finds cycles in, graphs with three edges for every vertex.
+ * The acyclic graph only has edges from earlier vertices to later ones.
+ * The cyclic graph also has an edge back from every hundredth vertex.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DirectedGraphBenchmark
+{
+
+  private static final int EDGES_PER_VERTEX = 3;
+
+  @Param({ "10000", "100000" })
+  private int vertexCount;
+
+  private DirectedGraph<Integer> acyclicGraph;
+  private DirectedGraph<Integer> cyclicGraph;
+
+  @Benchmark
+  public boolean containsCycle()
+  {
+    return new SimpleCycleDetector<>(acyclicGraph).containsCycle();
+  }
+
+  @Benchmark
+  public Collection<List<Integer>> detectCycles()
+  {
+    return new TarjanStronglyConnectedComponentFinder<>(cyclicGraph)
+      .detectCycles();
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+  {
+    acyclicGraph = newGraph(false);
+    cyclicGraph = newGraph(true);
+  }
+
+  @Benchmark
+  public List<Integer> topologicalSort()
+    throws GraphException
+  {
+    return new SimpleTopologicalSort<>(acyclicGraph).topologicalSort();
+  }
+
+  private DirectedGraph<Integer> newGraph(final boolean withCycles)
+  {
+    final Random random = new Random(vertexCount);
+    final DirectedGraph<Integer> graph = new DirectedGraph<>("benchmark");
+    for (int i = 0; i < vertexCount; i++)
+    {
+      graph.addVertex(i);
+    }
+    for (int i = 1; i < vertexCount; i++)
+    {
+      for (int j = 0; j < EDGES_PER_VERTEX; j++)
+      {
+        graph.addEdge(random.nextInt(i), i);
+      }
+      if (withCycles && i % 100 == 0)
+      {
+        graph.addEdge(i, random.nextInt(i));
+      }
+    }
+    return graph;
+  }
+
+}
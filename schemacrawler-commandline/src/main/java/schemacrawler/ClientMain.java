@@ -0,0 +1,118 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import schemacrawler.tools.commandline.SchemaCrawlerClient;
+import schemacrawler.tools.commandline.ServerOptions;
+
+/**
+ * Main class that sends a command to a running SchemaCrawler server,
+ * started with {@link ServerMain}. Takes the same arguments as
+ * {@link Main}, and an additional -serverport argument, if the server
+ * is not listening on the default port, and an additional
+ * -servertokenfile argument, if the server does not use the default
+ * token file.
+ */
+public final class ClientMain
+{
+
+  private static final String SERVER_PORT = "-serverport";
+  private static final String SERVER_TOKEN_FILE = "-servertokenfile";
+
+  public static void main(final String[] args)
+    throws Exception
+  {
+    requireNonNull(args);
+
+    int port = ServerOptions.DEFAULT_PORT;
+    Path tokenFile = null;
+    final List<String> commandArgs = new ArrayList<>();
+    try
+    {
+      for (final Iterator<String> iterator = Arrays.asList(args)
+        .iterator(); iterator.hasNext();)
+      {
+        final String arg = iterator.next();
+        if (arg.startsWith(SERVER_PORT + "="))
+        {
+          port = Integer.parseInt(arg.substring(SERVER_PORT.length() + 1));
+        }
+        else if (arg.equals(SERVER_PORT) && iterator.hasNext())
+        {
+          port = Integer.parseInt(iterator.next());
+        }
+        else if (arg.startsWith(SERVER_TOKEN_FILE + "="))
+        {
+          tokenFile = Paths
+            .get(arg.substring(SERVER_TOKEN_FILE.length() + 1));
+        }
+        else if (arg.equals(SERVER_TOKEN_FILE) && iterator.hasNext())
+        {
+          tokenFile = Paths.get(iterator.next());
+        }
+        else
+        {
+          commandArgs.add(arg);
+        }
+      }
+
+      final SchemaCrawlerClient client = new SchemaCrawlerClient(port,
+                                                               tokenFile);
+      client.execute(commandArgs.toArray(new String[commandArgs.size()]),
+                     Paths.get(""),
+                     System.out);
+    }
+    catch (final Exception e)
+    {
+      System.err.printf("%s %s%n%n",
+                        Version.getProductName(),
+                        Version.getVersion());
+      System.err.print("Error: ");
+      System.err.println(e.getMessage());
+      System.err.println();
+      System.exit(1);
+    }
+
+  }
+
+  private ClientMain()
+  {
+    // Prevent instantiation
+  }
+
+}
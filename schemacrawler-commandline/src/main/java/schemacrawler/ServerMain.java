@@ -0,0 +1,106 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler;
+
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.commandlineparser.CommandLineUtility.applyApplicationLogLevel;
+import static us.fatehi.commandlineparser.CommandLineUtility.logFullStackTrace;
+import static us.fatehi.commandlineparser.CommandLineUtility.logSafeArguments;
+import static us.fatehi.commandlineparser.CommandLineUtility.logSystemProperties;
+
+import java.util.logging.Level;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.tools.commandline.ApplicationOptionsParser;
+import schemacrawler.tools.commandline.SchemaCrawlerServer;
+import schemacrawler.tools.commandline.ServerOptions;
+import schemacrawler.tools.commandline.ServerOptionsParser;
+import schemacrawler.tools.options.ApplicationOptions;
+import us.fatehi.commandlineparser.CommandLineUtility;
+
+/**
+ * Main class that starts a long-running SchemaCrawler server, which
+ * executes commands sent from {@link ClientMain}.
+ */
+public final class ServerMain
+{
+
+  public static void main(final String[] args)
+    throws Exception
+  {
+    requireNonNull(args);
+
+    try
+    {
+      applyApplicationLogLevel(Level.OFF);
+
+      final Config argsMap = CommandLineUtility.parseArgs(args);
+
+      final ApplicationOptionsParser applicationOptionsParser = new ApplicationOptionsParser(argsMap);
+      final ApplicationOptions applicationOptions = applicationOptionsParser
+        .getOptions();
+
+      applyApplicationLogLevel(applicationOptions.getApplicationLogLevel());
+
+      logSafeArguments(args);
+      logSystemProperties();
+
+      final ServerOptionsParser serverOptionsParser = new ServerOptionsParser(argsMap);
+      final ServerOptions serverOptions = serverOptionsParser.getOptions();
+
+      final SchemaCrawlerServer server = new SchemaCrawlerServer(serverOptions);
+      Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+      final int port = server.start();
+      System.out.printf("%s %s server, listening on port %d, with token file %s%n",
+                        Version.getProductName(),
+                        Version.getVersion(),
+                        port,
+                        server.getTokenFile());
+      server.awaitClose();
+    }
+    catch (final Throwable e)
+    {
+      System.err.printf("%s %s%n%n",
+                        Version.getProductName(),
+                        Version.getVersion());
+      System.err.print("Error: ");
+      System.err.println(e.getMessage());
+      System.err.println();
+      logSafeArguments(args);
+      logFullStackTrace(Level.SEVERE, e);
+    }
+
+  }
+
+  private ServerMain()
+  {
+    // Prevent instantiation
+  }
+
+}
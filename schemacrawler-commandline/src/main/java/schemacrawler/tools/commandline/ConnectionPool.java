@@ -0,0 +1,542 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.commandline;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schemacrawler.ConnectionOptions;
+import sf.util.StringFormat;
+
+/**
+ * Keeps idle database connections open between commands, for each
+ * database connection URL, user and password. Connections obtained from
+ * pooled connection options are returned to the pool when they are
+ * closed, after any open transaction is rolled back, and the session
+ * state that they were opened with is restored.
+ *
+ * @author Sualeh Fatehi
+ */
+final class ConnectionPool
+  implements AutoCloseable
+{
+
+  private final class PooledConnection
+    implements InvocationHandler
+  {
+
+    private final ConnectionKey key;
+    private final IdleConnection idleConnection;
+    private boolean isClosed;
+
+    PooledConnection(final ConnectionKey key,
+                     final IdleConnection idleConnection)
+    {
+      this.key = key;
+      this.idleConnection = idleConnection;
+    }
+
+    @Override
+    public Object invoke(final Object proxy,
+                         final Method method,
+                         final Object[] args)
+                           throws Throwable
+    {
+      switch (method.getName())
+      {
+        case "close":
+          if (!isClosed)
+          {
+            isClosed = true;
+            release(key, idleConnection);
+          }
+          return null;
+        case "isClosed":
+          if (isClosed)
+          {
+            return true;
+          }
+          break;
+        case "unwrap":
+          // Do not hand out the pooled connection, since it would
+          // escape being reset and returned to the pool
+          if (((Class<?>) args[0]).isInstance(proxy))
+          {
+            return proxy;
+          }
+          throw new SQLException("Pooled connections cannot be unwrapped");
+        case "isWrapperFor":
+          return ((Class<?>) args[0]).isInstance(proxy);
+        default:
+          if (isClosed && method.getDeclaringClass() != Object.class)
+          {
+            throw new SQLException("Connection is closed");
+          }
+          break;
+      }
+
+      try
+      {
+        return method.invoke(idleConnection.connection, args);
+      }
+      catch (final InvocationTargetException e)
+      {
+        throw e.getCause();
+      }
+    }
+
+  }
+
+  private final class PooledConnectionOptions
+    implements ConnectionOptions
+  {
+
+    private static final long serialVersionUID = -6001364993387390137L;
+
+    private final transient ConnectionKey key;
+    private final ConnectionOptions connectionOptions;
+
+    PooledConnectionOptions(final ConnectionKey key,
+                            final ConnectionOptions connectionOptions)
+    {
+      this.key = key;
+      this.connectionOptions = connectionOptions;
+    }
+
+    @Override
+    public Connection getConnection()
+      throws SQLException
+    {
+      return borrow(key, connectionOptions);
+    }
+
+    @Override
+    public Connection getConnection(final String username,
+                                    final String password)
+                                      throws SQLException
+    {
+      return connectionOptions.getConnection(username, password);
+    }
+
+    @Override
+    public String getConnectionUrl()
+    {
+      return connectionOptions.getConnectionUrl();
+    }
+
+    @Override
+    public Driver getJdbcDriver()
+      throws SQLException
+    {
+      return connectionOptions.getJdbcDriver();
+    }
+
+    @Override
+    public int getLoginTimeout()
+      throws SQLException
+    {
+      return connectionOptions.getLoginTimeout();
+    }
+
+    @Override
+    public PrintWriter getLogWriter()
+      throws SQLException
+    {
+      return connectionOptions.getLogWriter();
+    }
+
+    @Override
+    public Logger getParentLogger()
+      throws SQLFeatureNotSupportedException
+    {
+      return connectionOptions.getParentLogger();
+    }
+
+    @Override
+    public String getUser()
+    {
+      return connectionOptions.getUser();
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface)
+      throws SQLException
+    {
+      return connectionOptions.isWrapperFor(iface);
+    }
+
+    @Override
+    public void setLoginTimeout(final int seconds)
+      throws SQLException
+    {
+      connectionOptions.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public void setLogWriter(final PrintWriter out)
+      throws SQLException
+    {
+      connectionOptions.setLogWriter(out);
+    }
+
+    @Override
+    public void setPassword(final String password)
+    {
+      throw new UnsupportedOperationException("Cannot change the password of pooled connections");
+    }
+
+    @Override
+    public void setUser(final String user)
+    {
+      throw new UnsupportedOperationException("Cannot change the user of pooled connections");
+    }
+
+    @Override
+    public String toString()
+    {
+      return connectionOptions.toString();
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface)
+      throws SQLException
+    {
+      return connectionOptions.unwrap(iface);
+    }
+
+  }
+
+  /**
+   * Connection, with the session state that it had when it was opened,
+   * which is restored before it is reused.
+   */
+  private static final class IdleConnection
+  {
+
+    private final Connection connection;
+    private final boolean autoCommit;
+    private final boolean readOnly;
+    private final int transactionIsolation;
+    private final String catalog;
+    private final String schema;
+
+    IdleConnection(final Connection connection)
+      throws SQLException
+    {
+      this.connection = connection;
+      autoCommit = connection.getAutoCommit();
+      readOnly = connection.isReadOnly();
+      transactionIsolation = connection.getTransactionIsolation();
+      catalog = connection.getCatalog();
+      schema = lookupSchema(connection);
+    }
+
+    /**
+     * Rolls back any open transaction, and restores the session state
+     * that the connection was opened with.
+     */
+    void reset()
+      throws SQLException
+    {
+      if (!connection.getAutoCommit())
+      {
+        connection.rollback();
+      }
+      if (connection.getAutoCommit() != autoCommit)
+      {
+        connection.setAutoCommit(autoCommit);
+      }
+      if (connection.isReadOnly() != readOnly)
+      {
+        connection.setReadOnly(readOnly);
+      }
+      if (connection.getTransactionIsolation() != transactionIsolation)
+      {
+        connection.setTransactionIsolation(transactionIsolation);
+      }
+      if (catalog != null && !catalog.equals(connection.getCatalog()))
+      {
+        connection.setCatalog(catalog);
+      }
+      if (schema != null && !schema.equals(lookupSchema(connection)))
+      {
+        connection.setSchema(schema);
+      }
+      connection.clearWarnings();
+    }
+
+  }
+
+  private static final class ConnectionKey
+  {
+
+    private final String connectionUrl;
+    private final String user;
+    private final String password;
+
+    ConnectionKey(final String connectionUrl,
+                  final String user,
+                  final String password)
+    {
+      this.connectionUrl = connectionUrl;
+      this.user = user;
+      this.password = password;
+    }
+
+    @Override
+    public boolean equals(final Object obj)
+    {
+      if (this == obj)
+      {
+        return true;
+      }
+      if (!(obj instanceof ConnectionKey))
+      {
+        return false;
+      }
+      final ConnectionKey other = (ConnectionKey) obj;
+      return Objects.equals(connectionUrl, other.connectionUrl)
+             && Objects.equals(user, other.user)
+             && Objects.equals(password, other.password);
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return Objects.hash(connectionUrl, user, password);
+    }
+
+    @Override
+    public String toString()
+    {
+      return String.format("%s, for user '%s'", connectionUrl, user);
+    }
+
+  }
+
+  private static final Logger LOGGER = Logger
+    .getLogger(ConnectionPool.class.getName());
+
+  private static String lookupSchema(final Connection connection)
+    throws SQLException
+  {
+    try
+    {
+      return connection.getSchema();
+    }
+    catch (final AbstractMethodError | SQLFeatureNotSupportedException e)
+    {
+      // Older drivers do not support schemas on connections
+      return null;
+    }
+  }
+
+  private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+  private final int maxIdleConnections;
+  private final Map<ConnectionKey, Deque<IdleConnection>> idleConnections;
+  private boolean isClosed;
+
+  ConnectionPool(final int maxIdleConnections)
+  {
+    if (maxIdleConnections < 0)
+    {
+      throw new IllegalArgumentException("Number of idle connections cannot be negative");
+    }
+    this.maxIdleConnections = maxIdleConnections;
+    idleConnections = new HashMap<>();
+  }
+
+  @Override
+  public void close()
+  {
+    final List<IdleConnection> connections = new ArrayList<>();
+    synchronized (this)
+    {
+      isClosed = true;
+      for (final Deque<IdleConnection> idle: idleConnections.values())
+      {
+        connections.addAll(idle);
+      }
+      idleConnections.clear();
+    }
+
+    for (final IdleConnection connection: connections)
+    {
+      closeQuietly(connection.connection);
+    }
+  }
+
+  /**
+   * Wraps connection options, so that connections are taken from the
+   * pool, and returned to the pool when they are closed.
+   *
+   * @param connectionOptions
+   *        Connection options to open new connections
+   * @param password
+   *        Password that the connection options connect with
+   * @return Pooled connection options
+   */
+  ConnectionOptions pooled(final ConnectionOptions connectionOptions,
+                           final String password)
+  {
+    requireNonNull(connectionOptions, "No connection options provided");
+    final ConnectionKey key = new ConnectionKey(connectionOptions
+      .getConnectionUrl(), connectionOptions.getUser(), password);
+    return new PooledConnectionOptions(key, connectionOptions);
+  }
+
+  private Connection borrow(final ConnectionKey key,
+                            final ConnectionOptions connectionOptions)
+                              throws SQLException
+  {
+    while (true)
+    {
+      final IdleConnection idleConnection;
+      synchronized (this)
+      {
+        final Deque<IdleConnection> idle = idleConnections.get(key);
+        if (idle == null || idle.isEmpty())
+        {
+          break;
+        }
+        idleConnection = idle.pollFirst();
+      }
+
+      if (isValid(idleConnection.connection))
+      {
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Reusing pooled connection to %s", key));
+        return pooledConnection(key, idleConnection);
+      }
+      closeQuietly(idleConnection.connection);
+    }
+
+    final Connection connection = connectionOptions.getConnection();
+    try
+    {
+      return pooledConnection(key, new IdleConnection(connection));
+    }
+    catch (final SQLException e)
+    {
+      closeQuietly(connection);
+      throw e;
+    }
+  }
+
+  private void closeQuietly(final Connection connection)
+  {
+    try
+    {
+      connection.close();
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.FINE, "Could not close pooled connection", e);
+    }
+  }
+
+  private boolean isValid(final Connection connection)
+  {
+    try
+    {
+      return !connection.isClosed()
+             && connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+    }
+    catch (final SQLException | AbstractMethodError e)
+    {
+      // Older drivers do not support validation
+      return false;
+    }
+  }
+
+  private Connection pooledConnection(final ConnectionKey key,
+                                      final IdleConnection idleConnection)
+  {
+    return (Connection) Proxy
+      .newProxyInstance(ConnectionPool.class.getClassLoader(),
+                        new Class<?>[] { Connection.class },
+                        new PooledConnection(key, idleConnection));
+  }
+
+  private void release(final ConnectionKey key,
+                       final IdleConnection idleConnection)
+  {
+    final Connection connection = idleConnection.connection;
+    try
+    {
+      if (connection.isClosed())
+      {
+        return;
+      }
+      idleConnection.reset();
+    }
+    catch (final SQLException | RuntimeException e)
+    {
+      // A connection that cannot be reset is not reused
+      LOGGER.log(Level.FINE, "Could not reset pooled connection", e);
+      closeQuietly(connection);
+      return;
+    }
+
+    synchronized (this)
+    {
+      if (!isClosed)
+      {
+        final Deque<IdleConnection> idle = idleConnections
+          .computeIfAbsent(key, k -> new ArrayDeque<>());
+        if (idle.size() < maxIdleConnections)
+        {
+          idle.offerFirst(idleConnection);
+          return;
+        }
+      }
+    }
+    closeQuietly(connection);
+  }
+
+}
@@ -0,0 +1,183 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.commandline;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Path;
+
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+
+/**
+ * Thin client that sends commands to a {@link SchemaCrawlerServer}
+ * running on the same machine. Commands take the same arguments as the
+ * SchemaCrawler command-line. Files are resolved relative to the
+ * working directory of the client. The client reads the access token
+ * from the token file that the server wrote when it started.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class SchemaCrawlerClient
+{
+
+  private final int port;
+  private final Path tokenFile;
+
+  /**
+   * Client for a server on the given port, that wrote its token to the
+   * default token file.
+   *
+   * @param port
+   *        Port that the server listens on
+   */
+  public SchemaCrawlerClient(final int port)
+  {
+    this(port, null);
+  }
+
+  /**
+   * Client for a server on the given port.
+   *
+   * @param port
+   *        Port that the server listens on
+   * @param tokenFile
+   *        File that the server wrote its access token to, or null for
+   *        the default token file
+   */
+  public SchemaCrawlerClient(final int port, final Path tokenFile)
+  {
+    this.port = port;
+    if (tokenFile == null)
+    {
+      this.tokenFile = ServerToken.defaultTokenFile(port);
+    }
+    else
+    {
+      this.tokenFile = tokenFile;
+    }
+  }
+
+  /**
+   * Executes a command on the server.
+   *
+   * @param args
+   *        SchemaCrawler command-line arguments
+   * @param workingDirectory
+   *        Directory that files are resolved against
+   * @param output
+   *        Stream for console output of the command, encoded as UTF-8
+   * @throws IOException
+   *         On an exception communicating with the server
+   * @throws SchemaCrawlerException
+   *         On an exception executing the command
+   */
+  public void execute(final String[] args,
+                      final Path workingDirectory,
+                      final OutputStream output)
+                        throws IOException, SchemaCrawlerException
+  {
+    requireNonNull(args, "No command-line arguments provided");
+    requireNonNull(workingDirectory, "No working directory provided");
+    requireNonNull(output, "No output stream provided");
+
+    final String token = ServerToken.readToken(tokenFile);
+    try (final Socket socket = connect();
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket
+          .getOutputStream()));
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(socket
+          .getInputStream()));)
+    {
+      out.writeUTF(SchemaCrawlerServer.PROTOCOL);
+      out.writeUTF(token);
+      out.writeUTF(workingDirectory.normalize().toAbsolutePath().toString());
+      out.writeInt(args.length);
+      for (final String arg: args)
+      {
+        out.writeUTF(arg);
+      }
+      out.flush();
+
+      final byte[] buffer = new byte[8192];
+      while (true)
+      {
+        final byte frameType = in.readByte();
+        if (frameType == SchemaCrawlerServer.OUTPUT)
+        {
+          int remaining = in.readInt();
+          while (remaining > 0)
+          {
+            final int length = Math.min(remaining, buffer.length);
+            in.readFully(buffer, 0, length);
+            output.write(buffer, 0, length);
+            remaining -= length;
+          }
+        }
+        else if (frameType == SchemaCrawlerServer.END)
+        {
+          final boolean succeeded = in.readBoolean();
+          final String errorMessage = in.readUTF();
+          output.flush();
+          if (!succeeded)
+          {
+            throw new SchemaCrawlerException(errorMessage);
+          }
+          return;
+        }
+        else
+        {
+          throw new IOException("Unexpected response from SchemaCrawler server");
+        }
+      }
+    }
+  }
+
+  private Socket connect()
+    throws IOException
+  {
+    try
+    {
+      return new Socket(InetAddress.getLoopbackAddress(), port);
+    }
+    catch (final ConnectException e)
+    {
+      throw new IOException(String
+        .format("No SchemaCrawler server is running on port %d", port), e);
+    }
+  }
+
+}
@@ -41,7 +41,10 @@ import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerCommandLineException;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.tools.catalogcache.CatalogCache;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
+import schemacrawler.tools.databaseconnector.DatabaseConnectorRegistry;
+import schemacrawler.tools.executable.BaseStagedExecutable;
 import schemacrawler.tools.executable.Executable;
 import schemacrawler.tools.options.OutputOptions;
 import sf.util.StringFormat;
@@ -68,6 +71,17 @@ public final class SchemaCrawlerCommandLine
 
   public SchemaCrawlerCommandLine(final Config argsMap)
     throws SchemaCrawlerException
+  {
+    this(argsMap, null);
+  }
+
+  /**
+   * Parses the command-line, using an already loaded registry of
+   * database connectors, if one is provided.
+   */
+  public SchemaCrawlerCommandLine(final Config argsMap,
+                                  final DatabaseConnectorRegistry registry)
+    throws SchemaCrawlerException
   {
     requireNonNull(argsMap, "No command-line arguments provided");
     if (argsMap.isEmpty())
@@ -77,7 +91,8 @@ public final class SchemaCrawlerCommandLine
 
     // Match the database connector in the best possible way, using the
     // server argument, or the JDBC connection URL
-    final DatabaseServerTypeParser dbServerTypeParser = new DatabaseServerTypeParser(argsMap);
+    final DatabaseServerTypeParser dbServerTypeParser = new DatabaseServerTypeParser(argsMap,
+                                                                                     registry);
     dbConnector = dbServerTypeParser.getOptions();
     LOGGER.log(Level.INFO,
                new StringFormat("Using database plugin, %s",
@@ -117,21 +132,7 @@ public final class SchemaCrawlerCommandLine
   public void execute()
     throws Exception
   {
-    if (connectionOptions == null)
-    {
-      throw new SchemaCrawlerException("No connection options provided");
-    }
-
-    final Executable executable = dbConnector.newExecutable(command);
-    // Configure
-    executable.setOutputOptions(outputOptions);
-    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
-    executable.setAdditionalConfiguration(config);
-    // Execute
-    try (final Connection connection = connectionOptions.getConnection();)
-    {
-      executable.execute(connection, databaseSpecificOverrideOptions);
-    }
+    execute(connectionOptions, null);
   }
 
   public final String getCommand()
@@ -159,6 +160,38 @@ public final class SchemaCrawlerCommandLine
     return schemaCrawlerOptions;
   }
 
+  /**
+   * Executes the command, with connections from the given connection
+   * options, and catalogs from the given catalog cache, if any.
+   */
+  void execute(final ConnectionOptions connectionOptions,
+               final CatalogCache catalogCache)
+                 throws Exception
+  {
+    if (connectionOptions == null)
+    {
+      throw new SchemaCrawlerException("No connection options provided");
+    }
+
+    final Executable executable = dbConnector.newExecutable(command);
+    // Configure
+    executable.setOutputOptions(outputOptions);
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setAdditionalConfiguration(config);
+    if (executable instanceof BaseStagedExecutable)
+    {
+      // Allow additional connections for work done in parallel
+      ((BaseStagedExecutable) executable)
+        .setConnectionOptions(connectionOptions);
+      ((BaseStagedExecutable) executable).setCatalogCache(catalogCache);
+    }
+    // Execute
+    try (final Connection connection = connectionOptions.getConnection();)
+    {
+      executable.execute(connection, databaseSpecificOverrideOptions);
+    }
+  }
+
   /**
    * Loads configuration from a number of sources, in order of priority.
    */
@@ -0,0 +1,467 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.commandline;
+
+
+import static java.util.Objects.requireNonNull;
+import static sf.util.Utility.isBlank;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.SchemaCrawlerCommandLineException;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.catalogcache.CatalogCache;
+import schemacrawler.tools.databaseconnector.DatabaseConnectorRegistry;
+import schemacrawler.tools.options.ApplicationOptions;
+import sf.util.StringFormat;
+import us.fatehi.commandlineparser.CommandLineUtility;
+
+/**
+ * Long-running SchemaCrawler server, that executes commands sent by a
+ * {@link SchemaCrawlerClient}. Database connectors are loaded once,
+ * connections are pooled, and crawled catalogs are kept in memory
+ * between commands. The server only listens on the loopback interface,
+ * and only executes commands that present the access token that the
+ * server writes to its owner-only token file.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class SchemaCrawlerServer
+  implements CommandLine, AutoCloseable
+{
+
+  /**
+   * Sends command output to the client in frames, without closing the
+   * connection to the client when the output writer is closed.
+   */
+  private static final class OutputFrames
+    extends OutputStream
+  {
+
+    private final DataOutputStream out;
+    private final byte[] buffer;
+    private int count;
+
+    OutputFrames(final DataOutputStream out)
+    {
+      this.out = out;
+      buffer = new byte[8192];
+    }
+
+    @Override
+    public void close()
+      throws IOException
+    {
+      flush();
+    }
+
+    @Override
+    public void flush()
+      throws IOException
+    {
+      if (count > 0)
+      {
+        out.writeByte(OUTPUT);
+        out.writeInt(count);
+        out.write(buffer, 0, count);
+        count = 0;
+      }
+      out.flush();
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length)
+      throws IOException
+    {
+      int written = 0;
+      while (written < length)
+      {
+        if (count == buffer.length)
+        {
+          flush();
+        }
+        final int chunk = Math.min(length - written, buffer.length - count);
+        System.arraycopy(bytes, offset + written, buffer, count, chunk);
+        count += chunk;
+        written += chunk;
+      }
+    }
+
+    @Override
+    public void write(final int b)
+      throws IOException
+    {
+      if (count == buffer.length)
+      {
+        flush();
+      }
+      buffer[count++] = (byte) b;
+    }
+
+  }
+
+  private static final Logger LOGGER = Logger
+    .getLogger(SchemaCrawlerServer.class.getName());
+
+  static final String PROTOCOL = "SchemaCrawler-Server-2";
+  static final byte OUTPUT = 'O';
+  static final byte END = 'E';
+
+  private static final int MAX_ARGS = 4096;
+  private static final String[] FILE_OPTIONS = new String[] {
+                                                              "outputfile",
+                                                              "o",
+                                                              "configfile",
+                                                              "g",
+                                                              "additionalconfigfile",
+                                                              "p", };
+
+  private final ServerOptions serverOptions;
+  private final DatabaseConnectorRegistry registry;
+  private final ConnectionPool connectionPool;
+  private final CatalogCache catalogCache;
+  private ServerSocket serverSocket;
+  private Path tokenFile;
+  private String token;
+  private ExecutorService executorService;
+  private Thread acceptor;
+
+  public SchemaCrawlerServer(final ServerOptions serverOptions)
+    throws SchemaCrawlerException
+  {
+    this.serverOptions = requireNonNull(serverOptions,
+                                        "No server options provided");
+
+    registry = new DatabaseConnectorRegistry();
+    connectionPool = new ConnectionPool(serverOptions
+      .getMaxIdleConnections());
+    catalogCache = new CatalogCache(serverOptions.getMaxCachedCatalogs(),
+                                    serverOptions.getCatalogMaxAgeMillis());
+  }
+
+  /**
+   * Blocks until the server is closed.
+   *
+   * @throws InterruptedException
+   *         If the thread is interrupted while waiting
+   */
+  public void awaitClose()
+    throws InterruptedException
+  {
+    final Thread acceptorThread;
+    synchronized (this)
+    {
+      if (acceptor == null)
+      {
+        throw new IllegalStateException("Server is not started");
+      }
+      acceptorThread = acceptor;
+    }
+    acceptorThread.join();
+  }
+
+  /**
+   * Stops accepting commands, waits for commands that are running to
+   * finish, and closes pooled connections.
+   */
+  @Override
+  public void close()
+  {
+    final Thread acceptorThread;
+    synchronized (this)
+    {
+      if (serverSocket == null)
+      {
+        return;
+      }
+      try
+      {
+        serverSocket.close();
+      }
+      catch (final IOException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not close server socket", e);
+      }
+      executorService.shutdown();
+      acceptorThread = acceptor;
+    }
+
+    try
+    {
+      acceptorThread.join();
+      executorService.awaitTermination(1, TimeUnit.MINUTES);
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+    }
+    connectionPool.close();
+    deleteTokenFile();
+    LOGGER.log(Level.INFO, "Stopped SchemaCrawler server");
+  }
+
+  /**
+   * Starts the server, and blocks until the server is closed.
+   */
+  @Override
+  public void execute()
+    throws Exception
+  {
+    start();
+    awaitClose();
+  }
+
+  /**
+   * Gets the file that the server wrote its access token to.
+   *
+   * @return Token file, or null if the server is not started
+   */
+  public synchronized Path getTokenFile()
+  {
+    return tokenFile;
+  }
+
+  /**
+   * Starts accepting commands on a background thread.
+   *
+   * @return Local port that the server is listening on
+   * @throws IOException
+   *         On an exception opening the server socket, or writing the
+   *         token file
+   */
+  public synchronized int start()
+    throws IOException
+  {
+    if (serverSocket != null)
+    {
+      throw new IllegalStateException("Server is already started");
+    }
+
+    final ServerSocket socket = new ServerSocket(serverOptions.getPort(),
+                                                 50,
+                                                 InetAddress
+                                                   .getLoopbackAddress());
+    try
+    {
+      tokenFile = serverOptions.getTokenFile(socket.getLocalPort());
+      token = ServerToken.newToken();
+      ServerToken.writeToken(tokenFile, token);
+    }
+    catch (final IOException e)
+    {
+      socket.close();
+      tokenFile = null;
+      token = null;
+      throw e;
+    }
+    serverSocket = socket;
+    executorService = Executors
+      .newFixedThreadPool(serverOptions.getThreads());
+    acceptor = new Thread(this::acceptCommands,
+                          SchemaCrawlerServer.class.getSimpleName());
+    acceptor.start();
+
+    final int port = serverSocket.getLocalPort();
+    LOGGER.log(Level.INFO,
+               new StringFormat("Started SchemaCrawler server, on port %d, with token file %s",
+                                port,
+                                tokenFile));
+    return port;
+  }
+
+  private void acceptCommands()
+  {
+    while (!serverSocket.isClosed())
+    {
+      try
+      {
+        final Socket socket = serverSocket.accept();
+        executorService.execute(() -> serve(socket));
+      }
+      catch (final SocketException e)
+      {
+        // Server socket was closed
+        break;
+      }
+      catch (final IOException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not accept command", e);
+      }
+    }
+  }
+
+  private void deleteTokenFile()
+  {
+    final Path tokenFile;
+    synchronized (this)
+    {
+      tokenFile = this.tokenFile;
+    }
+    try
+    {
+      Files.deleteIfExists(tokenFile);
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 "Could not delete token file, " + tokenFile,
+                 e);
+    }
+  }
+
+  private void executeCommand(final Path workingDirectory,
+                              final String[] args,
+                              final DataOutputStream out)
+                                throws Exception
+  {
+    final Config argsMap = CommandLineUtility.parseArgs(args);
+
+    // Application options, such as the log level, apply to the whole
+    // server, and cannot be changed by a command
+    final ApplicationOptions applicationOptions = new ApplicationOptionsParser(argsMap)
+      .getOptions();
+    if (applicationOptions.isShowHelp())
+    {
+      throw new SchemaCrawlerCommandLineException("Help is not available from the SchemaCrawler server");
+    }
+
+    // Files are relative to the working directory of the client
+    for (final String fileOption: FILE_OPTIONS)
+    {
+      final String fileName = argsMap.getStringValue(fileOption, null);
+      if (!isBlank(fileName))
+      {
+        argsMap.put(fileOption,
+                    workingDirectory.resolve(fileName).normalize().toString());
+      }
+    }
+
+    final SchemaCrawlerCommandLine commandLine = new SchemaCrawlerCommandLine(argsMap,
+                                                                              registry);
+    final Writer writer = new OutputStreamWriter(new OutputFrames(out),
+                                                 StandardCharsets.UTF_8);
+    if (!commandLine.getConfig().hasValue("outputfile"))
+    {
+      commandLine.getOutputOptions().setWriter(writer);
+    }
+
+    final String password = commandLine.getConfig()
+      .getStringValue("password", null);
+    commandLine.execute(connectionPool
+      .pooled(commandLine.getConnectionOptions(), password), catalogCache);
+    writer.flush();
+  }
+
+  private void serve(final Socket socket)
+  {
+    try (final Socket client = socket;
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(client
+          .getInputStream()));
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(client
+          .getOutputStream()));)
+    {
+      final String protocol = in.readUTF();
+      final String clientToken = in.readUTF();
+      final String workingDirectory = in.readUTF();
+      final int argsCount = in.readInt();
+      final String[] args;
+      if (argsCount >= 0 && argsCount <= MAX_ARGS)
+      {
+        args = new String[argsCount];
+        for (int i = 0; i < argsCount; i++)
+        {
+          args[i] = in.readUTF();
+        }
+      }
+      else
+      {
+        args = null;
+      }
+
+      String errorMessage = null;
+      try
+      {
+        if (!PROTOCOL.equals(protocol))
+        {
+          throw new SchemaCrawlerException("Unsupported protocol, "
+                                           + protocol);
+        }
+        if (!ServerToken.matches(token, clientToken))
+        {
+          throw new SchemaCrawlerException("Not authorized, since the access token does not match the server token file");
+        }
+        if (args == null)
+        {
+          throw new SchemaCrawlerException("Invalid number of arguments, "
+                                           + argsCount);
+        }
+        executeCommand(Paths.get(workingDirectory), args, out);
+      }
+      catch (final Exception e)
+      {
+        LOGGER.log(Level.WARNING, "Could not execute command", e);
+        errorMessage = e.getMessage();
+        if (isBlank(errorMessage))
+        {
+          errorMessage = e.toString();
+        }
+      }
+
+      out.writeByte(END);
+      out.writeBoolean(errorMessage == null);
+      out.writeUTF(errorMessage == null? "": errorMessage);
+      out.flush();
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not serve command", e);
+    }
+  }
+
+}
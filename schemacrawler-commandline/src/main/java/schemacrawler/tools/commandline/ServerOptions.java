@@ -0,0 +1,179 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.commandline;
+
+
+import static sf.util.Utility.isBlank;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import schemacrawler.schemacrawler.Options;
+
+/**
+ * Options for the SchemaCrawler server, which keeps database
+ * connectors, pooled connections and crawled catalogs in memory between
+ * commands.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class ServerOptions
+  implements Options
+{
+
+  private static final long serialVersionUID = 2714418613839424372L;
+
+  public static final int DEFAULT_PORT = 7780;
+
+  private int port = DEFAULT_PORT;
+  private int threads = Runtime.getRuntime().availableProcessors();
+  private int maxIdleConnections = 4;
+  private int maxCachedCatalogs = 8;
+  private long catalogMaxAgeMillis;
+  private String tokenFile;
+
+  /**
+   * Time for which a crawled catalog may be reused for a database that
+   * does not define a metadata fingerprint query. Catalogs for
+   * databases with a metadata fingerprint query are reused for as long
+   * as the fingerprint does not change.
+   *
+   * @return Maximum age of catalogs that cannot be verified, or 0 to
+   *         always crawl such databases
+   */
+  public long getCatalogMaxAgeMillis()
+  {
+    return catalogMaxAgeMillis;
+  }
+
+  public int getMaxCachedCatalogs()
+  {
+    return maxCachedCatalogs;
+  }
+
+  /**
+   * Maximum number of idle connections to keep open for each database
+   * and user.
+   */
+  public int getMaxIdleConnections()
+  {
+    return maxIdleConnections;
+  }
+
+  /**
+   * Local port to listen on, or 0 to use any free port.
+   */
+  public int getPort()
+  {
+    return port;
+  }
+
+  /**
+   * Number of commands that can be executed at the same time.
+   */
+  public int getThreads()
+  {
+    return threads;
+  }
+
+  /**
+   * File that the server writes its access token to. Clients read the
+   * token from this file, and present it with every command.
+   *
+   * @param port
+   *        Port that the server is listening on
+   * @return Token file, which defaults to a file for the port in the
+   *         .schemacrawler directory under the user's home directory
+   */
+  public Path getTokenFile(final int port)
+  {
+    if (isBlank(tokenFile))
+    {
+      return ServerToken.defaultTokenFile(port);
+    }
+    return Paths.get(tokenFile);
+  }
+
+  public void setCatalogMaxAgeMillis(final long catalogMaxAgeMillis)
+  {
+    if (catalogMaxAgeMillis < 0)
+    {
+      throw new IllegalArgumentException("Catalog age cannot be negative");
+    }
+    this.catalogMaxAgeMillis = catalogMaxAgeMillis;
+  }
+
+  public void setMaxCachedCatalogs(final int maxCachedCatalogs)
+  {
+    if (maxCachedCatalogs <= 0)
+    {
+      throw new IllegalArgumentException("Number of cached catalogs must be positive");
+    }
+    this.maxCachedCatalogs = maxCachedCatalogs;
+  }
+
+  public void setMaxIdleConnections(final int maxIdleConnections)
+  {
+    if (maxIdleConnections < 0)
+    {
+      throw new IllegalArgumentException("Number of idle connections cannot be negative");
+    }
+    this.maxIdleConnections = maxIdleConnections;
+  }
+
+  public void setPort(final int port)
+  {
+    if (port < 0 || port > 65535)
+    {
+      throw new IllegalArgumentException("Invalid port, " + port);
+    }
+    this.port = port;
+  }
+
+  public void setTokenFile(final Path tokenFile)
+  {
+    if (tokenFile == null)
+    {
+      this.tokenFile = null;
+    }
+    else
+    {
+      this.tokenFile = tokenFile.toString();
+    }
+  }
+
+  public void setThreads(final int threads)
+  {
+    if (threads <= 0)
+    {
+      throw new IllegalArgumentException("Number of threads must be positive");
+    }
+    this.threads = threads;
+  }
+
+}
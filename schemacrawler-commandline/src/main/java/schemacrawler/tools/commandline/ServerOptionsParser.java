@@ -0,0 +1,110 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.commandline;
+
+
+import java.nio.file.Paths;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.SchemaCrawlerCommandLineException;
+
+/**
+ * Parses the command-line for the SchemaCrawler server.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class ServerOptionsParser
+  extends BaseOptionsParser<ServerOptions>
+{
+
+  public ServerOptionsParser(final Config config)
+  {
+    super(config);
+    normalizeOptionName("serverport");
+    normalizeOptionName("serverthreads");
+    normalizeOptionName("maxidleconnections");
+    normalizeOptionName("maxcatalogs");
+    normalizeOptionName("catalogmaxage");
+    normalizeOptionName("servertokenfile");
+  }
+
+  @Override
+  public ServerOptions getOptions()
+    throws SchemaCrawlerCommandLineException
+  {
+    final ServerOptions options = new ServerOptions();
+    try
+    {
+      if (config.hasValue("serverport"))
+      {
+        options.setPort(config.getIntegerValue("serverport",
+                                               ServerOptions.DEFAULT_PORT));
+        consumeOption("serverport");
+      }
+      if (config.hasValue("serverthreads"))
+      {
+        options.setThreads(config
+          .getIntegerValue("serverthreads", options.getThreads()));
+        consumeOption("serverthreads");
+      }
+      if (config.hasValue("maxidleconnections"))
+      {
+        options.setMaxIdleConnections(config
+          .getIntegerValue("maxidleconnections",
+                           options.getMaxIdleConnections()));
+        consumeOption("maxidleconnections");
+      }
+      if (config.hasValue("maxcatalogs"))
+      {
+        options.setMaxCachedCatalogs(config
+          .getIntegerValue("maxcatalogs", options.getMaxCachedCatalogs()));
+        consumeOption("maxcatalogs");
+      }
+      if (config.hasValue("catalogmaxage"))
+      {
+        // Maximum age is provided in seconds
+        options.setCatalogMaxAgeMillis(config
+          .getIntegerValue("catalogmaxage", 0) * 1000L);
+        consumeOption("catalogmaxage");
+      }
+      if (config.hasValue("servertokenfile"))
+      {
+        options.setTokenFile(Paths
+          .get(config.getStringValue("servertokenfile", null)));
+        consumeOption("servertokenfile");
+      }
+    }
+    catch (final IllegalArgumentException e)
+    {
+      throw new SchemaCrawlerCommandLineException(e.getMessage());
+    }
+
+    return options;
+  }
+
+}
@@ -0,0 +1,176 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.commandline;
+
+
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+
+/**
+ * Shared secret that clients present to the SchemaCrawler server with
+ * every command. The server writes the token to a file that only the
+ * user running the server can read, so only that user can send
+ * commands to the server.
+ *
+ * @author Sualeh Fatehi
+ */
+final class ServerToken
+{
+
+  private static final SecureRandom random = new SecureRandom();
+
+  /**
+   * Default location of the token file for a server listening on a
+   * given port, in the .schemacrawler directory under the user's home
+   * directory.
+   *
+   * @param port
+   *        Port that the server listens on
+   * @return Token file
+   */
+  static Path defaultTokenFile(final int port)
+  {
+    return Paths.get(System.getProperty("user.home"),
+                     ".schemacrawler",
+                     String.format("schemacrawler-server-%d.token", port));
+  }
+
+  static boolean matches(final String expectedToken, final String token)
+  {
+    if (expectedToken == null || token == null)
+    {
+      return false;
+    }
+    return MessageDigest.isEqual(expectedToken
+      .getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static String newToken()
+  {
+    final byte[] bytes = new byte[32];
+    random.nextBytes(bytes);
+    final StringBuilder token = new StringBuilder(bytes.length * 2);
+    for (final byte b: bytes)
+    {
+      token.append(String.format("%02x", b));
+    }
+    return token.toString();
+  }
+
+  static String readToken(final Path tokenFile)
+    throws IOException
+  {
+    try
+    {
+      return new String(Files.readAllBytes(tokenFile), StandardCharsets.UTF_8)
+        .trim();
+    }
+    catch (final NoSuchFileException e)
+    {
+      throw new IOException("Cannot read SchemaCrawler server token file, "
+                            + tokenFile, e);
+    }
+  }
+
+  /**
+   * Writes the token to a new file, that is readable and writable only
+   * by the owner. A file that already exists is replaced, but a new
+   * file is always created, so that the permissions of an existing
+   * file are not reused.
+   *
+   * @param tokenFile
+   *        Token file
+   * @param token
+   *        Token
+   * @throws IOException
+   *         On an exception writing the file
+   */
+  static void writeToken(final Path tokenFile, final String token)
+    throws IOException
+  {
+    final Path directory = tokenFile.toAbsolutePath().getParent();
+    final boolean isPosix = directory.getFileSystem()
+      .supportedFileAttributeViews().contains("posix");
+    if (!Files.isDirectory(directory))
+    {
+      if (isPosix)
+      {
+        Files.createDirectories(directory,
+                                PosixFilePermissions
+                                  .asFileAttribute(PosixFilePermissions
+                                    .fromString("rwx------")));
+      }
+      else
+      {
+        Files.createDirectories(directory);
+      }
+    }
+
+    Files.deleteIfExists(tokenFile);
+    if (isPosix)
+    {
+      Files.createFile(tokenFile,
+                       PosixFilePermissions.asFileAttribute(PosixFilePermissions
+                         .fromString("rw-------")));
+    }
+    else
+    {
+      Files.createFile(tokenFile);
+      final File file = tokenFile.toFile();
+      if (!(file.setReadable(false, false) && file.setReadable(true, true)
+            && file.setWritable(false, false)
+            && file.setWritable(true, true)))
+      {
+        Files.deleteIfExists(tokenFile);
+        throw new IOException("Cannot restrict access to SchemaCrawler server token file, "
+                              + tokenFile);
+      }
+    }
+    Files.write(tokenFile,
+                token.getBytes(StandardCharsets.UTF_8),
+                WRITE,
+                TRUNCATE_EXISTING);
+  }
+
+  private ServerToken()
+  {
+    // Prevent instantiation
+  }
+
+}
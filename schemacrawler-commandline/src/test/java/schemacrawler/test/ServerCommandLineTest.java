@@ -0,0 +1,189 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static java.nio.file.Files.newBufferedWriter;
+import static org.junit.Assert.assertEquals;
+import static schemacrawler.test.utility.TestUtility.createTempFile;
+import static us.fatehi.commandlineparser.CommandLineUtility.flattenCommandlineArgs;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.test.utility.TestWriter;
+import schemacrawler.tools.commandline.SchemaCrawlerClient;
+import schemacrawler.tools.commandline.SchemaCrawlerServer;
+import schemacrawler.tools.commandline.ServerOptions;
+
+public class ServerCommandLineTest
+  extends BaseDatabaseTest
+{
+
+  private static final String COMMAND_LINE_OUTPUT = "command_line_output/";
+
+  private SchemaCrawlerServer server;
+  private int port;
+  private SchemaCrawlerClient client;
+
+  @Test
+  public void consoleOutput()
+    throws Exception
+  {
+    try (final TestWriter out = new TestWriter("text");)
+    {
+      final ByteArrayOutputStream output = new ByteArrayOutputStream();
+      client.execute(args(null), Paths.get(""), output);
+      out.write(new String(output.toByteArray(), StandardCharsets.UTF_8));
+
+      out.assertEquals(COMMAND_LINE_OUTPUT
+                       + "commandLineRoutinesWithSorting.txt");
+    }
+  }
+
+  @Test(expected = SchemaCrawlerException.class)
+  public void error()
+    throws Exception
+  {
+    client.execute(new String[] { "-help" },
+                   Paths.get(""),
+                   new ByteArrayOutputStream());
+  }
+
+  @Test
+  public void ownerOnlyTokenFile()
+    throws Exception
+  {
+    final Path tokenFile = server.getTokenFile();
+    if (tokenFile.getFileSystem().supportedFileAttributeViews()
+      .contains("posix"))
+    {
+      assertEquals("rw-------",
+                   PosixFilePermissions
+                     .toString(Files.getPosixFilePermissions(tokenFile)));
+    }
+  }
+
+  @Test
+  public void outputFile()
+    throws Exception
+  {
+    // Run more than once, so that pooled connections are reused
+    for (int i = 0; i < 3; i++)
+    {
+      try (final TestWriter out = new TestWriter("text");)
+      {
+        client.execute(args(out.toString()),
+                       Paths.get(""),
+                       new ByteArrayOutputStream());
+
+        out.assertEquals(COMMAND_LINE_OUTPUT
+                         + "commandLineRoutinesWithSorting.txt");
+      }
+    }
+  }
+
+  @Test(expected = SchemaCrawlerException.class)
+  public void unauthorized()
+    throws Exception
+  {
+    final Path wrongTokenFile = createTempFile("SchemaCrawler.WrongToken",
+                                               "token");
+    Files.write(wrongTokenFile,
+                "not-the-token".getBytes(StandardCharsets.UTF_8));
+    new SchemaCrawlerClient(port, wrongTokenFile)
+      .execute(args(null), Paths.get(""), new ByteArrayOutputStream());
+  }
+
+  @Before
+  public void startServer()
+    throws Exception
+  {
+    final ServerOptions serverOptions = new ServerOptions();
+    serverOptions.setPort(0);
+    serverOptions.setThreads(2);
+    serverOptions
+      .setTokenFile(createTempFile("SchemaCrawler.TestServer", "token"));
+    server = new SchemaCrawlerServer(serverOptions);
+    port = server.start();
+    client = new SchemaCrawlerClient(port, server.getTokenFile());
+  }
+
+  @After
+  public void stopServer()
+  {
+    server.close();
+  }
+
+  private String[] args(final String outputFile)
+    throws Exception
+  {
+    final Map<String, String> argsMap = new HashMap<>();
+    argsMap.put("url", "jdbc:hsqldb:hsql://localhost/schemacrawler");
+    argsMap.put("user", "sa");
+    argsMap.put("password", "");
+    argsMap.put("noinfo", Boolean.TRUE.toString());
+    argsMap.put("schemas", ".*\\.(?!FOR_LINT).*");
+    argsMap.put("infolevel", "maximum");
+    argsMap.put("command", "brief");
+    argsMap.put("outputformat", "text");
+    argsMap.put("tables", "");
+    argsMap.put("sortroutines", Boolean.TRUE.toString());
+    if (outputFile != null)
+    {
+      argsMap.put("outputfile", outputFile);
+    }
+
+    final Config informationSchema = Config
+      .loadResource("/hsqldb.INFORMATION_SCHEMA.config.properties");
+    final String prefix = "SchemaCrawler.TestServerConfig";
+    final Path configFile = createTempFile(prefix, "properties");
+    final Properties configProperties = new Properties();
+    configProperties.putAll(informationSchema);
+    configProperties
+      .store(newBufferedWriter(configFile, StandardCharsets.UTF_8), prefix);
+    argsMap.put("g", configFile.toString());
+
+    return flattenCommandlineArgs(argsMap);
+  }
+
+}
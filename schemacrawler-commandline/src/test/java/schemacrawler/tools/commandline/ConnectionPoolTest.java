@@ -0,0 +1,101 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.commandline;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.hsqldb.jdbc.JDBCConnection;
+import org.junit.Test;
+
+import schemacrawler.schemacrawler.ConnectionOptions;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class ConnectionPoolTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void resetOnRelease()
+    throws Exception
+  {
+    try (final ConnectionPool pool = new ConnectionPool(1);)
+    {
+      final ConnectionOptions connectionOptions = pool
+        .pooled(getDatabaseConnectionOptions(), "");
+
+      final Connection connection = connectionOptions.getConnection();
+      final boolean autoCommit = connection.getAutoCommit();
+      final boolean readOnly = connection.isReadOnly();
+      final int transactionIsolation = connection.getTransactionIsolation();
+      final String schema = connection.getSchema();
+
+      connection.setAutoCommit(!autoCommit);
+      connection.setReadOnly(!readOnly);
+      if (transactionIsolation == Connection.TRANSACTION_SERIALIZABLE)
+      {
+        connection.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+      }
+      else
+      {
+        connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+      }
+      connection.setSchema("BOOKS");
+      connection.close();
+
+      final Connection reused = connectionOptions.getConnection();
+      assertEquals(autoCommit, reused.getAutoCommit());
+      assertEquals(readOnly, reused.isReadOnly());
+      assertEquals(transactionIsolation, reused.getTransactionIsolation());
+      assertEquals(schema, reused.getSchema());
+      reused.close();
+    }
+  }
+
+  @Test(expected = SQLException.class)
+  public void unwrap()
+    throws Exception
+  {
+    try (final ConnectionPool pool = new ConnectionPool(1);
+        final Connection connection = pool
+          .pooled(getDatabaseConnectionOptions(), "").getConnection();)
+    {
+      assertTrue(connection.isWrapperFor(Connection.class));
+      assertSame(connection, connection.unwrap(Connection.class));
+      assertFalse(connection.isWrapperFor(JDBCConnection.class));
+      connection.unwrap(JDBCConnection.class);
+    }
+  }
+
+}
@@ -28,6 +28,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.server.db2;
 
 
+import schemacrawler.crawl.IndexRetrievalStrategy;
 import schemacrawler.crawl.MetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
@@ -53,7 +54,8 @@ public final class DB2DatabaseConnector
   {
     final DatabaseSpecificOverrideOptionsBuilder databaseSpecificOverrideOptionsBuilder = super.getDatabaseSpecificOverrideOptionsBuilder();
     databaseSpecificOverrideOptionsBuilder
-      .withTableColumnRetrievalStrategy(MetadataRetrievalStrategy.metadata_all);
+      .withTableColumnRetrievalStrategy(MetadataRetrievalStrategy.metadata_all)
+      .withIndexRetrievalStrategy(IndexRetrievalStrategy.metadata_single_pass);
     return databaseSpecificOverrideOptionsBuilder;
   }
 
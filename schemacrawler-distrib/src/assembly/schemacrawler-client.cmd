@@ -0,0 +1 @@
+@java -classpath lib/*;. schemacrawler.ClientMain %*
\ No newline at end of file
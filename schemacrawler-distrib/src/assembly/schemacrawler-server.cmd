@@ -0,0 +1 @@
+@java -classpath lib/*;. schemacrawler.ServerMain %*
\ No newline at end of file
@@ -0,0 +1,2 @@
+#!/bin/sh
+java -cp $(echo lib/*.jar | tr ' ' ':') schemacrawler.ServerMain $*
@@ -0,0 +1,8 @@
+SELECT
+  TABLE_SCHEMA,
+  TABLE_NAME,
+  CARDINALITY AS ROW_COUNT
+FROM
+  INFORMATION_SCHEMA.SYSTEM_TABLESTATS
+WHERE
+  REGEXP_MATCHES(TABLE_CATALOG || '.' || TABLE_SCHEMA, '${schemas}')
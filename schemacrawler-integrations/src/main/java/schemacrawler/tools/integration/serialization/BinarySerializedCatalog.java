@@ -0,0 +1,226 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.serialization;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.BaseCatalogDecorator;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.utility.CatalogObjectInputStream;
+
+/**
+ * Decorates a database to allow for serialization to and from a
+ * compact, versioned binary format. The format is a GZIP stream with a
+ * header (magic number and format version), followed by the Java
+ * serialized catalog. Equal strings are written once, and later
+ * occurrences are written as back-references, so that repeated names
+ * do not bloat the file or the heap of the deserialized catalog. Only
+ * SchemaCrawler classes, and the core Java classes that a catalog is
+ * built from, are read back.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class BinarySerializedCatalog
+  extends BaseCatalogDecorator
+  implements SerializableCatalog
+{
+
+  /**
+   * Shares equal strings, so that each distinct string is written to
+   * the stream only once.
+   */
+  private static final class StringTableObjectOutputStream
+    extends ObjectOutputStream
+  {
+
+    private final Map<String, String> strings;
+
+    StringTableObjectOutputStream(final OutputStream out)
+      throws IOException
+    {
+      super(out);
+      strings = new HashMap<>();
+      enableReplaceObject(true);
+    }
+
+    @Override
+    protected Object replaceObject(final Object obj)
+      throws IOException
+    {
+      if (obj instanceof String)
+      {
+        return strings.computeIfAbsent((String) obj, string -> string);
+      }
+      else
+      {
+        return obj;
+      }
+    }
+
+  }
+
+  private static final long serialVersionUID = -1474209591392522702L;
+
+  private static final int MAGIC = 0x53434243; // "SCBC"
+  private static final int FORMAT_VERSION = 1;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * Checks whether the file contains a catalog in the binary format,
+   * by reading the header.
+   *
+   * @param file
+   *        File to check
+   * @return Whether the file contains a binary serialized catalog
+   */
+  public static boolean isBinarySerializedCatalog(final Path file)
+  {
+    if (file == null || !Files.isReadable(file))
+    {
+      return false;
+    }
+    try (final DataInputStream in = new DataInputStream(new GZIPInputStream(Files
+      .newInputStream(file)));)
+    {
+      return in.readInt() == MAGIC;
+    }
+    catch (final IOException e)
+    {
+      return false;
+    }
+  }
+
+  private static Catalog readCatalog(final InputStream in)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(in, "Input stream not provided");
+    try
+    {
+      final DataInputStream dataIn = new DataInputStream(new BufferedInputStream(new GZIPInputStream(in,
+                                                                                                     BUFFER_SIZE),
+                                                                                 BUFFER_SIZE));
+      if (dataIn.readInt() != MAGIC)
+      {
+        throw new SchemaCrawlerException("Not a binary serialized catalog");
+      }
+      final int formatVersion = dataIn.readInt();
+      if (formatVersion != FORMAT_VERSION)
+      {
+        throw new SchemaCrawlerException("Unsupported binary catalog format version, "
+                                         + formatVersion);
+      }
+
+      final ObjectInputStream objectIn = new CatalogObjectInputStream(dataIn);
+      return (Catalog) objectIn.readObject();
+    }
+    catch (final IOException | ClassNotFoundException | ClassCastException e)
+    {
+      throw new SchemaCrawlerException("Could not read binary serialized catalog",
+                                       e);
+    }
+  }
+
+  public BinarySerializedCatalog(final Catalog catalog)
+  {
+    super(catalog);
+  }
+
+  public BinarySerializedCatalog(final InputStream in)
+    throws SchemaCrawlerException
+  {
+    this(readCatalog(in));
+  }
+
+  /**
+   * Serializes the database to the output stream, in the binary
+   * format.
+   *
+   * @param out
+   *        Output stream to save to
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  @Override
+  public void save(final OutputStream out)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(out, "Output stream not provided");
+    try
+    {
+      final GZIPOutputStream gzipOut = new GZIPOutputStream(out, BUFFER_SIZE);
+      final DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(gzipOut,
+                                                                                     BUFFER_SIZE));
+      dataOut.writeInt(MAGIC);
+      dataOut.writeInt(FORMAT_VERSION);
+
+      final ObjectOutputStream objectOut = new StringTableObjectOutputStream(dataOut);
+      objectOut.writeObject(catalog);
+      objectOut.flush();
+      gzipOut.finish();
+      out.flush();
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Could not write binary serialized catalog",
+                                       e);
+    }
+  }
+
+  /**
+   * The binary format cannot be written to a character stream.
+   *
+   * @throws SchemaCrawlerException
+   *         Always
+   */
+  @Override
+  public void save(final Writer writer)
+    throws SchemaCrawlerException
+  {
+    throw new SchemaCrawlerException("Cannot write binary serialized catalog to a character stream");
+  }
+
+}
@@ -29,9 +29,13 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.integration.serialization;
 
 
+import static java.nio.file.Files.newOutputStream;
+
+import java.io.OutputStream;
 import java.io.Writer;
 import java.sql.Connection;
 
+import schemacrawler.crawl.MappedCatalogSnapshot;
 import schemacrawler.schema.Catalog;
 import schemacrawler.tools.executable.BaseStagedExecutable;
 
@@ -45,6 +49,8 @@ public final class SerializationExecutable
 {
 
   static final String COMMAND = "serialize";
+  static final String BINARY_FORMAT = "binary";
+  static final String MAPPED_FORMAT = "mapped";
 
   public SerializationExecutable()
   {
@@ -63,11 +69,28 @@ public final class SerializationExecutable
   public void executeOn(final Catalog db, final Connection connection)
     throws Exception
   {
-    final SerializableCatalog catalog = new XmlSerializedCatalog(db);
-    outputOptions.forceCompressedOutputFile();
-    try (final Writer writer = outputOptions.openNewOutputWriter();)
+    if (MAPPED_FORMAT.equalsIgnoreCase(outputOptions.getOutputFormatValue()))
+    {
+      MappedCatalogSnapshot.write(db, outputOptions.getOutputFile());
+    }
+    else if (BINARY_FORMAT
+      .equalsIgnoreCase(outputOptions.getOutputFormatValue()))
+    {
+      final SerializableCatalog catalog = new BinarySerializedCatalog(db);
+      try (final OutputStream out = newOutputStream(outputOptions
+        .getOutputFile());)
+      {
+        catalog.save(out);
+      }
+    }
+    else
     {
-      catalog.save(writer);
+      final SerializableCatalog catalog = new XmlSerializedCatalog(db);
+      outputOptions.forceCompressedOutputFile();
+      try (final Writer writer = outputOptions.openNewOutputWriter();)
+      {
+        catalog.save(writer);
+      }
     }
   }
 
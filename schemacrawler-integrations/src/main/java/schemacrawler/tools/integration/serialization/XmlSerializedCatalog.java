@@ -31,8 +31,11 @@ package schemacrawler.tools.integration.serialization;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -224,6 +227,22 @@ public final class XmlSerializedCatalog
     this((Catalog) newXStream().fromXML(reader));
   }
 
+  /**
+   * Serializes the database to the output stream, as UTF-8 encoded XML.
+   *
+   * @param out
+   *        Output stream to save to
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  @Override
+  public void save(final OutputStream out)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(out, "Output stream not provided");
+    save(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+  }
+
   /**
    * Serializes the database to the writer, as XML.
    *
@@ -32,13 +32,20 @@ package schemacrawler.integration.test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.ObjectOutputStream;
 import java.io.PrintWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.io.IOUtils;
 import org.custommonkey.xmlunit.DetailedDiff;
@@ -46,16 +53,78 @@ import org.custommonkey.xmlunit.Diff;
 import org.junit.Test;
 
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
 import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.integration.serialization.BinarySerializedCatalog;
 import schemacrawler.tools.integration.serialization.XmlSerializedCatalog;
 
 public class SchemaSerializationTest
   extends BaseDatabaseTest
 {
 
+  @Test
+  public void schemaSerializationWithBinaryFormat()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+    assertNotNull("Could not obtain catalog", catalog);
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new BinarySerializedCatalog(catalog).save(out);
+    assertNotSame("Catalog was not serialized", 0, out.size());
+
+    final Catalog deserializedCatalog = new BinarySerializedCatalog(new ByteArrayInputStream(out
+      .toByteArray()));
+    final Schema deserializedSchema = deserializedCatalog
+      .lookupSchema("PUBLIC.BOOKS").orElse(null);
+    assertNotNull("Could not obtain deserialized schema", deserializedSchema);
+    assertEquals("Unexpected number of tables in the deserialized schema",
+                 6,
+                 deserializedCatalog.getTables(deserializedSchema).size());
+
+    final Table table = deserializedCatalog
+      .lookupTable(deserializedSchema, "BOOKAUTHORS").get();
+    for (final ForeignKeyColumnReference columnReference: table
+      .getForeignKeys().iterator().next().getColumnReferences())
+    {
+      final Column primaryKeyColumn = columnReference.getPrimaryKeyColumn();
+      assertSame("Foreign key references were not preserved",
+                 primaryKeyColumn,
+                 deserializedCatalog
+                   .lookupTable(deserializedSchema,
+                                primaryKeyColumn.getParent().getName())
+                   .get().lookupColumn(primaryKeyColumn.getName()).get());
+    }
+  }
+
+  @Test(expected = SchemaCrawlerException.class)
+  public void schemaSerializationWithBinaryFormatRejectsOtherClasses()
+    throws Exception
+  {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final DataOutputStream dataOut = new DataOutputStream(new GZIPOutputStream(out));)
+    {
+      // Header of a binary serialized catalog, followed by an object
+      // that is not part of a catalog
+      dataOut.writeInt(0x53434243);
+      dataOut.writeInt(1);
+      final ObjectOutputStream objectOut = new ObjectOutputStream(dataOut);
+      objectOut.writeObject(new File("catalog"));
+      objectOut.flush();
+    }
+
+    new BinarySerializedCatalog(new ByteArrayInputStream(out.toByteArray()));
+  }
+
   @Test
   public void schemaSerializationWithXStream()
     throws Exception
@@ -33,6 +33,7 @@ import static java.util.Objects.requireNonNull;
 import java.io.Serializable;
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -122,6 +123,11 @@ public abstract class BaseLinter
     return columns;
   }
 
+  protected final Catalog getCatalog()
+  {
+    return catalog;
+  }
+
   protected final CrawlInfo getCrawlInfo()
   {
     return catalog.getCrawlInfo();
@@ -142,6 +148,34 @@ public abstract class BaseLinter
     return table != null && tableInclusionRule.test(table.getFullName());
   }
 
+  /**
+   * Whether this linter only looks at the catalog, and never at the
+   * database connection, and lints each table without regard to other
+   * tables. Tables can then be linted on several threads at once. Can
+   * be overridden. By default, false.
+   *
+   * @return Whether tables can be linted in parallel
+   */
+  protected boolean isCatalogOnly()
+  {
+    return false;
+  }
+
+  /**
+   * Whether this linter lints each table without regard to other
+   * tables, and uses the database connection only to query the table
+   * that is being linted. Tables can then be linted on several threads
+   * at once, each with its own connection. Can be overridden. By
+   * default, whether the linter only looks at the catalog.
+   *
+   * @return Whether tables can be linted in parallel, on separate
+   *         connections
+   */
+  protected boolean isTableIndependent()
+  {
+    return isCatalogOnly();
+  }
+
   protected abstract void lint(Table table, Connection connection)
     throws SchemaCrawlerException;
 
@@ -177,10 +211,23 @@ public abstract class BaseLinter
   final void lint(final Catalog catalog, final Connection connection)
     throws SchemaCrawlerException
   {
-    this.catalog = requireNonNull(catalog, "No catalog provided");
+    startLint(catalog, connection);
+    lintTables(catalog.getTables(), connection);
+    endLint(connection);
+  }
 
-    start(connection);
-    for (final Table table: catalog.getTables())
+  final void endLint(final Connection connection)
+    throws SchemaCrawlerException
+  {
+    end(connection);
+    catalog = null;
+  }
+
+  final void lintTables(final Collection<? extends Table> tables,
+                        final Connection connection)
+    throws SchemaCrawlerException
+  {
+    for (final Table table: tables)
     {
       if (tableInclusionRule.test(table.getFullName())
           && tableTypesFilter.test(table))
@@ -195,8 +242,13 @@ public abstract class BaseLinter
                                  getLinterId()));
       }
     }
-    end(connection);
-    this.catalog = null;
+  }
+
+  final void startLint(final Catalog catalog, final Connection connection)
+    throws SchemaCrawlerException
+  {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    start(connection);
   }
 
   private final void setColumnInclusionRule(final InclusionRule columnInclusionRule)
@@ -38,6 +38,14 @@ import java.util.List;
 import schemacrawler.schema.AttributedObject;
 import schemacrawler.schema.NamedObject;
 
+/**
+ * Collects lints, and attaches them to the linted objects. Lints can be
+ * added from several threads at once. Lints are always returned in
+ * sorted order, so the order does not depend on the order in which
+ * linters ran.
+ *
+ * @author Sualeh Fatehi
+ */
 public final class LintCollector
   implements Iterable<Lint<? extends Serializable>>
 {
@@ -64,8 +72,8 @@ public final class LintCollector
     lints = new ArrayList<>();
   }
 
-  public <N extends NamedObject & AttributedObject> void addLint(final N namedObject,
-                                                                 final Lint<?> lint)
+  public synchronized <N extends NamedObject & AttributedObject> void addLint(final N namedObject,
+                                                                              final Lint<?> lint)
   {
     if (namedObject != null && lint != null
         && namedObject.getFullName().equals(lint.getObjectName()))
@@ -80,13 +88,13 @@ public final class LintCollector
   }
 
   @Override
-  public Iterator<Lint<? extends Serializable>> iterator()
+  public synchronized Iterator<Lint<? extends Serializable>> iterator()
   {
     Collections.sort(lints);
-    return lints.iterator();
+    return new ArrayList<>(lints).iterator();
   }
 
-  public int size()
+  public synchronized int size()
   {
     return lints.size();
   }
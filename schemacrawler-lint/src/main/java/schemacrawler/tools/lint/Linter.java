@@ -32,6 +32,7 @@ import static sf.util.Utility.readResourceFully;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -57,7 +58,7 @@ public abstract class Linter
   private LintCollector collector;
   private LintSeverity severity;
   private int threshold;
-  private int lintCount;
+  private final AtomicInteger lintCount = new AtomicInteger();
 
   protected Linter()
   {
@@ -67,7 +68,7 @@ public abstract class Linter
 
   public final boolean exceedsThreshold()
   {
-    return lintCount > threshold;
+    return lintCount.get() > threshold;
   }
 
   /**
@@ -101,7 +102,7 @@ public abstract class Linter
    */
   public final int getLintCount()
   {
-    return lintCount;
+    return lintCount.get();
   }
 
   /**
@@ -168,7 +169,7 @@ public abstract class Linter
                                       message,
                                       value);
       collector.addLint(namedObject, lint);
-      lintCount = lintCount + 1;
+      lintCount.incrementAndGet();
     }
   }
 
@@ -31,16 +31,28 @@ package schemacrawler.tools.lint;
 import static java.util.Objects.requireNonNull;
 
 import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.ConnectionOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import sf.util.StringFormat;
 
@@ -54,11 +66,44 @@ public final class Linters
   private final List<Linter> linters = new ArrayList<>();
   private final LintCollector collector = new LintCollector();
   private final LinterRegistry registry = new LinterRegistry();
+  private final int lintThreads;
+  private final ConnectionOptions connectionOptions;
 
   public Linters(final LinterConfigs linterConfigs)
     throws SchemaCrawlerException
+  {
+    this(linterConfigs, 1, null);
+  }
+
+  /**
+   * Creates linters that lint on several threads. Linters that only
+   * look at the catalog lint partitions of the tables in parallel.
+   * Other linters each run on a connection from a pool, which has the
+   * connection that is linted, and new connections opened from the
+   * connection options. Without connection options, these linters
+   * share the one connection, and run one at a time.
+   *
+   * @param linterConfigs
+   *        Linter configurations
+   * @param lintThreads
+   *        Number of threads, which is also the largest number of
+   *        connections used
+   * @param connectionOptions
+   *        Options to open more connections, or null
+   */
+  public Linters(final LinterConfigs linterConfigs,
+                 final int lintThreads,
+                 final ConnectionOptions connectionOptions)
+    throws SchemaCrawlerException
   {
     requireNonNull(linterConfigs, "No linter configs provided");
+    if (lintThreads < 1)
+    {
+      throw new IllegalArgumentException("Number of lint threads should be at least 1, "
+                                         + lintThreads);
+    }
+    this.lintThreads = lintThreads;
+    this.connectionOptions = connectionOptions;
 
     final Set<String> registeredLinters = registry.allRegisteredLinters();
 
@@ -177,6 +222,12 @@ public final class Linters
   public void lint(final Catalog catalog, final Connection connection)
     throws SchemaCrawlerException
   {
+    if (lintThreads > 1)
+    {
+      lintInParallel(catalog, connection);
+      return;
+    }
+
     for (final Linter linter: linters)
     {
       LOGGER.log(Level.FINE,
@@ -192,6 +243,190 @@ public final class Linters
     return linters.toString();
   }
 
+  /**
+   * Lints tables in partitions with linters that lint each table
+   * independently, such as linters that only look at the catalog, or
+   * that run a query for each table. Each partition that needs the
+   * database gets a connection from a pool. Other linters run on
+   * connections from the same pool, and instances of the same linter
+   * always run on the same thread, one after the other. Each table is
+   * linted on only one thread by each linter. Since lints are sorted when they are read, they come
+   * out in the same order as when linters run one at a time.
+   */
+  private void lintInParallel(final Catalog catalog,
+                              final Connection connection)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(catalog, "No catalog provided");
+
+    // Table linters lint partitions of tables, on several threads at
+    // once, and lints are only added to tables through the lint
+    // collector, so table attributes are not changed concurrently
+    final List<BaseLinter> tableLinters = new ArrayList<>();
+    boolean tableLintersUseConnection = false;
+    final Map<String, List<Linter>> otherLinters = new LinkedHashMap<>();
+    for (final Linter linter: linters)
+    {
+      if (linter instanceof BaseLinter
+          && ((BaseLinter) linter).isTableIndependent())
+      {
+        final BaseLinter tableLinter = (BaseLinter) linter;
+        tableLinters.add(tableLinter);
+        tableLintersUseConnection = tableLintersUseConnection
+                                    || !tableLinter.isCatalogOnly();
+      }
+      else
+      {
+        otherLinters
+          .computeIfAbsent(linter.getLinterId(), key -> new ArrayList<>())
+          .add(linter);
+      }
+    }
+
+    final int connectionPoolSize;
+    if (connection == null || connectionOptions == null)
+    {
+      connectionPoolSize = 1;
+    }
+    else if (tableLintersUseConnection)
+    {
+      // Partitions of tables are linted on their own connections
+      connectionPoolSize = lintThreads;
+    }
+    else
+    {
+      connectionPoolSize = Math
+        .max(1, Math.min(lintThreads, otherLinters.size()));
+    }
+    LOGGER.log(Level.INFO,
+               new StringFormat("Linting %d tables, using %d threads and %d connections",
+                                catalog.getTables().size(),
+                                lintThreads,
+                                connectionPoolSize));
+
+    final BlockingQueue<Connection> connections = new ArrayBlockingQueue<>(connectionPoolSize);
+    final List<Connection> additionalConnections = new ArrayList<>();
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(lintThreads);
+    try
+    {
+      if (connection != null)
+      {
+        connections.add(connection);
+      }
+      for (int i = 1; i < connectionPoolSize; i++)
+      {
+        final Connection additionalConnection = connectionOptions
+          .getConnection();
+        additionalConnections.add(additionalConnection);
+        connections.add(additionalConnection);
+      }
+
+      final List<Callable<Void>> tasks = new ArrayList<>();
+      // Submit linters that use a connection first, since they are
+      // usually the slowest
+      for (final List<Linter> sameLinters: otherLinters.values())
+      {
+        tasks.add(() -> {
+          // Without a connection, linters do not share anything
+          final Connection pooledConnection = connection == null? null
+                                                                : connections
+                                                                  .take();
+          try
+          {
+            for (final Linter linter: sameLinters)
+            {
+              LOGGER.log(Level.FINE,
+                         new StringFormat("Linting with, %s",
+                                          linter.getLinterInstanceId()));
+              linter.lint(catalog, pooledConnection);
+            }
+          }
+          finally
+          {
+            if (pooledConnection != null)
+            {
+              connections.add(pooledConnection);
+            }
+          }
+          return null;
+        });
+      }
+
+      for (final BaseLinter linter: tableLinters)
+      {
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Linting in parallel with, %s",
+                                    linter.getLinterInstanceId()));
+        linter.startLint(catalog, connection);
+      }
+      final boolean takeConnection = connection != null
+                                     && tableLintersUseConnection;
+      final List<Table> tables = new ArrayList<>(catalog.getTables());
+      final int partitionSize = Math
+        .max(1, (tables.size() + lintThreads * 4 - 1) / (lintThreads * 4));
+      for (int from = 0; from < tables.size(); from = from + partitionSize)
+      {
+        final List<Table> partition = tables
+          .subList(from, Math.min(from + partitionSize, tables.size()));
+        tasks.add(() -> {
+          final Connection partitionConnection = takeConnection? connections
+            .take(): connection;
+          try
+          {
+            for (final BaseLinter linter: tableLinters)
+            {
+              linter.lintTables(partition, partitionConnection);
+            }
+          }
+          finally
+          {
+            if (takeConnection)
+            {
+              connections.add(partitionConnection);
+            }
+          }
+          return null;
+        });
+      }
+
+      for (final Future<Void> result: executorService.invokeAll(tasks))
+      {
+        waitFor(result);
+      }
+
+      for (final BaseLinter linter: tableLinters)
+      {
+        linter.endLint(connection);
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while linting", e);
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException("Could not open connection for linting",
+                                       e);
+    }
+    finally
+    {
+      executorService.shutdownNow();
+      for (final Connection additionalConnection: additionalConnections)
+      {
+        try
+        {
+          additionalConnection.close();
+        }
+        catch (final SQLException e)
+        {
+          LOGGER.log(Level.WARNING, "Could not close connection", e);
+        }
+      }
+    }
+  }
+
   private Linter newLinter(final String linterId)
   {
     final Linter linter = registry.newLinter(linterId);
@@ -207,4 +442,30 @@ public final class Linters
     return linter;
   }
 
+  private void waitFor(final Future<Void> result)
+    throws SchemaCrawlerException, InterruptedException
+  {
+    try
+    {
+      result.get();
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) cause;
+      }
+      else if (cause instanceof RuntimeException)
+      {
+        throw (RuntimeException) cause;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Exception linting in parallel",
+                                         cause);
+      }
+    }
+  }
+
 }
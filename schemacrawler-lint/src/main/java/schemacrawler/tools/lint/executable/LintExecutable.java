@@ -68,7 +68,9 @@ public class LintExecutable
     lintOptions = getLintOptions();
 
     final LinterConfigs linterConfigs = readLinterConfigs(lintOptions);
-    final Linters linters = new Linters(linterConfigs);
+    final Linters linters = new Linters(linterConfigs,
+                                        lintOptions.getLintThreads(),
+                                        getConnectionOptions());
 
     final LintedCatalog catalog = new LintedCatalog(db, connection, linters);
 
@@ -37,6 +37,7 @@ public class LintOptions
   private static final long serialVersionUID = -5917925090616219096L;
 
   private String linterConfigs;
+  private int lintThreads = 1;
 
   /**
    * Gets the path to the linter configs file.
@@ -48,6 +49,18 @@ public class LintOptions
     return linterConfigs;
   }
 
+  /**
+   * Number of threads used to lint. Linters that only look at the
+   * catalog lint tables on all these threads, and other linters share
+   * at most this many connections. With 1, linters run one at a time.
+   *
+   * @return Number of threads used to lint
+   */
+  public int getLintThreads()
+  {
+    return lintThreads;
+  }
+
   /**
    * Sets the path to the linter configs file.
    *
@@ -59,4 +72,22 @@ public class LintOptions
     this.linterConfigs = linterConfigs;
   }
 
+  /**
+   * Number of threads used to lint. Linters that only look at the
+   * catalog lint tables on all these threads, and other linters share
+   * at most this many connections. With 1, linters run one at a time.
+   *
+   * @param lintThreads
+   *        Number of threads used to lint
+   */
+  public void setLintThreads(final int lintThreads)
+  {
+    if (lintThreads < 1)
+    {
+      throw new IllegalArgumentException("Number of lint threads should be at least 1, "
+                                         + lintThreads);
+    }
+    this.lintThreads = lintThreads;
+  }
+
 }
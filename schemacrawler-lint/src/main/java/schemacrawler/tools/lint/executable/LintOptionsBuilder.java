@@ -40,6 +40,8 @@ public class LintOptionsBuilder
   private static final String CLI_LINTER_CONFIGS = "linterconfigs";
   private static final String LINTER_CONFIGS = SCHEMACRAWLER_FORMAT_PREFIX
                                                + CLI_LINTER_CONFIGS;
+  private static final String LINT_THREADS = SCHEMACRAWLER_FORMAT_PREFIX
+                                             + "lint.threads";
 
   public LintOptionsBuilder()
   {
@@ -66,6 +68,7 @@ public class LintOptionsBuilder
       // Otherwise, take option from SchemaCrawler configuration file
       options.setLinterConfigs(config.getStringValue(LINTER_CONFIGS, ""));
     }
+    options.setLintThreads(config.getIntegerValue(LINT_THREADS, 1));
 
     return this;
   }
@@ -75,9 +78,20 @@ public class LintOptionsBuilder
   {
     final Config config = super.toConfig();
     config.setStringValue(LINTER_CONFIGS, options.getLinterConfigs());
+    config.setStringValue(LINT_THREADS,
+                          String.valueOf(options.getLintThreads()));
     return config;
   }
 
+  /**
+   * Number of threads used to lint. With 1, linters run one at a time.
+   */
+  public LintOptionsBuilder lintThreads(final int lintThreads)
+  {
+    options.setLintThreads(lintThreads);
+    return this;
+  }
+
   /**
    * Whether to show LOBs.
    */
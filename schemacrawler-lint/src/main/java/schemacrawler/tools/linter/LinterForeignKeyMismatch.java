@@ -57,6 +57,12 @@ public class LinterForeignKeyMismatch
     return "foreign key data type different from primary key";
   }
 
+  @Override
+  protected boolean isCatalogOnly()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connections)
   {
@@ -57,6 +57,12 @@ public class LinterForeignKeySelfReference
     return "foreign key self-references primary key";
   }
 
+  @Override
+  protected boolean isCatalogOnly()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connections)
   {
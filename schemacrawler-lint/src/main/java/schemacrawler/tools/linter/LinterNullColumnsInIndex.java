@@ -51,6 +51,12 @@ public class LinterNullColumnsInIndex
     return "unique index with nullable columns";
   }
 
+  @Override
+  protected boolean isCatalogOnly()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -48,6 +48,12 @@ public class LinterTableAllNullableColumns
     return "all data columns are nullable";
   }
 
+  @Override
+  protected boolean isCatalogOnly()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -29,31 +29,39 @@ package schemacrawler.tools.linter;
 
 
 import static java.util.Objects.requireNonNull;
-import static schemacrawler.utility.QueryUtility.executeForLong;
+import static schemacrawler.tools.analysis.counts.CountsUtility.getRowCount;
+import static schemacrawler.tools.analysis.counts.CountsUtility.hasRowCount;
+import static schemacrawler.utility.SchemaCrawlerUtility.matchDatabaseSpecificOverrideOptions;
 
 import java.sql.Connection;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.util.HashMap;
+import java.util.Map;
 
 import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.IncludeAll;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.analysis.counts.RowCountStrategy;
+import schemacrawler.tools.analysis.counts.TableRowCounter;
 import schemacrawler.tools.lint.BaseLinter;
 import schemacrawler.tools.lint.LintSeverity;
-import schemacrawler.utility.Query;
-import sf.util.StringFormat;
 
 public class LinterTableEmpty
   extends BaseLinter
 {
 
-  private static final Logger LOGGER = Logger
-    .getLogger(LinterTableEmpty.class.getName());
+  private RowCountStrategy rowCountStrategy;
+  private TableRowCounter tableRowCounter;
+  private Map<String, Long> rowCounts;
 
   public LinterTableEmpty()
   {
     setSeverity(LintSeverity.low);
     setTableTypesFilter(new TableTypesFilter("TABLE"));
+
+    rowCountStrategy = RowCountStrategy.exact;
   }
 
   @Override
@@ -62,26 +70,83 @@ public class LinterTableEmpty
     return "empty table";
   }
 
+  @Override
+  protected void configure(final Config config)
+  {
+    requireNonNull(config, "No configuration provided");
+
+    rowCountStrategy = config.getEnumValue("row-count-strategy",
+                                           RowCountStrategy.exact);
+  }
+
+  @Override
+  protected void end(final Connection connection)
+  {
+    tableRowCounter = null;
+    rowCounts = null;
+  }
+
+  @Override
+  protected boolean isTableIndependent()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
     requireNonNull(table, "No table provided");
     requireNonNull(connection, "No connection provided");
 
-    final Query query = new Query("Count", "SELECT COUNT(*) FROM ${table}");
-    try
+    final long count;
+    if (rowCounts.containsKey(table.getFullName()))
     {
-      final long count = executeForLong(query, connection, table);
-      if (count == 0)
-      {
-        addTableLint(table, getSummary());
-      }
+      // Rows were already counted, for example for schema output
+      count = rowCounts.get(table.getFullName());
     }
-    catch (final SchemaCrawlerException e)
+    else
     {
-      LOGGER.log(Level.WARNING,
-                 e,
-                 new StringFormat("Could not get count for table, ", table));
+      // The row count is not set on the table, since lints may be
+      // added to the table on other threads
+      count = tableRowCounter.getRowCount(table, connection);
+    }
+
+    if (count == 0)
+    {
+      addTableLint(table, getSummary());
+    }
+  }
+
+  @Override
+  protected void start(final Connection connection)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(connection, "No connection provided");
+
+    final InformationSchemaViews informationSchemaViews;
+    if (rowCountStrategy == RowCountStrategy.exact)
+    {
+      informationSchemaViews = new InformationSchemaViews();
+    }
+    else
+    {
+      informationSchemaViews = matchDatabaseSpecificOverrideOptions(connection)
+        .getInformationSchemaViews();
+    }
+    tableRowCounter = new TableRowCounter(connection,
+                                          rowCountStrategy,
+                                          informationSchemaViews,
+                                          new IncludeAll());
+
+    // Read row counts that are already set on tables before any table
+    // is linted, since tables may be linted on several threads at once
+    rowCounts = new HashMap<>();
+    for (final Table table: getCatalog().getTables())
+    {
+      if (hasRowCount(table))
+      {
+        rowCounts.put(table.getFullName(), getRowCount(table));
+      }
     }
   }
 
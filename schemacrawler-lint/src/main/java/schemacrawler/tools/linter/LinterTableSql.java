@@ -71,6 +71,12 @@ public class LinterTableSql
     }
   }
 
+  @Override
+  protected boolean isTableIndependent()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
     throws SchemaCrawlerException
@@ -73,6 +73,12 @@ public class LinterTableWithBadlyNamedColumns
     }
   }
 
+  @Override
+  protected boolean isCatalogOnly()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
     throws SchemaCrawlerException
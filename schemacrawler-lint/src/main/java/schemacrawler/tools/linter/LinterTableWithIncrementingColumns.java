@@ -85,6 +85,12 @@ public class LinterTableWithIncrementingColumns
     return "incrementing columns";
   }
 
+  @Override
+  protected boolean isCatalogOnly()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
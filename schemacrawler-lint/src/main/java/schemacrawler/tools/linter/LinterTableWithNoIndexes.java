@@ -51,6 +51,12 @@ public class LinterTableWithNoIndexes
     return "no indexes";
   }
 
+  @Override
+  protected boolean isCatalogOnly()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
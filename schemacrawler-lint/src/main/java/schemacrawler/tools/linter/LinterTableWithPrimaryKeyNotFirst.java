@@ -55,6 +55,12 @@ public class LinterTableWithPrimaryKeyNotFirst
     return "primary key not first";
   }
 
+  @Override
+  protected boolean isCatalogOnly()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -68,6 +68,12 @@ public class LinterTooManyLobs
     maxLargeObjectsInTable = config.getIntegerValue("max-large-objects", 1);
   }
 
+  @Override
+  protected boolean isCatalogOnly()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
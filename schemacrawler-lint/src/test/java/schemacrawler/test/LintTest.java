@@ -30,9 +30,12 @@ package schemacrawler.test;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Test;
 
@@ -106,6 +109,66 @@ public class LintTest
     }
   }
 
+  @Test
+  public void lintsInParallel()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions
+      .setTableTypes(Arrays.asList("TABLE", "VIEW", "GLOBAL TEMPORARY"));
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionInclusionRule(".*FOR_LINT"));
+
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+    assertNotNull(catalog);
+
+    final LinterConfigs linterConfigs = new LinterConfigs();
+    final LinterConfig linterConfig = new LinterConfig("schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns");
+    linterConfig.setThreshold(0);
+    linterConfig.put("bad-column-names", ".*\\.COUNTRY");
+    linterConfigs.add(linterConfig);
+
+    final Linters linters = new Linters(linterConfigs,
+                                        4,
+                                        getDatabaseConnectionOptions());
+
+    final LintedCatalog lintedDatabase = new LintedCatalog(catalog,
+                                                           getConnection(),
+                                                           linters);
+    final LintCollector lintCollector = lintedDatabase.getCollector();
+    assertEquals(54, lintCollector.size());
+
+    try (final TestWriter out = new TestWriter("text");)
+    {
+      for (final Lint<?> lint: lintCollector)
+      {
+        out.println(lint);
+      }
+
+      out.assertEquals(LINTS_OUTPUT + "schemacrawler.lints.txt");
+    }
+
+    try (final TestWriter out = new TestWriter("text");)
+    {
+      out.println(linters.getLintSummary());
+      out.assertEquals(LINTS_OUTPUT + "schemacrawler.lints.summary.txt");
+    }
+  }
+
+  @Test
+  public void sqlLintsInParallel()
+    throws Exception
+  {
+    final List<String> lints = sqlLints(1);
+    assertFalse(lints.isEmpty());
+    // Each table is queried on one of several connections, and lints
+    // are the same as when tables are linted one at a time
+    for (int i = 0; i < 3; i++)
+    {
+      assertEquals(lints, sqlLints(4));
+    }
+  }
+
   @Test
   public void lintsWithExcludedColumns()
     throws Exception
@@ -148,4 +211,35 @@ public class LintTest
     }
   }
 
+  private List<String> sqlLints(final int lintThreads)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setTableTypes(Arrays.asList("TABLE"));
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+
+    final LinterConfigs linterConfigs = new LinterConfigs();
+    linterConfigs
+      .add(new LinterConfig("schemacrawler.tools.linter.LinterTableEmpty"));
+    final LinterConfig sqlLinterConfig = new LinterConfig("schemacrawler.tools.linter.LinterTableSql");
+    sqlLinterConfig.put("message", "has rows");
+    sqlLinterConfig.put("sql", "SELECT TOP 1 1 FROM ${table}");
+    linterConfigs.add(sqlLinterConfig);
+    linterConfigs
+      .add(new LinterConfig("schemacrawler.tools.linter.LinterTableWithSingleColumn"));
+
+    final Linters linters = new Linters(linterConfigs,
+                                        lintThreads,
+                                        getDatabaseConnectionOptions());
+    final LintedCatalog lintedDatabase = new LintedCatalog(catalog,
+                                                           getConnection(),
+                                                           linters);
+    final List<String> lints = new ArrayList<>();
+    for (final Lint<?> lint: lintedDatabase.getCollector())
+    {
+      lints.add(lint.toString());
+    }
+    return lints;
+  }
+
 }
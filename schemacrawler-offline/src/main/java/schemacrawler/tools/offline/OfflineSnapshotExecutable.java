@@ -29,11 +29,17 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.offline;
 
 
+import static schemacrawler.crawl.MappedCatalogSnapshot.isMappedCatalogSnapshot;
 import static schemacrawler.filter.FilterFactory.routineFilter;
 import static schemacrawler.filter.FilterFactory.tableFilter;
+import static schemacrawler.tools.integration.serialization.BinarySerializedCatalog.isBinarySerializedCatalog;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.util.function.Predicate;
 import java.util.logging.Level;
@@ -41,6 +47,7 @@ import java.util.logging.Logger;
 
 import static java.util.Objects.requireNonNull;
 
+import schemacrawler.crawl.MappedCatalogSnapshot;
 import schemacrawler.crawl.RoutinesReducer;
 import schemacrawler.crawl.SchemasReducer;
 import schemacrawler.crawl.SequencesReducer;
@@ -58,6 +65,7 @@ import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.executable.BaseExecutable;
 import schemacrawler.tools.executable.SchemaCrawlerExecutable;
 import schemacrawler.tools.executable.StagedExecutable;
+import schemacrawler.tools.integration.serialization.BinarySerializedCatalog;
 import schemacrawler.tools.integration.serialization.XmlSerializedCatalog;
 import schemacrawler.tools.offline.jdbc.OfflineConnection;
 import schemacrawler.tools.options.OutputOptions;
@@ -89,13 +97,38 @@ public class OfflineSnapshotExecutable
   {
     checkConnection(connection);
 
+    final Path offlineDatabasePath = ((OfflineConnection) connection)
+      .getOfflineDatabasePath();
     inputOptions = new OutputOptions();
-    inputOptions.setCompressedInputFile(((OfflineConnection) connection)
-      .getOfflineDatabasePath());
+    inputOptions.setCompressedInputFile(offlineDatabasePath);
 
-    final Catalog catalog = loadCatalog();
+    final Catalog catalog;
+    if (isMappedCatalogSnapshot(offlineDatabasePath))
+    {
+      // Opens in constant time, and reads schemas as they are used
+      catalog = MappedCatalogSnapshot.open(offlineDatabasePath);
+    }
+    else if (isBinarySerializedCatalog(offlineDatabasePath))
+    {
+      catalog = loadBinaryCatalog(offlineDatabasePath);
+    }
+    else
+    {
+      catalog = loadCatalog();
+    }
 
-    executeOn(catalog, connection);
+    try
+    {
+      executeOn(catalog, connection);
+    }
+    finally
+    {
+      // Snapshots keep their file open until they are closed
+      if (catalog instanceof Closeable)
+      {
+        ((Closeable) catalog).close();
+      }
+    }
   }
 
   @Override
@@ -144,6 +177,20 @@ public class OfflineSnapshotExecutable
     }
   }
 
+  private Catalog loadBinaryCatalog(final Path offlineDatabasePath)
+    throws SchemaCrawlerException
+  {
+    try (final InputStream snapshotStream = Files
+      .newInputStream(offlineDatabasePath);)
+    {
+      return new BinarySerializedCatalog(snapshotStream);
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Cannot open input stream", e);
+    }
+  }
+
   private Catalog loadCatalog()
     throws SchemaCrawlerException
   {
@@ -30,6 +30,7 @@ package schemacrawler.server.oracle;
 
 import schemacrawler.crawl.MetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
+import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
 import schemacrawler.tools.databaseconnector.DatabaseServerType;
@@ -65,6 +66,8 @@ public final class OracleDatabaseConnector
     final DatabaseSpecificOverrideOptionsBuilder databaseSpecificOverrideOptionsBuilder = super.getDatabaseSpecificOverrideOptionsBuilder();
     databaseSpecificOverrideOptionsBuilder
       .withTableColumnRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all);
+    databaseSpecificOverrideOptionsBuilder.withInformationSchemaViews()
+      .withFetchSize(InformationSchemaKey.TABLE_COLUMNS, 5000);
     return databaseSpecificOverrideOptionsBuilder;
   }
 
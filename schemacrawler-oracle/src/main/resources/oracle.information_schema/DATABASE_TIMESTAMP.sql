@@ -0,0 +1,4 @@
+SELECT
+  TO_CHAR(SYSTIMESTAMP, 'YYYY-MM-DD HH24:MI:SS') AS DATABASE_TIMESTAMP
+FROM
+  DUAL
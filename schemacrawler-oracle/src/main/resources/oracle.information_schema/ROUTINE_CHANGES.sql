@@ -0,0 +1,10 @@
+SELECT /*+ PARALLEL(AUTO) */
+  NULL AS ROUTINE_CATALOG,
+  OBJECTS.OWNER AS ROUTINE_SCHEMA,
+  OBJECTS.OBJECT_NAME AS ROUTINE_NAME
+FROM
+  ALL_OBJECTS OBJECTS
+WHERE
+  OBJECTS.OBJECT_TYPE IN ('PROCEDURE', 'FUNCTION')
+  AND OBJECTS.LAST_DDL_TIME >= TO_DATE('${crawl_timestamp}', 'YYYY-MM-DD HH24:MI:SS')
+  AND REGEXP_LIKE(OBJECTS.OWNER, '${schemas}')
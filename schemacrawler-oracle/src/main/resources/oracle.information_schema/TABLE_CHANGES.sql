@@ -0,0 +1,39 @@
+SELECT /*+ PARALLEL(AUTO) */
+  NULL AS TABLE_CATALOG,
+  OBJECTS.OWNER AS TABLE_SCHEMA,
+  OBJECTS.OBJECT_NAME AS TABLE_NAME
+FROM
+  ALL_OBJECTS OBJECTS
+WHERE
+  OBJECTS.OBJECT_TYPE IN ('TABLE', 'VIEW')
+  AND OBJECTS.LAST_DDL_TIME >= TO_DATE('${crawl_timestamp}', 'YYYY-MM-DD HH24:MI:SS')
+  AND REGEXP_LIKE(OBJECTS.OWNER, '${schemas}')
+UNION
+SELECT
+  NULL AS TABLE_CATALOG,
+  INDEXES.TABLE_OWNER AS TABLE_SCHEMA,
+  INDEXES.TABLE_NAME
+FROM
+  ALL_INDEXES INDEXES
+  INNER JOIN ALL_OBJECTS OBJECTS
+    ON INDEXES.OWNER = OBJECTS.OWNER
+      AND INDEXES.INDEX_NAME = OBJECTS.OBJECT_NAME
+      AND OBJECTS.OBJECT_TYPE = 'INDEX'
+WHERE
+  OBJECTS.LAST_DDL_TIME >= TO_DATE('${crawl_timestamp}', 'YYYY-MM-DD HH24:MI:SS')
+  AND REGEXP_LIKE(INDEXES.TABLE_OWNER, '${schemas}')
+UNION
+SELECT
+  NULL AS TABLE_CATALOG,
+  TRIGGERS.TABLE_OWNER AS TABLE_SCHEMA,
+  TRIGGERS.TABLE_NAME
+FROM
+  ALL_TRIGGERS TRIGGERS
+  INNER JOIN ALL_OBJECTS OBJECTS
+    ON TRIGGERS.OWNER = OBJECTS.OWNER
+      AND TRIGGERS.TRIGGER_NAME = OBJECTS.OBJECT_NAME
+      AND OBJECTS.OBJECT_TYPE = 'TRIGGER'
+WHERE
+  OBJECTS.LAST_DDL_TIME >= TO_DATE('${crawl_timestamp}', 'YYYY-MM-DD HH24:MI:SS')
+  AND TRIGGERS.TABLE_NAME IS NOT NULL
+  AND REGEXP_LIKE(TRIGGERS.TABLE_OWNER, '${schemas}')
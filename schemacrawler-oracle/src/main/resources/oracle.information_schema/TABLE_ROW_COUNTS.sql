@@ -0,0 +1,9 @@
+SELECT /*+ PARALLEL(AUTO) */
+  TABLES.OWNER AS TABLE_SCHEMA,
+  TABLES.TABLE_NAME,
+  TABLES.NUM_ROWS AS ROW_COUNT
+FROM
+  ALL_TABLES TABLES
+WHERE
+  TABLES.NUM_ROWS IS NOT NULL
+  AND REGEXP_LIKE(TABLES.OWNER, '${schemas}')
@@ -28,6 +28,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.server.postgresql;
 
 
+import schemacrawler.crawl.MetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
 import schemacrawler.tools.databaseconnector.DatabaseServerType;
 
@@ -46,4 +48,13 @@ public final class PostgreSQLDatabaseConnector
           "jdbc:postgresql:.*");
   }
 
+  @Override
+  public DatabaseSpecificOverrideOptionsBuilder getDatabaseSpecificOverrideOptionsBuilder()
+  {
+    final DatabaseSpecificOverrideOptionsBuilder databaseSpecificOverrideOptionsBuilder = super.getDatabaseSpecificOverrideOptionsBuilder();
+    databaseSpecificOverrideOptionsBuilder
+      .withForeignKeyRetrievalStrategy(MetadataRetrievalStrategy.auto);
+    return databaseSpecificOverrideOptionsBuilder;
+  }
+
 }
@@ -0,0 +1,71 @@
+SELECT
+  NAMESPACES.NSPNAME AS OBJECT_SCHEMA,
+  SUM(OBJECTS.OBJECT_COUNT) AS OBJECT_COUNT,
+  MAX(OBJECTS.LAST_TRANSACTION) AS LAST_TRANSACTION
+FROM
+  (
+    SELECT
+      CLASSES.RELNAMESPACE AS NAMESPACE_OID,
+      COUNT(*) AS OBJECT_COUNT,
+      MAX(CLASSES.XMIN::TEXT::BIGINT) AS LAST_TRANSACTION
+    FROM
+      PG_CATALOG.PG_CLASS CLASSES
+    GROUP BY
+      CLASSES.RELNAMESPACE
+    UNION ALL
+    SELECT
+      CLASSES.RELNAMESPACE AS NAMESPACE_OID,
+      COUNT(*) AS OBJECT_COUNT,
+      MAX(ATTRIBUTES.XMIN::TEXT::BIGINT) AS LAST_TRANSACTION
+    FROM
+      PG_CATALOG.PG_ATTRIBUTE ATTRIBUTES
+      INNER JOIN PG_CATALOG.PG_CLASS CLASSES
+        ON ATTRIBUTES.ATTRELID = CLASSES.OID
+    GROUP BY
+      CLASSES.RELNAMESPACE
+    UNION ALL
+    SELECT
+      CONSTRAINTS.CONNAMESPACE AS NAMESPACE_OID,
+      COUNT(*) AS OBJECT_COUNT,
+      MAX(CONSTRAINTS.XMIN::TEXT::BIGINT) AS LAST_TRANSACTION
+    FROM
+      PG_CATALOG.PG_CONSTRAINT CONSTRAINTS
+    GROUP BY
+      CONSTRAINTS.CONNAMESPACE
+    UNION ALL
+    SELECT
+      PROCEDURES.PRONAMESPACE AS NAMESPACE_OID,
+      COUNT(*) AS OBJECT_COUNT,
+      MAX(PROCEDURES.XMIN::TEXT::BIGINT) AS LAST_TRANSACTION
+    FROM
+      PG_CATALOG.PG_PROC PROCEDURES
+    GROUP BY
+      PROCEDURES.PRONAMESPACE
+    UNION ALL
+    SELECT
+      COALESCE(CLASSES.RELNAMESPACE, CONSTRAINTS.CONNAMESPACE, PROCEDURES.PRONAMESPACE) AS NAMESPACE_OID,
+      COUNT(*) AS OBJECT_COUNT,
+      MAX(DESCRIPTIONS.XMIN::TEXT::BIGINT) AS LAST_TRANSACTION
+    FROM
+      PG_CATALOG.PG_DESCRIPTION DESCRIPTIONS
+      LEFT OUTER JOIN PG_CATALOG.PG_CLASS CLASSES
+        ON DESCRIPTIONS.CLASSOID = 'PG_CATALOG.PG_CLASS'::REGCLASS
+          AND DESCRIPTIONS.OBJOID = CLASSES.OID
+      LEFT OUTER JOIN PG_CATALOG.PG_CONSTRAINT CONSTRAINTS
+        ON DESCRIPTIONS.CLASSOID = 'PG_CATALOG.PG_CONSTRAINT'::REGCLASS
+          AND DESCRIPTIONS.OBJOID = CONSTRAINTS.OID
+      LEFT OUTER JOIN PG_CATALOG.PG_PROC PROCEDURES
+        ON DESCRIPTIONS.CLASSOID = 'PG_CATALOG.PG_PROC'::REGCLASS
+          AND DESCRIPTIONS.OBJOID = PROCEDURES.OID
+    GROUP BY
+      COALESCE(CLASSES.RELNAMESPACE, CONSTRAINTS.CONNAMESPACE, PROCEDURES.PRONAMESPACE)
+  ) OBJECTS
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON OBJECTS.NAMESPACE_OID = NAMESPACES.OID
+WHERE
+  NAMESPACES.NSPNAME ~ '^(${schemas})$'
+  OR (CURRENT_DATABASE() || '.' || NAMESPACES.NSPNAME) ~ '^(${schemas})$'
+GROUP BY
+  NAMESPACES.NSPNAME
+ORDER BY
+  NAMESPACES.NSPNAME
@@ -0,0 +1,13 @@
+SELECT
+  NAMESPACES.NSPNAME AS TABLE_SCHEMA,
+  CLASSES.RELNAME AS TABLE_NAME,
+  CAST(CLASSES.RELTUPLES AS BIGINT) AS ROW_COUNT
+FROM
+  PG_CATALOG.PG_CLASS CLASSES
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON CLASSES.RELNAMESPACE = NAMESPACES.OID
+WHERE
+  CLASSES.RELKIND IN ('r', 'm', 'p')
+  AND CLASSES.RELTUPLES >= 0
+  AND (NAMESPACES.NSPNAME ~ '^(${schemas})$'
+    OR (CURRENT_DATABASE() || '.' || NAMESPACES.NSPNAME) ~ '^(${schemas})$')
@@ -28,6 +28,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.server.sqlserver;
 
 
+import schemacrawler.crawl.IndexRetrievalStrategy;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
 import schemacrawler.tools.databaseconnector.DatabaseServerType;
 
@@ -46,4 +48,13 @@ public final class SqlServerDatabaseConnector
           "jdbc:jtds:sqlserver:.*");
   }
 
+  @Override
+  public DatabaseSpecificOverrideOptionsBuilder getDatabaseSpecificOverrideOptionsBuilder()
+  {
+    final DatabaseSpecificOverrideOptionsBuilder databaseSpecificOverrideOptionsBuilder = super.getDatabaseSpecificOverrideOptionsBuilder();
+    databaseSpecificOverrideOptionsBuilder
+      .withIndexRetrievalStrategy(IndexRetrievalStrategy.metadata_single_pass);
+    return databaseSpecificOverrideOptionsBuilder;
+  }
+
 }
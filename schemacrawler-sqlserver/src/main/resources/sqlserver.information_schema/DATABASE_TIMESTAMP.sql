@@ -0,0 +1,2 @@
+SELECT
+  CONVERT(VARCHAR(19), SYSDATETIME(), 120) AS DATABASE_TIMESTAMP
@@ -0,0 +1,10 @@
+SELECT
+  SCHEMA_NAME(OBJECTS.SCHEMA_ID) AS OBJECT_SCHEMA,
+  COUNT(*) AS OBJECT_COUNT,
+  CONVERT(VARCHAR(23), MAX(OBJECTS.MODIFY_DATE), 121) AS LAST_MODIFY_DATE
+FROM
+  SYS.OBJECTS OBJECTS
+GROUP BY
+  OBJECTS.SCHEMA_ID
+ORDER BY
+  OBJECT_SCHEMA
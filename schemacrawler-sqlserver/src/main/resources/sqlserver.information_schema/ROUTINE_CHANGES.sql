@@ -0,0 +1,9 @@
+SELECT
+  DB_NAME() AS ROUTINE_CATALOG,
+  SCHEMA_NAME(ROUTINES.SCHEMA_ID) AS ROUTINE_SCHEMA,
+  ROUTINES.NAME AS ROUTINE_NAME
+FROM
+  SYS.OBJECTS ROUTINES
+WHERE
+  ROUTINES.TYPE IN ('P', 'PC', 'FN', 'IF', 'TF', 'FS', 'FT')
+  AND ROUTINES.MODIFY_DATE >= CONVERT(DATETIME, '${crawl_timestamp}', 120)
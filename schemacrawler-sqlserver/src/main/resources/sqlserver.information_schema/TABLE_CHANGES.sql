@@ -0,0 +1,21 @@
+SELECT
+  DB_NAME() AS TABLE_CATALOG,
+  SCHEMA_NAME(TABLES.SCHEMA_ID) AS TABLE_SCHEMA,
+  TABLES.NAME AS TABLE_NAME
+FROM
+  SYS.OBJECTS TABLES
+WHERE
+  TABLES.TYPE IN ('U', 'V')
+  AND TABLES.MODIFY_DATE >= CONVERT(DATETIME, '${crawl_timestamp}', 120)
+UNION
+SELECT
+  DB_NAME() AS TABLE_CATALOG,
+  SCHEMA_NAME(TABLES.SCHEMA_ID) AS TABLE_SCHEMA,
+  TABLES.NAME AS TABLE_NAME
+FROM
+  SYS.OBJECTS TRIGGERS
+  INNER JOIN SYS.OBJECTS TABLES
+    ON TRIGGERS.PARENT_OBJECT_ID = TABLES.OBJECT_ID
+WHERE
+  TRIGGERS.TYPE = 'TR'
+  AND TRIGGERS.MODIFY_DATE >= CONVERT(DATETIME, '${crawl_timestamp}', 120)
@@ -0,0 +1,188 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.analysis.associations;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Table;
+
+/**
+ * Assigns a dense integer id to every column of the tables being
+ * analyzed, and keeps the per-column facts needed to validate a weak
+ * association in primitive arrays, so that candidate pairs can be
+ * checked without creating objects.
+ */
+final class ColumnIds
+{
+
+  private final List<Table> tables;
+  private final Column[] columns;
+  private final int[] tableIds;
+  private final int[] tableRanks;
+  private final int[] typeIds;
+  private final boolean[] keyColumns;
+  private final Map<Column, Integer> columnIds;
+
+  ColumnIds(final List<Table> tables)
+  {
+    this.tables = requireNonNull(tables);
+
+    final List<Column> allColumns = new ArrayList<>();
+    final List<Integer> allTableIds = new ArrayList<>();
+    for (int tableId = 0; tableId < tables.size(); tableId++)
+    {
+      for (final Column column: tables.get(tableId).getColumns())
+      {
+        allColumns.add(column);
+        allTableIds.add(tableId);
+      }
+    }
+
+    final int size = allColumns.size();
+    columns = allColumns.toArray(new Column[size]);
+    tableIds = new int[size];
+    typeIds = new int[size];
+    keyColumns = new boolean[size];
+    columnIds = new HashMap<>(size * 2);
+
+    final Map<String, Integer> types = new HashMap<>();
+    for (int id = 0; id < size; id++)
+    {
+      final Column column = columns[id];
+      tableIds[id] = allTableIds.get(id);
+      keyColumns[id] = column.isPartOfPrimaryKey()
+                       || column.isPartOfUniqueIndex();
+
+      final String typeName = column.getColumnDataType().getJavaSqlType()
+        .getJavaSqlTypeName();
+      Integer typeId = types.get(typeName);
+      if (typeId == null)
+      {
+        typeId = types.size();
+        types.put(typeName, typeId);
+      }
+      typeIds[id] = typeId;
+
+      if (!columnIds.containsKey(column))
+      {
+        columnIds.put(column, id);
+      }
+    }
+
+    tableRanks = rankTables(tables);
+  }
+
+  /**
+   * Column for an id.
+   */
+  Column get(final int id)
+  {
+    return columns[id];
+  }
+
+  /**
+   * Id of a column, or -1 if the column does not belong to any of the
+   * tables being analyzed.
+   */
+  int idOf(final Column column)
+  {
+    final Integer id = columnIds.get(column);
+    if (id == null)
+    {
+      return -1;
+    }
+    return id;
+  }
+
+  /**
+   * Checks whether a weak association between the two columns is
+   * valid. This follows the same rules as
+   * {@link WeakAssociation#isValid()}.
+   */
+  boolean isValid(final int pkColumnId, final int fkColumnId)
+  {
+    if (keyColumns[fkColumnId]
+        && tableRanks[tableIds[pkColumnId]] > tableRanks[tableIds[fkColumnId]])
+    {
+      return false;
+    }
+    return typeIds[pkColumnId] == typeIds[fkColumnId];
+  }
+
+  int size()
+  {
+    return columns.length;
+  }
+
+  Table table(final int tableId)
+  {
+    return tables.get(tableId);
+  }
+
+  int tableCount()
+  {
+    return tables.size();
+  }
+
+  /**
+   * Ranks tables in their natural sort order, so that comparing two
+   * ranks gives the same result as comparing the two tables.
+   */
+  private int[] rankTables(final List<Table> tables)
+  {
+    final Integer[] sorted = new Integer[tables.size()];
+    for (int i = 0; i < sorted.length; i++)
+    {
+      sorted[i] = i;
+    }
+    Arrays.sort(sorted,
+                (i1, i2) -> tables.get(i1).compareTo(tables.get(i2)));
+
+    final int[] ranks = new int[tables.size()];
+    int rank = 0;
+    for (int i = 0; i < sorted.length; i++)
+    {
+      if (i > 0
+          && tables.get(sorted[i - 1]).compareTo(tables.get(sorted[i])) != 0)
+      {
+        rank++;
+      }
+      ranks[sorted[i]] = rank;
+    }
+    return ranks;
+  }
+
+}
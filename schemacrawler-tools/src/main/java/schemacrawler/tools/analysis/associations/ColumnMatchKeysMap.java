@@ -30,77 +30,116 @@ package schemacrawler.tools.analysis.associations;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import schemacrawler.schema.Column;
-import schemacrawler.schema.Table;
-import sf.util.Multimap;
 
+/**
+ * Inverted index from a normalized column match key to the ids of the
+ * columns that have that key.
+ */
 final class ColumnMatchKeysMap
 {
 
-  private final Multimap<String, Column> columnsForMatchKey;
-  private final Multimap<Column, String> matchKeysForColumn;
+  private static final int[] NO_COLUMNS = new int[0];
 
-  ColumnMatchKeysMap(final List<Table> tables)
+  private final Map<String, int[]> columnsForMatchKey;
+  private final String[] matchKeyForColumn;
+
+  ColumnMatchKeysMap(final ColumnIds columnIds)
   {
-    requireNonNull(tables);
-    columnsForMatchKey = new Multimap<>();
-    matchKeysForColumn = new Multimap<>();
+    requireNonNull(columnIds);
 
-    for (final Table table: tables)
+    matchKeyForColumn = new String[columnIds.size()];
+    final Map<String, Integer> counts = new HashMap<>();
+    for (int id = 0; id < columnIds.size(); id++)
     {
-      mapColumnNameMatches(table);
+      final String matchKey = matchKey(columnIds.get(id));
+      if (matchKey != null)
+      {
+        matchKeyForColumn[id] = matchKey;
+        counts.merge(matchKey, 1, Integer::sum);
+      }
     }
-  }
 
-  public boolean containsKey(final Column column)
-  {
-    return matchKeysForColumn.containsKey(column);
-  }
-
-  public boolean containsKey(final String columnKey)
-  {
-    return columnsForMatchKey.containsKey(columnKey);
+    columnsForMatchKey = new HashMap<>(counts.size() * 2);
+    for (final Map.Entry<String, Integer> count: counts.entrySet())
+    {
+      columnsForMatchKey.put(count.getKey(), new int[count.getValue()]);
+    }
+    // Ids are added in increasing order, so each posting list is sorted
+    final Map<String, Integer> positions = new HashMap<>(counts.size() * 2);
+    for (int id = 0; id < matchKeyForColumn.length; id++)
+    {
+      final String matchKey = matchKeyForColumn[id];
+      if (matchKey != null)
+      {
+        final int position = positions.getOrDefault(matchKey, 0);
+        columnsForMatchKey.get(matchKey)[position] = id;
+        positions.put(matchKey, position + 1);
+      }
+    }
   }
 
-  public List<String> get(final Column column)
+  /**
+   * Ids of the columns with the given match key, in increasing order.
+   */
+  public int[] get(final String matchKey)
   {
-    return matchKeysForColumn.get(column);
+    final int[] columnIds = columnsForMatchKey.get(matchKey);
+    if (columnIds == null)
+    {
+      return NO_COLUMNS;
+    }
+    return columnIds;
   }
 
-  public List<Column> get(final String matchKey)
+  /**
+   * Match key for a column, or null if the column has none.
+   */
+  public String getMatchKey(final int columnId)
   {
-    return columnsForMatchKey.get(matchKey);
+    return matchKeyForColumn[columnId];
   }
 
   @Override
   public String toString()
   {
-    return columnsForMatchKey.toString();
+    final StringBuilder buffer = new StringBuilder();
+    buffer.append("{");
+    for (final Map.Entry<String, int[]> entry: columnsForMatchKey.entrySet())
+    {
+      if (buffer.length() > 1)
+      {
+        buffer.append(", ");
+      }
+      buffer.append(entry.getKey()).append("=")
+        .append(Arrays.toString(entry.getValue()));
+    }
+    buffer.append("}");
+    return buffer.toString();
   }
 
-  private void mapColumnNameMatches(final Table table)
+  private String matchKey(final Column column)
   {
-    for (final Column column: table.getColumns())
+    String matchColumnName = column.getName().toLowerCase();
+    if (matchColumnName.endsWith("_id"))
     {
-      String matchColumnName = column.getName().toLowerCase();
-      if (matchColumnName.endsWith("_id"))
-      {
-        matchColumnName = matchColumnName
-          .substring(0, matchColumnName.length() - 3);
-      }
-      if (matchColumnName.endsWith("id") && !matchColumnName.equals("id"))
-      {
-        matchColumnName = matchColumnName
-          .substring(0, matchColumnName.length() - 2);
-      }
-      if (!matchColumnName.equals("id"))
-      {
-        columnsForMatchKey.add(matchColumnName, column);
-        matchKeysForColumn.add(column, matchColumnName);
-      }
+      matchColumnName = matchColumnName
+        .substring(0, matchColumnName.length() - 3);
+    }
+    if (matchColumnName.endsWith("id") && !matchColumnName.equals("id"))
+    {
+      matchColumnName = matchColumnName
+        .substring(0, matchColumnName.length() - 2);
+    }
+    if (matchColumnName.equals("id"))
+    {
+      return null;
     }
+    return matchColumnName;
   }
 
 }
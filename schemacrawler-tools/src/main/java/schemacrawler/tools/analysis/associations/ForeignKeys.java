@@ -30,66 +30,80 @@ package schemacrawler.tools.analysis.associations;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
 
-import schemacrawler.schema.ColumnReference;
 import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.Table;
 
+/**
+ * Column references of the existing foreign keys, held as sorted pairs
+ * of column ids so that a candidate pair can be looked up without
+ * creating an object for it.
+ */
 final class ForeignKeys
 {
 
-  private final Collection<ColumnReference> foreignKeys;
-
-  ForeignKeys(final List<Table> tables)
+  static long pair(final int pkColumnId, final int fkColumnId)
   {
-    foreignKeys = mapForeignKeyColumns(tables);
+    return (long) pkColumnId << 32 | fkColumnId & 0xFFFFFFFFL;
   }
 
-  public boolean contains(final ColumnReference columnMap)
+  private final long[] foreignKeys;
+
+  ForeignKeys(final List<Table> tables, final ColumnIds columnIds)
   {
-    if (columnMap == null)
-    {
-      return false;
-    }
+    foreignKeys = mapForeignKeyColumns(tables, columnIds);
+  }
 
-    // We have to loop through the collection, since we want to use the
-    // equals from the WeakAssociation
-    for (final ColumnReference foreignKey: foreignKeys)
-    {
-      final boolean equals = columnMap.equals(foreignKey);
-      if (equals)
-      {
-        return true;
-      }
-    }
-    return false;
+  public boolean contains(final int pkColumnId, final int fkColumnId)
+  {
+    return Arrays.binarySearch(foreignKeys, pair(pkColumnId, fkColumnId)) >= 0;
   }
 
   @Override
   public String toString()
   {
-    return foreignKeys.toString();
+    return Arrays.toString(foreignKeys);
   }
 
-  private Collection<ColumnReference> mapForeignKeyColumns(final List<Table> tables)
+  private long[] mapForeignKeyColumns(final List<Table> tables,
+                                      final ColumnIds columnIds)
   {
     requireNonNull(tables);
+    requireNonNull(columnIds);
 
-    final Collection<ColumnReference> fkColumnsMap = new HashSet<>();
+    long[] fkColumnsMap = new long[16];
+    int size = 0;
     for (final Table table: tables)
     {
       for (final ForeignKey foreignKey: table.getForeignKeys())
       {
         for (final ForeignKeyColumnReference columnRef: foreignKey)
         {
-          fkColumnsMap.add(columnRef);
+          final int pkColumnId = columnIds
+            .idOf(columnRef.getPrimaryKeyColumn());
+          final int fkColumnId = columnIds
+            .idOf(columnRef.getForeignKeyColumn());
+          // References to columns outside the analyzed tables can never
+          // match a weak association
+          if (pkColumnId < 0 || fkColumnId < 0)
+          {
+            continue;
+          }
+          if (size == fkColumnsMap.length)
+          {
+            fkColumnsMap = Arrays.copyOf(fkColumnsMap, size * 2);
+          }
+          fkColumnsMap[size++] = pair(pkColumnId, fkColumnId);
         }
       }
     }
-    return fkColumnsMap;
+
+    final long[] sorted = Arrays.copyOf(fkColumnsMap, size);
+    Arrays.sort(sorted);
+    return sorted;
   }
+
 }
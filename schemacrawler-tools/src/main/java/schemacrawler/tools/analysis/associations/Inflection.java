@@ -1,8 +1,14 @@
 package schemacrawler.tools.analysis.associations;
 
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -24,6 +30,17 @@ public class Inflection
 
   private static final List<String> uncountable = new ArrayList<String>();
 
+  /**
+   * Largest number of words for which the singular and plural forms are
+   * remembered. Table and column names repeat a lot during weak
+   * association analysis, so most words are only inflected once.
+   */
+  private static final int MAX_CACHED_WORDS = 10000;
+
+  private static final Map<String, String> pluralCache = newCache();
+
+  private static final Map<String, String> singularCache = newCache();
+
   static
   {
     // plural is "singular to plural form"
@@ -122,19 +139,15 @@ public class Inflection
    */
   public static String pluralize(final String word)
   {
-    if (Inflection.isUncountable(word))
-    {
-      return word;
-    }
+    requireNonNull(word, "No word provided");
 
-    for (final Inflection inflection: plural)
+    String pluralWord = pluralCache.get(word);
+    if (pluralWord == null)
     {
-      if (inflection.match(word))
-      {
-        return inflection.replace(word);
-      }
+      pluralWord = inflect(plural, word);
+      pluralCache.put(word, pluralWord);
     }
-    return word;
+    return pluralWord;
   }
 
   /**
@@ -145,20 +158,35 @@ public class Inflection
    * @return The singularized word
    */
   public static String singularize(final String word)
+  {
+    requireNonNull(word, "No word provided");
+
+    String singularWord = singularCache.get(word);
+    if (singularWord == null)
+    {
+      singularWord = inflect(singular, word);
+      singularCache.put(word, singularWord);
+    }
+    return singularWord;
+  }
+
+  /**
+   * Applies the first matching inflection rule to the word.
+   */
+  private static String inflect(final List<Inflection> inflections,
+                                final String word)
   {
     if (Inflection.isUncountable(word))
     {
       return word;
     }
 
-    for (final Inflection inflection: singular)
+    for (final Inflection inflection: inflections)
     {
-      // System.out.println(word + " matches " + inflection.pattern +
-      // "? (ignore case: " + inflection.ignoreCase + ")");
-      if (inflection.match(word))
+      final Matcher matcher = inflection.pattern.matcher(word);
+      if (matcher.find())
       {
-        // System.out.println("match!");
-        return inflection.replace(word);
+        return matcher.replaceAll(inflection.replacement);
       }
     }
     return word;
@@ -172,6 +200,23 @@ public class Inflection
              "$1" + s.substring(1));
   }
 
+  private static Map<String, String> newCache()
+  {
+    return Collections
+      .synchronizedMap(new LinkedHashMap<String, String>(16, 0.75f, true)
+      {
+
+        private static final long serialVersionUID = 4567237391539580447L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, String> eldest)
+        {
+          return size() > MAX_CACHED_WORDS;
+        }
+
+      });
+  }
+
   private static void plural(final String pattern, final String replacement)
   {
     plural.add(0, new Inflection(pattern, replacement));
@@ -187,12 +232,10 @@ public class Inflection
     uncountable.add(word);
   }
 
-  private final String pattern;
+  private final Pattern pattern;
 
   private final String replacement;
 
-  private final boolean ignoreCase;
-
   public Inflection(final String pattern)
   {
     this(pattern, null, true);
@@ -207,9 +250,13 @@ public class Inflection
                     final String replacement,
                     final boolean ignoreCase)
   {
-    this.pattern = pattern;
+    int flags = 0;
+    if (ignoreCase)
+    {
+      flags = flags | Pattern.CASE_INSENSITIVE;
+    }
+    this.pattern = Pattern.compile(pattern, flags);
     this.replacement = replacement;
-    this.ignoreCase = ignoreCase;
   }
 
   /**
@@ -221,12 +268,7 @@ public class Inflection
    */
   public boolean match(final String word)
   {
-    int flags = 0;
-    if (ignoreCase)
-    {
-      flags = flags | Pattern.CASE_INSENSITIVE;
-    }
-    return Pattern.compile(pattern, flags).matcher(word).find();
+    return pattern.matcher(word).find();
   }
 
   /**
@@ -238,12 +280,6 @@ public class Inflection
    */
   public String replace(final String word)
   {
-    int flags = 0;
-    if (ignoreCase)
-    {
-      flags = flags | Pattern.CASE_INSENSITIVE;
-    }
-    return Pattern.compile(pattern, flags).matcher(word)
-      .replaceAll(replacement);
+    return pattern.matcher(word).replaceAll(replacement);
   }
 }
@@ -31,12 +31,14 @@ package schemacrawler.tools.analysis.associations;
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.tools.analysis.associations.WeakAssociationsUtility.addWeakAssociationToTable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -48,11 +50,68 @@ import sf.util.StringFormat;
 final class WeakAssociationsAnalyzer
 {
 
+  /**
+   * Finds weak associations for a range of tables, splitting the range
+   * into smaller tasks until it is small enough to be processed
+   * directly. Shared indexes are only read, and weak associations are
+   * only created for candidate pairs that pass validation.
+   */
+  private final class FindWeakAssociationsTask
+    extends RecursiveTask<List<WeakAssociation>>
+  {
+
+    private static final long serialVersionUID = 2393418520937014728L;
+
+    private final int fromTable;
+    private final int toTable;
+
+    FindWeakAssociationsTask(final int fromTable, final int toTable)
+    {
+      this.fromTable = fromTable;
+      this.toTable = toTable;
+    }
+
+    @Override
+    protected List<WeakAssociation> compute()
+    {
+      if (toTable - fromTable <= TABLES_PER_TASK)
+      {
+        final List<WeakAssociation> weakAssociations = new ArrayList<>();
+        int[] fkColumnIds = new int[16];
+        for (int tableId = fromTable; tableId < toTable; tableId++)
+        {
+          fkColumnIds = findWeakAssociations(columnIds.table(tableId),
+                                             fkColumnIds,
+                                             weakAssociations);
+        }
+        return weakAssociations;
+      }
+
+      final int middle = (fromTable + toTable) >>> 1;
+      final FindWeakAssociationsTask left = new FindWeakAssociationsTask(fromTable,
+                                                                         middle);
+      final FindWeakAssociationsTask right = new FindWeakAssociationsTask(middle,
+                                                                          toTable);
+      left.fork();
+      final List<WeakAssociation> weakAssociations = new ArrayList<>(right
+        .compute());
+      weakAssociations.addAll(left.join());
+      return weakAssociations;
+    }
+
+  }
+
   private static final Logger LOGGER = Logger
     .getLogger(WeakAssociationsAnalyzer.class.getName());
 
+  private static final int TABLES_PER_TASK = 64;
+
   private final List<Table> tables;
   private final Collection<WeakAssociationForeignKey> weakAssociations;
+  private ColumnIds columnIds;
+  private ColumnMatchKeysMap columnMatchKeysMap;
+  private ForeignKeys foreignKeys;
+  private TableMatchKeys tableMatchKeys;
 
   WeakAssociationsAnalyzer(final List<Table> tables)
   {
@@ -91,9 +150,10 @@ final class WeakAssociationsAnalyzer
   private void findWeakAssociations(final List<Table> tables)
   {
     LOGGER.log(Level.INFO, "Finding weak associations");
-    final ForeignKeys foreignKeys = new ForeignKeys(tables);
-    final ColumnMatchKeysMap columnMatchKeysMap = new ColumnMatchKeysMap(tables);
-    final TableMatchKeys tableMatchKeys = new TableMatchKeys(tables);
+    columnIds = new ColumnIds(tables);
+    foreignKeys = new ForeignKeys(tables, columnIds);
+    columnMatchKeysMap = new ColumnMatchKeysMap(columnIds);
+    tableMatchKeys = new TableMatchKeys(tables);
 
     if (LOGGER.isLoggable(Level.FINER))
     {
@@ -102,55 +162,107 @@ final class WeakAssociationsAnalyzer
       LOGGER.log(Level.FINER,
                  new StringFormat("Column match keys, %s", tableMatchKeys));
     }
-    for (final Table table: tables)
+
+    final List<WeakAssociation> foundWeakAssociations = ForkJoinPool
+      .commonPool()
+      .invoke(new FindWeakAssociationsTask(0, columnIds.tableCount()));
+
+    // Tables are not thread-safe, so attach weak associations to them
+    // only after all tasks are done
+    for (final WeakAssociation weakAssociation: foundWeakAssociations)
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Found weak association, %s",
+                                  weakAssociation));
+      addWeakAssociation(weakAssociation);
+    }
+  }
+
+  /**
+   * Finds weak associations for the candidate keys of a table.
+   *
+   * @param table
+   *        Table to find weak associations for
+   * @param fkColumnIds
+   *        Buffer for candidate foreign key column ids, reused between
+   *        calls
+   * @param found
+   *        Weak associations that were found
+   * @return Buffer for candidate foreign key column ids, which may have
+   *         been grown
+   */
+  private int[] findWeakAssociations(final Table table,
+                                     final int[] fkColumnIds,
+                                     final List<WeakAssociation> found)
+  {
+    int[] buffer = fkColumnIds;
+
+    final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
+    LOGGER.log(Level.FINER,
+               new StringFormat("Table candidate keys, %s", tableCandidateKeys));
+    for (final Column pkColumn: tableCandidateKeys)
     {
-      final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
-      LOGGER
-        .log(Level.FINER,
-             new StringFormat("Table candidate keys, %s", tableCandidateKeys));
-      for (final Column pkColumn: tableCandidateKeys)
+      final int pkColumnId = columnIds.idOf(pkColumn);
+      if (pkColumnId < 0)
       {
-        final Set<String> fkColumnMatchKeys = new HashSet<>();
-        // Look for all columns matching this table match key
-        if (pkColumn.isPartOfPrimaryKey())
-        {
-          fkColumnMatchKeys.addAll(tableMatchKeys.get(table));
-        }
-        // Look for all columns matching this column match key
-        if (columnMatchKeysMap.containsKey(pkColumn))
-        {
-          fkColumnMatchKeys.addAll(columnMatchKeysMap.get(pkColumn));
-        }
+        continue;
+      }
 
-        final Set<Column> fkColumns = new HashSet<>();
-        for (final String fkColumnMatchKey: fkColumnMatchKeys)
+      int size = 0;
+      // Look for all columns matching this table match key
+      if (pkColumn.isPartOfPrimaryKey())
+      {
+        final List<String> tableKeys = tableMatchKeys.get(table);
+        if (tableKeys != null)
         {
-          if (columnMatchKeysMap.containsKey(fkColumnMatchKey))
+          for (final String tableKey: tableKeys)
           {
-            fkColumns.addAll(columnMatchKeysMap.get(fkColumnMatchKey));
+            final int[] matches = columnMatchKeysMap.get(tableKey);
+            buffer = ensureCapacity(buffer, size + matches.length);
+            System.arraycopy(matches, 0, buffer, size, matches.length);
+            size = size + matches.length;
           }
         }
+      }
+      // Look for all columns matching this column match key
+      final String columnKey = columnMatchKeysMap.getMatchKey(pkColumnId);
+      if (columnKey != null)
+      {
+        final int[] matches = columnMatchKeysMap.get(columnKey);
+        buffer = ensureCapacity(buffer, size + matches.length);
+        System.arraycopy(matches, 0, buffer, size, matches.length);
+        size = size + matches.length;
+      }
 
-        for (final Column fkColumn: fkColumns)
+      Arrays.sort(buffer, 0, size);
+      int previousFkColumnId = -1;
+      for (int i = 0; i < size; i++)
+      {
+        final int fkColumnId = buffer[i];
+        if (fkColumnId == previousFkColumnId || fkColumnId == pkColumnId)
         {
-          if (pkColumn.equals(fkColumn))
-          {
-            continue;
-          }
+          continue;
+        }
+        previousFkColumnId = fkColumnId;
 
-          final WeakAssociation weakAssociation = new WeakAssociation(pkColumn,
-                                                                      fkColumn);
-          if (weakAssociation.isValid()
-              && !foreignKeys.contains(weakAssociation))
-          {
-            LOGGER.log(Level.FINE,
-                       new StringFormat("Found weak association, %s",
-                                        weakAssociation));
-            addWeakAssociation(weakAssociation);
-          }
+        if (columnIds.isValid(pkColumnId, fkColumnId)
+            && !foreignKeys.contains(pkColumnId, fkColumnId))
+        {
+          found.add(new WeakAssociation(pkColumn, columnIds.get(fkColumnId)));
         }
       }
     }
+
+    return buffer;
+  }
+
+  private int[] ensureCapacity(final int[] buffer, final int capacity)
+  {
+    if (buffer.length >= capacity)
+    {
+      return buffer;
+    }
+    return Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
   }
 
 }
@@ -28,8 +28,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.analysis.counts;
 
 
-import static schemacrawler.tools.analysis.counts.CountsUtility.addRowCountToTable;
-import static schemacrawler.utility.QueryUtility.executeForLong;
+import static schemacrawler.utility.SchemaCrawlerUtility.matchDatabaseSpecificOverrideOptions;
 import static sf.util.DatabaseUtility.checkConnection;
 
 import java.sql.Connection;
@@ -44,11 +43,9 @@ import schemacrawler.crawl.TablesReducer;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.BaseCatalogDecorator;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.tools.text.operation.Operation;
-import schemacrawler.utility.Query;
-import sf.util.StringFormat;
 
 public final class CatalogWithCounts
   extends BaseCatalogDecorator
@@ -65,38 +62,51 @@ public final class CatalogWithCounts
                            final Connection connection,
                            final SchemaCrawlerOptions options)
     throws SchemaCrawlerException
+  {
+    this(catalog, connection, options, RowCountStrategy.exact);
+  }
+
+  public CatalogWithCounts(final Catalog catalog,
+                           final Connection connection,
+                           final SchemaCrawlerOptions options,
+                           final RowCountStrategy rowCountStrategy)
+    throws SchemaCrawlerException
+  {
+    this(catalog,
+         newTableRowCounter(connection, options, rowCountStrategy),
+         options);
+  }
+
+  /**
+   * Counts rows of all tables in the catalog.
+   *
+   * @param catalog
+   *        Catalog to decorate
+   * @param tableRowCounter
+   *        Row counter, or null if there is no live connection
+   * @param options
+   *        Options, for hiding empty tables
+   */
+  public CatalogWithCounts(final Catalog catalog,
+                           final TableRowCounter tableRowCounter,
+                           final SchemaCrawlerOptions options)
   {
     super(catalog);
 
     counts = new HashMap<>();
 
-    try
-    {
-      checkConnection(connection);
-    }
-    catch (final SchemaCrawlerException e)
+    if (tableRowCounter == null)
     {
-      // The offline snapshot executable may not have a live connection,
-      // so we cannot fail with an exception. Log and continue.
-      LOGGER.log(Level.WARNING, "No connection provided", e);
       return;
     }
 
-    final Query query = Operation.count.getQuery();
     final List<Table> allTables = new ArrayList<>(catalog.getTables());
     for (final Table table: allTables)
     {
-      try
+      final long count = tableRowCounter.getRowCount(table);
+      if (count >= 0)
       {
-        final long count = executeForLong(query, connection, table);
         counts.put(table, count);
-        addRowCountToTable(table, count);
-      }
-      catch (final SchemaCrawlerException e)
-      {
-        LOGGER.log(Level.WARNING,
-                   e,
-                   new StringFormat("Could not get count for, %s", table));
       }
     }
 
@@ -109,4 +119,37 @@ public final class CatalogWithCounts
     return counts;
   }
 
+  private static TableRowCounter newTableRowCounter(final Connection connection,
+                                                    final SchemaCrawlerOptions options,
+                                                    final RowCountStrategy rowCountStrategy)
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      checkConnection(connection);
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      // The offline snapshot executable may not have a live connection,
+      // so we cannot fail with an exception. Log and continue.
+      LOGGER.log(Level.WARNING, "No connection provided", e);
+      return null;
+    }
+
+    final InformationSchemaViews informationSchemaViews;
+    if (rowCountStrategy == RowCountStrategy.exact)
+    {
+      informationSchemaViews = new InformationSchemaViews();
+    }
+    else
+    {
+      informationSchemaViews = matchDatabaseSpecificOverrideOptions(connection)
+        .getInformationSchemaViews();
+    }
+    return new TableRowCounter(connection,
+                               rowCountStrategy,
+                               informationSchemaViews,
+                               options.getSchemaInclusionRule());
+  }
+
 }
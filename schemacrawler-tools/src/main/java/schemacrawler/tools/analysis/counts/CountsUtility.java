@@ -81,7 +81,17 @@ public class CountsUtility
     return table != null && table.hasAttribute(TABLE_ROW_COUNT_KEY);
   }
 
-  static void addRowCountToTable(final Table table, final long rowCount)
+  /**
+   * Sets the row count on a table, or removes it if the row count is
+   * not known.
+   *
+   * @param table
+   *        Table
+   * @param rowCount
+   *        Row count, or -1 if it is not known
+   */
+  public static void addRowCountToTable(final Table table,
+                                        final long rowCount)
   {
     if (table != null)
     {
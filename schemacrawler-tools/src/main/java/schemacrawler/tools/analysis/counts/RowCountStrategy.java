@@ -0,0 +1,77 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.analysis.counts;
+
+
+import schemacrawler.schemacrawler.Config;
+
+/**
+ * How table row counts are obtained.
+ *
+ * @author Sualeh Fatehi
+ */
+public enum RowCountStrategy
+{
+
+ /**
+  * Count the rows of every table, with SELECT COUNT(*).
+  */
+ exact,
+ /**
+  * Use row counts from table statistics, read with a single query. No
+  * rows are counted, so tables without statistics have no row count.
+  */
+ approximate,
+ /**
+  * Use row counts from table statistics, but count the rows of tables
+  * that have no statistics, or that look empty. Statistics are often
+  * stale for tables that were never analyzed, so empty tables are
+  * always confirmed.
+  */
+ hybrid;
+
+  private static final String ROW_COUNT_STRATEGY = "schemacrawler.format.row_count_strategy";
+
+  /**
+   * Gets the row count strategy from configuration, which defaults to
+   * exact row counts.
+   *
+   * @param config
+   *        Configuration, which may be null
+   * @return Row count strategy
+   */
+  public static RowCountStrategy fromConfig(final Config config)
+  {
+    if (config == null)
+    {
+      return exact;
+    }
+    return config.getEnumValue(ROW_COUNT_STRATEGY, exact);
+  }
+
+}
@@ -0,0 +1,252 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.analysis.counts;
+
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.tools.analysis.counts.CountsUtility.addRowCountToTable;
+import static schemacrawler.utility.QueryUtility.executeAgainstSchema;
+import static schemacrawler.utility.QueryUtility.executeForLong;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.text.operation.Operation;
+import schemacrawler.utility.Identifiers;
+import schemacrawler.utility.Query;
+import sf.util.StringFormat;
+
+/**
+ * Obtains table row counts, according to a row count strategy. Row
+ * counts from table statistics are read with a single query, when the
+ * row counter is created. Row counts are also set on each table, so
+ * that they can be looked up with {@link CountsUtility}.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class TableRowCounter
+{
+
+  private static final Logger LOGGER = Logger
+    .getLogger(TableRowCounter.class.getName());
+
+  private static final long UNKNOWN_TABLE_ROW_COUNT = -1;
+
+  private final Connection connection;
+  private final RowCountStrategy rowCountStrategy;
+  private final Identifiers identifiers;
+  private final Map<String, Long> approximateRowCounts;
+
+  /**
+   * Creates a row counter. Unless the strategy is to count rows
+   * exactly, row counts from table statistics are read right away.
+   *
+   * @param connection
+   *        Live database connection
+   * @param rowCountStrategy
+   *        How row counts are obtained
+   * @param informationSchemaViews
+   *        Information schema views, which may have the table row
+   *        counts SQL
+   * @param schemaInclusionRule
+   *        Schema inclusion rule, for the table row counts SQL
+   * @throws SchemaCrawlerException
+   *         On an exception obtaining database metadata
+   */
+  public TableRowCounter(final Connection connection,
+                         final RowCountStrategy rowCountStrategy,
+                         final InformationSchemaViews informationSchemaViews,
+                         final InclusionRule schemaInclusionRule)
+    throws SchemaCrawlerException
+  {
+    this.connection = requireNonNull(connection, "No connection provided");
+    this.rowCountStrategy = requireNonNull(rowCountStrategy,
+                                           "No row count strategy provided");
+    requireNonNull(informationSchemaViews,
+                   "No information schema views provided");
+
+    approximateRowCounts = new HashMap<>();
+    if (rowCountStrategy == RowCountStrategy.exact)
+    {
+      identifiers = Identifiers.identifiers().build();
+    }
+    else
+    {
+      try
+      {
+        identifiers = Identifiers.identifiers().withConnection(connection)
+          .build();
+      }
+      catch (final SQLException e)
+      {
+        throw new SchemaCrawlerException("Could not obtain database metadata",
+                                         e);
+      }
+      retrieveApproximateRowCounts(informationSchemaViews,
+                                   schemaInclusionRule);
+    }
+  }
+
+  /**
+   * Gets the row count of a table, and sets it on the table.
+   *
+   * @param table
+   *        Table to count
+   * @return Row count, or -1 if the row count is not known
+   */
+  public long getRowCount(final Table table)
+  {
+    final long rowCount = getRowCount(table, connection);
+    addRowCountToTable(table, rowCount);
+    return rowCount;
+  }
+
+  /**
+   * Gets the row count of a table, counting rows on the given
+   * connection. The row count is not set on the table, so tables can be
+   * counted on several threads at once, each with its own connection.
+   *
+   * @param table
+   *        Table to count
+   * @param connection
+   *        Live database connection, to count rows on
+   * @return Row count, or -1 if the row count is not known
+   */
+  public long getRowCount(final Table table, final Connection connection)
+  {
+    requireNonNull(table, "No table provided");
+    requireNonNull(connection, "No connection provided");
+
+    final Long approximateRowCount = approximateRowCounts.get(key(table));
+    final long rowCount;
+    switch (rowCountStrategy)
+    {
+      case approximate:
+        if (approximateRowCount != null)
+        {
+          rowCount = approximateRowCount;
+        }
+        else
+        {
+          rowCount = UNKNOWN_TABLE_ROW_COUNT;
+        }
+        break;
+      case hybrid:
+        if (approximateRowCount != null && approximateRowCount > 0)
+        {
+          rowCount = approximateRowCount;
+        }
+        else
+        {
+          rowCount = countRows(table, connection);
+        }
+        break;
+      default:
+        rowCount = countRows(table, connection);
+        break;
+    }
+    return rowCount;
+  }
+
+  private long countRows(final Table table, final Connection connection)
+  {
+    final Query query = Operation.count.getQuery();
+    try
+    {
+      return executeForLong(query, connection, table);
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 e,
+                 new StringFormat("Could not get count for, %s", table));
+      return UNKNOWN_TABLE_ROW_COUNT;
+    }
+  }
+
+  private String key(final String schemaName, final String tableName)
+  {
+    return identifiers.unquotedName(schemaName) + "."
+           + identifiers.unquotedName(tableName);
+  }
+
+  private String key(final Table table)
+  {
+    return key(table.getSchema().getName(), table.getName());
+  }
+
+  private void retrieveApproximateRowCounts(final InformationSchemaViews informationSchemaViews,
+                                            final InclusionRule schemaInclusionRule)
+  {
+    if (!informationSchemaViews.hasTableRowCountsSql())
+    {
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Table row counts SQL statement was not provided, so using %s row counts",
+                                  rowCountStrategy == RowCountStrategy.hybrid? "exact"
+                                                                             : "no"));
+      return;
+    }
+
+    final Query tableRowCountsSql = informationSchemaViews
+      .getTableRowCountsSql();
+    try (final Statement statement = connection.createStatement();
+        final ResultSet results = executeAgainstSchema(tableRowCountsSql,
+                                                       statement,
+                                                       schemaInclusionRule);)
+    {
+      while (results.next())
+      {
+        final String schemaName = results.getString("TABLE_SCHEMA");
+        final String tableName = results.getString("TABLE_NAME");
+        final long rowCount = results.getLong("ROW_COUNT");
+        if (!results.wasNull())
+        {
+          approximateRowCounts.put(key(schemaName, tableName), rowCount);
+        }
+      }
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not retrieve table row counts", e);
+    }
+    LOGGER.log(Level.INFO,
+               new StringFormat("Retrieved approximate row counts for %d tables",
+                                approximateRowCounts.size()));
+  }
+
+}
@@ -0,0 +1,664 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.catalogcache;
+
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.utility.QueryUtility.executeAgainstSchema;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.utility.CatalogObjectInputStream;
+import schemacrawler.utility.Query;
+import sf.util.StringFormat;
+
+/**
+ * An on-disk or in-memory cache of crawled catalogs. Catalogs are keyed
+ * by the connection URL, the database user, the SchemaCrawler options
+ * and the database specific overrides. A cached catalog is only used if the metadata fingerprint of
+ * the database has not changed since the catalog was crawled. Databases
+ * that do not define a metadata fingerprint query are always crawled,
+ * unless an in-memory cache allows catalogs to be reused for a limited
+ * time without a fingerprint check. Catalogs crawled with options that
+ * cannot be put in a canonical form, such as inclusion rules that are
+ * lambdas, are not cached.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class CatalogCache
+{
+
+  private static final class CachedCatalog
+  {
+
+    private final String fingerprint;
+    private final long cachedAt;
+    private final byte[] serializedCatalog;
+
+    CachedCatalog(final String fingerprint, final byte[] serializedCatalog)
+    {
+      this.fingerprint = fingerprint;
+      this.serializedCatalog = serializedCatalog;
+      cachedAt = System.currentTimeMillis();
+    }
+
+  }
+
+  private static final Logger LOGGER = Logger
+    .getLogger(CatalogCache.class.getName());
+
+  private static final String CACHE_FILE_EXTENSION = ".catalog.gz";
+
+  /**
+   * Appends a canonical form of an options object, which is the same
+   * for options that are equal, irrespective of the order in which
+   * collections were built, or the order of items in hash based sets
+   * and maps.
+   *
+   * @param object
+   *        Options object
+   * @param buffer
+   *        Buffer to append to
+   * @throws IllegalArgumentException
+   *         If the options object, or any object that it refers to,
+   *         does not have a canonical form, such as a lambda
+   */
+  static void appendCanonicalForm(final Object object,
+                                  final StringBuilder buffer)
+  {
+    if (object == null)
+    {
+      buffer.append("null");
+    }
+    else if (object instanceof String)
+    {
+      final String string = (String) object;
+      buffer.append(string.length()).append(':').append(string);
+    }
+    else if (object instanceof Pattern)
+    {
+      final Pattern pattern = (Pattern) object;
+      buffer.append("Pattern(").append(pattern.flags()).append(',');
+      appendCanonicalForm(pattern.pattern(), buffer);
+      buffer.append(')');
+    }
+    else if (object instanceof Optional)
+    {
+      buffer.append("Optional(");
+      appendCanonicalForm(((Optional<?>) object).orElse(null), buffer);
+      buffer.append(')');
+    }
+    else if (object instanceof Enum)
+    {
+      buffer.append(((Enum<?>) object).name());
+    }
+    else if (object instanceof Number || object instanceof Boolean
+             || object instanceof Character)
+    {
+      buffer.append(object.getClass().getName()).append('(').append(object)
+        .append(')');
+    }
+    else if (object instanceof Class)
+    {
+      buffer.append("Class(").append(((Class<?>) object).getName())
+        .append(')');
+    }
+    else if (object instanceof Map)
+    {
+      final SortedMap<String, String> entries = new TreeMap<>();
+      for (final Map.Entry<?, ?> entry: ((Map<?, ?>) object).entrySet())
+      {
+        entries.put(toCanonicalForm(entry.getKey()),
+                    toCanonicalForm(entry.getValue()));
+      }
+      buffer.append('{');
+      for (final Map.Entry<String, String> entry: entries.entrySet())
+      {
+        buffer.append(entry.getKey()).append('=').append(entry.getValue())
+          .append(';');
+      }
+      buffer.append('}');
+    }
+    else if (object instanceof Collection)
+    {
+      final List<String> items = new ArrayList<>();
+      for (final Object item: (Collection<?>) object)
+      {
+        items.add(toCanonicalForm(item));
+      }
+      Collections.sort(items);
+      buffer.append('[');
+      for (final String item: items)
+      {
+        buffer.append(item).append(';');
+      }
+      buffer.append(']');
+    }
+    else if (object.getClass().getName().startsWith("schemacrawler.")
+             && !object.getClass().isSynthetic())
+    {
+      final Class<?> objectClass = object.getClass();
+      final SortedMap<String, Field> fields = new TreeMap<>();
+      for (Class<?> clazz = objectClass; clazz != null
+                                         && clazz != Object.class; clazz = clazz
+                                           .getSuperclass())
+      {
+        for (final Field field: clazz.getDeclaredFields())
+        {
+          final int modifiers = field.getModifiers();
+          if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers))
+          {
+            fields.put(clazz.getName() + "." + field.getName(), field);
+          }
+        }
+      }
+
+      buffer.append(objectClass.getName()).append('(');
+      for (final Map.Entry<String, Field> fieldEntry: fields.entrySet())
+      {
+        final Field field = fieldEntry.getValue();
+        buffer.append(field.getName()).append('=');
+        try
+        {
+          field.setAccessible(true);
+          appendCanonicalForm(field.get(object), buffer);
+        }
+        catch (final IllegalAccessException | RuntimeException e)
+        {
+          throw new IllegalArgumentException("Cannot read option, "
+                                             + fieldEntry.getKey(),
+                                             e);
+        }
+        buffer.append(';');
+      }
+      buffer.append(')');
+    }
+    else
+    {
+      // Lambdas, and classes from outside SchemaCrawler, such as custom
+      // inclusion rules, cannot be compared by their fields
+      throw new IllegalArgumentException("Cannot compare option, "
+                                         + object.getClass().getName());
+    }
+  }
+
+  private static MessageDigest newMessageDigest()
+  {
+    try
+    {
+      return MessageDigest.getInstance("SHA-256");
+    }
+    catch (final NoSuchAlgorithmException e)
+    {
+      throw new IllegalStateException("No SHA-256 message digest", e);
+    }
+  }
+
+  private static String toCanonicalForm(final Object object)
+  {
+    final StringBuilder buffer = new StringBuilder();
+    appendCanonicalForm(object, buffer);
+    return buffer.toString();
+  }
+
+  private static String toHex(final byte[] bytes)
+  {
+    final StringBuilder buffer = new StringBuilder(bytes.length * 2);
+    for (final byte b: bytes)
+    {
+      buffer.append(String.format("%02x", b));
+    }
+    return buffer.toString();
+  }
+
+  private final Path cacheDirectory;
+  private final Map<String, CachedCatalog> memoryCache;
+  private final long maxUnverifiedAgeMillis;
+
+  /**
+   * Creates an on-disk catalog cache.
+   *
+   * @param cacheDirectory
+   *        Directory for cached catalog files
+   */
+  public CatalogCache(final Path cacheDirectory)
+  {
+    this.cacheDirectory = requireNonNull(cacheDirectory,
+                                         "No cache directory provided")
+                                           .normalize().toAbsolutePath();
+    memoryCache = null;
+    maxUnverifiedAgeMillis = 0;
+  }
+
+  /**
+   * Creates an in-memory catalog cache, for long-running processes
+   * that serve many requests against the same databases. Catalogs are
+   * held in serialized form, so every request gets its own copy of the
+   * catalog.
+   *
+   * @param maxCachedCatalogs
+   *        Maximum number of catalogs to hold, with the least recently
+   *        used catalog evicted first
+   * @param maxUnverifiedAgeMillis
+   *        Time for which a catalog may be reused for a database that
+   *        does not define a metadata fingerprint query, or 0 to always
+   *        crawl such databases
+   */
+  public CatalogCache(final int maxCachedCatalogs,
+                      final long maxUnverifiedAgeMillis)
+  {
+    if (maxCachedCatalogs <= 0)
+    {
+      throw new IllegalArgumentException("Number of cached catalogs must be positive");
+    }
+    if (maxUnverifiedAgeMillis < 0)
+    {
+      throw new IllegalArgumentException("Catalog age cannot be negative");
+    }
+
+    cacheDirectory = null;
+    memoryCache = Collections
+      .synchronizedMap(new LinkedHashMap<String, CachedCatalog>(16,
+                                                                0.75f,
+                                                                true)
+      {
+
+        private static final long serialVersionUID = -3016431539853475284L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, CachedCatalog> eldest)
+        {
+          return size() > maxCachedCatalogs;
+        }
+
+      });
+    this.maxUnverifiedAgeMillis = maxUnverifiedAgeMillis;
+  }
+
+  /**
+   * Gets the catalog from the cache if the database metadata has not
+   * changed since it was cached, or else crawls the database and
+   * caches the new catalog.
+   *
+   * @param connection
+   *        Live database connection
+   * @param databaseSpecificOverrideOptions
+   *        Database specific overrides
+   * @param schemaCrawlerOptions
+   *        SchemaCrawler options
+   * @return Catalog
+   * @throws SchemaCrawlerException
+   *         On an exception crawling the database
+   */
+  public Catalog crawl(final Connection connection,
+                       final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions,
+                       final SchemaCrawlerOptions schemaCrawlerOptions)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(connection, "No connection provided");
+    requireNonNull(databaseSpecificOverrideOptions,
+                   "No database specific overrides provided");
+    requireNonNull(schemaCrawlerOptions, "No SchemaCrawler options provided");
+
+    final String fingerprint = getMetadataFingerprint(connection,
+                                                      databaseSpecificOverrideOptions,
+                                                      schemaCrawlerOptions);
+    final String cacheKey = getCacheKey(connection,
+                                        databaseSpecificOverrideOptions,
+                                        schemaCrawlerOptions);
+    if (cacheKey != null)
+    {
+      final Catalog cachedCatalog;
+      if (memoryCache != null)
+      {
+        cachedCatalog = loadFromMemory(cacheKey, fingerprint);
+      }
+      else if (fingerprint != null)
+      {
+        cachedCatalog = load(getCacheFile(cacheKey), fingerprint);
+      }
+      else
+      {
+        cachedCatalog = null;
+      }
+      if (cachedCatalog != null)
+      {
+        return cachedCatalog;
+      }
+    }
+
+    final SchemaCrawler crawler = new SchemaCrawler(connection,
+                                                    databaseSpecificOverrideOptions);
+    final Catalog catalog = crawler.crawl(schemaCrawlerOptions);
+
+    if (cacheKey != null)
+    {
+      if (memoryCache != null)
+      {
+        storeInMemory(cacheKey, fingerprint, catalog);
+      }
+      else if (fingerprint != null)
+      {
+        store(getCacheFile(cacheKey), fingerprint, catalog);
+      }
+    }
+
+    return catalog;
+  }
+
+  /**
+   * Gets the cache directory.
+   *
+   * @return Cache directory, or null for an in-memory cache
+   */
+  public Path getCacheDirectory()
+  {
+    return cacheDirectory;
+  }
+
+  @Override
+  public String toString()
+  {
+    if (cacheDirectory == null)
+    {
+      return "<memory>";
+    }
+    return cacheDirectory.toString();
+  }
+
+  private Path getCacheFile(final String cacheKey)
+  {
+    return cacheDirectory.resolve(cacheKey + CACHE_FILE_EXTENSION);
+  }
+
+  private String getCacheKey(final Connection connection,
+                             final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions,
+                             final SchemaCrawlerOptions schemaCrawlerOptions)
+  {
+    try
+    {
+      final DatabaseMetaData dbMetaData = connection.getMetaData();
+
+      final StringBuilder options = new StringBuilder(4096);
+      appendCanonicalForm(schemaCrawlerOptions, options);
+      options.append('\0');
+      appendCanonicalForm(databaseSpecificOverrideOptions, options);
+
+      final MessageDigest digest = newMessageDigest();
+      digest.update(String.valueOf(dbMetaData.getURL())
+        .getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      digest.update(String.valueOf(dbMetaData.getUserName())
+        .getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      digest.update(options.toString().getBytes(StandardCharsets.UTF_8));
+
+      return toHex(digest.digest());
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not compute catalog cache key", e);
+      return null;
+    }
+    catch (final IllegalArgumentException e)
+    {
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Not caching catalog, since options cannot be compared, %s",
+                                  e.getMessage()));
+      return null;
+    }
+  }
+
+  private String getMetadataFingerprint(final Connection connection,
+                                        final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions,
+                                        final SchemaCrawlerOptions schemaCrawlerOptions)
+  {
+    final InformationSchemaViews informationSchemaViews = databaseSpecificOverrideOptions
+      .getInformationSchemaViews();
+    if (!informationSchemaViews.hasMetadataFingerprintSql())
+    {
+      LOGGER.log(Level.INFO,
+                 "Cannot verify cached catalogs, since no metadata fingerprint SQL provided");
+      return null;
+    }
+
+    final Query fingerprintSql = informationSchemaViews
+      .getMetadataFingerprintSql();
+    final MessageDigest digest = newMessageDigest();
+    try (final Statement statement = connection.createStatement();
+        final ResultSet results = executeAgainstSchema(fingerprintSql,
+                                                       statement,
+                                                       schemaCrawlerOptions
+                                                         .getSchemaInclusionRule());)
+    {
+      if (results == null)
+      {
+        return null;
+      }
+      final int columnCount = results.getMetaData().getColumnCount();
+      while (results.next())
+      {
+        for (int i = 1; i <= columnCount; i++)
+        {
+          digest.update(String.valueOf(results.getObject(i))
+            .getBytes(StandardCharsets.UTF_8));
+          digest.update((byte) 0);
+        }
+      }
+      return toHex(digest.digest());
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not compute metadata fingerprint, %s",
+                                  e.getMessage()));
+      return null;
+    }
+  }
+
+  private Catalog load(final Path cacheFile, final String fingerprint)
+  {
+    if (!Files.isReadable(cacheFile))
+    {
+      LOGGER.log(Level.INFO,
+                 new StringFormat("No cached catalog in, %s", cacheFile));
+      return null;
+    }
+
+    try (final ObjectInputStream in = new CatalogObjectInputStream(new GZIPInputStream(new BufferedInputStream(Files
+      .newInputStream(cacheFile))));)
+    {
+      final String cachedFingerprint = (String) in.readObject();
+      if (!fingerprint.equals(cachedFingerprint))
+      {
+        LOGGER.log(Level.INFO,
+                   new StringFormat("Database metadata changed since catalog was cached in, %s",
+                                    cacheFile));
+        return null;
+      }
+      final Catalog catalog = (Catalog) in.readObject();
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Loaded cached catalog from, %s",
+                                  cacheFile));
+      return catalog;
+    }
+    catch (final IOException | ClassNotFoundException | ClassCastException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 e,
+                 new StringFormat("Could not load cached catalog from, %s",
+                                  cacheFile));
+      return null;
+    }
+  }
+
+  private Catalog loadFromMemory(final String cacheKey,
+                                 final String fingerprint)
+  {
+    final CachedCatalog cachedCatalog = memoryCache.get(cacheKey);
+    if (cachedCatalog == null)
+    {
+      return null;
+    }
+
+    final boolean isCurrent;
+    if (fingerprint != null)
+    {
+      isCurrent = fingerprint.equals(cachedCatalog.fingerprint);
+    }
+    else
+    {
+      isCurrent = cachedCatalog.fingerprint == null && System
+        .currentTimeMillis() - cachedCatalog.cachedAt < maxUnverifiedAgeMillis;
+    }
+    if (!isCurrent)
+    {
+      LOGGER.log(Level.INFO,
+                 "Catalog cached in memory is no longer current");
+      memoryCache.remove(cacheKey);
+      return null;
+    }
+
+    try (final ObjectInputStream in = new CatalogObjectInputStream(new ByteArrayInputStream(cachedCatalog.serializedCatalog));)
+    {
+      final Catalog catalog = (Catalog) in.readObject();
+      LOGGER.log(Level.INFO, "Loaded catalog cached in memory");
+      return catalog;
+    }
+    catch (final IOException | ClassNotFoundException | ClassCastException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not load catalog cached in memory", e);
+      memoryCache.remove(cacheKey);
+      return null;
+    }
+  }
+
+  private void store(final Path cacheFile,
+                     final String fingerprint,
+                     final Catalog catalog)
+  {
+    Path tempFile = null;
+    try
+    {
+      Files.createDirectories(cacheDirectory);
+      tempFile = Files.createTempFile(cacheDirectory, "catalog.", ".tmp");
+      try (final ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(new BufferedOutputStream(Files
+        .newOutputStream(tempFile))));)
+      {
+        out.writeObject(fingerprint);
+        out.writeObject(catalog);
+      }
+      Files.move(tempFile, cacheFile, REPLACE_EXISTING, ATOMIC_MOVE);
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Cached catalog in, %s", cacheFile));
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 e,
+                 new StringFormat("Could not cache catalog in, %s",
+                                  cacheFile));
+      if (tempFile != null)
+      {
+        try
+        {
+          Files.deleteIfExists(tempFile);
+        }
+        catch (final IOException e1)
+        {
+          // Ignore
+        }
+      }
+    }
+  }
+
+  private void storeInMemory(final String cacheKey,
+                             final String fingerprint,
+                             final Catalog catalog)
+  {
+    if (fingerprint == null && maxUnverifiedAgeMillis == 0)
+    {
+      return;
+    }
+
+    final ByteArrayOutputStream catalogBytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(catalogBytes);)
+    {
+      out.writeObject(catalog);
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not cache catalog in memory", e);
+      return;
+    }
+    memoryCache.put(cacheKey,
+                    new CachedCatalog(fingerprint, catalogBytes.toByteArray()));
+    LOGGER.log(Level.INFO, "Cached catalog in memory");
+  }
+
+}
@@ -30,14 +30,18 @@ package schemacrawler.tools.executable;
 
 
 import static java.util.Objects.requireNonNull;
+import static sf.util.Utility.isBlank;
 
+import java.nio.file.Paths;
 import java.sql.Connection;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import schemacrawler.crawl.SchemaCrawler;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.ConnectionOptions;
 import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.tools.catalogcache.CatalogCache;
 import sf.util.ObjectToString;
 import sf.util.StringFormat;
 
@@ -54,6 +58,12 @@ public abstract class BaseStagedExecutable
   private static final Logger LOGGER = Logger
     .getLogger(BaseStagedExecutable.class.getName());
 
+  private static final String CATALOG_CACHE_DIRECTORY = "schemacrawler.catalog_cache.directory";
+  private static final String PARALLEL_CRAWL = "schemacrawler.crawl.parallel";
+
+  private ConnectionOptions connectionOptions;
+  private CatalogCache catalogCache;
+
   protected BaseStagedExecutable(final String command)
   {
     super(command);
@@ -87,11 +97,91 @@ public abstract class BaseStagedExecutable
       LOGGER.log(Level.FINE, ObjectToString.toString(additionalConfiguration));
     }
 
-    final SchemaCrawler crawler = new SchemaCrawler(connection,
-                                                    databaseSpecificOverrideOptions);
-    final Catalog catalog = crawler.crawl(schemaCrawlerOptions);
+    final String catalogCacheDirectory;
+    final boolean parallelCrawl;
+    if (additionalConfiguration != null)
+    {
+      catalogCacheDirectory = additionalConfiguration
+        .getStringValue(CATALOG_CACHE_DIRECTORY, null);
+      parallelCrawl = additionalConfiguration.getBooleanValue(PARALLEL_CRAWL,
+                                                              false);
+    }
+    else
+    {
+      catalogCacheDirectory = null;
+      parallelCrawl = false;
+    }
+
+    final Catalog catalog;
+    if (catalogCache != null)
+    {
+      catalog = catalogCache.crawl(connection,
+                                   databaseSpecificOverrideOptions,
+                                   schemaCrawlerOptions);
+    }
+    else if (isBlank(catalogCacheDirectory))
+    {
+      final SchemaCrawler crawler;
+      if (parallelCrawl && connectionOptions != null)
+      {
+        // Independent crawl stages run on additional connections
+        crawler = new SchemaCrawler(connectionOptions,
+                                    databaseSpecificOverrideOptions);
+      }
+      else
+      {
+        if (parallelCrawl)
+        {
+          LOGGER
+            .log(Level.INFO,
+                 "Not crawling in parallel, since no connection options were provided");
+        }
+        crawler = new SchemaCrawler(connection,
+                                    databaseSpecificOverrideOptions);
+      }
+      catalog = crawler.crawl(schemaCrawlerOptions);
+    }
+    else
+    {
+      final CatalogCache directoryCatalogCache = new CatalogCache(Paths
+        .get(catalogCacheDirectory));
+      catalog = directoryCatalogCache.crawl(connection,
+                                            databaseSpecificOverrideOptions,
+                                            schemaCrawlerOptions);
+    }
 
     executeOn(catalog, connection);
   }
 
+  /**
+   * Connection options, if any, that can be used to open additional
+   * connections to the same database, for work that can be done in
+   * parallel.
+   *
+   * @return Connection options, or null if only the connection passed
+   *         to the executable can be used
+   */
+  public final ConnectionOptions getConnectionOptions()
+  {
+    return connectionOptions;
+  }
+
+  /**
+   * Catalog cache to use instead of crawling the database, which
+   * overrides any catalog cache directory in the additional
+   * configuration.
+   *
+   * @param catalogCache
+   *        Catalog cache, or null to use the additional configuration
+   */
+  public final void setCatalogCache(final CatalogCache catalogCache)
+  {
+    this.catalogCache = catalogCache;
+  }
+
+  public final void setConnectionOptions(final ConnectionOptions connectionOptions)
+  {
+    this.connectionOptions = connectionOptions;
+  }
+
 }
@@ -121,6 +121,11 @@ public final class CommandDaisyChainExecutable
       }
 
       executable.setAdditionalConfiguration(additionalConfiguration);
+      if (executable instanceof BaseStagedExecutable)
+      {
+        ((BaseStagedExecutable) executable)
+          .setConnectionOptions(getConnectionOptions());
+      }
 
       return addNext(executable);
     }
@@ -114,6 +114,7 @@ public final class SchemaCrawlerExecutable
     }
 
     executable.setAdditionalConfiguration(additionalConfiguration);
+    executable.setConnectionOptions(getConnectionOptions());
 
     executable.executeOn(catalog, connection);
   }
@@ -40,6 +40,7 @@ import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.analysis.associations.CatalogWithAssociations;
 import schemacrawler.tools.analysis.counts.CatalogWithCounts;
+import schemacrawler.tools.analysis.counts.RowCountStrategy;
 import schemacrawler.tools.executable.BaseStagedExecutable;
 import schemacrawler.tools.options.InfoLevel;
 import schemacrawler.tools.options.OutputOptions;
@@ -87,7 +88,9 @@ public final class GraphExecutable
       final Catalog catalogAssociations = new CatalogWithAssociations(db);
       catalog = new CatalogWithCounts(catalogAssociations,
                                       connection,
-                                      schemaCrawlerOptions);
+                                      schemaCrawlerOptions,
+                                      RowCountStrategy
+                                        .fromConfig(additionalConfiguration));
     }
     else
     {
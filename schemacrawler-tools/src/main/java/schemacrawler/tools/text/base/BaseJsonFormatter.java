@@ -29,7 +29,10 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.base;
 
 
+import java.io.IOException;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -45,6 +48,7 @@ import schemacrawler.tools.text.utility.JsonFormattingHelper;
 import schemacrawler.tools.text.utility.org.json.JSONArray;
 import schemacrawler.tools.text.utility.org.json.JSONException;
 import schemacrawler.tools.text.utility.org.json.JSONObject;
+import schemacrawler.tools.text.utility.org.json.JSONStreamingArray;
 import sf.util.StringFormat;
 
 /**
@@ -60,6 +64,7 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
     .getLogger(BaseJsonFormatter.class.getName());
 
   protected final JSONObject jsonRoot;
+  private final Map<String, JSONStreamingArray> streamingArrays;
 
   protected BaseJsonFormatter(final O options,
                               final boolean printVerboseDatabaseInfo,
@@ -68,6 +73,17 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
   {
     super(options, printVerboseDatabaseInfo, outputOptions);
     jsonRoot = new JSONObject();
+    streamingArrays = new HashMap<>();
+  }
+
+  /**
+   * Deletes the temporary files of the streaming arrays, since the
+   * output will not be written.
+   */
+  @Override
+  public void abort()
+  {
+    closeStreamingArrays();
   }
 
   @Override
@@ -84,7 +100,14 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
   public void end()
     throws SchemaCrawlerException
   {
-    ((JsonFormattingHelper) formattingHelper).write(jsonRoot);
+    try
+    {
+      ((JsonFormattingHelper) formattingHelper).write(jsonRoot);
+    }
+    finally
+    {
+      closeStreamingArrays();
+    }
 
     if (options.isNoFooter())
     {
@@ -261,6 +284,82 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
   {
   }
 
+  /**
+   * Accumulates a fully built value under a key of the root, in the
+   * same way as {@link JSONObject#accumulate(String, Object)}. Once
+   * there is more than one value, values are kept in a temporary file
+   * rather than in memory.
+   *
+   * @param key
+   *        Key in the root
+   * @param value
+   *        Value, which should not be modified afterwards
+   * @throws JSONException
+   *         On an exception
+   */
+  protected void accumulate(final String key, final JSONObject value)
+    throws JSONException
+  {
+    final JSONStreamingArray streamingArray = streamingArrays.get(key);
+    if (streamingArray != null)
+    {
+      streamingArray.put(value);
+      return;
+    }
+
+    final Object previousValue = jsonRoot.opt(key);
+    if (previousValue == null)
+    {
+      jsonRoot.put(key, value);
+    }
+    else
+    {
+      final JSONStreamingArray newStreamingArray = putStreamingArray(key);
+      newStreamingArray.put(previousValue);
+      newStreamingArray.put(value);
+    }
+  }
+
+  /**
+   * Puts an empty array under a key of the root, which keeps its values
+   * in a temporary file rather than in memory.
+   *
+   * @param key
+   *        Key in the root
+   * @return Streaming array
+   * @throws JSONException
+   *         On an exception
+   */
+  protected JSONStreamingArray putStreamingArray(final String key)
+    throws JSONException
+  {
+    // The root is written with an indent factor of 2, so its values
+    // are indented by 2
+    final JSONStreamingArray streamingArray = new JSONStreamingArray(2, 2);
+    streamingArrays.put(key, streamingArray);
+    jsonRoot.put(key, streamingArray);
+    return streamingArray;
+  }
+
+  private void closeStreamingArrays()
+  {
+    for (final JSONStreamingArray streamingArray: streamingArrays.values())
+    {
+      try
+      {
+        streamingArray.close();
+      }
+      catch (final IOException e)
+      {
+        LOGGER.log(Level.WARNING,
+                   e,
+                   new StringFormat("Could not delete temporary file: %s",
+                                    e.getMessage()));
+      }
+    }
+    streamingArrays.clear();
+  }
+
   private JSONObject printJdbcDriverProperty(final JdbcDriverProperty driverProperty)
   {
     final JSONObject jsonDriverProperty = new JSONObject();
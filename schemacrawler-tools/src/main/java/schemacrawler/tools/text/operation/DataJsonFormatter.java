@@ -31,7 +31,6 @@ package schemacrawler.tools.text.operation;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.List;
 
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
@@ -40,6 +39,7 @@ import schemacrawler.tools.text.base.BaseJsonFormatter;
 import schemacrawler.tools.text.utility.org.json.JSONArray;
 import schemacrawler.tools.text.utility.org.json.JSONException;
 import schemacrawler.tools.text.utility.org.json.JSONObject;
+import schemacrawler.tools.text.utility.org.json.JSONStreamingArray;
 import schemacrawler.tools.traversal.DataTraversalHandler;
 import schemacrawler.utility.Query;
 
@@ -54,7 +54,7 @@ final class DataJsonFormatter
 {
 
   private final Operation operation;
-  private final JSONArray jsonDataArray;
+  private final JSONStreamingArray jsonDataArray;
 
   /**
    * Text formatting of data.
@@ -74,14 +74,13 @@ final class DataJsonFormatter
     super(options, /* printVerboseDatabaseInfo */false, outputOptions);
     this.operation = operation;
 
-    jsonDataArray = new JSONArray();
     try
     {
       if (operation != null)
       {
         jsonRoot.put("description", operation.getDescription());
       }
-      jsonRoot.put("data", jsonDataArray);
+      jsonDataArray = putStreamingArray("data");
     }
     catch (final JSONException e)
     {
@@ -186,27 +185,21 @@ final class DataJsonFormatter
       {
         final long aggregate = handleAggregateOperationForTable(title, rows);
         jsonData.put("value", aggregate);
+        jsonDataArray.put(jsonData);
       }
       else
       {
-        try
-        {
-          final DataResultSet dataRows = new DataResultSet(rows,
-                                                           options
-                                                             .isShowLobs());
+        final DataResultSet dataRows = new DataResultSet(rows,
+                                                         options.isShowLobs(),
+                                                         options
+                                                           .getMaxLobSize());
 
-          jsonData.put("columnNames", new JSONArray(dataRows.getColumnNames()));
+        jsonData.put("columnNames", new JSONArray(dataRows.getColumnNames()));
 
-          final JSONArray jsonRows = iterateRows(dataRows);
-          jsonData.put("rows", jsonRows);
-        }
-        catch (final SQLException e)
-        {
-          throw new SchemaCrawlerException(e.getMessage(), e);
-        }
+        // Rows are formatted as they are read, rather than all being
+        // held in memory
+        jsonDataArray.put(jsonData, "rows", new JSONRows(dataRows));
       }
-
-      jsonDataArray.put(jsonData);
     }
     catch (final JSONException e)
     {
@@ -215,15 +208,55 @@ final class DataJsonFormatter
 
   }
 
-  private JSONArray iterateRows(final DataResultSet dataRows)
-    throws SQLException
+  private static final class JSONRows
+    implements JSONStreamingArray.Values
   {
-    final JSONArray jsonRows = new JSONArray();
-    while (dataRows.next())
+
+    private final DataResultSet dataRows;
+    private Boolean hasNext;
+
+    JSONRows(final DataResultSet dataRows)
     {
-      final List<Object> currentRow = dataRows.row();
-      jsonRows.put(new JSONArray(currentRow));
+      this.dataRows = dataRows;
     }
-    return jsonRows;
+
+    @Override
+    public boolean hasNext()
+      throws JSONException
+    {
+      if (hasNext == null)
+      {
+        try
+        {
+          hasNext = dataRows.next();
+        }
+        catch (final SQLException e)
+        {
+          throw new JSONException(e);
+        }
+      }
+      return hasNext;
+    }
+
+    @Override
+    public Object next()
+      throws JSONException
+    {
+      if (!hasNext())
+      {
+        throw new JSONException("No more rows");
+      }
+      hasNext = null;
+      try
+      {
+        return new JSONArray(dataRows.row());
+      }
+      catch (final SQLException e)
+      {
+        throw new JSONException(e);
+      }
+    }
+
   }
+
 }
@@ -33,9 +33,11 @@ import static java.util.Objects.requireNonNull;
 import static sf.util.Utility.readFully;
 
 import java.io.BufferedInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
@@ -67,12 +69,16 @@ final class DataResultSet
   private final ResultSet rows;
   private final List<ResultsColumn> resultsColumns;
   private final boolean showLobs;
+  private final int maxLobSize;
 
-  public DataResultSet(final ResultSet rows, final boolean showLobs)
+  public DataResultSet(final ResultSet rows,
+                       final boolean showLobs,
+                       final int maxLobSize)
     throws SchemaCrawlerException
   {
     this.rows = requireNonNull(rows, "Cannot use null results");
     this.showLobs = showLobs;
+    this.maxLobSize = maxLobSize;
     resultsColumns = SchemaCrawler.getResultColumns(rows).getColumns();
   }
 
@@ -213,7 +219,8 @@ final class DataResultSet
 
         if (in != null)
         {
-          lobData = new BinaryData(readFully(in));
+          lobData = new BinaryData(readLob(new InputStreamReader(in,
+                                                                 StandardCharsets.UTF_8)));
         }
         else
         {
@@ -273,11 +280,15 @@ final class DataResultSet
 
         if (rdr != null)
         {
-          String lobDataString = readFully(rdr);
+          String lobDataString = readLob(rdr);
           if (lobDataString.isEmpty())
           {
             // Attempt yet another read
-            final long clobLength = clob.length();
+            long clobLength = clob.length();
+            if (maxLobSize > 0)
+            {
+              clobLength = Math.min(clobLength, maxLobSize);
+            }
             lobDataString = clob.getSubString(1, (int) clobLength);
           }
           lobData = new BinaryData(lobDataString);
@@ -300,6 +311,52 @@ final class DataResultSet
     }
   }
 
+  /**
+   * Reads LOB data, up to the maximum LOB size, if there is one. Only
+   * the characters that are shown are held in memory.
+   *
+   * @param reader
+   *        Reader for the LOB data
+   * @return LOB data, possibly truncated
+   */
+  private String readLob(final Reader reader)
+  {
+    if (maxLobSize <= 0)
+    {
+      return readFully(reader);
+    }
+
+    final StringBuilder lobData = new StringBuilder();
+    try
+    {
+      final char[] buffer = new char[Math.min(maxLobSize, 8192)];
+      int remaining = maxLobSize;
+      int read;
+      while (remaining > 0 && (read = reader
+        .read(buffer, 0, Math.min(buffer.length, remaining))) != -1)
+      {
+        lobData.append(buffer, 0, read);
+        remaining = remaining - read;
+      }
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not read LOB data", e);
+    }
+    finally
+    {
+      try
+      {
+        reader.close();
+      }
+      catch (final IOException e)
+      {
+        LOGGER.log(Level.FINE, "Could not close LOB data reader", e);
+      }
+    }
+    return lobData.toString();
+  }
+
   /**
    * Reads data from an input stream into a string. Default system
    * encoding is assumed.
@@ -317,7 +374,8 @@ final class DataResultSet
     else if (showLobs)
     {
       final BufferedInputStream in = new BufferedInputStream(stream);
-      final BinaryData lobData = new BinaryData(readFully(in));
+      final BinaryData lobData = new BinaryData(readLob(new InputStreamReader(in,
+                                                                              StandardCharsets.UTF_8)));
       return lobData;
     }
     else
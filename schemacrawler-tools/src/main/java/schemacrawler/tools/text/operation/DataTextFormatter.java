@@ -218,7 +218,9 @@ final class DataTextFormatter
       try
       {
         final DataResultSet dataRows = new DataResultSet(rows,
-                                                         options.isShowLobs());
+                                                         options.isShowLobs(),
+                                                         options
+                                                           .getMaxLobSize());
 
         formattingHelper.writeRowHeader(dataRows.getColumnNames());
 
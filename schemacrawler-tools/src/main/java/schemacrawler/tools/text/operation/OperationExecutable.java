@@ -37,9 +37,20 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Table;
@@ -49,6 +60,7 @@ import schemacrawler.tools.options.TextOutputFormat;
 import schemacrawler.tools.traversal.DataTraversalHandler;
 import schemacrawler.utility.NamedObjectSort;
 import schemacrawler.utility.Query;
+import sf.util.StringFormat;
 
 /**
  * Basic SchemaCrawler executor.
@@ -59,6 +71,54 @@ public final class OperationExecutable
   extends BaseStagedExecutable
 {
 
+  /**
+   * Results of a query against a table, which hold on to a connection
+   * from the pool until they are closed.
+   */
+  private static final class TableResults
+    implements AutoCloseable
+  {
+
+    private final Table table;
+    private final ResultSet results;
+    private final Statement statement;
+    private final BlockingQueue<Connection> connections;
+
+    TableResults(final Table table,
+                 final ResultSet results,
+                 final Statement statement,
+                 final BlockingQueue<Connection> connections)
+    {
+      this.table = table;
+      this.results = results;
+      this.statement = statement;
+      this.connections = connections;
+    }
+
+    @Override
+    public void close()
+      throws SQLException
+    {
+      final Connection connection = statement.getConnection();
+      try
+      {
+        if (results != null)
+        {
+          results.close();
+        }
+        statement.close();
+      }
+      finally
+      {
+        connections.add(connection);
+      }
+    }
+
+  }
+
+  private static final Logger LOGGER = Logger
+    .getLogger(OperationExecutable.class.getName());
+
   private OperationOptions operationOptions;
 
   public OperationExecutable(final String command)
@@ -77,41 +137,57 @@ public final class OperationExecutable
 
     try (final Statement statement = createStatement(connection);)
     {
+      setFetchSize(statement);
 
-      handler.begin();
+      try
+      {
+        handler.begin();
 
-      handler.handleInfoStart();
-      handler.handle(catalog.getSchemaCrawlerInfo());
-      handler.handle(catalog.getDatabaseInfo());
-      handler.handle(catalog.getJdbcDriverInfo());
-      handler.handleInfoEnd();
+        handler.handleInfoStart();
+        handler.handle(catalog.getSchemaCrawlerInfo());
+        handler.handle(catalog.getDatabaseInfo());
+        handler.handle(catalog.getJdbcDriverInfo());
+        handler.handleInfoEnd();
 
-      if (query.isQueryOver())
-      {
-        for (final Table table: getSortedTables(catalog))
+        if (query.isQueryOver() && isParallel())
+        {
+          executeAgainstTablesInParallel(handler,
+                                         query,
+                                         getSortedTables(catalog),
+                                         connection);
+        }
+        else if (query.isQueryOver())
         {
-          final boolean isAlphabeticalSortForTableColumns = operationOptions
-            .isAlphabeticalSortForTableColumns();
-          try (
-              final ResultSet results = executeAgainstTable(query,
-                                                            statement,
-                                                            table,
-                                                            isAlphabeticalSortForTableColumns);)
+          for (final Table table: getSortedTables(catalog))
           {
-            handler.handleData(table, results);
+            final boolean isAlphabeticalSortForTableColumns = operationOptions
+              .isAlphabeticalSortForTableColumns();
+            try (
+                final ResultSet results = executeAgainstTable(query,
+                                                              statement,
+                                                              table,
+                                                              isAlphabeticalSortForTableColumns);)
+            {
+              handler.handleData(table, results);
+            }
           }
         }
-      }
-      else
-      {
-        final String sql = query.getQuery();
-        try (final ResultSet results = executeSql(statement, sql, true);)
+        else
         {
-          handler.handleData(query, results);
+          final String sql = query.getQuery();
+          try (final ResultSet results = executeSql(statement, sql, true);)
+          {
+            handler.handleData(query, results);
+          }
         }
-      }
 
-      handler.end();
+        handler.end();
+      }
+      catch (final Exception e)
+      {
+        handler.abort();
+        throw e;
+      }
 
     }
     catch (final SQLException e)
@@ -131,6 +207,146 @@ public final class OperationExecutable
     this.operationOptions = operationOptions;
   }
 
+  /**
+   * Runs the query against each table on a pool of connections, while
+   * handling the results on this thread in the same order as the
+   * tables. A table is only queried once there is a free connection, so
+   * there are never more results open than there are connections.
+   */
+  private void executeAgainstTablesInParallel(final DataTraversalHandler handler,
+                                              final Query query,
+                                              final List<? extends Table> tables,
+                                              final Connection connection)
+    throws Exception
+  {
+    final int connectionPoolSize = Math
+      .max(1,
+           Math.min(operationOptions.getConnectionPoolSize(), tables.size()));
+    LOGGER.log(Level.INFO,
+               new StringFormat("Executing query against %d tables, using %d connections",
+                                tables.size(),
+                                connectionPoolSize));
+
+    final BlockingQueue<Connection> connections = new ArrayBlockingQueue<>(connectionPoolSize);
+    final List<Connection> additionalConnections = new ArrayList<>();
+    final Deque<Future<TableResults>> pendingResults = new ArrayDeque<>();
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(connectionPoolSize);
+    try
+    {
+      connections.add(connection);
+      for (int i = 1; i < connectionPoolSize; i++)
+      {
+        final Connection additionalConnection = getConnectionOptions()
+          .getConnection();
+        additionalConnections.add(additionalConnection);
+        connections.add(additionalConnection);
+      }
+
+      final Iterator<? extends Table> tablesIterator = tables.iterator();
+      while (tablesIterator.hasNext() || !pendingResults.isEmpty())
+      {
+        while (tablesIterator.hasNext()
+               && pendingResults.size() < connectionPoolSize)
+        {
+          final Table table = tablesIterator.next();
+          pendingResults.add(executorService
+            .submit(() -> queryTable(query, table, connections)));
+        }
+
+        try (final TableResults tableResults = waitFor(pendingResults
+          .remove());)
+        {
+          handler.handleData(tableResults.table, tableResults.results);
+        }
+      }
+    }
+    finally
+    {
+      // Queries that were queued, but never started, are discarded, so
+      // only wait for queries that were started, and close their results
+      final List<Runnable> notStartedQueries = executorService.shutdownNow();
+      for (final Future<TableResults> pendingResult: pendingResults)
+      {
+        if (notStartedQueries.contains(pendingResult))
+        {
+          pendingResult.cancel(false);
+          continue;
+        }
+        try
+        {
+          pendingResult.get().close();
+        }
+        catch (final Exception e)
+        {
+          LOGGER.log(Level.FINE, "Could not close results", e);
+        }
+      }
+      for (final Connection additionalConnection: additionalConnections)
+      {
+        try
+        {
+          additionalConnection.close();
+        }
+        catch (final SQLException e)
+        {
+          LOGGER.log(Level.WARNING, "Could not close connection", e);
+        }
+      }
+    }
+  }
+
+  private TableResults queryTable(final Query query,
+                                  final Table table,
+                                  final BlockingQueue<Connection> connections)
+    throws Exception
+  {
+    final Connection connection = connections.take();
+    Statement statement = null;
+    try
+    {
+      statement = createStatement(connection);
+      setFetchSize(statement);
+      final ResultSet results = executeAgainstTable(query,
+                                                    statement,
+                                                    table,
+                                                    operationOptions
+                                                      .isAlphabeticalSortForTableColumns());
+      return new TableResults(table, results, statement, connections);
+    }
+    catch (final Exception e)
+    {
+      if (statement != null)
+      {
+        statement.close();
+      }
+      connections.add(connection);
+      throw e;
+    }
+  }
+
+  private boolean isParallel()
+  {
+    return operationOptions.getConnectionPoolSize() > 1
+           && getConnectionOptions() != null;
+  }
+
+  private void setFetchSize(final Statement statement)
+  {
+    final int fetchSize = operationOptions.getFetchSize();
+    if (fetchSize > 0)
+    {
+      try
+      {
+        statement.setFetchSize(fetchSize);
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not set fetch size, " + fetchSize, e);
+      }
+    }
+  }
+
   private DataTraversalHandler getDataTraversalHandler()
     throws SchemaCrawlerException
   {
@@ -207,6 +423,34 @@ public final class OperationExecutable
     return tables;
   }
 
+  private TableResults waitFor(final Future<TableResults> pendingResult)
+    throws Exception
+  {
+    try
+    {
+      return pendingResult.get();
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while executing query",
+                                       e);
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof Exception)
+      {
+        throw (Exception) cause;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Exception executing query in parallel",
+                                         cause);
+      }
+    }
+  }
+
   private void loadOperationOptions()
   {
     if (operationOptions == null)
@@ -43,6 +43,41 @@ public final class OperationOptions
   private static final long serialVersionUID = -7977434852526746391L;
 
   private boolean isShowLobs;
+  private int maxLobSize;
+  private int fetchSize;
+  private int connectionPoolSize = 1;
+
+  /**
+   * Number of connections used to run data queries against tables in
+   * parallel. With 1, tables are queried one at a time.
+   *
+   * @return Number of connections for data queries
+   */
+  public int getConnectionPoolSize()
+  {
+    return connectionPoolSize;
+  }
+
+  /**
+   * JDBC fetch size for data queries, or 0 for the driver default.
+   *
+   * @return JDBC fetch size for data queries
+   */
+  public int getFetchSize()
+  {
+    return fetchSize;
+  }
+
+  /**
+   * Maximum number of characters or bytes of LOB data shown for each
+   * value, or 0 to show LOB data in full.
+   *
+   * @return Maximum size of LOB data shown
+   */
+  public int getMaxLobSize()
+  {
+    return maxLobSize;
+  }
 
   /**
    * Whether to show LOBs.
@@ -54,6 +89,56 @@ public final class OperationOptions
     return isShowLobs;
   }
 
+  /**
+   * Number of connections used to run data queries against tables in
+   * parallel. With 1, tables are queried one at a time.
+   *
+   * @param connectionPoolSize
+   *        Number of connections for data queries
+   */
+  public void setConnectionPoolSize(final int connectionPoolSize)
+  {
+    if (connectionPoolSize < 1)
+    {
+      throw new IllegalArgumentException("Connection pool size should be at least 1, "
+                                         + connectionPoolSize);
+    }
+    this.connectionPoolSize = connectionPoolSize;
+  }
+
+  /**
+   * JDBC fetch size for data queries, or 0 for the driver default.
+   *
+   * @param fetchSize
+   *        JDBC fetch size for data queries
+   */
+  public void setFetchSize(final int fetchSize)
+  {
+    if (fetchSize < 0)
+    {
+      throw new IllegalArgumentException("Fetch size cannot be negative, "
+                                         + fetchSize);
+    }
+    this.fetchSize = fetchSize;
+  }
+
+  /**
+   * Maximum number of characters or bytes of LOB data shown for each
+   * value, or 0 to show LOB data in full.
+   *
+   * @param maxLobSize
+   *        Maximum size of LOB data shown
+   */
+  public void setMaxLobSize(final int maxLobSize)
+  {
+    if (maxLobSize < 0)
+    {
+      throw new IllegalArgumentException("Maximum LOB size cannot be negative, "
+                                         + maxLobSize);
+    }
+    this.maxLobSize = maxLobSize;
+  }
+
   /**
    * Whether to show LOBs.
    *
@@ -45,6 +45,12 @@ public final class OperationOptionsBuilder
 
   private static final String SHOW_LOBS = SCHEMACRAWLER_FORMAT_PREFIX
                                           + "data.show_lobs";
+  private static final String MAX_LOB_SIZE = SCHEMACRAWLER_FORMAT_PREFIX
+                                             + "data.max_lob_size";
+  private static final String FETCH_SIZE = SCHEMACRAWLER_FORMAT_PREFIX
+                                           + "data.fetch_size";
+  private static final String CONNECTION_POOL_SIZE = SCHEMACRAWLER_FORMAT_PREFIX
+                                                     + "data.connection_pool_size";
 
   /**
    * Operator options, defaults.
@@ -65,10 +71,43 @@ public final class OperationOptionsBuilder
 
     final Config config = new Config(map);
     options.setShowLobs(config.getBooleanValue(SHOW_LOBS, false));
+    options.setMaxLobSize(config.getIntegerValue(MAX_LOB_SIZE, 0));
+    options.setFetchSize(config.getIntegerValue(FETCH_SIZE, 0));
+    options
+      .setConnectionPoolSize(config.getIntegerValue(CONNECTION_POOL_SIZE, 1));
 
     return this;
   }
 
+  /**
+   * Number of connections used to run data queries against tables in
+   * parallel. With 1, tables are queried one at a time.
+   */
+  public OperationOptionsBuilder connectionPoolSize(final int connectionPoolSize)
+  {
+    options.setConnectionPoolSize(connectionPoolSize);
+    return this;
+  }
+
+  /**
+   * JDBC fetch size for data queries, or 0 for the driver default.
+   */
+  public OperationOptionsBuilder fetchSize(final int fetchSize)
+  {
+    options.setFetchSize(fetchSize);
+    return this;
+  }
+
+  /**
+   * Maximum number of characters or bytes of LOB data shown for each
+   * value, or 0 to show LOB data in full.
+   */
+  public OperationOptionsBuilder maxLobSize(final int maxLobSize)
+  {
+    options.setMaxLobSize(maxLobSize);
+    return this;
+  }
+
   /**
    * Whether to show LOBs.
    */
@@ -83,6 +122,11 @@ public final class OperationOptionsBuilder
   {
     final Config config = super.toConfig();
     config.setBooleanValue(SHOW_LOBS, options.isShowLobs());
+    config.setStringValue(MAX_LOB_SIZE,
+                          String.valueOf(options.getMaxLobSize()));
+    config.setStringValue(FETCH_SIZE, String.valueOf(options.getFetchSize()));
+    config.setStringValue(CONNECTION_POOL_SIZE,
+                          String.valueOf(options.getConnectionPoolSize()));
     return config;
   }
 
@@ -33,6 +33,7 @@ import static schemacrawler.tools.analysis.counts.CountsUtility.getRowCountMessa
 import static schemacrawler.tools.analysis.counts.CountsUtility.hasRowCount;
 import static schemacrawler.utility.MetaDataUtility.findForeignKeyCardinality;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -179,7 +180,7 @@ public final class SchemaDotFormatter
 
     printTableRemarks(table);
 
-    final List<Column> columns = table.getColumns();
+    final List<Column> columns = new ArrayList<>(table.getColumns());
     printTableColumns(columns, false);
 
     printTableRowCount(table);
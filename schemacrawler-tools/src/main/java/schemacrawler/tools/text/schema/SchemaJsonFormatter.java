@@ -122,7 +122,6 @@ final class SchemaJsonFormatter
       try
       {
         final JSONObject jsonColumnDataType = new JSONObject();
-        jsonRoot.accumulate("columnDataypes", jsonColumnDataType);
 
         final String databaseSpecificTypeName;
         if (options.isShowUnqualifiedNames())
@@ -147,6 +146,8 @@ final class SchemaJsonFormatter
                                columnDataType.isAutoIncrementable());
         jsonColumnDataType.put("searchable",
                                columnDataType.getSearchable().toString());
+
+        accumulate("columnDataypes", jsonColumnDataType);
       }
       catch (final JSONException e)
       {
@@ -170,7 +171,6 @@ final class SchemaJsonFormatter
     try
     {
       final JSONObject jsonRoutine = new JSONObject();
-      jsonRoot.accumulate("routines", jsonRoutine);
 
       jsonRoutine.put("name", routine.getName());
       if (!options.isShowUnqualifiedNames())
@@ -205,6 +205,8 @@ final class SchemaJsonFormatter
           }
         }
       }
+
+      accumulate("routines", jsonRoutine);
     }
     catch (final JSONException e)
     {
@@ -228,7 +230,6 @@ final class SchemaJsonFormatter
     try
     {
       final JSONObject jsonSequence = new JSONObject();
-      jsonRoot.accumulate("sequences", jsonSequence);
 
       jsonSequence.put("name", sequence.getName());
       if (!options.isShowUnqualifiedNames())
@@ -244,6 +245,8 @@ final class SchemaJsonFormatter
         jsonSequence.put("maximumValue", sequence.getMaximumValue());
         jsonSequence.put("cycle", sequence.isCycle());
       }
+
+      accumulate("sequences", jsonSequence);
     }
     catch (final JSONException e)
     {
@@ -267,7 +270,6 @@ final class SchemaJsonFormatter
     try
     {
       final JSONObject jsonSynonym = new JSONObject();
-      jsonRoot.accumulate("synonyms", jsonSynonym);
 
       jsonSynonym.put("name", synonym.getName());
       if (!options.isShowUnqualifiedNames())
@@ -289,6 +291,8 @@ final class SchemaJsonFormatter
         }
         jsonSynonym.put("referencedObject", referencedObjectName);
       }
+
+      accumulate("synonyms", jsonSynonym);
     }
     catch (final JSONException e)
     {
@@ -307,8 +311,6 @@ final class SchemaJsonFormatter
 
     try
     {
-      jsonRoot.accumulate("tables", jsonTable);
-
       jsonTable.put("name", table.getName());
       if (!options.isShowUnqualifiedNames())
       {
@@ -319,7 +321,7 @@ final class SchemaJsonFormatter
 
       final JSONArray jsonColumns = new JSONArray();
       jsonTable.put("columns", jsonColumns);
-      final List<Column> columns = table.getColumns();
+      final List<Column> columns = new ArrayList<>(table.getColumns());
       Collections.sort(columns,
                        NamedObjectSort.getNamedObjectSort(options
                          .isAlphabeticalSortForTableColumns()));
@@ -413,6 +415,10 @@ final class SchemaJsonFormatter
           jsonTable.put("additionalInformation", jsonAdditionalInformation);
         }
       }
+
+      // Only add the table once it is complete, since it may be
+      // written out right away
+      accumulate("tables", jsonTable);
     }
     catch (final JSONException e)
     {
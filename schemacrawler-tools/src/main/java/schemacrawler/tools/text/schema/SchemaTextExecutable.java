@@ -37,6 +37,7 @@ import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.analysis.associations.CatalogWithAssociations;
 import schemacrawler.tools.analysis.counts.CatalogWithCounts;
+import schemacrawler.tools.analysis.counts.RowCountStrategy;
 import schemacrawler.tools.executable.BaseStagedExecutable;
 import schemacrawler.tools.options.InfoLevel;
 import schemacrawler.tools.options.TextOutputFormat;
@@ -75,7 +76,9 @@ public final class SchemaTextExecutable
       final Catalog catalogAssociations = new CatalogWithAssociations(db);
       catalog = new CatalogWithCounts(catalogAssociations,
                                       connection,
-                                      schemaCrawlerOptions);
+                                      schemaCrawlerOptions,
+                                      RowCountStrategy
+                                        .fromConfig(additionalConfiguration));
     }
     else
     {
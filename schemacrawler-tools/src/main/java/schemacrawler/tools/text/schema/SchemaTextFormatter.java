@@ -316,7 +316,7 @@ final class SchemaTextFormatter
                                         colorMap.getColor(table));
     printRemarks(table);
 
-    final List<Column> columns = table.getColumns();
+    final List<Column> columns = new ArrayList<>(table.getColumns());
     printTableColumns(columns, false);
     printPrimaryKey(table.getPrimaryKey());
     printForeignKeys(table);
@@ -1065,6 +1065,7 @@ public class JSONArray
     if (len == 0)
     {
       writer.write("[]");
+      return;
     }
     int i;
     writer.write("[");
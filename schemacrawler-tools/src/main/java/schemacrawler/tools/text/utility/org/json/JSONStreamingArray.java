@@ -0,0 +1,418 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.utility.org.json;
+
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A JSONArray that does not keep its values in memory. Each value is
+ * formatted as soon as it is put, and spilled to a temporary file. A
+ * value may itself hold a long array, which is formatted from a
+ * sequence of values as they become available. The array is written
+ * out with the same text as a JSONArray holding the same values, but
+ * only at the indentation it was created for. The temporary file is
+ * deleted when the array is closed, so the array needs to be closed
+ * even if it is never written out.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class JSONStreamingArray
+  extends JSONArray
+  implements Closeable
+{
+
+  /**
+   * A sequence of values, that is read only once.
+   */
+  public interface Values
+  {
+
+    boolean hasNext()
+      throws JSONException;
+
+    Object next()
+      throws JSONException;
+
+  }
+
+  /**
+   * Stands in for an array of values while a value is formatted, and
+   * remembers the indentation that the array is to be formatted with.
+   */
+  private static final class Placeholder
+    extends JSONArray
+  {
+
+    private static final String TEXT = "\u0000";
+
+    private int indent;
+
+    @Override
+    String toString(final int indentFactor, final int indent)
+    {
+      this.indent = indent;
+      return TEXT;
+    }
+
+  }
+
+  private final int indentFactor;
+  private final int indent;
+  private final Path spillFile;
+  private final PrintWriter spill;
+  private int length;
+
+  /**
+   * Creates a streaming array, to be written with the given
+   * indentation.
+   *
+   * @param indentFactor
+   *        The number of spaces to add to each level of indentation.
+   * @param indent
+   *        The indentation of the array.
+   * @throws JSONException
+   *         If a temporary file cannot be created
+   */
+  public JSONStreamingArray(final int indentFactor, final int indent)
+    throws JSONException
+  {
+    this.indentFactor = indentFactor;
+    this.indent = indent;
+    try
+    {
+      spillFile = Files.createTempFile("schemacrawler", ".json");
+    }
+    catch (final IOException e)
+    {
+      throw new JSONException(e);
+    }
+    try
+    {
+      spill = new PrintWriter(Files.newBufferedWriter(spillFile,
+                                                      StandardCharsets.UTF_8));
+    }
+    catch (final IOException e)
+    {
+      try
+      {
+        Files.deleteIfExists(spillFile);
+      }
+      catch (final IOException e1)
+      {
+        e.addSuppressed(e1);
+      }
+      throw new JSONException(e);
+    }
+  }
+
+  /**
+   * Closes and deletes the temporary file. The array cannot be written
+   * out after it is closed. Closing the array more than once has no
+   * effect.
+   */
+  @Override
+  public void close()
+    throws IOException
+  {
+    try
+    {
+      spill.close();
+    }
+    finally
+    {
+      Files.deleteIfExists(spillFile);
+    }
+  }
+
+  @Override
+  public int length()
+  {
+    return length;
+  }
+
+  /**
+   * Formats the value, and appends it to the temporary file. The value
+   * should not be modified afterwards.
+   */
+  @Override
+  public JSONArray put(final Object value)
+  {
+    try
+    {
+      final String text = JSONObject.valueToString(value,
+                                                   indentFactor,
+                                                   indent + indentFactor);
+      startValue();
+      spill.print(text);
+      length++;
+    }
+    catch (final JSONException e)
+    {
+      throw new IllegalArgumentException(e.getMessage(), e);
+    }
+    return this;
+  }
+
+  /**
+   * Formats the value, with an array of the given values under the
+   * key, and appends it to the temporary file. The values are formatted
+   * one at a time, as they are read, so only one of them is held in
+   * memory at any time. The value should not be modified afterwards.
+   *
+   * @param value
+   *        Value to append
+   * @param key
+   *        Key for the array of values
+   * @param values
+   *        Values for the array
+   * @return This streaming array
+   * @throws JSONException
+   *         If the values cannot be read or formatted
+   */
+  public JSONStreamingArray put(final JSONObject value,
+                                final String key,
+                                final Values values)
+    throws JSONException
+  {
+    final Placeholder placeholder = new Placeholder();
+    value.put(key, placeholder);
+    final String text = JSONObject.valueToString(value,
+                                                 indentFactor,
+                                                 indent + indentFactor);
+    final int split = text.indexOf(Placeholder.TEXT);
+
+    startValue();
+    spill.print(text.substring(0, split));
+    putValues(values, placeholder.indent);
+    spill.print(text.substring(split + Placeholder.TEXT.length()));
+    length++;
+
+    return this;
+  }
+
+  /**
+   * Gets the text of the array, at the indentation it was created for.
+   * The whole array is read back from the temporary file, so this
+   * should only be used for small arrays.
+   *
+   * @throws IllegalStateException
+   *         If the array has been closed
+   */
+  @Override
+  public String toString()
+  {
+    if (length == 0)
+    {
+      return "[]";
+    }
+    final StringWriter writer = new StringWriter();
+    try (final PrintWriter printWriter = new PrintWriter(writer);)
+    {
+      write(printWriter, indentFactor, indent);
+    }
+    catch (final JSONException e)
+    {
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+    return writer.toString();
+  }
+
+  @Override
+  public Writer write(final Writer writer)
+    throws JSONException
+  {
+    throw new JSONException("Streaming array can only be written with indentation");
+  }
+
+  @Override
+  String toString(final int indentFactor, final int indent)
+    throws JSONException
+  {
+    throw new JSONException("Streaming array can only be written to a writer");
+  }
+
+  @Override
+  void write(final PrintWriter writer, final int indentFactor, final int indent)
+    throws JSONException
+  {
+    if (indentFactor != this.indentFactor || indent != this.indent)
+    {
+      throw new JSONException("Streaming array written with unexpected indentation");
+    }
+    if (spill.checkError())
+    {
+      throw new JSONException("Could not write temporary file, " + spillFile);
+    }
+    spill.flush();
+
+    if (length == 0)
+    {
+      writer.write("[]");
+      return;
+    }
+    writer.write("[");
+    if (length == 1)
+    {
+      // A single value is written at the indentation of the array, so
+      // take off one level of indentation from every line
+      copySpill(writer, indentFactor);
+    }
+    else
+    {
+      writer.println();
+      copySpill(writer, 0);
+      writer.println();
+      for (int i = 0; i < indent; i += 1)
+      {
+        writer.print(' ');
+      }
+    }
+    writer.print(']');
+  }
+
+  Path getSpillFile()
+  {
+    return spillFile;
+  }
+
+  private void copySpill(final PrintWriter writer, final int outdent)
+    throws JSONException
+  {
+    try (final BufferedReader reader = Files
+      .newBufferedReader(spillFile, StandardCharsets.UTF_8);)
+    {
+      if (outdent == 0)
+      {
+        final char[] buffer = new char[8192];
+        int read;
+        while ((read = reader.read(buffer)) != -1)
+        {
+          writer.write(buffer, 0, read);
+        }
+      }
+      else
+      {
+        reader.skip(indent + indentFactor);
+        int skip = 0;
+        int read;
+        while ((read = reader.read()) != -1)
+        {
+          if (skip > 0)
+          {
+            skip--;
+          }
+          else
+          {
+            writer.write(read);
+            if (read == '\n')
+            {
+              skip = outdent;
+            }
+          }
+        }
+      }
+    }
+    catch (final IOException e)
+    {
+      throw new JSONException(e);
+    }
+  }
+
+  /**
+   * Appends values to the temporary file, in the same layout as
+   * {@link JSONArray#toString(int, int)}. One value is read ahead, since
+   * an array with a single value is laid out differently.
+   */
+  private void putValues(final Values values, final int valuesIndent)
+    throws JSONException
+  {
+    if (!values.hasNext())
+    {
+      spill.print("[]");
+      return;
+    }
+
+    final Object firstValue = values.next();
+    spill.print('[');
+    if (!values.hasNext())
+    {
+      spill.print(JSONObject.valueToString(firstValue,
+                                           indentFactor,
+                                           valuesIndent));
+    }
+    else
+    {
+      final int newindent = valuesIndent + indentFactor;
+      spill.print('\n');
+      putValue(firstValue, newindent);
+      while (values.hasNext())
+      {
+        spill.print(",\n");
+        putValue(values.next(), newindent);
+      }
+      spill.print('\n');
+      for (int i = 0; i < valuesIndent; i += 1)
+      {
+        spill.print(' ');
+      }
+    }
+    spill.print(']');
+  }
+
+  private void putValue(final Object value, final int valueIndent)
+    throws JSONException
+  {
+    for (int i = 0; i < valueIndent; i += 1)
+    {
+      spill.print(' ');
+    }
+    spill.print(JSONObject.valueToString(value, indentFactor, valueIndent));
+  }
+
+  private void startValue()
+  {
+    if (length > 0)
+    {
+      spill.println(",");
+    }
+    for (int i = 0; i < indent + indentFactor; i += 1)
+    {
+      spill.write(' ');
+    }
+  }
+
+}
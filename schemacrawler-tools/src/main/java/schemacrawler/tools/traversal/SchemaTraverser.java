@@ -103,6 +103,20 @@ public class SchemaTraverser
   public final void traverse()
     throws SchemaCrawlerException
   {
+    try
+    {
+      traverseCatalog();
+    }
+    catch (final SchemaCrawlerException | RuntimeException e)
+    {
+      handler.abort();
+      throw e;
+    }
+  }
+
+  private void traverseCatalog()
+    throws SchemaCrawlerException
+  {
 
     final Collection<ColumnDataType> columnDataTypes = catalog
       .getColumnDataTypes();
@@ -43,6 +43,15 @@ public interface TraversalHandler
   void end()
     throws SchemaCrawlerException;
 
+  /**
+   * Releases anything held for the output, when traversal stops with
+   * an exception, and {@link #end()} will not be called.
+   */
+  default void abort()
+  {
+    // Nothing to release by default
+  }
+
   void handle(CrawlInfo crawlInfo)
     throws SchemaCrawlerException;
 
@@ -0,0 +1,271 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.RoutineType;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.catalogcache.CatalogCache;
+
+public class CatalogCacheTest
+  extends BaseDatabaseTest
+{
+
+  private static DatabaseSpecificOverrideOptions withFingerprint(final String sql)
+  {
+    final DatabaseSpecificOverrideOptionsBuilder databaseSpecificOverrideOptionsBuilder = new DatabaseSpecificOverrideOptionsBuilder();
+    databaseSpecificOverrideOptionsBuilder.withInformationSchemaViews()
+      .withMetadataFingerprintSql(sql);
+    return databaseSpecificOverrideOptionsBuilder.toOptions();
+  }
+
+  @Test
+  public void catalogCache()
+    throws Exception
+  {
+    final Path cacheDirectory = Files.createTempDirectory("catalog_cache");
+    final CatalogCache catalogCache = new CatalogCache(cacheDirectory);
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+
+    final DatabaseSpecificOverrideOptions unchanged = withFingerprint("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES");
+    final Catalog catalog = catalogCache
+      .crawl(getConnection(), unchanged, schemaCrawlerOptions);
+    assertEquals(1, cacheDirectory.toFile().list().length);
+
+    final Catalog cachedCatalog = catalogCache
+      .crawl(getConnection(), unchanged, schemaCrawlerOptions);
+    assertEquals("Catalog was not served from the cache",
+                 catalog.getCrawlInfo().getCrawlTimestamp(),
+                 cachedCatalog.getCrawlInfo().getCrawlTimestamp());
+    assertEquals(catalog.getTables().size(), cachedCatalog.getTables().size());
+    assertTrue(cachedCatalog.getTables().size() > 0);
+
+    final DatabaseSpecificOverrideOptions changed = withFingerprint("SELECT COUNT(*) + 1 FROM INFORMATION_SCHEMA.TABLES");
+    final Catalog recrawledCatalog = catalogCache
+      .crawl(getConnection(), changed, schemaCrawlerOptions);
+    assertNotEquals("Catalog was served from a stale cache",
+                    catalog.getCrawlInfo().getCrawlTimestamp(),
+                    recrawledCatalog.getCrawlInfo().getCrawlTimestamp());
+  }
+
+  @Test
+  public void cacheKeyIgnoresOrderOfOptions()
+    throws Exception
+  {
+    final Path cacheDirectory = Files.createTempDirectory("catalog_cache");
+    final CatalogCache catalogCache = new CatalogCache(cacheDirectory);
+    final DatabaseSpecificOverrideOptions unchanged = withFingerprint("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES");
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.minimum());
+    schemaCrawlerOptions.setTableTypes(Arrays.asList("TABLE", "VIEW"));
+    final Catalog catalog = catalogCache
+      .crawl(getConnection(), unchanged, schemaCrawlerOptions);
+
+    final SchemaCrawlerOptions reorderedOptions = new SchemaCrawlerOptions();
+    reorderedOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.minimum());
+    reorderedOptions.setTableTypes(Arrays.asList("VIEW", "TABLE"));
+    reorderedOptions.setRoutineTypes(Arrays.asList(RoutineType.function,
+                                                   RoutineType.procedure));
+    final Catalog cachedCatalog = catalogCache
+      .crawl(getConnection(), unchanged, reorderedOptions);
+    assertEquals("Catalog was not served from the cache",
+                 catalog.getCrawlInfo().getCrawlTimestamp(),
+                 cachedCatalog.getCrawlInfo().getCrawlTimestamp());
+    assertEquals(1, cacheDirectory.toFile().list().length);
+
+    final SchemaCrawlerOptions differentOptions = new SchemaCrawlerOptions();
+    differentOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.minimum());
+    differentOptions.setTableTypes(Arrays.asList("TABLE"));
+    catalogCache.crawl(getConnection(), unchanged, differentOptions);
+    assertEquals(2, cacheDirectory.toFile().list().length);
+  }
+
+  @Test
+  public void tamperedCacheFile()
+    throws Exception
+  {
+    final Path cacheDirectory = Files.createTempDirectory("catalog_cache");
+    final CatalogCache catalogCache = new CatalogCache(cacheDirectory);
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.minimum());
+    final DatabaseSpecificOverrideOptions unchanged = withFingerprint("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES");
+    final Catalog catalog = catalogCache
+      .crawl(getConnection(), unchanged, schemaCrawlerOptions);
+
+    // Replace the cached catalog with an object that is not part of a
+    // catalog, keeping the fingerprint
+    final Path cacheFile = cacheDirectory
+      .resolve(cacheDirectory.toFile().list()[0]);
+    final Object fingerprint;
+    try (final ObjectInputStream in = new ObjectInputStream(new GZIPInputStream(Files
+      .newInputStream(cacheFile)));)
+    {
+      fingerprint = in.readObject();
+    }
+    try (final ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(Files
+      .newOutputStream(cacheFile)));)
+    {
+      out.writeObject(fingerprint);
+      out.writeObject(new URI("http://www.schemacrawler.com"));
+    }
+
+    final Catalog recrawledCatalog = catalogCache
+      .crawl(getConnection(), unchanged, schemaCrawlerOptions);
+    assertNotEquals("Catalog was served from a tampered cache file",
+                    catalog.getCrawlInfo().getCrawlTimestamp(),
+                    recrawledCatalog.getCrawlInfo().getCrawlTimestamp());
+    assertTrue(recrawledCatalog.getTables().size() > 0);
+  }
+
+  @Test
+  public void inMemoryCatalogCache()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+
+    final CatalogCache catalogCache = new CatalogCache(2, 0);
+    assertNull(catalogCache.getCacheDirectory());
+
+    final DatabaseSpecificOverrideOptions unchanged = withFingerprint("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES");
+    final Catalog catalog = catalogCache
+      .crawl(getConnection(), unchanged, schemaCrawlerOptions);
+    final Catalog cachedCatalog = catalogCache
+      .crawl(getConnection(), unchanged, schemaCrawlerOptions);
+    assertEquals("Catalog was not served from the cache",
+                 catalog.getCrawlInfo().getCrawlTimestamp(),
+                 cachedCatalog.getCrawlInfo().getCrawlTimestamp());
+    assertNotSame("Cached catalog should be a copy", catalog, cachedCatalog);
+    assertEquals(catalog.getTables().size(), cachedCatalog.getTables().size());
+
+    final DatabaseSpecificOverrideOptions changed = withFingerprint("SELECT COUNT(*) + 1 FROM INFORMATION_SCHEMA.TABLES");
+    final Catalog recrawledCatalog = catalogCache
+      .crawl(getConnection(), changed, schemaCrawlerOptions);
+    assertNotEquals("Catalog was served from a stale cache",
+                    catalog.getCrawlInfo().getCrawlTimestamp(),
+                    recrawledCatalog.getCrawlInfo().getCrawlTimestamp());
+  }
+
+  @Test
+  public void inMemoryNoFingerprint()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.minimum());
+    final DatabaseSpecificOverrideOptions noFingerprint = new DatabaseSpecificOverrideOptionsBuilder()
+      .toOptions();
+
+    final CatalogCache unverifiedCatalogCache = new CatalogCache(2, 60000);
+    final Catalog catalog = unverifiedCatalogCache
+      .crawl(getConnection(), noFingerprint, schemaCrawlerOptions);
+    final Catalog cachedCatalog = unverifiedCatalogCache
+      .crawl(getConnection(), noFingerprint, schemaCrawlerOptions);
+    assertEquals("Catalog was not served from the cache",
+                 catalog.getCrawlInfo().getCrawlTimestamp(),
+                 cachedCatalog.getCrawlInfo().getCrawlTimestamp());
+
+    final CatalogCache verifiedCatalogCache = new CatalogCache(2, 0);
+    final Catalog verifiedCatalog = verifiedCatalogCache
+      .crawl(getConnection(), noFingerprint, schemaCrawlerOptions);
+    Thread.sleep(5);
+    final Catalog recrawledCatalog = verifiedCatalogCache
+      .crawl(getConnection(), noFingerprint, schemaCrawlerOptions);
+    assertNotEquals("Catalog without a fingerprint was served from the cache",
+                    verifiedCatalog.getCrawlInfo().getCrawlTimestamp(),
+                    recrawledCatalog.getCrawlInfo().getCrawlTimestamp());
+  }
+
+  @Test
+  public void noFingerprint()
+    throws Exception
+  {
+    final Path cacheDirectory = Files.createTempDirectory("catalog_cache");
+    final CatalogCache catalogCache = new CatalogCache(cacheDirectory);
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.minimum());
+
+    final Catalog catalog = catalogCache
+      .crawl(getConnection(),
+             new DatabaseSpecificOverrideOptionsBuilder().toOptions(),
+             schemaCrawlerOptions);
+    assertTrue(catalog.getTables().size() > 0);
+    assertEquals(0, cacheDirectory.toFile().list().length);
+  }
+
+  @Test
+  public void notCachedWithLambdaInclusionRule()
+    throws Exception
+  {
+    final Path cacheDirectory = Files.createTempDirectory("catalog_cache");
+    final CatalogCache catalogCache = new CatalogCache(cacheDirectory);
+    final DatabaseSpecificOverrideOptions unchanged = withFingerprint("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES");
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.minimum());
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(schema -> schema.endsWith(".BOOKS"));
+
+    final Catalog catalog = catalogCache
+      .crawl(getConnection(), unchanged, schemaCrawlerOptions);
+    assertTrue(catalog.getTables().size() > 0);
+    assertEquals(0, cacheDirectory.toFile().list().length);
+
+    final Catalog recrawledCatalog = catalogCache
+      .crawl(getConnection(), unchanged, schemaCrawlerOptions);
+    assertNotSame(catalog, recrawledCatalog);
+    assertEquals(0, cacheDirectory.toFile().list().length);
+  }
+
+}
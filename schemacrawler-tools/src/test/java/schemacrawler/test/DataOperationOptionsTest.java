@@ -0,0 +1,199 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.operation.Operation;
+import schemacrawler.tools.text.operation.OperationOptions;
+import schemacrawler.tools.text.operation.OperationOptionsBuilder;
+
+public class DataOperationOptionsTest
+  extends BaseDatabaseTest
+{
+
+  private static final String LOB_QUERY = "SELECT CAST(REPEAT('LOB DATA ', 100) AS CLOB) AS LOB_DATA "
+                                          + "FROM (VALUES(0))";
+
+  /**
+   * Records the fetch size of every statement created on the
+   * connection.
+   */
+  private static Connection recordFetchSizes(final Connection connection,
+                                             final List<Integer> fetchSizes)
+  {
+    return (Connection) Proxy
+      .newProxyInstance(DataOperationOptionsTest.class.getClassLoader(),
+                        new Class<?>[] { Connection.class },
+                        (proxy, method, args) -> {
+                          final Object result = invoke(connection,
+                                                       method,
+                                                       args);
+                          if (result instanceof Statement
+                              && method.getName().equals("createStatement"))
+                          {
+                            return recordFetchSize((Statement) result,
+                                                   fetchSizes);
+                          }
+                          return result;
+                        });
+  }
+
+  private static Statement recordFetchSize(final Statement statement,
+                                           final List<Integer> fetchSizes)
+  {
+    return (Statement) Proxy
+      .newProxyInstance(DataOperationOptionsTest.class.getClassLoader(),
+                        new Class<?>[] { Statement.class },
+                        (proxy, method, args) -> {
+                          if (method.getName().equals("setFetchSize"))
+                          {
+                            fetchSizes.add((Integer) args[0]);
+                          }
+                          return invoke(statement, method, args);
+                        });
+  }
+
+  private static Object invoke(final Object object,
+                               final Method method,
+                               final Object[] args)
+    throws Throwable
+  {
+    try
+    {
+      return method.invoke(object, args);
+    }
+    catch (final InvocationTargetException e)
+    {
+      throw e.getCause();
+    }
+  }
+
+  @Test
+  public void fetchSize()
+    throws Exception
+  {
+    final Config config = new Config();
+    config.put("schemacrawler.format.data.fetch_size", "17");
+
+    final List<Integer> fetchSizes = new ArrayList<>();
+    execute(Operation.count.name(),
+            config,
+            recordFetchSizes(getConnection(), fetchSizes));
+    assertTrue("Fetch size was not set on data statement",
+               fetchSizes.contains(17));
+
+    fetchSizes.clear();
+    execute(Operation.count.name(),
+            new Config(),
+            recordFetchSizes(getConnection(), fetchSizes));
+    assertFalse("Fetch size should be the driver default",
+                fetchSizes.contains(17));
+  }
+
+  @Test
+  public void maxLobSize()
+    throws Exception
+  {
+    final String lobData = new String(new char[100]).replace("\0",
+                                                             "LOB DATA ");
+
+    final Config config = new Config();
+    config.put("lob_data", LOB_QUERY);
+    config.put("schemacrawler.format.data.show_lobs", "true");
+
+    // LOBs are shown in full by default
+    assertTrue(execute("lob_data", config, getConnection())
+      .contains(lobData.trim()));
+
+    // LOBs are truncated to the maximum size
+    config.put("schemacrawler.format.data.max_lob_size", "20");
+    final String output = execute("lob_data", config, getConnection());
+    assertTrue(output.contains(lobData.substring(0, 20).trim()));
+    assertFalse(output.contains(lobData.substring(0, 21)));
+  }
+
+  @Test
+  public void options()
+  {
+    final Config config = new Config();
+    config.put("schemacrawler.format.data.fetch_size", "17");
+    config.put("schemacrawler.format.data.max_lob_size", "20");
+
+    final OperationOptions options = new OperationOptionsBuilder()
+      .fromConfig(config).toOptions();
+    assertEquals(17, options.getFetchSize());
+    assertEquals(20, options.getMaxLobSize());
+
+    final OperationOptions defaultOptions = new OperationOptionsBuilder()
+      .fromConfig(new Config()).toOptions();
+    assertEquals(0, defaultOptions.getFetchSize());
+    assertEquals(0, defaultOptions.getMaxLobSize());
+  }
+
+  private String execute(final String command,
+                         final Config config,
+                         final Connection connection)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionInclusionRule(".*\\.BOOKS"));
+
+    final StringWriter writer = new StringWriter();
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(command);
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setAdditionalConfiguration(config);
+    executable
+      .setOutputOptions(new OutputOptions(TextOutputFormat.text, writer));
+    executable.execute(connection);
+    return writer.toString();
+  }
+
+}
@@ -0,0 +1,139 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import schemacrawler.tools.analysis.associations.Inflection;
+
+public class InflectionTest
+{
+
+  @Test
+  public void cachedWords()
+  {
+    final String plural = Inflection.pluralize("category");
+    assertEquals("categories", plural);
+    assertSame(plural, Inflection.pluralize("category"));
+
+    final String singular = Inflection.singularize("categories");
+    assertEquals("category", singular);
+    assertSame(singular, Inflection.singularize("categories"));
+  }
+
+  @Test
+  public void cachedWordsEvicted()
+  {
+    // More words than are remembered, so that the earliest ones are
+    // evicted, and inflected again when they are next used
+    for (int i = 0; i < 20000; i++)
+    {
+      assertEquals("word" + i + "s", Inflection.pluralize("word" + i));
+    }
+    for (int i = 0; i < 20000; i++)
+    {
+      assertEquals("word" + i, Inflection.singularize("word" + i + "s"));
+    }
+  }
+
+  @Test
+  public void irregular()
+  {
+    assertEquals("people", Inflection.pluralize("person"));
+    assertEquals("person", Inflection.singularize("people"));
+    assertEquals("children", Inflection.pluralize("child"));
+    assertEquals("child", Inflection.singularize("children"));
+  }
+
+  @Test
+  public void match()
+  {
+    final Inflection inflection = new Inflection("(x|ch|ss|sh)$", "$1es");
+    assertTrue(inflection.match("box"));
+    assertTrue(inflection.match("BOX"));
+    assertFalse(inflection.match("book"));
+    assertEquals("boxes", inflection.replace("box"));
+
+    final Inflection caseSensitive = new Inflection("(x|ch|ss|sh)$",
+                                                    "$1es",
+                                                    false);
+    assertFalse(caseSensitive.match("BOX"));
+    assertEquals("BOX", caseSensitive.replace("BOX"));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void nullPlural()
+  {
+    Inflection.pluralize(null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void nullSingular()
+  {
+    Inflection.singularize(null);
+  }
+
+  @Test
+  public void pluralize()
+  {
+    assertEquals("books", Inflection.pluralize("book"));
+    assertEquals("addresses", Inflection.pluralize("address"));
+    assertEquals("statuses", Inflection.pluralize("status"));
+    assertEquals("wives", Inflection.pluralize("wife"));
+    assertEquals("indices", Inflection.pluralize("index"));
+    assertEquals("oxen", Inflection.pluralize("ox"));
+  }
+
+  @Test
+  public void singularize()
+  {
+    assertEquals("book", Inflection.singularize("books"));
+    assertEquals("BOOK", Inflection.singularize("BOOKS"));
+    assertEquals("address", Inflection.singularize("addresses"));
+    assertEquals("status", Inflection.singularize("statuses"));
+    assertEquals("wife", Inflection.singularize("wives"));
+    assertEquals("index", Inflection.singularize("indices"));
+    assertEquals("ox", Inflection.singularize("oxen"));
+  }
+
+  @Test
+  public void uncountable()
+  {
+    assertTrue(Inflection.isUncountable("Equipment"));
+    assertFalse(Inflection.isUncountable("book"));
+    assertEquals("sheep", Inflection.pluralize("sheep"));
+    assertEquals("SERIES", Inflection.singularize("SERIES"));
+  }
+
+}
@@ -29,13 +29,29 @@ http://www.gnu.org/licenses/
 package schemacrawler.test;
 
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static schemacrawler.test.utility.TestUtility.clean;
 
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
 import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.ConnectionOptions;
 import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.test.utility.BaseDatabaseTest;
 import schemacrawler.test.utility.TestWriter;
@@ -66,6 +82,78 @@ public class SchemaCrawlerTextCommandsOutputTest
     testOperationOutput(Operation.count);
   }
 
+  @Test
+  public void countOutputForNoTablesAsJson()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionInclusionRule(".*\\.NO_SCHEMA"));
+
+    final StringWriter writer = new StringWriter();
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(Operation.count
+      .name());
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable
+      .setOutputOptions(new OutputOptions(TextOutputFormat.json, writer));
+    executable.execute(getConnection());
+
+    // Parse strictly, so that any text after the data array fails
+    final JsonElement jsonElement;
+    try (final JsonReader jsonReader = new JsonReader(new StringReader(writer
+      .toString()));)
+    {
+      jsonElement = new Gson().getAdapter(JsonElement.class).read(jsonReader);
+      assertEquals(JsonToken.END_DOCUMENT, jsonReader.peek());
+    }
+
+    assertTrue(jsonElement.isJsonArray());
+    final JsonObject jsonData = jsonElement.getAsJsonArray().get(0)
+      .getAsJsonObject();
+    assertEquals(0, jsonData.getAsJsonArray("data").size());
+  }
+
+  @Test
+  public void countOutputInParallel()
+    throws Exception
+  {
+    testOperationOutputInParallel(Operation.count);
+  }
+
+  @Test(timeout = 60000, expected = SchemaCrawlerException.class)
+  public void countOutputInParallelWithErrors()
+    throws Exception
+  {
+    final Config config = new Config();
+    config.put("schemacrawler.format.data.connection_pool_size", "4");
+
+    // Additional connections are closed, so queries on them fail, while
+    // other queries are still running or waiting for a connection
+    final ConnectionOptions connectionOptions = getDatabaseConnectionOptions();
+    final ConnectionOptions closedConnectionOptions = (ConnectionOptions) Proxy
+      .newProxyInstance(ConnectionOptions.class.getClassLoader(),
+                        new Class<?>[] { ConnectionOptions.class },
+                        (proxy, method, args) -> {
+                          if (method.getName().equals("getConnection"))
+                          {
+                            final Connection connection = connectionOptions
+                              .getConnection();
+                            connection.close();
+                            return connection;
+                          }
+                          return method.invoke(connectionOptions, args);
+                        });
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(Operation.count
+      .name());
+    executable.setAdditionalConfiguration(config);
+    executable
+      .setOutputOptions(new OutputOptions(TextOutputFormat.text,
+                                          new StringWriter()));
+    executable.setConnectionOptions(closedConnectionOptions);
+    executable.execute(getConnection());
+  }
+
   @Test
   public void dumpOutput()
     throws Exception
@@ -73,6 +161,13 @@ public class SchemaCrawlerTextCommandsOutputTest
     testOperationOutput(Operation.dump);
   }
 
+  @Test
+  public void dumpOutputInParallel()
+    throws Exception
+  {
+    testOperationOutputInParallel(Operation.dump);
+  }
+
   @Test
   public void queryOutput()
     throws Exception
@@ -113,6 +208,15 @@ public class SchemaCrawlerTextCommandsOutputTest
     textOutputTest(SchemaTextDetailType.brief.name(), new Config());
   }
 
+  @Test
+  public void schemaOutputInParallel()
+    throws Exception
+  {
+    final Config config = new Config();
+    config.put("schemacrawler.crawl.parallel", Boolean.TRUE.toString());
+    textOutputTest(SchemaTextDetailType.brief.name(), config);
+  }
+
   @Test
   public void sortedColumnsOutput()
     throws Exception
@@ -140,6 +244,14 @@ public class SchemaCrawlerTextCommandsOutputTest
     textOutputTest(operation.name(), new Config());
   }
 
+  private void testOperationOutputInParallel(final Operation operation)
+    throws Exception
+  {
+    final Config config = new Config();
+    config.put("schemacrawler.format.data.connection_pool_size", "4");
+    textOutputTest(operation.name(), config);
+  }
+
   private void textOutputTest(final String command, final Config config)
     throws Exception
   {
@@ -165,6 +277,7 @@ public class SchemaCrawlerTextCommandsOutputTest
       executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
       executable.setAdditionalConfiguration(config);
       executable.setOutputOptions(outputOptions);
+      executable.setConnectionOptions(getDatabaseConnectionOptions());
       executable.execute(getConnection());
 
       writer.assertEquals(COMMAND_OUTPUT + command + ".txt");
@@ -30,6 +30,7 @@ package schemacrawler.test;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import java.util.Arrays;
 
@@ -39,6 +40,8 @@ import org.junit.Test;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
 import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
@@ -47,6 +50,8 @@ import schemacrawler.test.utility.TestName;
 import schemacrawler.test.utility.TestWriter;
 import schemacrawler.tools.analysis.counts.CatalogWithCounts;
 import schemacrawler.tools.analysis.counts.CountsUtility;
+import schemacrawler.tools.analysis.counts.RowCountStrategy;
+import schemacrawler.tools.analysis.counts.TableRowCounter;
 import schemacrawler.utility.NamedObjectSort;
 
 public class TableCountsTest
@@ -56,6 +61,61 @@ public class TableCountsTest
   @Rule
   public TestName testName = new TestName();
 
+  @Test
+  public void approximateTableCounts()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+
+    final InformationSchemaViews informationSchemaViews = new InformationSchemaViewsBuilder()
+      .withTableRowCountsSql("SELECT TABLE_SCHEMA, TABLE_NAME, CARDINALITY AS ROW_COUNT "
+                             + "FROM INFORMATION_SCHEMA.SYSTEM_TABLESTATS")
+      .toOptions();
+
+    final Catalog exactCatalog = new CatalogWithCounts(getCatalog(schemaCrawlerOptions),
+                                                       getConnection(),
+                                                       schemaCrawlerOptions);
+    final CatalogWithCounts approximateCatalog = new CatalogWithCounts(getCatalog(schemaCrawlerOptions),
+                                                                       new TableRowCounter(getConnection(),
+                                                                                           RowCountStrategy.approximate,
+                                                                                           informationSchemaViews,
+                                                                                           schemaCrawlerOptions
+                                                                                             .getSchemaInclusionRule()),
+                                                                       schemaCrawlerOptions);
+    final Catalog hybridCatalog = new CatalogWithCounts(getCatalog(schemaCrawlerOptions),
+                                                        new TableRowCounter(getConnection(),
+                                                                            RowCountStrategy.hybrid,
+                                                                            informationSchemaViews,
+                                                                            schemaCrawlerOptions
+                                                                              .getSchemaInclusionRule()),
+                                                        schemaCrawlerOptions);
+
+    assertFalse("No approximate row counts",
+                approximateCatalog.getCounts().isEmpty());
+    for (final Table table: exactCatalog.getTables())
+    {
+      final long exactCount = CountsUtility.getRowCount(table);
+
+      final Table approximateTable = approximateCatalog
+        .lookupTable(table.getSchema(), table.getName()).get();
+      if (CountsUtility.hasRowCount(approximateTable))
+      {
+        assertEquals(table.getFullName(),
+                     exactCount,
+                     CountsUtility.getRowCount(approximateTable));
+      }
+
+      final Table hybridTable = hybridCatalog
+        .lookupTable(table.getSchema(), table.getName()).get();
+      assertEquals(table.getFullName(),
+                   exactCount,
+                   CountsUtility.getRowCount(hybridTable));
+    }
+  }
+
   @Test
   public void tableCounts()
     throws Exception
@@ -0,0 +1,222 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2016, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.utility.org.json;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+public class JSONStreamingArrayTest
+{
+
+  private static JSONObject newValue(final int i)
+    throws JSONException
+  {
+    final JSONObject value = new JSONObject();
+    value.put("name", "value " + i);
+    value.put("number", i);
+    return value;
+  }
+
+  private static List<JSONObject> newValues(final int count)
+    throws JSONException
+  {
+    final List<JSONObject> values = new ArrayList<>();
+    for (int i = 0; i < count; i++)
+    {
+      values.add(newValue(i));
+    }
+    return values;
+  }
+
+  private static String write(final JSONObject root)
+    throws JSONException
+  {
+    final StringWriter writer = new StringWriter();
+    root.write(writer, 2);
+    return writer.toString();
+  }
+
+  @Test
+  public void close()
+    throws Exception
+  {
+    final JSONStreamingArray streamingArray = new JSONStreamingArray(2, 2);
+    final Path spillFile = streamingArray.getSpillFile();
+    streamingArray.put(newValue(1));
+    assertTrue(Files.exists(spillFile));
+
+    streamingArray.close();
+    assertFalse("Temporary file was not deleted", Files.exists(spillFile));
+    // Closing again has no effect
+    streamingArray.close();
+
+    final JSONObject root = new JSONObject();
+    root.put("values", streamingArray);
+    try
+    {
+      write(root);
+      fail("Closed streaming array was written");
+    }
+    catch (final JSONException e)
+    {
+      // Expected
+    }
+    try
+    {
+      streamingArray.toString();
+      fail("Closed streaming array was converted to a string");
+    }
+    catch (final IllegalStateException e)
+    {
+      // Expected
+    }
+  }
+
+  @Test
+  public void put()
+    throws Exception
+  {
+    for (final int count: new int[] { 0, 1, 2, 5 })
+    {
+      final JSONObject root = new JSONObject();
+      root.put("values", new JSONArray(newValues(count)));
+
+      try (final JSONStreamingArray streamingArray = new JSONStreamingArray(2,
+                                                                            2);)
+      {
+        for (final JSONObject value: newValues(count))
+        {
+          streamingArray.put(value);
+        }
+        final JSONObject streamingRoot = new JSONObject();
+        streamingRoot.put("values", streamingArray);
+
+        assertEquals(count, streamingArray.length());
+        assertEquals("Values: " + count, write(root), write(streamingRoot));
+      }
+    }
+  }
+
+  @Test
+  public void putValues()
+    throws Exception
+  {
+    for (final int count: new int[] { 0, 1, 2, 5 })
+    {
+      final JSONObject value = newValue(0);
+      value.put("items", new JSONArray(newValues(count)));
+      final JSONObject root = new JSONObject();
+      root.put("values", new JSONArray().put(newValue(1)).put(value));
+
+      try (final JSONStreamingArray streamingArray = new JSONStreamingArray(2,
+                                                                            2);)
+      {
+        streamingArray.put(newValue(1));
+        final Iterator<JSONObject> items = newValues(count).iterator();
+        streamingArray.put(newValue(0), "items", new JSONStreamingArray.Values()
+        {
+
+          @Override
+          public boolean hasNext()
+          {
+            return items.hasNext();
+          }
+
+          @Override
+          public Object next()
+          {
+            return items.next();
+          }
+        });
+        final JSONObject streamingRoot = new JSONObject();
+        streamingRoot.put("values", streamingArray);
+
+        assertEquals("Items: " + count, write(root), write(streamingRoot));
+      }
+    }
+  }
+
+  @Test
+  public void spillFileDeletedOnClose()
+    throws Exception
+  {
+    final List<Path> spillFiles = new ArrayList<>();
+    try (final JSONStreamingArray streamingArray = new JSONStreamingArray(2,
+                                                                          2);)
+    {
+      spillFiles.add(streamingArray.getSpillFile());
+      streamingArray.put(newValue(1));
+      // An exception before the array is written out
+      throw new IllegalStateException("Formatting failed");
+    }
+    catch (final IllegalStateException e)
+    {
+      // Expected
+    }
+    assertEquals(1, spillFiles.size());
+    assertFalse("Temporary file was not deleted",
+                Files.exists(spillFiles.get(0)));
+  }
+
+  @Test
+  public void toStringIsJson()
+    throws Exception
+  {
+    try (final JSONStreamingArray streamingArray = new JSONStreamingArray(2,
+                                                                          2);)
+    {
+      assertEquals("[]", streamingArray.toString());
+
+      final List<JSONObject> values = newValues(3);
+      for (final JSONObject value: values)
+      {
+        streamingArray.put(value);
+      }
+      final StringWriter writer = new StringWriter();
+      try (final PrintWriter printWriter = new PrintWriter(writer);)
+      {
+        new JSONArray(values).write(printWriter, 2, 2);
+      }
+      assertEquals(writer.toString(), streamingArray.toString());
+    }
+  }
+
+}